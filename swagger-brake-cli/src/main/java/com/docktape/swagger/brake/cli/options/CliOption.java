@@ -11,11 +11,39 @@ public enum CliOption {
 
     OUTPUT_FORMATS("output-formats"),
     OUTPUT_PATH("output-path"),
+    /**
+     * Directory of the on-disk cache of transformed APIs. The cache is disabled when not provided.
+     */
+    SPECIFICATION_CACHE_PATH("specification-cache-path"),
+    /**
+     * Directory of the on-disk cache of the Maven metadata and artifacts. The cache is disabled when not provided.
+     */
+    ARTIFACT_CACHE_PATH("artifact-cache-path"),
+    /**
+     * Downloads only the API file of the latest artifact with HTTP Range requests. Disabled by default.
+     */
+    ARTIFACT_RANGE_REQUESTS_ENABLED("artifact-range-requests-enabled"),
 
     MAVEN_REPO_URL("maven-repo-url"),
     MAVEN_SNAPSHOT_REPO_URL("maven-snapshot-repo-url"),
     MAVEN_REPO_USERNAME("maven-repo-username"),
     MAVEN_REPO_PASSWORD("maven-repo-password"),
+    /**
+     * Timeout of connecting to the Maven repositories in milliseconds. Defaults to 10000.
+     */
+    MAVEN_CONNECT_TIMEOUT("maven-connect-timeout"),
+    /**
+     * Timeout of reading from the Maven repositories in milliseconds. Defaults to 60000.
+     */
+    MAVEN_READ_TIMEOUT("maven-read-timeout"),
+    /**
+     * Path of the local Maven repository the latest artifact is resolved from before the remote repositories.
+     */
+    MAVEN_LOCAL_REPOSITORY_PATH("maven-local-repository-path"),
+    /**
+     * When the remote repositories are checked instead of using the local Maven repository. Defaults to daily.
+     */
+    MAVEN_LOCAL_REPOSITORY_UPDATE_POLICY("maven-local-repository-update-policy"),
     ARTIFACT_ID("artifactId"),
     GROUP_ID("groupId"),
     CURRENT_ARTIFACT_VERSION("current-artifact-version"),
@@ -42,7 +70,27 @@ public enum CliOption {
     /**
      * Minimum severity level at which breaking changes cause a CI failure. Accepted values: error, warning, info.
      */
-    FAIL_ON_SEVERITY("fail-on-severity");
+    FAIL_ON_SEVERITY("fail-on-severity"),
+    /**
+     * Number of threads used for checking the operations. Defaults to 1.
+     */
+    CHECK_PARALLELISM("check-parallelism"),
+    /**
+     * Number of operations checked by a single task. Defaults to 64.
+     */
+    CHECK_CHUNK_SIZE("check-chunk-size"),
+    /**
+     * Number of threads used for transforming the paths of an API. Defaults to 1.
+     */
+    TRANSFORMATION_PARALLELISM("transformation-parallelism"),
+    /**
+     * How the references of the API definitions are resolved while loading them. Accepted values: full, lazy.
+     */
+    REFERENCE_RESOLUTION("reference-resolution"),
+    /**
+     * Whether to measure the time and allocations of the phases and the hit rates of the caches. Defaults to false.
+     */
+    METRICS_ENABLED("metrics-enabled");
 
     private final String cliOptionName;
 
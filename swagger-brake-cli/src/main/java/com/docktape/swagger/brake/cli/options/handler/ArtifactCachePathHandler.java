@@ -0,0 +1,26 @@
+package com.docktape.swagger.brake.cli.options.handler;
+
+import com.docktape.swagger.brake.cli.options.CliOption;
+import com.docktape.swagger.brake.runner.Options;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ArtifactCachePathHandler implements CliOptionHandler {
+    @Override
+    public void handle(String optionValue, Options options) {
+        if (StringUtils.isNotBlank(optionValue)) {
+            options.setArtifactCachePath(optionValue);
+        }
+    }
+
+    @Override
+    public CliOption getHandledCliOption() {
+        return CliOption.ARTIFACT_CACHE_PATH;
+    }
+
+    @Override
+    public String getHelpMessage() {
+        return "Specifies the folder where the Maven metadata and artifacts of the latest artifact resolution are cached between runs. Caching is disabled when not provided.";
+    }
+}
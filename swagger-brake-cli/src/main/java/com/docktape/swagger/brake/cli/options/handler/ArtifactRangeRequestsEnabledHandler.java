@@ -0,0 +1,27 @@
+package com.docktape.swagger.brake.cli.options.handler;
+
+import com.docktape.swagger.brake.cli.options.CliOption;
+import com.docktape.swagger.brake.runner.Options;
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ArtifactRangeRequestsEnabledHandler implements CliOptionHandler {
+    @Override
+    public void handle(String optionValue, Options options) {
+        if (StringUtils.isNotBlank(optionValue)) {
+            options.setArtifactRangeRequestsEnabled(BooleanUtils.toBooleanObject(optionValue));
+        }
+    }
+
+    @Override
+    public CliOption getHandledCliOption() {
+        return CliOption.ARTIFACT_RANGE_REQUESTS_ENABLED;
+    }
+
+    @Override
+    public String getHelpMessage() {
+        return "Whether to download only the API file of the latest artifact with HTTP Range requests instead of the whole artifact. Defaults to false.";
+    }
+}
@@ -0,0 +1,35 @@
+package com.docktape.swagger.brake.cli.options.handler;
+
+import com.docktape.swagger.brake.cli.options.CliOption;
+import com.docktape.swagger.brake.runner.Options;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class CheckChunkSizeHandler implements CliOptionHandler {
+    @Override
+    public void handle(String optionValue, Options options) {
+        if (StringUtils.isNotBlank(optionValue)) {
+            try {
+                int value = Integer.parseInt(optionValue.trim());
+                options.setCheckChunkSize(value);
+                log.debug("Set check chunk size to {}", value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(
+                    "Invalid value for --check-chunk-size: '" + optionValue + "'. Must be a positive integer.", e);
+            }
+        }
+    }
+
+    @Override
+    public CliOption getHandledCliOption() {
+        return CliOption.CHECK_CHUNK_SIZE;
+    }
+
+    @Override
+    public String getHelpMessage() {
+        return "Number of operations checked by a single task. Default: 64.";
+    }
+}
@@ -0,0 +1,36 @@
+package com.docktape.swagger.brake.cli.options.handler;
+
+import com.docktape.swagger.brake.cli.options.CliOption;
+import com.docktape.swagger.brake.runner.Options;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class CheckParallelismHandler implements CliOptionHandler {
+    @Override
+    public void handle(String optionValue, Options options) {
+        if (StringUtils.isNotBlank(optionValue)) {
+            try {
+                int value = Integer.parseInt(optionValue.trim());
+                options.setCheckParallelism(value);
+                log.debug("Set check parallelism to {}", value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(
+                    "Invalid value for --check-parallelism: '" + optionValue + "'. Must be an integer between 1 and 256.", e);
+            }
+        }
+    }
+
+    @Override
+    public CliOption getHandledCliOption() {
+        return CliOption.CHECK_PARALLELISM;
+    }
+
+    @Override
+    public String getHelpMessage() {
+        return "Number of threads used for checking the operations. With a value greater than 1 the checks are split into "
+            + "(rule, operation chunk) tasks on a work-stealing pool. Range: 1-256. Default: 1.";
+    }
+}
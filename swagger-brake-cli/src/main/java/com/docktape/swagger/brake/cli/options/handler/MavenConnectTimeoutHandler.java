@@ -0,0 +1,35 @@
+package com.docktape.swagger.brake.cli.options.handler;
+
+import com.docktape.swagger.brake.cli.options.CliOption;
+import com.docktape.swagger.brake.runner.Options;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class MavenConnectTimeoutHandler implements CliOptionHandler {
+    @Override
+    public void handle(String optionValue, Options options) {
+        if (StringUtils.isNotBlank(optionValue)) {
+            try {
+                int value = Integer.parseInt(optionValue.trim());
+                options.setMavenConnectTimeout(value);
+                log.debug("Set Maven connect timeout to {}", value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(
+                    "Invalid value for --maven-connect-timeout: '" + optionValue + "'. Must be a non-negative integer.", e);
+            }
+        }
+    }
+
+    @Override
+    public CliOption getHandledCliOption() {
+        return CliOption.MAVEN_CONNECT_TIMEOUT;
+    }
+
+    @Override
+    public String getHelpMessage() {
+        return "Timeout of connecting to the Maven repositories in milliseconds, 0 means no timeout. Default: 10000.";
+    }
+}
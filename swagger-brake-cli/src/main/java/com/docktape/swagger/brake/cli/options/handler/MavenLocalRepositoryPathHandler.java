@@ -0,0 +1,26 @@
+package com.docktape.swagger.brake.cli.options.handler;
+
+import com.docktape.swagger.brake.cli.options.CliOption;
+import com.docktape.swagger.brake.runner.Options;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MavenLocalRepositoryPathHandler implements CliOptionHandler {
+    @Override
+    public void handle(String optionValue, Options options) {
+        if (StringUtils.isNotBlank(optionValue)) {
+            options.setMavenLocalRepositoryPath(optionValue);
+        }
+    }
+
+    @Override
+    public CliOption getHandledCliOption() {
+        return CliOption.MAVEN_LOCAL_REPOSITORY_PATH;
+    }
+
+    @Override
+    public String getHelpMessage() {
+        return "Specifies the local Maven repository, e.g. ~/.m2/repository, the latest artifact is resolved from before the remote repositories.";
+    }
+}
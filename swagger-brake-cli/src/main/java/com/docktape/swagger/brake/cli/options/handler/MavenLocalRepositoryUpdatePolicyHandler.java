@@ -0,0 +1,37 @@
+package com.docktape.swagger.brake.cli.options.handler;
+
+import com.docktape.swagger.brake.cli.options.CliOption;
+import com.docktape.swagger.brake.maven.LocalRepositoryUpdatePolicy;
+import com.docktape.swagger.brake.runner.Options;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class MavenLocalRepositoryUpdatePolicyHandler implements CliOptionHandler {
+    @Override
+    public void handle(String optionValue, Options options) {
+        if (StringUtils.isNotBlank(optionValue)) {
+            try {
+                LocalRepositoryUpdatePolicy updatePolicy = LocalRepositoryUpdatePolicy.parse(optionValue);
+                options.setMavenLocalRepositoryUpdatePolicy(updatePolicy.toString());
+                log.debug("Set local repository update policy to {}", updatePolicy);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(
+                    "Invalid value for --maven-local-repository-update-policy: '" + optionValue + "'. Accepted values: always, daily, interval:<minutes>, never.", e);
+            }
+        }
+    }
+
+    @Override
+    public CliOption getHandledCliOption() {
+        return CliOption.MAVEN_LOCAL_REPOSITORY_UPDATE_POLICY;
+    }
+
+    @Override
+    public String getHelpMessage() {
+        return "Specifies when the remote repositories are checked for a newer artifact than the one in the local Maven repository. "
+            + "Accepted values: always, daily, interval:<minutes>, never. Defaults to daily.";
+    }
+}
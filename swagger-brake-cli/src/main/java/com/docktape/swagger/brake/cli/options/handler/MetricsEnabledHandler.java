@@ -0,0 +1,27 @@
+package com.docktape.swagger.brake.cli.options.handler;
+
+import com.docktape.swagger.brake.cli.options.CliOption;
+import com.docktape.swagger.brake.runner.Options;
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MetricsEnabledHandler implements CliOptionHandler {
+    @Override
+    public void handle(String optionValue, Options options) {
+        if (StringUtils.isNotBlank(optionValue)) {
+            options.setMetricsEnabled(BooleanUtils.toBooleanObject(optionValue));
+        }
+    }
+
+    @Override
+    public CliOption getHandledCliOption() {
+        return CliOption.METRICS_ENABLED;
+    }
+
+    @Override
+    public String getHelpMessage() {
+        return "Whether to measure the time and allocations of the phases and the hit rates of the caches. Defaults to false.";
+    }
+}
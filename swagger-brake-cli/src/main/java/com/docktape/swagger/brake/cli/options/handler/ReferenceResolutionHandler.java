@@ -0,0 +1,38 @@
+package com.docktape.swagger.brake.cli.options.handler;
+
+import com.docktape.swagger.brake.cli.options.CliOption;
+import com.docktape.swagger.brake.runner.Options;
+import com.docktape.swagger.brake.runner.openapi.ReferenceResolution;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class ReferenceResolutionHandler implements CliOptionHandler {
+    @Override
+    public void handle(String optionValue, Options options) {
+        if (StringUtils.isNotBlank(optionValue)) {
+            try {
+                ReferenceResolution referenceResolution = ReferenceResolution.valueOf(optionValue.trim().toUpperCase());
+                options.setReferenceResolution(referenceResolution);
+                log.debug("Set reference resolution to {}", referenceResolution);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(
+                    "Invalid value for --reference-resolution: '" + optionValue + "'. Accepted values: full, lazy.", e);
+            }
+        }
+    }
+
+    @Override
+    public CliOption getHandledCliOption() {
+        return CliOption.REFERENCE_RESOLUTION;
+    }
+
+    @Override
+    public String getHelpMessage() {
+        return "Specifies how the references of the API definitions are resolved. With full every reference is inlined while "
+            + "loading, with lazy the local references are resolved during the transformation, which needs less memory for "
+            + "large shared components. Accepted values: full, lazy. Defaults to full.";
+    }
+}
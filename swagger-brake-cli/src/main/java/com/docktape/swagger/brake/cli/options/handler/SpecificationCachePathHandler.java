@@ -0,0 +1,26 @@
+package com.docktape.swagger.brake.cli.options.handler;
+
+import com.docktape.swagger.brake.cli.options.CliOption;
+import com.docktape.swagger.brake.runner.Options;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SpecificationCachePathHandler implements CliOptionHandler {
+    @Override
+    public void handle(String optionValue, Options options) {
+        if (StringUtils.isNotBlank(optionValue)) {
+            options.setSpecificationCachePath(optionValue);
+        }
+    }
+
+    @Override
+    public CliOption getHandledCliOption() {
+        return CliOption.SPECIFICATION_CACHE_PATH;
+    }
+
+    @Override
+    public String getHelpMessage() {
+        return "Specifies the folder where the transformed APIs are cached between executions. Caching is disabled when not provided.";
+    }
+}
@@ -0,0 +1,36 @@
+package com.docktape.swagger.brake.cli.options.handler;
+
+import com.docktape.swagger.brake.cli.options.CliOption;
+import com.docktape.swagger.brake.runner.Options;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class TransformationParallelismHandler implements CliOptionHandler {
+    @Override
+    public void handle(String optionValue, Options options) {
+        if (StringUtils.isNotBlank(optionValue)) {
+            try {
+                int value = Integer.parseInt(optionValue.trim());
+                options.setTransformationParallelism(value);
+                log.debug("Set transformation parallelism to {}", value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(
+                    "Invalid value for --transformation-parallelism: '" + optionValue + "'. Must be an integer between 1 and 256.", e);
+            }
+        }
+    }
+
+    @Override
+    public CliOption getHandledCliOption() {
+        return CliOption.TRANSFORMATION_PARALLELISM;
+    }
+
+    @Override
+    public String getHelpMessage() {
+        return "Number of threads used for transforming the paths of the old and the new API. With a value greater than 1 the paths "
+            + "are transformed concurrently on a work-stealing pool. Range: 1-256. Default: 1.";
+    }
+}
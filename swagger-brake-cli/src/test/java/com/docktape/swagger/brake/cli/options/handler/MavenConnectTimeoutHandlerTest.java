@@ -0,0 +1,47 @@
+package com.docktape.swagger.brake.cli.options.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import com.docktape.swagger.brake.runner.Options;
+import org.junit.jupiter.api.Test;
+
+class MavenConnectTimeoutHandlerTest {
+    private final MavenConnectTimeoutHandler underTest = new MavenConnectTimeoutHandler();
+
+    @Test
+    void testHandleShouldLeaveNullWhenNullValueGiven() {
+        // given
+        Options options = new Options();
+
+        // when
+        underTest.handle(null, options);
+
+        // then
+        assertThat(options.getMavenConnectTimeout()).isNull();
+    }
+
+    @Test
+    void testHandleShouldSetValueWhenIntegerValueGiven() {
+        // given
+        Options options = new Options();
+
+        // when
+        underTest.handle(" 16 ", options);
+
+        // then
+        assertThat(options.getMavenConnectTimeout()).isEqualTo(16);
+    }
+
+    @Test
+    void testHandleShouldThrowExceptionWhenNonIntegerValueGiven() {
+        // given
+        Options options = new Options();
+
+        // when
+        IllegalArgumentException iae = catchThrowableOfType(() -> underTest.handle("random", options), IllegalArgumentException.class);
+
+        // then
+        assertThat(iae.getMessage()).contains("Must be");
+    }
+}
@@ -0,0 +1,47 @@
+package com.docktape.swagger.brake.cli.options.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import com.docktape.swagger.brake.runner.Options;
+import org.junit.jupiter.api.Test;
+
+class MavenLocalRepositoryUpdatePolicyHandlerTest {
+    private final MavenLocalRepositoryUpdatePolicyHandler underTest = new MavenLocalRepositoryUpdatePolicyHandler();
+
+    @Test
+    void testHandleShouldLeaveNullWhenNullValueGiven() {
+        // given
+        Options options = new Options();
+
+        // when
+        underTest.handle(null, options);
+
+        // then
+        assertThat(options.getMavenLocalRepositoryUpdatePolicy()).isNull();
+    }
+
+    @Test
+    void testHandleShouldSetValueWhenValidValueGiven() {
+        // given
+        Options options = new Options();
+
+        // when
+        underTest.handle(" Interval:30 ", options);
+
+        // then
+        assertThat(options.getMavenLocalRepositoryUpdatePolicy()).isEqualTo("interval:30");
+    }
+
+    @Test
+    void testHandleShouldThrowExceptionWhenInvalidValueGiven() {
+        // given
+        Options options = new Options();
+
+        // when
+        IllegalArgumentException iae = catchThrowableOfType(() -> underTest.handle("weekly", options), IllegalArgumentException.class);
+
+        // then
+        assertThat(iae.getMessage()).contains("Accepted values");
+    }
+}
@@ -0,0 +1,48 @@
+package com.docktape.swagger.brake.cli.options.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import com.docktape.swagger.brake.runner.Options;
+import com.docktape.swagger.brake.runner.openapi.ReferenceResolution;
+import org.junit.jupiter.api.Test;
+
+class ReferenceResolutionHandlerTest {
+    private final ReferenceResolutionHandler underTest = new ReferenceResolutionHandler();
+
+    @Test
+    void testHandleShouldKeepDefaultWhenNullValueGiven() {
+        // given
+        Options options = new Options();
+
+        // when
+        underTest.handle(null, options);
+
+        // then
+        assertThat(options.getReferenceResolution()).isEqualTo(ReferenceResolution.FULL);
+    }
+
+    @Test
+    void testHandleShouldSetValueWhenValidValueGiven() {
+        // given
+        Options options = new Options();
+
+        // when
+        underTest.handle(" lazy ", options);
+
+        // then
+        assertThat(options.getReferenceResolution()).isEqualTo(ReferenceResolution.LAZY);
+    }
+
+    @Test
+    void testHandleShouldThrowExceptionWhenInvalidValueGiven() {
+        // given
+        Options options = new Options();
+
+        // when
+        IllegalArgumentException iae = catchThrowableOfType(() -> underTest.handle("random", options), IllegalArgumentException.class);
+
+        // then
+        assertThat(iae.getMessage()).contains("Accepted values");
+    }
+}
@@ -3,10 +3,13 @@ package com.docktape.swagger.brake.core;
 import java.util.Collections;
 import java.util.Set;
 
+import com.docktape.swagger.brake.runner.openapi.ReferenceResolution;
 import lombok.Data;
 
 @Data
 public class CheckerOptions {
+    public static final int MAX_SCHEMA_TRANSFORMATION_DEPTH = 10000;
+
     private boolean deprecatedApiDeletionAllowed = true;
     private String betaApiExtensionName = "x-beta-api";
     private Set<String> excludedPaths = Collections.emptySet();
@@ -14,6 +17,10 @@ public class CheckerOptions {
     private int maxLogSerializationDepth = 3;
     private int maxSchemaTransformationDepth = 50;
     private boolean serverUrlChangeEnabled = false;
+    private int checkParallelism = 1;
+    private int checkChunkSize = 64;
+    private int transformationParallelism = 1;
+    private ReferenceResolution referenceResolution = ReferenceResolution.FULL;
 
     public void setMaxLogSerializationDepth(int maxLogSerializationDepth) {
         if (maxLogSerializationDepth < 1 || maxLogSerializationDepth > 20) {
@@ -23,9 +30,49 @@ public class CheckerOptions {
     }
 
     public void setMaxSchemaTransformationDepth(int maxSchemaTransformationDepth) {
-        if (maxSchemaTransformationDepth < 1 || maxSchemaTransformationDepth > 100) {
-            throw new IllegalArgumentException("maxSchemaTransformationDepth must be between 1 and 100, got: " + maxSchemaTransformationDepth);
+        if (maxSchemaTransformationDepth < 1 || maxSchemaTransformationDepth > MAX_SCHEMA_TRANSFORMATION_DEPTH) {
+            throw new IllegalArgumentException("maxSchemaTransformationDepth must be between 1 and " + MAX_SCHEMA_TRANSFORMATION_DEPTH + ", got: "
+                + maxSchemaTransformationDepth);
         }
         this.maxSchemaTransformationDepth = maxSchemaTransformationDepth;
     }
+
+    /**
+     * Sets the number of threads used for checking the operations. A value of 1 walks chunks of operations on the
+     * common pool, every chunk in a single traversal for all the rules, a higher value splits the checks into
+     * (rule, operation chunk) tasks on a dedicated work-stealing pool.
+     * @param checkParallelism the number of threads, between 1 and 256.
+     * @throws IllegalArgumentException if the value is out of range.
+     */
+    public void setCheckParallelism(int checkParallelism) {
+        if (checkParallelism < 1 || checkParallelism > 256) {
+            throw new IllegalArgumentException("checkParallelism must be between 1 and 256, got: " + checkParallelism);
+        }
+        this.checkParallelism = checkParallelism;
+    }
+
+    /**
+     * Sets the number of operations checked by a single task, i.e. the size of the operation chunks.
+     * @param checkChunkSize the number of operations per task, at least 1.
+     * @throws IllegalArgumentException if the value is less than 1.
+     */
+    public void setCheckChunkSize(int checkChunkSize) {
+        if (checkChunkSize < 1) {
+            throw new IllegalArgumentException("checkChunkSize must be at least 1, got: " + checkChunkSize);
+        }
+        this.checkChunkSize = checkChunkSize;
+    }
+
+    /**
+     * Sets the number of threads used for transforming the paths of an API. A value of 1 transforms the paths
+     * sequentially, a higher value transforms them on a work-stealing pool sharing the transformed schemas.
+     * @param transformationParallelism the number of threads, between 1 and 256.
+     * @throws IllegalArgumentException if the value is out of range.
+     */
+    public void setTransformationParallelism(int transformationParallelism) {
+        if (transformationParallelism < 1 || transformationParallelism > 256) {
+            throw new IllegalArgumentException("transformationParallelism must be between 1 and 256, got: " + transformationParallelism);
+        }
+        this.transformationParallelism = transformationParallelism;
+    }
 }
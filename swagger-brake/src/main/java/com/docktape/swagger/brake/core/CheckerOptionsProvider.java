@@ -1,13 +1,24 @@
 package com.docktape.swagger.brake.core;
 
+import java.util.function.Supplier;
+
 import org.springframework.stereotype.Component;
 
+/**
+ * Provides the {@link CheckerOptions} of the current execution to the components.
+ * <br>
+ * Options bound with {@link #callWith(CheckerOptions, Supplier)} are visible only to the current thread for the
+ * duration of the call, hence concurrent executions with different options don't interfere with each other.
+ * Work handed over to other threads has to be wrapped with {@link #callWith(CheckerOptions, Supplier)} again.
+ * Options set with {@link #set(CheckerOptions)} are used as a fallback when no options are bound to the thread.
+ */
 @Component
 public class CheckerOptionsProvider {
-    private CheckerOptions checkerOptions;
+    private final ThreadLocal<CheckerOptions> boundCheckerOptions = new ThreadLocal<>();
+    private volatile CheckerOptions checkerOptions;
 
     /**
-     * Sets the {@link CheckerOptions} instance for the current execution.
+     * Sets the {@link CheckerOptions} instance used when no options are bound to the current thread.
      * @param options the {@link CheckerOptions} instance. Must be not null.
      * @throws IllegalArgumentException if the provided {@link CheckerOptions} is null.
      */
@@ -19,15 +30,46 @@ public class CheckerOptionsProvider {
     }
 
     /**
-     * Returns the {@link CheckerOptions} from the context.
-     * @return the {@link CheckerOptions} if set, exception otherwise.
+     * Binds the {@link CheckerOptions} to the current thread while executing the supplier. The previously bound
+     * options, if any, are restored afterwards.
+     * @param options the {@link CheckerOptions} instance. Must be not null.
+     * @param supplier the code to execute
+     * @param <T> the type of the result
+     * @return the result of the supplier
+     * @throws IllegalArgumentException if the provided {@link CheckerOptions} is null.
+     */
+    public <T> T callWith(CheckerOptions options, Supplier<T> supplier) {
+        if (options == null) {
+            throw new IllegalArgumentException("options cannot be null");
+        }
+        CheckerOptions previous = boundCheckerOptions.get();
+        boundCheckerOptions.set(options);
+        try {
+            return supplier.get();
+        } finally {
+            if (previous == null) {
+                boundCheckerOptions.remove();
+            } else {
+                boundCheckerOptions.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Returns the {@link CheckerOptions} bound to the current thread, or the ones set with
+     * {@link #set(CheckerOptions)} if there are none.
+     * @return the {@link CheckerOptions} if available, exception otherwise.
      * @throws RuntimeException if no {@link CheckerOptions} has been set.
      */
     public CheckerOptions get() {
-        if (checkerOptions == null) {
+        CheckerOptions options = boundCheckerOptions.get();
+        if (options == null) {
+            options = checkerOptions;
+        }
+        if (options == null) {
             throw new RuntimeException("CheckerOptions has not been set up yet.");
         }
-        return checkerOptions;
+        return options;
     }
 
 }
@@ -1,23 +1,53 @@
 package com.docktape.swagger.brake.core;
 
+import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
+import com.docktape.swagger.brake.core.metrics.MetricsRecorder;
+import com.docktape.swagger.brake.core.metrics.PhaseTimer;
+import com.docktape.swagger.brake.core.model.Path;
 import com.docktape.swagger.brake.core.model.Specification;
 import com.docktape.swagger.brake.core.rule.BreakingChangeRule;
-import java.util.Comparator;
+import com.docktape.swagger.brake.core.rule.OperationRule;
+import com.docktape.swagger.brake.core.rule.OperationTraversal;
+import com.docktape.swagger.brake.core.rule.PathSkipper;
+import com.docktape.swagger.brake.core.rule.SchemaComparator;
+import com.docktape.swagger.brake.core.rule.SchemaComparisonCache;
+import com.docktape.swagger.brake.core.util.FutureResults;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.ListUtils;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
-class DefaultBreakChecker implements BreakChecker {
+class DefaultBreakChecker implements BreakChecker, DisposableBean {
     private final Collection<BreakingChangeRule<? extends BreakingChange>> rules;
+    private final PathSkipper pathSkipper;
+    private final CheckerOptionsProvider checkerOptionsProvider;
+    private final SchemaComparator schemaComparator;
+    private final MetricsRecorder metricsRecorder;
+    private final Map<Integer, ForkJoinPool> pools = new ConcurrentHashMap<>();
+
+    @Override
+    public void destroy() {
+        pools.values().forEach(ForkJoinPool::shutdownNow);
+        pools.clear();
+    }
 
     @Override
     public Collection<BreakingChange> check(Specification oldApi, Specification newApi) {
@@ -34,17 +64,194 @@ class DefaultBreakChecker implements BreakChecker {
         if (newApi == null) {
             throw new IllegalArgumentException("newApi must be provided");
         }
-        Specification webhookOldSpec = new Specification(oldApi.getWebhooks(), Collections.emptyList(), Collections.emptyList());
-        Specification webhookNewSpec = new Specification(newApi.getWebhooks(), Collections.emptyList(), Collections.emptyList());
-        return rules.parallelStream()
-                .flatMap(rule -> {
-                    Collection<? extends BreakingChange> pathChanges = rule.checkRule(oldApi, newApi);
-                    Collection<? extends BreakingChange> webhookChanges = rule.checkRule(webhookOldSpec, webhookNewSpec);
-                    Collection<BreakingChange> combined = new ArrayList<>(pathChanges);
-                    combined.addAll(webhookChanges);
-                    return combined.stream();
-                })
+        Specification webhookOldSpec = oldApi.toWebhookSpecification();
+        Specification webhookNewSpec = newApi.toWebhookSpecification();
+        List<OperationRule<?>> operationRules = new ArrayList<>();
+        List<BreakingChangeRule<? extends BreakingChange>> standaloneRules = new ArrayList<>();
+        for (BreakingChangeRule<? extends BreakingChange> rule : rules) {
+            if (rule instanceof OperationRule) {
+                operationRules.add((OperationRule<?>) rule);
+            } else {
+                standaloneRules.add(rule);
+            }
+        }
+        CheckerOptions checkerOptions = checkerOptionsProvider.get();
+        SchemaComparisonCache comparisonCache = new SchemaComparisonCache();
+        Collection<BreakingChange> result;
+        if (checkerOptions.getCheckParallelism() > 1) {
+            result = checkConcurrently(oldApi, newApi, webhookOldSpec, webhookNewSpec, operationRules, standaloneRules, checkerOptions, comparisonCache);
+        } else {
+            result = traverse(oldApi, newApi, webhookOldSpec, webhookNewSpec, operationRules, checkerOptions, comparisonCache);
+            // the suppliers are created on the current thread, so they carry its metrics to the threads of the stream
+            List<Supplier<Collection<BreakingChange>>> standaloneChecks = standaloneRules.stream()
+                    .map(rule -> metricsRecorder.propagate(() -> checkStandaloneRule(rule, oldApi, newApi, webhookOldSpec, webhookNewSpec)))
+                    .collect(toList());
+            result.addAll(standaloneChecks.parallelStream()
+                    .flatMap(check -> checkerOptionsProvider.callWith(checkerOptions, check).stream())
+                    .collect(toList()));
+        }
+        log.debug("Schema comparisons reused {} times, computed {} times", comparisonCache.getHits(), comparisonCache.getMisses());
+        metricsRecorder.recordCache("schema-comparison", comparisonCache.getHits(), comparisonCache.getMisses());
+        return result.stream()
                 .sorted(Comparator.comparing(bc -> bc.getClass().getSimpleName()))
                 .collect(toList());
     }
+
+    /*
+     * Traverses the specifications once for all the operation rules, in chunks of operations on the common pool.
+     */
+    private Collection<BreakingChange> traverse(Specification oldApi, Specification newApi,
+                                                Specification webhookOldSpec, Specification webhookNewSpec,
+                                                List<OperationRule<?>> operationRules, CheckerOptions checkerOptions,
+                                                SchemaComparisonCache comparisonCache) {
+        Collection<BreakingChange> result = new ArrayList<>();
+        result.addAll(traverseInParallel(oldApi.getPaths(), newApi, operationRules, checkerOptions, comparisonCache));
+        result.addAll(traverseInParallel(webhookOldSpec.getPaths(), webhookNewSpec, operationRules, checkerOptions, comparisonCache));
+        return result;
+    }
+
+    /*
+     * The chunks are merged rule by rule in chunk order and de-duplicated, so the result is the same as the one of a
+     * single traversal of all the operations.
+     */
+    private Collection<BreakingChange> traverseInParallel(Collection<Path> oldPaths, Specification newApi, List<OperationRule<?>> operationRules,
+                                                          CheckerOptions checkerOptions, SchemaComparisonCache comparisonCache) {
+        List<List<Path>> chunks = ListUtils.partition(new ArrayList<>(oldPaths), checkerOptions.getCheckChunkSize());
+        // the suppliers are created on the current thread, so they carry its metrics to the threads of the stream
+        List<Supplier<List<Collection<BreakingChange>>>> chunkChecks = chunks.stream()
+            .map(chunk -> metricsRecorder.propagate(() -> checkChunk(chunk, newApi, operationRules)))
+            .collect(toList());
+        List<List<Collection<BreakingChange>>> chunkResults = chunkChecks.parallelStream()
+            .map(check -> checkerOptionsProvider.callWith(checkerOptions, () -> schemaComparator.callWith(comparisonCache, check)))
+            .collect(toList());
+        Collection<BreakingChange> result = new ArrayList<>();
+        for (int ruleIndex = 0; ruleIndex < operationRules.size(); ruleIndex++) {
+            Collection<BreakingChange> ruleResult = new LinkedHashSet<>();
+            for (List<Collection<BreakingChange>> chunkResult : chunkResults) {
+                ruleResult.addAll(chunkResult.get(ruleIndex));
+            }
+            result.addAll(ruleResult);
+        }
+        return result;
+    }
+
+    /*
+     * Splits the work into (rule, operation chunk) tasks and runs them on a dedicated work-stealing pool so that a
+     * single expensive rule can use more than one core. The results are collected in the same order as the
+     * sequential mode produces them, regardless of which task finishes first. The options of the current execution
+     * the schema comparison cache and the metrics are bound to the worker threads for every task. The pools are
+     * reused by the checks of the same parallelism, and are shut down when the application context is closed.
+     */
+    private Collection<BreakingChange> checkConcurrently(Specification oldApi, Specification newApi,
+                                                         Specification webhookOldSpec, Specification webhookNewSpec,
+                                                         List<OperationRule<?>> operationRules,
+                                                         List<BreakingChangeRule<? extends BreakingChange>> standaloneRules,
+                                                         CheckerOptions checkerOptions, SchemaComparisonCache comparisonCache) {
+        int chunkSize = checkerOptions.getCheckChunkSize();
+        List<List<Path>> pathChunks = ListUtils.partition(new ArrayList<>(oldApi.getPaths()), chunkSize);
+        List<List<Path>> webhookChunks = ListUtils.partition(new ArrayList<>(webhookOldSpec.getPaths()), chunkSize);
+        log.debug("Checking {} operation chunks and {} webhook chunks of size {} on {} threads",
+            pathChunks.size(), webhookChunks.size(), chunkSize, checkerOptions.getCheckParallelism());
+        List<List<Callable<Collection<? extends BreakingChange>>>> taskGroups = new ArrayList<>();
+        for (OperationRule<?> rule : operationRules) {
+            taskGroups.add(createChunkTasks(rule, pathChunks, newApi, checkerOptions, comparisonCache));
+        }
+        for (OperationRule<?> rule : operationRules) {
+            taskGroups.add(createChunkTasks(rule, webhookChunks, webhookNewSpec, checkerOptions, comparisonCache));
+        }
+        for (BreakingChangeRule<? extends BreakingChange> rule : standaloneRules) {
+            Supplier<Collection<BreakingChange>> check = metricsRecorder.propagate(() -> checkStandaloneRule(rule, oldApi, newApi, webhookOldSpec, webhookNewSpec));
+            taskGroups.add(List.of(() -> checkerOptionsProvider.callWith(checkerOptions, check)));
+        }
+        List<Callable<Collection<? extends BreakingChange>>> tasks = taskGroups.stream().flatMap(List::stream).collect(toList());
+        ForkJoinPool pool = pools.computeIfAbsent(checkerOptions.getCheckParallelism(), ForkJoinPool::new);
+        List<Future<Collection<? extends BreakingChange>>> futures = List.of();
+        try {
+            futures = pool.invokeAll(tasks);
+            Collection<BreakingChange> result = new ArrayList<>();
+            int taskIndex = 0;
+            for (List<Callable<Collection<? extends BreakingChange>>> taskGroup : taskGroups) {
+                // a group belongs to a single rule, so the chunks are de-duplicated the same way as in a single traversal
+                Collection<BreakingChange> groupResult = new LinkedHashSet<>();
+                for (int i = 0; i < taskGroup.size(); i++) {
+                    groupResult.addAll(FutureResults.getResult(futures.get(taskIndex++), "Breaking change check failed"));
+                }
+                result.addAll(groupResult);
+            }
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while checking for breaking changes", e);
+        } finally {
+            // the pool is shared with the other checks, only the tasks of this check are stopped on failure
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private List<Callable<Collection<? extends BreakingChange>>> createChunkTasks(OperationRule<?> rule, List<List<Path>> chunks,
+                                                                                  Specification newApi, CheckerOptions checkerOptions,
+                                                                                  SchemaComparisonCache comparisonCache) {
+        List<Callable<Collection<? extends BreakingChange>>> tasks = new ArrayList<>(chunks.size());
+        for (List<Path> chunk : chunks) {
+            Supplier<Collection<? extends BreakingChange>> traversal = metricsRecorder.propagate(
+                () -> checkChunk(chunk, newApi, List.of(rule)).get(0));
+            tasks.add(() -> checkerOptionsProvider.callWith(checkerOptions, () -> schemaComparator.callWith(comparisonCache, traversal)));
+        }
+        return tasks;
+    }
+
+    /*
+     * Traverses a chunk of operations once for all the given rules. When the metrics or the rule execution events are
+     * recorded, the callbacks of every rule are timed during that same traversal, and every rule gets an execution of
+     * its phase and an event for the chunk. The instrumentation never changes how the operations are traversed.
+     */
+    private List<Collection<BreakingChange>> checkChunk(List<Path> chunk, Specification newApi, List<OperationRule<?>> operationRules) {
+        if (!metricsRecorder.isRecording() && !new RuleExecutionEvent().isEnabled()) {
+            return OperationTraversal.traverseByRule(chunk, newApi, pathSkipper, operationRules);
+        }
+        List<PhaseTimer> timers = new ArrayList<>(operationRules.size());
+        List<RuleExecutionEvent> events = new ArrayList<>(operationRules.size());
+        for (int i = 0; i < operationRules.size(); i++) {
+            timers.add(new PhaseTimer());
+            RuleExecutionEvent event = new RuleExecutionEvent();
+            event.begin();
+            events.add(event);
+        }
+        List<Collection<BreakingChange>> result = OperationTraversal.traverseByRule(chunk, newApi, pathSkipper, operationRules, timers);
+        for (int i = 0; i < operationRules.size(); i++) {
+            RuleExecutionEvent event = events.get(i);
+            event.end();
+            recordRule(operationRules.get(i), timers.get(i), event, result.get(i));
+        }
+        return result;
+    }
+
+    private Collection<BreakingChange> checkStandaloneRule(BreakingChangeRule<? extends BreakingChange> rule,
+                                                           Specification oldApi, Specification newApi,
+                                                           Specification webhookOldSpec, Specification webhookNewSpec) {
+        RuleExecutionEvent event = new RuleExecutionEvent();
+        PhaseTimer timer = new PhaseTimer();
+        event.begin();
+        timer.start();
+        Collection<BreakingChange> findings = new ArrayList<>(rule.checkRule(oldApi, newApi));
+        findings.addAll(rule.checkRule(webhookOldSpec, webhookNewSpec));
+        timer.stop();
+        event.end();
+        recordRule(rule, timer, event, findings);
+        return findings;
+    }
+
+    /*
+     * Records an execution of a rule, or of a part of its work, as a phase of the metrics and a Flight Recorder event.
+     */
+    private void recordRule(BreakingChangeRule<?> rule, PhaseTimer timer, RuleExecutionEvent event, Collection<? extends BreakingChange> findings) {
+        metricsRecorder.record("rule:" + rule.getClass().getSimpleName(), timer);
+        if (event.shouldCommit()) {
+            event.rule = rule.getClass().getName();
+            event.ruleCode = findings.stream().map(BreakingChange::getRuleCode).distinct().collect(joining(","));
+            event.findings = findings.size();
+            event.ruleTime = timer.getWallTimeNanos();
+            event.commit();
+        }
+    }
 }
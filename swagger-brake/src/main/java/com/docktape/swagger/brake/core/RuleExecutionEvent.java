@@ -0,0 +1,34 @@
+package com.docktape.swagger.brake.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event of a rule checking a chunk of the operations of an API, or the whole API for the rules which
+ * are not bound to operations. The duration of the event covers the traversal the rule shares with the other rules,
+ * the rule time covers the rule only.
+ */
+@Name("com.docktape.swagger.brake.RuleExecution")
+@Label("Rule Execution")
+@Category({"Swagger Brake", "Check"})
+@Description("A breaking change rule checking the old and the new API")
+final class RuleExecutionEvent extends Event {
+    @Label("Rule")
+    String rule;
+
+    @Label("Rule Code")
+    @Description("The codes of the breaking changes found, rules don't carry a code of their own")
+    String ruleCode;
+
+    @Label("Findings")
+    int findings;
+
+    @Label("Rule Time")
+    @Description("The time spent in the callbacks of the rule")
+    @Timespan
+    long ruleTime;
+}
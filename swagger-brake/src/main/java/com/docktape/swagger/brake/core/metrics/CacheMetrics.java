@@ -0,0 +1,35 @@
+package com.docktape.swagger.brake.core.metrics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Hit statistics of a cache used during a check.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class CacheMetrics {
+    /**
+     * Name of the cache, e.g. schema-store.
+     */
+    private final String name;
+    /**
+     * Number of requests served from the cache.
+     */
+    private final long hits;
+    /**
+     * Number of requests that had to compute the value.
+     */
+    private final long misses;
+
+    /**
+     * Returns the ratio of the hits to all requests.
+     * @return the hit rate between 0 and 1, or 0 if there were no requests
+     */
+    public double getHitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+}
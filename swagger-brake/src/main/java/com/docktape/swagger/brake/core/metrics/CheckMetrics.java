@@ -0,0 +1,111 @@
+package com.docktape.swagger.brake.core.metrics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Collects the timing and allocation measurements and the cache statistics of a single check.
+ * <br>
+ * A phase is measured on the thread executing it: the wall time, the CPU time and the bytes allocated by that
+ * thread are recorded. Work the phase hands over to other threads, e.g. the paths transformed in parallel, counts
+ * towards its wall time only, unless it's measured as a phase of its own. Executions of the same phase are summed
+ * up, which makes the wall time of a phase executed concurrently the total time spent in it rather than the
+ * elapsed time. The phases are listed in the order they were first started, nested phases are measured
+ * independently of the enclosing ones. The class is thread-safe.
+ */
+public class CheckMetrics {
+    // guarded by this
+    private final Map<String, PhaseAccumulator> phases = new LinkedHashMap<>();
+    // guarded by this
+    private final Map<String, long[]> caches = new LinkedHashMap<>();
+
+    /**
+     * Executes the supplier and records its measurements under the given phase.
+     * @param phase the name of the phase
+     * @param supplier the code of the phase
+     * @param <T> the type of the result
+     * @return the result of the supplier
+     */
+    public <T> T measure(String phase, Supplier<T> supplier) {
+        PhaseAccumulator accumulator;
+        synchronized (this) {
+            accumulator = phases.computeIfAbsent(phase, name -> new PhaseAccumulator());
+        }
+        PhaseTimer timer = new PhaseTimer();
+        timer.start();
+        try {
+            return supplier.get();
+        } finally {
+            timer.stop();
+            synchronized (this) {
+                accumulator.add(timer);
+            }
+        }
+    }
+
+    /**
+     * Adds the measurements of the given timer to the phase as a single execution.
+     * @param phase the name of the phase
+     * @param timer the timer measuring the phase on the thread executing it
+     */
+    public synchronized void record(String phase, PhaseTimer timer) {
+        phases.computeIfAbsent(phase, name -> new PhaseAccumulator()).add(timer);
+    }
+
+    /**
+     * Adds hit statistics to the given cache.
+     * @param cache the name of the cache
+     * @param hits the number of requests served from the cache
+     * @param misses the number of requests that had to compute the value
+     */
+    public synchronized void recordCache(String cache, long hits, long misses) {
+        long[] statistics = caches.computeIfAbsent(cache, name -> new long[2]);
+        statistics[0] += hits;
+        statistics[1] += misses;
+    }
+
+    /**
+     * Returns the measurements of the phases executed so far. Phases whose first execution is still running are left out.
+     * @return the phases in the order they were first started
+     */
+    public synchronized List<PhaseMetrics> getPhases() {
+        List<PhaseMetrics> result = new ArrayList<>(phases.size());
+        phases.forEach((name, accumulator) -> {
+            if (accumulator.count > 0) {
+                result.add(accumulator.toMetrics(name));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns the hit statistics of the caches.
+     * @return the caches in the order they were first recorded
+     */
+    public synchronized List<CacheMetrics> getCaches() {
+        List<CacheMetrics> result = new ArrayList<>(caches.size());
+        caches.forEach((name, statistics) -> result.add(new CacheMetrics(name, statistics[0], statistics[1])));
+        return result;
+    }
+
+    private static class PhaseAccumulator {
+        private long count;
+        private long wallTimeNanos;
+        private long cpuTimeNanos;
+        private long allocatedBytes;
+
+        void add(PhaseTimer timer) {
+            count++;
+            wallTimeNanos += timer.getWallTimeNanos();
+            cpuTimeNanos = timer.getCpuTimeNanos() < 0 ? -1 : cpuTimeNanos + timer.getCpuTimeNanos();
+            allocatedBytes = timer.getAllocatedBytes() < 0 ? -1 : allocatedBytes + timer.getAllocatedBytes();
+        }
+
+        PhaseMetrics toMetrics(String name) {
+            return new PhaseMetrics(name, count, wallTimeNanos, cpuTimeNanos, allocatedBytes);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.docktape.swagger.brake.core.metrics;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Records the measurements of the current check into its {@link CheckMetrics}.
+ * <br>
+ * The metrics bound with {@link #callWith(CheckMetrics, Supplier)} are visible only to the current thread for the
+ * duration of the call, just like the options of {@link com.docktape.swagger.brake.core.CheckerOptionsProvider}.
+ * Work handed over to other threads has to be wrapped with {@link #propagate(Supplier)}. Without bound metrics
+ * nothing is measured, so the instrumentation costs nothing unless it's requested.
+ */
+@Component
+public class MetricsRecorder {
+    private final ThreadLocal<CheckMetrics> boundMetrics = new ThreadLocal<>();
+
+    /**
+     * Binds the {@link CheckMetrics} to the current thread while executing the supplier. The previously bound
+     * metrics, if any, are restored afterwards.
+     * @param metrics the metrics of the current check. Must be not null.
+     * @param supplier the code to execute
+     * @param <T> the type of the result
+     * @return the result of the supplier
+     * @throws IllegalArgumentException if the provided metrics is null.
+     */
+    public <T> T callWith(CheckMetrics metrics, Supplier<T> supplier) {
+        if (metrics == null) {
+            throw new IllegalArgumentException("metrics cannot be null");
+        }
+        CheckMetrics previous = boundMetrics.get();
+        boundMetrics.set(metrics);
+        try {
+            return supplier.get();
+        } finally {
+            if (previous == null) {
+                boundMetrics.remove();
+            } else {
+                boundMetrics.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Returns a supplier which executes the given one with the metrics bound to the current thread, so it can be
+     * handed over to another thread.
+     * @param supplier the code to execute on the other thread
+     * @param <T> the type of the result
+     * @return the wrapped supplier, or the given one if there are no metrics bound to the current thread
+     */
+    public <T> Supplier<T> propagate(Supplier<T> supplier) {
+        CheckMetrics metrics = boundMetrics.get();
+        if (metrics == null) {
+            return supplier;
+        }
+        return () -> callWith(metrics, supplier);
+    }
+
+    /**
+     * Returns the metrics bound to the current thread.
+     * @return the metrics, empty if nothing is recorded
+     */
+    public Optional<CheckMetrics> get() {
+        return Optional.ofNullable(boundMetrics.get());
+    }
+
+    /**
+     * Tells whether the metrics are recorded on the current thread.
+     * @return true if there are metrics bound to the current thread
+     */
+    public boolean isRecording() {
+        return boundMetrics.get() != null;
+    }
+
+    /**
+     * Executes the supplier and records its measurements under the given phase, if the metrics are recorded.
+     * @param phase the name of the phase
+     * @param supplier the code of the phase
+     * @param <T> the type of the result
+     * @return the result of the supplier
+     */
+    public <T> T measure(String phase, Supplier<T> supplier) {
+        CheckMetrics metrics = boundMetrics.get();
+        if (metrics == null) {
+            return supplier.get();
+        }
+        return metrics.measure(phase, supplier);
+    }
+
+    /**
+     * Adds the measurements of the given timer to the phase as a single execution, if the metrics are recorded.
+     * @param phase the name of the phase
+     * @param timer the timer measuring the phase on the current thread
+     */
+    public void record(String phase, PhaseTimer timer) {
+        CheckMetrics metrics = boundMetrics.get();
+        if (metrics != null) {
+            metrics.record(phase, timer);
+        }
+    }
+
+    /**
+     * Adds hit statistics to the given cache, if the metrics are recorded.
+     * @param cache the name of the cache
+     * @param hits the number of requests served from the cache
+     * @param misses the number of requests that had to compute the value
+     */
+    public void recordCache(String cache, long hits, long misses) {
+        CheckMetrics metrics = boundMetrics.get();
+        if (metrics != null) {
+            metrics.recordCache(cache, hits, misses);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.docktape.swagger.brake.core.metrics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Measurements of a phase of a check, summed up over all of its executions.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class PhaseMetrics {
+    /**
+     * Name of the phase, e.g. transformation:old or rule:PathDeletedRule.
+     */
+    private final String name;
+    /**
+     * Number of times the phase was executed.
+     */
+    private final long count;
+    /**
+     * Elapsed time in nanoseconds.
+     */
+    private final long wallTimeNanos;
+    /**
+     * CPU time of the executing threads in nanoseconds, -1 if the JVM doesn't support measuring it.
+     */
+    private final long cpuTimeNanos;
+    /**
+     * Bytes allocated by the executing threads, -1 if the JVM doesn't support measuring it.
+     */
+    private final long allocatedBytes;
+}
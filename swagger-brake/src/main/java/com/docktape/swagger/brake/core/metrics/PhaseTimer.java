@@ -0,0 +1,94 @@
+package com.docktape.swagger.brake.core.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Measures the wall time, the CPU time and the bytes allocated by the current thread between {@link #start()} and
+ * {@link #stop()}. A timer can be started and stopped several times, the measurements are summed up, so it can
+ * measure a phase executed in slices, e.g. the callbacks of a rule during a traversal shared with other rules.
+ * <br>
+ * A timer belongs to the thread using it, it is not thread-safe.
+ */
+@Slf4j
+@Getter
+public class PhaseTimer {
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    private static final boolean CPU_TIME_SUPPORTED = isCpuTimeSupported();
+    private static final boolean ALLOCATION_SUPPORTED = isAllocationSupported();
+
+    /**
+     * Elapsed time in nanoseconds.
+     */
+    private long wallTimeNanos;
+    /**
+     * CPU time of the current thread in nanoseconds, -1 if the JVM doesn't support measuring it.
+     */
+    private long cpuTimeNanos = CPU_TIME_SUPPORTED ? 0 : -1;
+    /**
+     * Bytes allocated by the current thread, -1 if the JVM doesn't support measuring it.
+     */
+    private long allocatedBytes = ALLOCATION_SUPPORTED ? 0 : -1;
+
+    @Getter(AccessLevel.NONE)
+    private long wallStart;
+    @Getter(AccessLevel.NONE)
+    private long cpuStart;
+    @Getter(AccessLevel.NONE)
+    private long allocationStart;
+
+    /**
+     * Starts a slice of the measurement.
+     */
+    public void start() {
+        cpuStart = currentThreadCpuTime();
+        allocationStart = currentThreadAllocatedBytes();
+        wallStart = System.nanoTime();
+    }
+
+    /**
+     * Stops the slice started last and adds its measurements to the ones of the previous slices.
+     */
+    public void stop() {
+        wallTimeNanos += System.nanoTime() - wallStart;
+        if (CPU_TIME_SUPPORTED) {
+            cpuTimeNanos += currentThreadCpuTime() - cpuStart;
+        }
+        if (ALLOCATION_SUPPORTED) {
+            allocatedBytes += currentThreadAllocatedBytes() - allocationStart;
+        }
+    }
+
+    private static long currentThreadCpuTime() {
+        return CPU_TIME_SUPPORTED ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : 0;
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        return ALLOCATION_SUPPORTED ? ((com.sun.management.ThreadMXBean) THREAD_MX_BEAN).getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    private static boolean isCpuTimeSupported() {
+        try {
+            return THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() && THREAD_MX_BEAN.isThreadCpuTimeEnabled();
+        } catch (UnsupportedOperationException e) {
+            log.debug("Thread CPU time cannot be measured", e);
+            return false;
+        }
+    }
+
+    private static boolean isAllocationSupported() {
+        if (!(THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean allocationBean)) {
+            return false;
+        }
+        try {
+            return allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled();
+        } catch (UnsupportedOperationException e) {
+            log.debug("Thread allocations cannot be measured", e);
+            return false;
+        }
+    }
+}
@@ -7,9 +7,11 @@ import lombok.Getter;
 import lombok.ToString;
 
 @Getter
-@EqualsAndHashCode(callSuper = true)
+@EqualsAndHashCode(callSuper = true, cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
 @ToString
 public class ArraySchema extends Schema {
+    private static final long serialVersionUID = 1L;
+
     private final Integer maxItems;
     private final Integer minItems;
     private final Boolean uniqueItems;
@@ -32,4 +34,12 @@ public class ArraySchema extends Schema {
         this.minItems = minItems;
         this.uniqueItems = uniqueItems;
     }
+
+    @Override
+    protected void addFingerprintFields(FingerprintBuilder builder) {
+        super.addFingerprintFields(builder);
+        builder.putValue(maxItems)
+            .putValue(minItems)
+            .putValue(uniqueItems);
+    }
 }
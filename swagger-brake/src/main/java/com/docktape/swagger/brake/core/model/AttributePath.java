@@ -0,0 +1,106 @@
+package com.docktape.swagger.brake.core.model;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Immutable, hierarchical path of an attribute within a {@link Schema}. A path is made of its parent path and
+ * a single segment; child paths share their parent instance so that deeply nested attributes don't need to
+ * copy the names of their ancestors. The hash code is computed once on construction, and the dotted
+ * string representation is only rendered on request.
+ */
+public final class AttributePath {
+    /**
+     * The path of the schema itself, rendered as an empty string.
+     */
+    public static final AttributePath ROOT = new AttributePath(null, "");
+
+    private final AttributePath parent;
+    private final String segment;
+    private final int depth;
+    private final int hash;
+
+    private AttributePath(AttributePath parent, String segment) {
+        this.parent = parent;
+        this.segment = segment;
+        this.depth = parent == null ? 0 : parent.depth + 1;
+        this.hash = parent == null ? 0 : 31 * parent.hash + segment.hashCode();
+    }
+
+    /**
+     * Creates a path from the given segments, starting from {@link #ROOT}.
+     * @param segments the segments of the path
+     * @return the path
+     */
+    public static AttributePath of(String... segments) {
+        AttributePath result = ROOT;
+        for (String segment : segments) {
+            result = result.child(segment);
+        }
+        return result;
+    }
+
+    /**
+     * Creates the path of a direct child attribute of this path.
+     * @param segment the name of the child attribute
+     * @return the child path
+     */
+    public AttributePath child(String segment) {
+        return new AttributePath(this, Objects.requireNonNull(segment, "segment"));
+    }
+
+    public Optional<AttributePath> getParent() {
+        return Optional.ofNullable(parent);
+    }
+
+    public String getSegment() {
+        return segment;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public boolean isRoot() {
+        return parent == null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof AttributePath)) {
+            return false;
+        }
+        AttributePath current = this;
+        AttributePath other = (AttributePath) o;
+        while (current != other) {
+            if (current.hash != other.hash || current.depth != other.depth || !current.segment.equals(other.segment)) {
+                return false;
+            }
+            current = current.parent;
+            other = other.parent;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        if (parent == null) {
+            return segment;
+        }
+        String[] segments = new String[depth];
+        AttributePath current = this;
+        for (int i = depth - 1; i >= 0; i--) {
+            segments[i] = current.segment;
+            current = current.parent;
+        }
+        return String.join(Schema.LEVEL_DELIMITER, segments);
+    }
+}
@@ -0,0 +1,160 @@
+package com.docktape.swagger.brake.core.model;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the structural fingerprint of a model element from its own fields and the fingerprints of its children,
+ * so the fingerprints of a specification form a Merkle tree. Two elements having the same fingerprint are
+ * structurally identical, which allows skipping the comparison of unchanged elements.
+ * <br>
+ * The fingerprint is the first 64 bits of a SHA-256 hash, hence accidental collisions are negligible. Every value
+ * is written with a type and length prefix, so different field sequences never produce the same input.
+ */
+public final class FingerprintBuilder {
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte BOOLEAN = 2;
+    private static final byte LONG = 3;
+    private static final byte COLLECTION = 4;
+
+    private final MessageDigest digest;
+
+    /**
+     * Creates a builder for an element of the given type.
+     * @param type the type of the element, it's part of the fingerprint
+     */
+    public FingerprintBuilder(Class<?> type) {
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        putString(type.getName());
+    }
+
+    /**
+     * Adds a string value.
+     * @param value the value, can be null
+     * @return this builder
+     */
+    public FingerprintBuilder putString(String value) {
+        if (value == null) {
+            digest.update(NULL);
+            return this;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update(STRING);
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        digest.update(bytes);
+        return this;
+    }
+
+    /**
+     * Adds a value by its string representation, e.g. a number, a boxed boolean or an enum constant.
+     * @param value the value, can be null
+     * @return this builder
+     */
+    public FingerprintBuilder putValue(Object value) {
+        return putString(value == null ? null : value.toString());
+    }
+
+    /**
+     * Adds a boolean value.
+     * @param value the value
+     * @return this builder
+     */
+    public FingerprintBuilder putBoolean(boolean value) {
+        digest.update(BOOLEAN);
+        digest.update(value ? (byte) 1 : (byte) 0);
+        return this;
+    }
+
+    /**
+     * Adds a long value, typically the fingerprint of a child element.
+     * @param value the value
+     * @return this builder
+     */
+    public FingerprintBuilder putLong(long value) {
+        digest.update(LONG);
+        digest.update(ByteBuffer.allocate(Long.BYTES).putLong(value).array());
+        return this;
+    }
+
+    /**
+     * Adds the strings of an unordered collection. The strings are sorted first, so the iteration order of the
+     * collection doesn't affect the fingerprint.
+     * @param values the values, can be null
+     * @return this builder
+     */
+    public FingerprintBuilder putUnorderedStrings(Collection<String> values) {
+        if (values == null) {
+            digest.update(NULL);
+            return this;
+        }
+        List<String> sorted = new ArrayList<>(values);
+        sorted.sort(Comparator.nullsFirst(Comparator.naturalOrder()));
+        digest.update(COLLECTION);
+        putLong(sorted.size());
+        sorted.forEach(this::putString);
+        return this;
+    }
+
+    /**
+     * Adds the fingerprints of unordered child elements. The fingerprints are sorted first, so the iteration order
+     * of the children doesn't affect the fingerprint.
+     * @param fingerprints the fingerprints of the children, can be null
+     * @return this builder
+     */
+    public FingerprintBuilder putUnorderedFingerprints(Collection<Long> fingerprints) {
+        if (fingerprints == null) {
+            digest.update(NULL);
+            return this;
+        }
+        long[] sorted = fingerprints.stream().mapToLong(Long::longValue).sorted().toArray();
+        digest.update(COLLECTION);
+        putLong(sorted.length);
+        for (long fingerprint : sorted) {
+            putLong(fingerprint);
+        }
+        return this;
+    }
+
+    /**
+     * Adds the schemas of a request or response keyed by their media types. The order of the entries doesn't
+     * affect the fingerprint.
+     * @param mediaTypes the schemas by media type, can be null
+     * @return this builder
+     */
+    public FingerprintBuilder putMediaTypes(Map<MediaType, Schema> mediaTypes) {
+        if (mediaTypes == null) {
+            digest.update(NULL);
+            return this;
+        }
+        List<Long> fingerprints = new ArrayList<>(mediaTypes.size());
+        for (Map.Entry<MediaType, Schema> entry : mediaTypes.entrySet()) {
+            Schema schema = entry.getValue();
+            fingerprints.add(new FingerprintBuilder(MediaType.class)
+                .putString(entry.getKey() == null ? null : entry.getKey().getMimeType())
+                .putLong(schema == null ? 0 : schema.getFingerprint())
+                .build());
+        }
+        return putUnorderedFingerprints(fingerprints);
+    }
+
+    /**
+     * Builds the fingerprint. The builder must not be used afterwards.
+     * @return the fingerprint, never 0 so 0 can denote a fingerprint which is not computed yet
+     */
+    public long build() {
+        long result = ByteBuffer.wrap(digest.digest()).getLong();
+        return result == 0 ? 1 : result;
+    }
+}
@@ -0,0 +1,188 @@
+package com.docktape.swagger.brake.core.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Immutable, flattened view of a {@link Schema} and all of its nested attributes. It is computed in a single
+ * walk of the schema tree and backs the recursive accessors of {@link Schema} so that the same tree is not
+ * traversed again by every rule that inspects it.
+ */
+final class FlattenedSchema {
+    private final Map<AttributePath, String> types = new HashMap<>();
+    private final Map<AttributePath, Schema> schemas = new HashMap<>();
+    private final List<String> enums = new ArrayList<>();
+    private final Map<AttributePath, Set<String>> extensibleEnums = new HashMap<>();
+    // collected in walk order, then sorted by their dotted names once the walk is over
+    private Set<AttributePath> attributeNames = new LinkedHashSet<>();
+    private Set<AttributePath> nonDeprecatedAttributeNames = new LinkedHashSet<>();
+    private final Set<AttributePath> requiredAttributeNames = new HashSet<>();
+    private final Map<AttributePath, Boolean> nullableAttributes = new HashMap<>();
+
+    private FlattenedSchema() {
+    }
+
+    static FlattenedSchema of(Schema root) {
+        FlattenedSchema result = new FlattenedSchema();
+        result.walk(getAttributes(root), AttributePath.ROOT, true);
+        result.attributeNames = sortByName(result.attributeNames);
+        result.nonDeprecatedAttributeNames = sortByName(result.nonDeprecatedAttributeNames);
+        Optional<Schema> nestedSchema = root.getSchema();
+        result.types.put(AttributePath.ROOT, root.getType());
+        result.schemas.put(AttributePath.ROOT, root);
+        Collection<String> rootEnums = nestedSchema.isPresent() ? nestedSchema.get().getEnumValues() : root.getEnumValues();
+        result.enums.addAll(emptyIfNull(rootEnums));
+        Set<String> rootExtensibleEnum = nestedSchema.map(Schema::getExtensibleEnum).orElse(root.getExtensibleEnum());
+        if (rootExtensibleEnum != null && !rootExtensibleEnum.isEmpty()) {
+            result.extensibleEnums.put(AttributePath.ROOT, rootExtensibleEnum);
+        }
+        return result;
+    }
+
+    /*
+     * Attributes of a level are recorded before any of their children so that entries keyed by the attribute
+     * name only (types, schemas) are overridden by nested ones the same way as before the flattening. The levels
+     * are walked depth-first with an explicit stack, so the depth of the schema is limited by the heap only.
+     */
+    private void walk(Collection<SchemaAttribute> attributes, AttributePath parentPath, boolean parentRequired) {
+        Deque<Level> stack = new ArrayDeque<>();
+        stack.push(record(new Level(attributes, parentPath, parentRequired)));
+        while (!stack.isEmpty()) {
+            Level level = stack.peek();
+            if (!level.iterator.hasNext()) {
+                stack.pop();
+                continue;
+            }
+            SchemaAttribute attribute = level.iterator.next();
+            AttributePath path = level.paths.get(level.position++);
+            Schema childSchema = attribute.getSchema();
+            if (childSchema != null) {
+                Set<String> extensibleEnum = childSchema.getExtensibleEnum();
+                if (extensibleEnum != null && !extensibleEnum.isEmpty()) {
+                    extensibleEnums.put(path, extensibleEnum);
+                }
+                stack.push(record(new Level(getAttributes(childSchema), path, level.required && attribute.isRequired())));
+            }
+        }
+    }
+
+    /*
+     * The path of every attribute is created here once and kept in the level, the walk passes the same node down to
+     * the children of the attribute.
+     */
+    private Level record(Level level) {
+        AttributePath parentPath = level.path;
+        for (SchemaAttribute attribute : level.attributes) {
+            AttributePath path = parentPath.child(attribute.getName());
+            level.paths.add(path);
+            attributeNames.add(path);
+            if (!attribute.isDeprecated()) {
+                nonDeprecatedAttributeNames.add(path);
+            }
+            nullableAttributes.putIfAbsent(path, attribute.isNullable());
+            if (level.required && attribute.isRequired()) {
+                requiredAttributeNames.add(path);
+            }
+            Schema childSchema = attribute.getSchema();
+            if (childSchema != null) {
+                AttributePath flatPath = parentPath.isRoot() ? path : AttributePath.ROOT.child(attribute.getName());
+                types.put(flatPath, childSchema.getType());
+                schemas.put(flatPath, childSchema);
+                for (String enumValue : emptyIfNull(childSchema.getEnumValues())) {
+                    enums.add(attribute.getName() + Schema.LEVEL_DELIMITER + enumValue);
+                }
+            }
+        }
+        return level;
+    }
+
+    Map<AttributePath, String> getTypes() {
+        return Collections.unmodifiableMap(types);
+    }
+
+    Map<AttributePath, Schema> getSchemas() {
+        return Collections.unmodifiableMap(schemas);
+    }
+
+    Collection<String> getEnums() {
+        return Collections.unmodifiableList(enums);
+    }
+
+    Map<AttributePath, Set<String>> getExtensibleEnums() {
+        return Collections.unmodifiableMap(extensibleEnums);
+    }
+
+    Collection<AttributePath> getAttributeNames() {
+        return Collections.unmodifiableSet(attributeNames);
+    }
+
+    Collection<AttributePath> getNonDeprecatedAttributeNames() {
+        return Collections.unmodifiableSet(nonDeprecatedAttributeNames);
+    }
+
+    Set<AttributePath> getRequiredAttributeNames() {
+        return Collections.unmodifiableSet(requiredAttributeNames);
+    }
+
+    Map<AttributePath, Boolean> getNullableAttributes() {
+        return Collections.unmodifiableMap(nullableAttributes);
+    }
+
+    /*
+     * The attribute names are reported in the alphabetical order of their dotted names, the name of every path is
+     * rendered only once for sorting.
+     */
+    private static Set<AttributePath> sortByName(Set<AttributePath> paths) {
+        Map<String, AttributePath> sorted = new TreeMap<>();
+        for (AttributePath path : paths) {
+            sorted.putIfAbsent(path.toString(), path);
+        }
+        return new LinkedHashSet<>(sorted.values());
+    }
+
+    private static Collection<SchemaAttribute> getAttributes(Schema schema) {
+        Collection<SchemaAttribute> attributes = schema.getSchemaAttributes();
+        if (CollectionUtils.isEmpty(attributes)) {
+            attributes = schema.getSchema().map(Schema::getSchemaAttributes).orElse(null);
+        }
+        return attributes != null ? attributes : Collections.emptySet();
+    }
+
+    private static <T> Collection<T> emptyIfNull(Collection<T> collection) {
+        return collection != null ? collection : Collections.emptySet();
+    }
+
+    /*
+     * The attributes of a schema level with their paths, and the position of the walk among them.
+     */
+    private static final class Level {
+        private final Collection<SchemaAttribute> attributes;
+        private final Iterator<SchemaAttribute> iterator;
+        private final List<AttributePath> paths;
+        private final AttributePath path;
+        private final boolean required;
+        private int position;
+
+        Level(Collection<SchemaAttribute> attributes, AttributePath path, boolean required) {
+            this.attributes = attributes;
+            this.iterator = attributes.iterator();
+            this.paths = new ArrayList<>(attributes.size());
+            this.path = path;
+            this.required = required;
+        }
+    }
+}
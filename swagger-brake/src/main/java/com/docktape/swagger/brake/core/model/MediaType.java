@@ -1,5 +1,7 @@
 package com.docktape.swagger.brake.core.model;
 
+import java.io.Serializable;
+
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -7,9 +9,11 @@ import org.springframework.util.MimeType;
 import org.springframework.util.MimeTypeUtils;
 
 @Getter
-@EqualsAndHashCode
+@EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
 @ToString
-public class MediaType {
+public class MediaType implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     public static final MediaType ALL = new MediaType("*/*");
 
     private final MimeType mediaType;
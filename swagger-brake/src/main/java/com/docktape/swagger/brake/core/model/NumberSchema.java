@@ -8,9 +8,11 @@ import lombok.Getter;
 import lombok.ToString;
 
 @Getter
-@EqualsAndHashCode(callSuper = true)
+@EqualsAndHashCode(callSuper = true, cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
 @ToString
 public class NumberSchema extends Schema {
+    private static final long serialVersionUID = 1L;
+
     private final BigDecimal maximum;
     private final BigDecimal minimum;
     private final BigDecimal multipleOf;
@@ -112,4 +114,16 @@ public class NumberSchema extends Schema {
         this.exclusiveMinimum = exclusiveMinimumValue != null;
         this.multipleOf = multipleOf;
     }
+
+    @Override
+    protected void addFingerprintFields(FingerprintBuilder builder) {
+        super.addFingerprintFields(builder);
+        builder.putValue(maximum)
+            .putValue(minimum)
+            .putValue(multipleOf)
+            .putBoolean(exclusiveMaximum)
+            .putBoolean(exclusiveMinimum)
+            .putValue(exclusiveMaximumValue)
+            .putValue(exclusiveMinimumValue);
+    }
 }
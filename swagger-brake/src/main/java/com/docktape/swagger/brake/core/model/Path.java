@@ -1,19 +1,24 @@
 package com.docktape.swagger.brake.core.model;
 
+import java.io.Serializable;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import com.docktape.swagger.brake.core.model.parameter.RequestParameter;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
 @Getter
-@RequiredArgsConstructor
 @EqualsAndHashCode
 @ToString
-public class Path {
+public class Path implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private final String path;
     private final HttpMethod method;
     private final Request requestBody;
@@ -22,15 +27,91 @@ public class Path {
     private final boolean deprecated;
     private final boolean betaApi;
 
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final Map<String, Response> responsesByCode;
+
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final Map<String, RequestParameter> requestParametersByName;
+
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient volatile long fingerprint;
+
+    /**
+     * Constructs a Path and indexes its responses by code and its request parameters by name.
+     * @param path the path
+     * @param method the {@link HttpMethod}
+     * @param requestBody the request body (nullable)
+     * @param requestParameters the request parameters
+     * @param responses the responses
+     * @param deprecated whether the operation is deprecated
+     * @param betaApi whether the operation is marked as a beta API
+     */
+    public Path(String path, HttpMethod method, Request requestBody, Collection<RequestParameter> requestParameters,
+                Collection<Response> responses, boolean deprecated, boolean betaApi) {
+        this.path = path;
+        this.method = method;
+        this.requestBody = requestBody;
+        this.requestParameters = requestParameters;
+        this.responses = responses;
+        this.deprecated = deprecated;
+        this.betaApi = betaApi;
+        this.responsesByCode = indexResponses(responses);
+        this.requestParametersByName = new HashMap<>();
+        if (requestParameters != null) {
+            for (RequestParameter requestParameter : requestParameters) {
+                requestParametersByName.putIfAbsent(requestParameter.getName(), requestParameter);
+            }
+        }
+    }
+
+    /**
+     * Returns the structural fingerprint of the operation, which covers everything within the operation, so
+     * unchanged operations can be recognized without comparing them. It is computed once on first access.
+     * @return the fingerprint
+     */
+    public long getFingerprint() {
+        long result = fingerprint;
+        if (result == 0) {
+            result = new FingerprintBuilder(Path.class)
+                .putString(path)
+                .putValue(method)
+                .putLong(requestBody == null ? 0 : requestBody.getFingerprint())
+                .putUnorderedFingerprints(requestParameters == null ? null : requestParameters.stream().map(RequestParameter::getFingerprint).toList())
+                .putUnorderedFingerprints(responses == null ? null : responses.stream().map(Response::getFingerprint).toList())
+                .putBoolean(deprecated)
+                .putBoolean(betaApi)
+                .build();
+            fingerprint = result;
+        }
+        return result;
+    }
+
     public Optional<Response> getResponseByCode(String code) {
-        return responses.stream().filter(r -> code.equals(r.getCode())).findAny();
+        return Optional.ofNullable(responsesByCode.get(code));
     }
 
     public Optional<RequestParameter> getRequestParameterByName(String name) {
-        return requestParameters.stream().filter(p -> name.equals(p.getName())).findAny();
+        return Optional.ofNullable(requestParametersByName.get(name));
     }
 
     public Optional<Request> getRequestBody() {
         return Optional.ofNullable(requestBody);
     }
+
+    private static Map<String, Response> indexResponses(Collection<Response> responses) {
+        if (responses == null || responses.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, Response> result = new HashMap<>(responses.size() * 2);
+        for (Response response : responses) {
+            result.putIfAbsent(response.getCode(), response);
+        }
+        return result;
+    }
 }
@@ -0,0 +1,47 @@
+package com.docktape.swagger.brake.core.model;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable lookup table for {@link Path} instances keyed by the exact path and the {@link HttpMethod}.
+ * When the same key is present multiple times, the first {@link Path} wins.
+ */
+final class PathIndex implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    static final PathIndex EMPTY = new PathIndex(Collections.emptyMap());
+
+    private final Map<String, Map<HttpMethod, Path>> paths;
+
+    private PathIndex(Map<String, Map<HttpMethod, Path>> paths) {
+        this.paths = paths;
+    }
+
+    static PathIndex of(Collection<Path> paths) {
+        if (paths.isEmpty()) {
+            return EMPTY;
+        }
+        Map<String, Map<HttpMethod, Path>> result = new HashMap<>(paths.size() * 2);
+        for (Path path : paths) {
+            result.computeIfAbsent(path.getPath(), k -> new EnumMap<>(HttpMethod.class)).putIfAbsent(path.getMethod(), path);
+        }
+        return new PathIndex(result);
+    }
+
+    Optional<Path> get(String path, HttpMethod method) {
+        if (path == null || method == null) {
+            return Optional.empty();
+        }
+        Map<HttpMethod, Path> methods = paths.get(path);
+        if (methods == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(methods.get(method));
+    }
+}
@@ -1,22 +1,56 @@
 package com.docktape.swagger.brake.core.model;
 
+import java.io.Serializable;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
 @Getter
-@RequiredArgsConstructor
 @EqualsAndHashCode
 @ToString
-public class Request {
+public class Request implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private final Map<MediaType, Schema> mediaTypes;
     private final boolean required;
 
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final boolean anyMediaTypeAllowed;
+
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient volatile long fingerprint;
+
+    public Request(Map<MediaType, Schema> mediaTypes, boolean required) {
+        this.mediaTypes = mediaTypes;
+        this.required = required;
+        this.anyMediaTypeAllowed = mediaTypes != null && mediaTypes.containsKey(MediaType.ALL);
+    }
+
+    /**
+     * Returns the structural fingerprint of the request body, which covers its media types with their schemas and
+     * whether it's required. It is computed once on first access.
+     * @return the fingerprint
+     */
+    public long getFingerprint() {
+        long result = fingerprint;
+        if (result == 0) {
+            result = new FingerprintBuilder(Request.class)
+                .putMediaTypes(mediaTypes)
+                .putBoolean(required)
+                .build();
+            fingerprint = result;
+        }
+        return result;
+    }
+
     public Optional<Schema> getSchemaByMediaType(MediaType mediaType) {
         return Optional.ofNullable(mediaTypes.get(mediaType));
     }
@@ -29,10 +63,6 @@ public class Request {
      *      false otherwise.
      */
     public boolean isMediaTypeAllowed(MediaType mediaType) {
-        Set<MediaType> availableMediaTypes = mediaTypes.keySet();
-        if (availableMediaTypes.contains(MediaType.ALL)) {
-            return true;
-        }
-        return availableMediaTypes.contains(mediaType);
+        return anyMediaTypeAllowed || mediaTypes.containsKey(mediaType);
     }
 }
@@ -1,23 +1,64 @@
 package com.docktape.swagger.brake.core.model;
 
+import java.io.Serializable;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
 @Getter
-@RequiredArgsConstructor
 @EqualsAndHashCode
 @ToString
-public class Response {
+public class Response implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private final String code;
     private final Map<MediaType, Schema> mediaTypes;
     private final Map<String, ResponseHeader> headers;
 
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final boolean anyMediaTypeAllowed;
+
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient volatile long fingerprint;
+
+    public Response(String code, Map<MediaType, Schema> mediaTypes, Map<String, ResponseHeader> headers) {
+        this.code = code;
+        this.mediaTypes = mediaTypes;
+        this.headers = headers;
+        this.anyMediaTypeAllowed = mediaTypes != null && mediaTypes.containsKey(MediaType.ALL);
+    }
+
+    /**
+     * Returns the structural fingerprint of the response, which covers its code, its media types with their schemas
+     * and its headers. It is computed once on first access.
+     * @return the fingerprint
+     */
+    public long getFingerprint() {
+        long result = fingerprint;
+        if (result == 0) {
+            result = new FingerprintBuilder(Response.class)
+                .putString(code)
+                .putMediaTypes(mediaTypes)
+                .putUnorderedFingerprints(headers == null ? null : headers.entrySet().stream()
+                    .map(e -> new FingerprintBuilder(ResponseHeader.class)
+                        .putString(e.getKey())
+                        .putLong(e.getValue() == null ? 0 : e.getValue().getFingerprint())
+                        .build())
+                    .toList())
+                .build();
+            fingerprint = result;
+        }
+        return result;
+    }
+
     public Optional<Schema> getSchemaByMediaType(MediaType mediaType) {
         return Optional.ofNullable(mediaTypes.get(mediaType));
     }
@@ -30,10 +71,6 @@ public class Response {
      *      false otherwise.
      */
     public boolean isMediaTypeAllowed(MediaType mediaType) {
-        Set<MediaType> availableMediaTypes = mediaTypes.keySet();
-        if (availableMediaTypes.contains(MediaType.ALL)) {
-            return true;
-        }
-        return availableMediaTypes.contains(mediaType);
+        return anyMediaTypeAllowed || mediaTypes.containsKey(mediaType);
     }
 }
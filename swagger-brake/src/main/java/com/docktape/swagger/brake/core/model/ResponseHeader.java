@@ -1,5 +1,7 @@
 package com.docktape.swagger.brake.core.model;
 
+import java.io.Serializable;
+
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -9,8 +11,22 @@ import lombok.ToString;
 @RequiredArgsConstructor
 @EqualsAndHashCode
 @ToString
-public class ResponseHeader {
+public class ResponseHeader implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private final String name;
     private final boolean required;
     private final String type;
+
+    /**
+     * Returns the structural fingerprint of the header.
+     * @return the fingerprint
+     */
+    public long getFingerprint() {
+        return new FingerprintBuilder(ResponseHeader.class)
+            .putString(name)
+            .putBoolean(required)
+            .putString(type)
+            .build();
+    }
 }
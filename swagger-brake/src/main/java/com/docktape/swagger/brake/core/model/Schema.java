@@ -1,26 +1,23 @@
 package com.docktape.swagger.brake.core.model;
 
-import static java.lang.String.format;
-import static java.util.function.Function.identity;
-import static java.util.stream.Collectors.*;
-import static org.apache.commons.collections4.CollectionUtils.isEmpty;
-
-import java.util.*;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-
+import java.io.Serializable;
+import java.lang.ref.SoftReference;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
-import org.apache.commons.lang3.BooleanUtils;
-import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.tuple.Pair;
-import org.springframework.util.CollectionUtils;
 
 @Getter
-@EqualsAndHashCode
+@EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
 @ToString
-public class Schema {
+public class Schema implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     public static final String LEVEL_DELIMITER_REPLACE_VALUE = "$";
     public static final String LEVEL_DELIMITER = ".";
     private final String type;
@@ -31,6 +28,16 @@ public class Schema {
     private final String constValue;
     private final Boolean additionalPropertiesAllowed;
 
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient volatile SoftReference<FlattenedSchema> flattened;
+
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient volatile long fingerprint;
+
     /**
      * Constructs a Schema without extensibleEnum, constValue or additionalPropertiesAllowed.
      * @param type the type
@@ -99,248 +106,110 @@ public class Schema {
      * @return the enum attribute names.
      */
     public Collection<String> getEnums() {
-        Collection<SchemaAttribute> schemaAttrs = schemaAttributes;
-        if (CollectionUtils.isEmpty(schemaAttrs)) {
-            schemaAttrs = Optional.ofNullable(schema).map(Schema::getSchemaAttributes).orElse(Collections.emptySet());
-        }
-        Collection<String> result = internalGetEnums(schemaAttrs, "");
-        result.addAll(Optional.ofNullable(schema).map(Schema::getEnumValues).orElse(enumValues));
-        return result;
+        return flattened().getEnums();
     }
 
     /**
-     * Returns all the x-extensible-enum values with attribute names recursively within the schema.
-     * @return map from attribute name (leveled) to its x-extensible-enum values.
+     * Returns all the x-extensible-enum values with attribute paths recursively within the schema.
+     * @return map from attribute path to its x-extensible-enum values.
      */
-    public Map<String, Set<String>> getXExtensibleEnums() {
-        Collection<SchemaAttribute> schemaAttrs = schemaAttributes;
-        if (CollectionUtils.isEmpty(schemaAttrs)) {
-            schemaAttrs = Optional.ofNullable(schema).map(Schema::getSchemaAttributes).orElse(Collections.emptySet());
-        }
-        Map<String, Set<String>> result = internalGetXExtensibleEnums(schemaAttrs, "");
-        Set<String> rootExtEnum = Optional.ofNullable(schema)
-            .map(Schema::getExtensibleEnum)
-            .orElse(extensibleEnum);
-        if (rootExtEnum != null && !rootExtEnum.isEmpty()) {
-            result.put("", rootExtEnum);
-        }
-        return result;
-    }
-
-    private Map<String, Set<String>> internalGetXExtensibleEnums(Collection<SchemaAttribute> schemaAttributes, String levelName) {
-        Map<String, Set<String>> result = new HashMap<>();
-        for (SchemaAttribute schemaAttribute : schemaAttributes) {
-            Schema childSchema = schemaAttribute.getSchema();
-            if (childSchema != null) {
-                String attrName = generateLeveledName(schemaAttribute.getName(), levelName);
-                Set<String> extEnum = childSchema.getExtensibleEnum();
-                if (extEnum != null && !extEnum.isEmpty()) {
-                    result.put(attrName, extEnum);
-                }
-                Collection<SchemaAttribute> childSchemaAttributes = childSchema.getSchemaAttributes();
-                if (isEmpty(childSchemaAttributes)) {
-                    childSchemaAttributes = childSchema.getSchema().map(Schema::getSchemaAttributes).orElse(Collections.emptySet());
-                }
-                result.putAll(internalGetXExtensibleEnums(childSchemaAttributes, attrName));
-            }
-        }
-        return result;
-    }
-
-    private Collection<String> internalGetEnums(Collection<SchemaAttribute> schemaAttributes, String levelName) {
-        Collection<String> result = schemaAttributes
-            .stream()
-            .filter(a -> a.getSchema() != null)
-            .map(a -> a.getSchema().getEnumValues().stream().map(e -> generateLeveledName(e, a.getName())).collect(toList()))
-            .flatMap(Collection::stream)
-            .collect(toList());
-
-        for (SchemaAttribute schemaAttribute : schemaAttributes) {
-            Schema childSchema = schemaAttribute.getSchema();
-            if (childSchema != null) {
-                Collection<SchemaAttribute> childSchemaAttributes = childSchema.getSchemaAttributes();
-                if (isEmpty(childSchemaAttributes)) {
-                    childSchemaAttributes = childSchema.getSchema().map(Schema::getSchemaAttributes).orElse(Collections.emptySet());
-                }
-                result.addAll(internalGetEnums(childSchemaAttributes, generateLeveledName(schemaAttribute.getName(), levelName)));
-            }
-        }
-        return result;
+    public Map<AttributePath, Set<String>> getXExtensibleEnums() {
+        return flattened().getExtensibleEnums();
     }
 
     /**
-     * Returns all the types recursively in this schema.
+     * Returns all the types recursively in this schema, keyed by the attribute name only.
      * @return the types.
      */
-    public Map<String, String> getTypes() {
-        Collection<SchemaAttribute> schemaAttrs = schemaAttributes;
-        if (CollectionUtils.isEmpty(schemaAttrs)) {
-            schemaAttrs = Optional.ofNullable(schema).map(Schema::getSchemaAttributes).orElse(Collections.emptySet());
-        }
-        Map<String, String> types = internalGetTypes(schemaAttrs, "");
-        types.put("", type);
-        return types;
-    }
-
-    private Map<String, String> internalGetTypes(Collection<SchemaAttribute> schemaAttributes, String levelName) {
-        Map<String, String> result = schemaAttributes
-            .stream()
-            .filter(a -> a.getSchema() != null)
-            .collect(toMap(a -> generateLeveledName(a.getName(), levelName), a -> a.getSchema().getType()));
-        for (SchemaAttribute schemaAttribute : schemaAttributes) {
-            Schema childSchema = schemaAttribute.getSchema();
-            if (childSchema != null) {
-                Collection<SchemaAttribute> childSchemaAttributes = childSchema.getSchemaAttributes();
-                if (isEmpty(childSchemaAttributes)) {
-                    childSchemaAttributes = childSchema.getSchema().map(Schema::getSchemaAttributes).orElse(Collections.emptySet());
-                }
-                result.putAll(internalGetTypes(childSchemaAttributes, levelName));
-            }
-        }
-        return result;
+    public Map<AttributePath, String> getTypes() {
+        return flattened().getTypes();
     }
 
     /**
-     * Returns all attribute names that are required.
-     * @return all attribute names that are required.
+     * Returns the paths of all attributes that are required together with all of their ancestors.
+     * @return all attribute paths that are required.
      */
-    public Set<String> getRequiredAttributeNames() {
-        Collection<SchemaAttribute> schemaAttrs = schemaAttributes;
-        if (CollectionUtils.isEmpty(schemaAttrs)) {
-            schemaAttrs = Optional.ofNullable(schema).map(Schema::getSchemaAttributes).orElse(Collections.emptySet());
-        }
-        Map<String, Boolean> attributeRequiredMap = internalGetAttributeData(schemaAttrs, "", SchemaAttribute::isRequired)
-                .stream()
-                .collect(toMap(Pair::getLeft, Pair::getRight));
-        Set<String> result = new HashSet<>();
-        for (Map.Entry<String, Boolean> entry : attributeRequiredMap.entrySet()) {
-            String attributeName = entry.getKey();
-            String originalAttributeName = attributeName.replace(LEVEL_DELIMITER_REPLACE_VALUE, LEVEL_DELIMITER);
-            Boolean attributeIsRequired = entry.getValue();
-            if (attributeName.contains(LEVEL_DELIMITER)) {
-                boolean hierarchicallyNotRequired = false;
-                List<String> pieces = Arrays.asList(attributeName.split("\\" + LEVEL_DELIMITER));
-                for (int i = 0; i < pieces.size(); i++) {
-                    StringJoiner stringJoiner = new StringJoiner(LEVEL_DELIMITER);
-                    pieces.subList(0, i + 1).forEach(stringJoiner::add);
-                    String attrToSearchFor = stringJoiner.toString();
-                    boolean isRequired = BooleanUtils.toBoolean(attributeRequiredMap.get(attrToSearchFor));
-                    if (!isRequired) {
-                        hierarchicallyNotRequired = true;
-                        break;
-                    }
-                }
-                if (!hierarchicallyNotRequired) {
-                    if (attributeIsRequired) {
-                        result.add(originalAttributeName);
-                    }
-                }
-            } else {
-                if (attributeIsRequired) {
-                    result.add(originalAttributeName);
-                }
-            }
-        }
-        return result;
+    public Set<AttributePath> getRequiredAttributeNames() {
+        return flattened().getRequiredAttributeNames();
     }
 
     /**
-     * Returns all the attribute names recursively.
-     * @return the attribute names.
+     * Returns all the attribute paths recursively.
+     * @return the attribute paths.
      */
-    public Collection<String> getAttributeNames() {
-        Collection<SchemaAttribute> schemaAttrs = schemaAttributes;
-        if (CollectionUtils.isEmpty(schemaAttrs)) {
-            schemaAttrs = Optional.ofNullable(schema).map(Schema::getSchemaAttributes).orElse(Collections.emptySet());
-        }
-        return internalGetAttributeData(schemaAttrs, "", identity())
-            .stream()
-            .map(Pair::getLeft)
-            .collect(Collectors.toCollection(TreeSet::new));
+    public Collection<AttributePath> getAttributeNames() {
+        return flattened().getAttributeNames();
     }
 
     /**
-     * Returns all the attribute names that are not deprecated recursively.
-     * @return the attribute names.
+     * Returns all the attribute paths that are not deprecated recursively.
+     * @return the attribute paths.
      */
-    public Collection<String> getNonDeprecatedAttributeNames() {
-        Collection<SchemaAttribute> schemaAttrs = schemaAttributes;
-        if (CollectionUtils.isEmpty(schemaAttrs)) {
-            schemaAttrs = Optional.ofNullable(schema).map(Schema::getSchemaAttributes).orElse(Collections.emptySet());
-        }
-        return internalGetAttributeData(schemaAttrs, "", identity())
-                .stream()
-                .filter(p -> !p.getRight().isDeprecated())
-                .map(Pair::getLeft)
-                .collect(Collectors.toCollection(TreeSet::new));
-    }
-
-    private <T> Collection<Pair<String, T>> internalGetAttributeData(Collection<SchemaAttribute> schemaAttributes, String levelName, Function<SchemaAttribute, T> mappingFunc) {
-        List<Pair<String, T>> result = schemaAttributes.stream().map(sA -> Pair.of(generateLeveledName(sA.getName(), levelName), mappingFunc.apply(sA))).collect(toList());
-        for (SchemaAttribute schemaAttribute : schemaAttributes) {
-            Schema childSchema = schemaAttribute.getSchema();
-            if (childSchema != null) {
-                Collection<SchemaAttribute> childSchemaAttributes = childSchema.getSchemaAttributes();
-                if (isEmpty(childSchemaAttributes)) {
-                    childSchemaAttributes = childSchema.getSchema().map(Schema::getSchemaAttributes).orElse(Collections.emptySet());
-                }
-                result.addAll(internalGetAttributeData(childSchemaAttributes, generateLeveledName(schemaAttribute.getName(), levelName), mappingFunc));
-            }
-        }
-        return result;
+    public Collection<AttributePath> getNonDeprecatedAttributeNames() {
+        return flattened().getNonDeprecatedAttributeNames();
     }
 
     /**
-     * Returns a map of attribute name to nullable flag for all attributes recursively.
+     * Returns a map of attribute path to nullable flag for all attributes recursively.
      * @return the nullable attribute map.
      */
-    public Map<String, Boolean> getNullableAttributes() {
-        Collection<SchemaAttribute> schemaAttrs = schemaAttributes;
-        if (CollectionUtils.isEmpty(schemaAttrs)) {
-            schemaAttrs = Optional.ofNullable(schema).map(Schema::getSchemaAttributes).orElse(Collections.emptySet());
-        }
-        return internalGetAttributeData(schemaAttrs, "", SchemaAttribute::isNullable)
-            .stream()
-            .collect(toMap(Pair::getLeft, Pair::getRight, (a, b) -> a));
+    public Map<AttributePath, Boolean> getNullableAttributes() {
+        return flattened().getNullableAttributes();
     }
 
     /**
-     * Returns the schemas with attribute names recursively.
+     * Returns the schemas recursively, keyed by the attribute name only.
      * @return the schemas recursively
      */
-    public Map<String, Schema> getSchemasRecursively() {
-        Collection<SchemaAttribute> schemaAttrs = schemaAttributes;
-        if (CollectionUtils.isEmpty(schemaAttrs)) {
-            schemaAttrs = Optional.ofNullable(schema).map(Schema::getSchemaAttributes).orElse(Collections.emptySet());
-        }
-        Map<String, Schema> schemas = internalGetSchemasRecursively(schemaAttrs, "");
-        schemas.put("", this);
-        return schemas;
+    public Map<AttributePath, Schema> getSchemasRecursively() {
+        return flattened().getSchemas();
     }
 
-    private Map<String, Schema> internalGetSchemasRecursively(Collection<SchemaAttribute> schemaAttributes, String levelName) {
-        Map<String, Schema> result = schemaAttributes
-            .stream()
-            .filter(a -> a.getSchema() != null)
-            .collect(toMap(a -> generateLeveledName(a.getName(), levelName), SchemaAttribute::getSchema));
-        for (SchemaAttribute schemaAttribute : schemaAttributes) {
-            Schema childSchema = schemaAttribute.getSchema();
-            if (childSchema != null) {
-                Collection<SchemaAttribute> childSchemaAttributes = childSchema.getSchemaAttributes();
-                if (isEmpty(childSchemaAttributes)) {
-                    childSchemaAttributes = childSchema.getSchema().map(Schema::getSchemaAttributes).orElse(Collections.emptySet());
-                }
-                result.putAll(internalGetSchemasRecursively(childSchemaAttributes, levelName));
-            }
+    /**
+     * Returns the structural fingerprint of the schema, which covers all of its fields and nested schemas.
+     * Schemas with the same fingerprint are structurally identical. It is computed once on first access, and since
+     * the fingerprints of the nested schemas are cached as well, shared schemas are hashed only once.
+     * @return the fingerprint
+     */
+    public long getFingerprint() {
+        long result = fingerprint;
+        if (result == 0) {
+            FingerprintBuilder builder = new FingerprintBuilder(getClass());
+            addFingerprintFields(builder);
+            result = builder.build();
+            fingerprint = result;
         }
         return result;
     }
 
-    private String generateLeveledName(String name, String levelName) {
-        if (!StringUtils.isBlank(levelName)) {
-            return format("%s%s%s", levelName, LEVEL_DELIMITER, name);
+    /**
+     * Adds the fields of the schema to its fingerprint. Subclasses having their own fields must override it
+     * and add them after calling the super implementation.
+     * @param builder the builder of the fingerprint
+     */
+    protected void addFingerprintFields(FingerprintBuilder builder) {
+        builder.putString(type)
+            .putUnorderedStrings(enumValues)
+            .putUnorderedFingerprints(schemaAttributes == null ? null : schemaAttributes.stream().map(SchemaAttribute::getFingerprint).toList())
+            .putLong(schema == null ? 0 : schema.getFingerprint())
+            .putUnorderedStrings(extensibleEnum)
+            .putString(constValue)
+            .putValue(additionalPropertiesAllowed);
+    }
+
+    /*
+     * The schema is immutable so its flattened view is computed once on first access and reused afterwards.
+     * Concurrent first accesses may compute it more than once, but every computation yields an equal, immutable
+     * result. The view is softly referenced because fully resolved specifications can produce huge views which
+     * must not be kept around when memory gets tight; they are simply recomputed on the next access.
+     */
+    private FlattenedSchema flattened() {
+        SoftReference<FlattenedSchema> reference = flattened;
+        FlattenedSchema result = reference != null ? reference.get() : null;
+        if (result == null) {
+            result = FlattenedSchema.of(this);
+            flattened = new SoftReference<>(result);
         }
-        return name.replace(LEVEL_DELIMITER, LEVEL_DELIMITER_REPLACE_VALUE);
+        return result;
     }
-
 }
@@ -1,5 +1,7 @@
 package com.docktape.swagger.brake.core.model;
 
+import java.io.Serializable;
+
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -9,7 +11,9 @@ import lombok.ToString;
 @RequiredArgsConstructor
 @EqualsAndHashCode(of = "name")
 @ToString
-public class SchemaAttribute implements Comparable<SchemaAttribute> {
+public class SchemaAttribute implements Comparable<SchemaAttribute>, Serializable {
+    private static final long serialVersionUID = 1L;
+
     private final String name;
     private final Schema schema;
     private final boolean required;
@@ -24,6 +28,20 @@ public class SchemaAttribute implements Comparable<SchemaAttribute> {
         return schema.getType();
     }
 
+    /**
+     * Returns the structural fingerprint of the attribute, which covers its flags and the fingerprint of its schema.
+     * @return the fingerprint
+     */
+    public long getFingerprint() {
+        return new FingerprintBuilder(SchemaAttribute.class)
+            .putString(name)
+            .putLong(schema == null ? 0 : schema.getFingerprint())
+            .putBoolean(required)
+            .putBoolean(deprecated)
+            .putBoolean(nullable)
+            .build();
+    }
+
     @Override
     public int compareTo(SchemaAttribute o) {
         return name.compareTo(o.name);
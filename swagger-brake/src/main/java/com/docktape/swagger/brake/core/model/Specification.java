@@ -1,11 +1,13 @@
 package com.docktape.swagger.brake.core.model;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -13,15 +15,29 @@ import lombok.ToString;
 @Getter
 @EqualsAndHashCode
 @ToString
-public class Specification {
+public class Specification implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private final Collection<Path> paths;
     private final List<String> serverUrls;
     private final Collection<Path> webhooks;
 
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final PathIndex pathIndex;
+
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final PathIndex webhookIndex;
+
     public Specification(Collection<Path> paths, List<String> serverUrls, Collection<Path> webhooks) {
         this.paths = paths != null ? paths : Collections.emptyList();
         this.serverUrls = serverUrls != null ? serverUrls : Collections.emptyList();
         this.webhooks = webhooks != null ? webhooks : Collections.emptyList();
+        this.pathIndex = PathIndex.of(this.paths);
+        this.webhookIndex = PathIndex.of(this.webhooks);
     }
 
     public Specification(Collection<Path> paths, List<String> serverUrls) {
@@ -32,6 +48,14 @@ public class Specification {
         this(paths, Collections.emptyList(), Collections.emptyList());
     }
 
+    private Specification(Collection<Path> paths, PathIndex pathIndex) {
+        this.paths = paths;
+        this.serverUrls = Collections.emptyList();
+        this.webhooks = Collections.emptyList();
+        this.pathIndex = pathIndex;
+        this.webhookIndex = PathIndex.EMPTY;
+    }
+
     public Collection<Path> getAllPaths() {
         Collection<Path> all = new ArrayList<>(paths);
         all.addAll(webhooks);
@@ -43,6 +67,23 @@ public class Specification {
     }
 
     public Optional<Path> getPath(String path, HttpMethod method) {
-        return paths.stream().filter(p -> path.equals(p.getPath())).filter(p -> method.equals(p.getMethod())).findAny();
+        return pathIndex.get(path, method);
+    }
+
+    public Optional<Path> getWebhook(Path webhook) {
+        return getWebhook(webhook.getPath(), webhook.getMethod());
+    }
+
+    public Optional<Path> getWebhook(String name, HttpMethod method) {
+        return webhookIndex.get(name, method);
+    }
+
+    /**
+     * Returns a {@link Specification} view where the webhooks of this instance are exposed as paths so
+     * that the path based rules can be executed against them. The view reuses the already built webhook index.
+     * @return the webhook {@link Specification}
+     */
+    public Specification toWebhookSpecification() {
+        return new Specification(webhooks, webhookIndex);
     }
 }
@@ -7,9 +7,11 @@ import lombok.Getter;
 import lombok.ToString;
 
 @Getter
-@EqualsAndHashCode(callSuper = true)
+@EqualsAndHashCode(callSuper = true, cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
 @ToString
 public class StringSchema extends Schema {
+    private static final long serialVersionUID = 1L;
+
     private final Integer maxLength;
     private final Integer minLength;
     private final String pattern;
@@ -33,4 +35,12 @@ public class StringSchema extends Schema {
         this.minLength = minLength;
         this.pattern = pattern;
     }
+
+    @Override
+    protected void addFingerprintFields(FingerprintBuilder builder) {
+        super.addFingerprintFields(builder);
+        builder.putValue(maxLength)
+            .putValue(minLength)
+            .putString(pattern);
+    }
 }
@@ -3,6 +3,7 @@ package com.docktape.swagger.brake.core.model.parameter;
 import java.math.BigDecimal;
 
 import com.docktape.swagger.brake.core.model.AttributeType;
+import com.docktape.swagger.brake.core.model.FingerprintBuilder;
 import com.docktape.swagger.brake.core.model.RequestParameterInType;
 import com.docktape.swagger.brake.core.model.Schema;
 import lombok.EqualsAndHashCode;
@@ -15,6 +16,8 @@ import lombok.experimental.SuperBuilder;
 @ToString
 @SuperBuilder
 public class NumberRequestParameter extends RequestParameter {
+    private static final long serialVersionUID = 1L;
+
     private BigDecimal maximum;
     private BigDecimal minimum;
     private boolean exclusiveMaximum;
@@ -54,4 +57,14 @@ public class NumberRequestParameter extends RequestParameter {
     public boolean isNumberTyped() {
         return AttributeType.getNumberTypes().contains(getRequestParameterType());
     }
+
+    @Override
+    protected void addFingerprintFields(FingerprintBuilder builder) {
+        super.addFingerprintFields(builder);
+        builder.putValue(maximum)
+            .putValue(minimum)
+            .putBoolean(exclusiveMaximum)
+            .putBoolean(exclusiveMinimum)
+            .putValue(multipleOf);
+    }
 }
@@ -1,8 +1,10 @@
 package com.docktape.swagger.brake.core.model.parameter;
 
+import java.io.Serializable;
 import java.util.Optional;
 
 import com.docktape.swagger.brake.core.model.AttributeType;
+import com.docktape.swagger.brake.core.model.FingerprintBuilder;
 import com.docktape.swagger.brake.core.model.RequestParameterInType;
 import com.docktape.swagger.brake.core.model.Schema;
 import lombok.AllArgsConstructor;
@@ -16,7 +18,9 @@ import lombok.experimental.SuperBuilder;
 @ToString
 @AllArgsConstructor
 @SuperBuilder
-public class RequestParameter {
+public class RequestParameter implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private final RequestParameterInType inType;
     private final String name;
     private final boolean required;
@@ -35,4 +39,28 @@ public class RequestParameter {
     public Optional<Schema> getSchema() {
         return Optional.ofNullable(schema);
     }
+
+    /**
+     * Returns the structural fingerprint of the request parameter, which covers all of its fields and its schema.
+     * @return the fingerprint
+     */
+    public long getFingerprint() {
+        FingerprintBuilder builder = new FingerprintBuilder(getClass());
+        addFingerprintFields(builder);
+        return builder.build();
+    }
+
+    /**
+     * Adds the fields of the request parameter to its fingerprint. Subclasses having their own fields must override
+     * it and add them after calling the super implementation.
+     * @param builder the builder of the fingerprint
+     */
+    protected void addFingerprintFields(FingerprintBuilder builder) {
+        builder.putValue(inType)
+            .putString(name)
+            .putBoolean(required)
+            .putLong(schema == null ? 0 : schema.getFingerprint())
+            .putValue(requestParameterType)
+            .putString(defaultValue);
+    }
 }
@@ -7,7 +7,9 @@ import java.math.BigDecimal;
 import com.docktape.swagger.brake.core.model.AttributeType;
 import com.docktape.swagger.brake.core.model.RequestParameterInType;
 import com.docktape.swagger.brake.core.model.service.RequestParameterInTypeResolver;
+import com.docktape.swagger.brake.core.model.transformer.ReferenceResolver;
 import com.docktape.swagger.brake.core.model.transformer.SchemaTransformer;
+import com.docktape.swagger.brake.core.model.transformer.TransformationContext;
 import com.docktape.swagger.brake.core.model.transformer.TypeResolver;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.parameters.Parameter;
@@ -21,25 +23,28 @@ public class RequestParameterFactory {
     private final SchemaTransformer schemaTransformer;
     private final RequestParameterInTypeResolver requestParameterInTypeResolver;
     private final TypeResolver typeResolver;
+    private final ReferenceResolver referenceResolver;
 
     /**
      * Creates a new @{@link RequestParameter} instance. Based on the incoming argument,
      * it could return any of the @{@link RequestParameter} subclasses.
      * @param from the @{@link Parameter} instance
+     * @param context the {@link TransformationContext} of the API
      * @return a @{@link RequestParameter} or any of its subclasses
      */
-    public RequestParameter create(Parameter from) {
+    public RequestParameter create(Parameter from, TransformationContext context) {
         RequestParameterInType inType = requestParameterInTypeResolver.resolve(from.getIn());
         String name = from.getName();
         boolean required = BooleanUtils.toBoolean(from.getRequired());
-        Schema swSchema = from.getSchema();
+        // the type and the constraints are taken from the referenced schema when the schema is a reference
+        Schema swSchema = referenceResolver.resolveSchema(from.getSchema(), context);
         String defaultValue = swSchema != null && swSchema.getDefault() != null ? swSchema.getDefault().toString() : null;
         if (swSchema != null) {
             // Use TypeResolver to handle both OpenAPI 3.0.x single types and 3.1.x type arrays
-            String type = typeResolver.resolveType(swSchema);
+            String type = typeResolver.resolveType(swSchema, context);
             String format = swSchema.getFormat();
             AttributeType requestParameterType = AttributeType.from(type, format);
-            com.docktape.swagger.brake.core.model.Schema transformedSchema = schemaTransformer.transform(swSchema);
+            com.docktape.swagger.brake.core.model.Schema transformedSchema = schemaTransformer.transform(from.getSchema(), context);
             if (AttributeType.getNumberTypes().contains(requestParameterType)) {
                 BigDecimal maximum = swSchema.getMaximum();
                 Boolean exclusiveMaximum = swSchema.getExclusiveMaximum();
@@ -1,6 +1,7 @@
 package com.docktape.swagger.brake.core.model.parameter;
 
 import com.docktape.swagger.brake.core.model.AttributeType;
+import com.docktape.swagger.brake.core.model.FingerprintBuilder;
 import com.docktape.swagger.brake.core.model.RequestParameterInType;
 import com.docktape.swagger.brake.core.model.Schema;
 import lombok.EqualsAndHashCode;
@@ -13,6 +14,8 @@ import lombok.experimental.SuperBuilder;
 @ToString
 @SuperBuilder
 public class StringRequestParameter extends RequestParameter {
+    private static final long serialVersionUID = 1L;
+
     private Integer maxLength;
     private Integer minLength;
     private String pattern;
@@ -36,4 +39,12 @@ public class StringRequestParameter extends RequestParameter {
         this.minLength = minLength;
         this.pattern = pattern;
     }
+
+    @Override
+    protected void addFingerprintFields(FingerprintBuilder builder) {
+        super.addFingerprintFields(builder);
+        builder.putValue(maxLength)
+            .putValue(minLength)
+            .putString(pattern);
+    }
 }
@@ -0,0 +1,133 @@
+package com.docktape.swagger.brake.core.model.service;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.docktape.swagger.brake.core.model.Schema;
+import com.docktape.swagger.brake.core.model.SchemaAttribute;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hash-conses transformed {@link Schema}s, so structurally identical schemas are represented by a single instance.
+ * <br>
+ * Schemas must be interned bottom-up, i.e. the nested schemas of a schema must already be interned when the schema
+ * itself is interned. That way two schemas are structurally identical if their own fields are equal and their
+ * nested schemas are the same instances, which keeps interning cheap. The canonical instances are weakly referenced,
+ * hence the interner never keeps a schema alive on its own, and it can be shared by the transformations of both the
+ * old and the new API, making the equality check of unchanged schemas a reference comparison.
+ */
+@Component
+public class SchemaInterner {
+    private final Map<InternedSchema, InternedSchema> schemas = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Schema> queue = new ReferenceQueue<>();
+
+    /**
+     * Returns the canonical instance of the given schema.
+     * @param schema the schema to intern, its nested schemas must be interned already
+     * @return the canonical instance which is structurally identical to the given schema, or the schema itself
+     *     if it's the first of its kind. Null if the schema is null.
+     */
+    public Schema intern(Schema schema) {
+        if (schema == null) {
+            return null;
+        }
+        expungeStaleEntries();
+        InternedSchema key = new InternedSchema(schema, queue);
+        while (true) {
+            InternedSchema existing = schemas.putIfAbsent(key, key);
+            if (existing == null) {
+                return schema;
+            }
+            Schema canonical = existing.get();
+            if (canonical != null) {
+                return canonical;
+            }
+            schemas.remove(existing, existing);
+        }
+    }
+
+    int size() {
+        expungeStaleEntries();
+        return schemas.size();
+    }
+
+    private void expungeStaleEntries() {
+        Reference<? extends Schema> reference;
+        while ((reference = queue.poll()) != null) {
+            schemas.remove(reference, reference);
+        }
+    }
+
+    /*
+     * Schema.equals compares the attributes by their names only and the nested schemas by equality, so the nested
+     * schemas are compared by identity and the attributes are compared one by one here.
+     * The sorted attribute sets are equal already, so the attributes at the same position have the same name,
+     * and their schemas are compared by identity since they are interned already.
+     */
+    private static boolean isStructurallyIdentical(Schema schema, Schema other) {
+        if (schema == other) {
+            return true;
+        }
+        if (schema.getClass() != other.getClass() || !schema.equals(other)) {
+            return false;
+        }
+        if (schema.getSchema().orElse(null) != other.getSchema().orElse(null)) {
+            return false;
+        }
+        Set<SchemaAttribute> attributes = schema.getSchemaAttributes();
+        Set<SchemaAttribute> otherAttributes = other.getSchemaAttributes();
+        if (attributes.size() != otherAttributes.size()) {
+            return false;
+        }
+        Iterator<SchemaAttribute> otherIterator = otherAttributes.iterator();
+        for (SchemaAttribute attribute : attributes) {
+            SchemaAttribute otherAttribute = otherIterator.next();
+            if (attribute != otherAttribute && !isIdentical(attribute, otherAttribute)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isIdentical(SchemaAttribute attribute, SchemaAttribute other) {
+        return attribute.getSchema() == other.getSchema()
+            && attribute.isRequired() == other.isRequired()
+            && attribute.isDeprecated() == other.isDeprecated()
+            && attribute.isNullable() == other.isNullable();
+    }
+
+    /*
+     * Weak key of the interner. A cleared key is equal to itself only, so it can still be removed from the map.
+     */
+    private static class InternedSchema extends WeakReference<Schema> {
+        private final int hash;
+
+        InternedSchema(Schema schema, ReferenceQueue<Schema> queue) {
+            super(schema, queue);
+            this.hash = schema.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof InternedSchema)) {
+                return false;
+            }
+            Schema schema = get();
+            Schema other = ((InternedSchema) o).get();
+            return schema != null && other != null && isStructurallyIdentical(schema, other);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.docktape.swagger.brake.core.model.store;
+
+import java.util.Map;
+import java.util.Optional;
+
+import io.swagger.v3.oas.models.headers.Header;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class HeaderStore {
+    private final Map<String, Header> headers;
+
+    public Optional<Header> get(String name) {
+        return Optional.ofNullable(headers).map(h -> h.get(name));
+    }
+}
@@ -0,0 +1,13 @@
+package com.docktape.swagger.brake.core.model.store;
+
+import com.docktape.swagger.brake.core.model.transformer.Transformer;
+import io.swagger.v3.oas.models.Components;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RequestBodiesTransformer implements Transformer<Components, RequestBodyStore> {
+    @Override
+    public RequestBodyStore transform(Components from) {
+        return new RequestBodyStore(from.getRequestBodies());
+    }
+}
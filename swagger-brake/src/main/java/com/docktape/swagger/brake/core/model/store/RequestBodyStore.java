@@ -0,0 +1,16 @@
+package com.docktape.swagger.brake.core.model.store;
+
+import java.util.Map;
+import java.util.Optional;
+
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class RequestBodyStore {
+    private final Map<String, RequestBody> requestBodies;
+
+    public Optional<RequestBody> get(String name) {
+        return Optional.ofNullable(requestBodies).map(r -> r.get(name));
+    }
+}
@@ -1,28 +1,298 @@
 package com.docktape.swagger.brake.core.model.store;
 
 import io.swagger.v3.oas.models.media.Schema;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Holds the schemas of the components section of an API together with their transformed counterparts.
+ * <br>
+ * The first requester of a component schema transforms it while concurrent requesters of the same schema wait for
+ * that transformation instead of repeating it. A transformation whose result depends on the referencing schema is
+ * discarded instead, so the result never depends on which requester came first. The store is thread-safe, so it
+ * can be shared by the paths of an API transformed in parallel. It lives as long as the transformation of a single
+ * API, the transformed schemas are not reused by other transformations.
+ */
 @RequiredArgsConstructor
+@Slf4j
 public class SchemaStore {
     private final Map<String, Schema> nativeSchemas;
-    private final Map<String, com.docktape.swagger.brake.core.model.Schema> transformerSchemas = new ConcurrentHashMap<>();
+    // guarded by this
+    private final Map<String, Computation> transformerSchemas = new HashMap<>();
+    // guarded by this, the computation each thread is currently waiting for
+    private final Map<Thread, Computation> waitingThreads = new HashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder bypasses = new LongAdder();
+    private final LongAdder discards = new LongAdder();
+    private final LongAdder computeTimeNanos = new LongAdder();
 
     public Optional<Schema> getNative(String name) {
         return Optional.ofNullable(nativeSchemas.get(name));
     }
 
+    /**
+     * Returns the transformed schema for the given name, computing it with the provider if it's not available yet.
+     * In case another thread is already computing the same schema, waits for its result unless waiting could
+     * lead to a deadlock, i.e. the other thread is directly or indirectly waiting for the current one. In that
+     * case, just like when the current thread is computing the same schema already, the schema is computed again
+     * without caching the result.
+     * @param name the name of the schema
+     * @param provider the provider that transforms the schema
+     * @return the transformed schema
+     */
     public Optional<com.docktape.swagger.brake.core.model.Schema> getTransformer(String name, Supplier<com.docktape.swagger.brake.core.model.Schema> provider) {
-        if (!transformerSchemas.containsKey(name)) {
-            com.docktape.swagger.brake.core.model.Schema schema = provider.get();
-            transformerSchemas.put(name, schema);
+        Transformation transformation = startTransformation(name);
+        if (transformation.isDone()) {
+            return Optional.ofNullable(transformation.getResult());
         }
+        com.docktape.swagger.brake.core.model.Schema schema;
+        try {
+            schema = provider.get();
+        } catch (RuntimeException | Error e) {
+            failTransformation(transformation, e);
+            throw e;
+        }
+        completeTransformation(transformation, schema);
+        return Optional.ofNullable(schema);
+    }
+
+    /**
+     * Starts the transformation of the schema with the given name. It is the non-blocking counterpart of
+     * {@link #getTransformer(String, Supplier)} for callers transforming the schema themselves without a nested
+     * call, e.g. with an explicit stack. If the returned transformation is not done yet, the caller must transform
+     * the schema and finish the transformation with {@link #completeTransformation(Transformation, com.docktape.swagger.brake.core.model.Schema)}
+     * or {@link #failTransformation(Transformation, Throwable)}. Waits for the result the same way as
+     * {@link #getTransformer(String, Supplier)} if another thread is computing the schema already.
+     * @param name the name of the schema
+     * @return the transformation, which is done if the transformed schema is available already
+     */
+    public Transformation startTransformation(String name) {
+        return startTransformation(name, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Starts the transformation of the schema with the given name the same way as {@link #startTransformation(String)},
+     * but an already transformed schema is used only if its depth is at most the given one. A deeper schema is
+     * transformed again by the caller without caching the result, since it would be cut short at the caller.
+     * @param name the name of the schema
+     * @param maxDepth the maximum depth of the transformed schema the caller accepts
+     * @return the transformation, which is done if the transformed schema is available already
+     */
+    public Transformation startTransformation(String name, int maxDepth) {
+        Thread currentThread = Thread.currentThread();
+        while (true) {
+            Computation computation;
+            synchronized (this) {
+                computation = transformerSchemas.get(name);
+                if (computation == null) {
+                    computation = new Computation(currentThread);
+                    transformerSchemas.put(name, computation);
+                    misses.increment();
+                    return new Transformation(name, computation);
+                } else if (computation.isDone() && computation.depth <= maxDepth) {
+                    hits.increment();
+                    return Transformation.done(computation.result.join(), computation.depth);
+                } else if (computation.isDone() || computation.owner == currentThread || isDeadlockPossible(computation, currentThread)) {
+                    bypasses.increment();
+                    computation = null;
+                } else {
+                    waitingThreads.put(currentThread, computation);
+                    waits.increment();
+                }
+            }
+            if (computation == null) {
+                log.debug("Schema {} cannot be taken from the store or waited for, transforming it without caching", name);
+                return new Transformation(name, null);
+            }
+            com.docktape.swagger.brake.core.model.Schema result;
+            try {
+                result = computation.result.join();
+            } catch (CompletionException e) {
+                throw unwrap(e);
+            } finally {
+                synchronized (this) {
+                    waitingThreads.remove(currentThread);
+                }
+            }
+            if (!computation.discarded && computation.depth <= maxDepth) {
+                return Transformation.done(result, computation.depth);
+            }
+            // the result of the other thread depended on where the schema was referenced, or it's too deep for
+            // the current thread, so the schema is transformed again
+            waits.decrement();
+        }
+    }
+
+    /**
+     * Publishes the result of a transformation started by the current thread.
+     * @param transformation the transformation returned by {@link #startTransformation(String)}
+     * @param schema the transformed schema
+     */
+    public void completeTransformation(Transformation transformation, com.docktape.swagger.brake.core.model.Schema schema) {
+        completeTransformation(transformation, schema, 0);
+    }
+
+    /**
+     * Publishes the result of a transformation started by the current thread together with its depth.
+     * @param transformation the transformation returned by {@link #startTransformation(String, int)}
+     * @param schema the transformed schema
+     * @param depth the number of nested levels of the transformed schema counting towards the depth limit
+     */
+    public void completeTransformation(Transformation transformation, com.docktape.swagger.brake.core.model.Schema schema, int depth) {
+        computeTimeNanos.add(System.nanoTime() - transformation.startNanos);
+        if (transformation.computation != null) {
+            transformation.computation.depth = depth;
+            transformation.computation.result.complete(schema);
+        }
+    }
+
+    /**
+     * Finishes a transformation started by the current thread without keeping its result, because the result
+     * depends on the schema referencing it, e.g. a recursive reference or the depth limit cut it short. The next
+     * request, including the threads waiting for the transformation, transforms the schema again.
+     * @param transformation the transformation returned by {@link #startTransformation(String)}
+     */
+    public void discardTransformation(Transformation transformation) {
+        computeTimeNanos.add(System.nanoTime() - transformation.startNanos);
+        Computation computation = transformation.computation;
+        if (computation != null) {
+            synchronized (this) {
+                transformerSchemas.remove(transformation.name, computation);
+                misses.decrement();
+                discards.increment();
+                computation.discarded = true;
+            }
+            computation.result.complete(null);
+        }
+    }
+
+    /**
+     * Fails a transformation started by the current thread. The failed transformation is not kept, the threads
+     * waiting for it get the same exception and the next request computes the schema again.
+     * @param transformation the transformation returned by {@link #startTransformation(String)}
+     * @param e the cause of the failure
+     */
+    public void failTransformation(Transformation transformation, Throwable e) {
+        computeTimeNanos.add(System.nanoTime() - transformation.startNanos);
+        Computation computation = transformation.computation;
+        if (computation != null) {
+            synchronized (this) {
+                transformerSchemas.remove(transformation.name, computation);
+            }
+            computation.result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Returns the cache statistics of the store.
+     * @return the statistics
+     */
+    public SchemaStoreStatistics getStatistics() {
+        return new SchemaStoreStatistics(hits.sum(), waits.sum(), misses.sum(), bypasses.sum(), discards.sum(), computeTimeNanos.sum());
+    }
+
+    /*
+     * Follows the chain of threads waiting for each other starting from the owner of the computation. Reaching
+     * the current thread means that waiting would close a cycle. Must be called while holding the lock.
+     */
+    private boolean isDeadlockPossible(Computation computation, Thread currentThread) {
+        Thread owner = computation.owner;
+        while (owner != null) {
+            if (owner == currentThread) {
+                return true;
+            }
+            Computation awaited = waitingThreads.get(owner);
+            owner = awaited == null || awaited.isDone() ? null : awaited.owner;
+        }
+        return false;
+    }
+
+    private static RuntimeException unwrap(CompletionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return e;
+    }
+
+    private static class Computation {
+        private final Thread owner;
+        private final CompletableFuture<com.docktape.swagger.brake.core.model.Schema> result = new CompletableFuture<>();
+        private volatile boolean discarded;
+        private volatile int depth;
+
+        Computation(Thread owner) {
+            this.owner = owner;
+        }
+
+        boolean isDone() {
+            return result.isDone();
+        }
+    }
 
-        return Optional.ofNullable(transformerSchemas.get(name));
+    /**
+     * A transformation of a schema, started by {@link #startTransformation(String)}.
+     */
+    public static final class Transformation {
+        private final String name;
+        private final Computation computation;
+        private final boolean done;
+        private final com.docktape.swagger.brake.core.model.Schema result;
+        private final int depth;
+        private final long startNanos;
 
+        private Transformation(String name, Computation computation) {
+            this.name = name;
+            this.computation = computation;
+            this.done = false;
+            this.result = null;
+            this.depth = 0;
+            this.startNanos = System.nanoTime();
+        }
+
+        private Transformation(com.docktape.swagger.brake.core.model.Schema result, int depth) {
+            this.name = null;
+            this.computation = null;
+            this.done = true;
+            this.result = result;
+            this.depth = depth;
+            this.startNanos = 0;
+        }
+
+        private static Transformation done(com.docktape.swagger.brake.core.model.Schema result, int depth) {
+            return new Transformation(result, depth);
+        }
+
+        /**
+         * Tells whether the transformed schema is available already, otherwise the caller has to compute it.
+         * @return true if the transformed schema is available
+         */
+        public boolean isDone() {
+            return done;
+        }
+
+        public com.docktape.swagger.brake.core.model.Schema getResult() {
+            return result;
+        }
+
+        /**
+         * Returns the number of nested levels of the available transformed schema counting towards the depth limit.
+         * @return the depth, 0 if the transformed schema is not available or its depth is unknown
+         */
+        public int getDepth() {
+            return depth;
+        }
     }
 }
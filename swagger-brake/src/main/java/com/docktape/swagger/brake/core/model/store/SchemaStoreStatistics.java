@@ -0,0 +1,38 @@
+package com.docktape.swagger.brake.core.model.store;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Cache statistics of a {@link SchemaStore}.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class SchemaStoreStatistics {
+    /**
+     * Number of requests served by an already transformed schema.
+     */
+    private final long hits;
+    /**
+     * Number of requests that waited for the transformation of another thread.
+     */
+    private final long waits;
+    /**
+     * Number of transformations whose result got cached.
+     */
+    private final long misses;
+    /**
+     * Number of transformations done without caching to avoid threads waiting for each other.
+     */
+    private final long bypasses;
+    /**
+     * Number of transformations whose result depended on the referencing schema, hence it didn't get cached.
+     */
+    private final long discards;
+    /**
+     * Total time spent transforming schemas in nanoseconds, including the nested schemas.
+     */
+    private final long computeTimeNanos;
+}
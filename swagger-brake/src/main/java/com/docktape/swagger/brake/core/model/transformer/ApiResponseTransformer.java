@@ -12,7 +12,6 @@ import com.docktape.swagger.brake.core.model.ResponseHeader;
 import com.docktape.swagger.brake.core.model.Schema;
 import com.docktape.swagger.brake.core.model.service.TypeRefNameResolver;
 import com.docktape.swagger.brake.core.model.store.ResponseStore;
-import com.docktape.swagger.brake.core.model.store.StoreProvider;
 import io.swagger.v3.oas.models.headers.Header;
 import io.swagger.v3.oas.models.media.Content;
 import io.swagger.v3.oas.models.responses.ApiResponse;
@@ -23,45 +22,47 @@ import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
-public class ApiResponseTransformer implements Transformer<Pair<String, ApiResponse>, Response> {
+public class ApiResponseTransformer implements ContextualTransformer<Pair<String, ApiResponse>, Response> {
     private final MediaTypeTransformer mediaTypeTransformer;
     private final TypeRefNameResolver typeRefNameResolver;
+    private final ReferenceResolver referenceResolver;
 
     @Override
-    public Response transform(Pair<String, ApiResponse> from) {
+    public Response transform(Pair<String, ApiResponse> from, TransformationContext context) {
         Map<MediaType, Schema> schemaRefs = new HashMap<>();
-        Content content = from.getValue().getContent();
+        ApiResponse apiResponse = referenceResolver.resolveResponse(from.getValue(), context);
+        Content content = apiResponse.getContent();
         if (content != null) {
-            Set<Map.Entry<String, io.swagger.v3.oas.models.media.MediaType>> entries = resolveReferencedSchemas(content.entrySet());
+            Set<Map.Entry<String, io.swagger.v3.oas.models.media.MediaType>> entries = resolveReferencedSchemas(content.entrySet(), context);
             for (Map.Entry<String, io.swagger.v3.oas.models.media.MediaType> entry : entries) {
                 MediaType key = new MediaType(entry.getKey());
-                Schema value = mediaTypeTransformer.transform(entry.getValue());
+                Schema value = mediaTypeTransformer.transform(entry.getValue(), context);
                 if (value != null) {
                     schemaRefs.put(key, value);
                 }
             }
         }
-        Map<String, ResponseHeader> headers = transformHeaders(from.getValue().getHeaders());
+        Map<String, ResponseHeader> headers = transformHeaders(apiResponse.getHeaders(), context);
         return new Response(from.getKey(), schemaRefs, headers);
     }
 
-    private Map<String, ResponseHeader> transformHeaders(Map<String, Header> rawHeaders) {
+    private Map<String, ResponseHeader> transformHeaders(Map<String, Header> rawHeaders, TransformationContext context) {
         if (rawHeaders == null || rawHeaders.isEmpty()) {
             return Collections.emptyMap();
         }
         Map<String, ResponseHeader> result = new HashMap<>();
         for (Map.Entry<String, Header> entry : rawHeaders.entrySet()) {
             String name = entry.getKey();
-            Header header = entry.getValue();
+            Header header = referenceResolver.resolveHeader(entry.getValue(), context);
             boolean required = BooleanUtils.isTrue(header.getRequired());
-            String type = resolveHeaderType(header);
+            String type = resolveHeaderType(header, context);
             result.put(name, new ResponseHeader(name, required, type));
         }
         return result;
     }
 
-    private String resolveHeaderType(Header header) {
-        return Optional.ofNullable(header.getSchema())
+    private String resolveHeaderType(Header header, TransformationContext context) {
+        return Optional.ofNullable(referenceResolver.resolveSchema(header.getSchema(), context))
             .map(io.swagger.v3.oas.models.media.Schema::getType)
             .orElse("string");
     }
@@ -70,7 +71,8 @@ public class ApiResponseTransformer implements Transformer<Pair<String, ApiRespo
     Needed to handle the case when the schema reference is not from the schemas section but from the responses section.
     Apparently according to the specification its not allowed but even the official Swagger validator does not fail on this, so support is required.
      */
-    private Set<Map.Entry<String, io.swagger.v3.oas.models.media.MediaType>> resolveReferencedSchemas(Set<Map.Entry<String, io.swagger.v3.oas.models.media.MediaType>> entries) {
+    private Set<Map.Entry<String, io.swagger.v3.oas.models.media.MediaType>> resolveReferencedSchemas(Set<Map.Entry<String, io.swagger.v3.oas.models.media.MediaType>> entries,
+                                                                                             TransformationContext context) {
         Map<String, io.swagger.v3.oas.models.media.MediaType> result = new HashMap<>();
         for (Map.Entry<String, io.swagger.v3.oas.models.media.MediaType> entry : entries) {
             io.swagger.v3.oas.models.media.MediaType mediaType = entry.getValue();
@@ -80,7 +82,7 @@ public class ApiResponseTransformer implements Transformer<Pair<String, ApiRespo
             } else {
                 if (isSchemaFromResponsesSection(schemaRef)) {
                     io.swagger.v3.oas.models.media.MediaType replacedMediaType = copyMediaType(mediaType);
-                    io.swagger.v3.oas.models.media.Schema resolvedSchema = getResolvedSchema(schemaRef, entry.getKey());
+                    io.swagger.v3.oas.models.media.Schema resolvedSchema = getResolvedSchema(schemaRef, entry.getKey(), context);
                     replacedMediaType.setSchema(resolvedSchema);
                     result.put(entry.getKey(), replacedMediaType);
                 } else {
@@ -91,11 +93,11 @@ public class ApiResponseTransformer implements Transformer<Pair<String, ApiRespo
         return result.entrySet();
     }
 
-    private io.swagger.v3.oas.models.media.Schema getResolvedSchema(String originalRefName, String mimeType) {
+    private io.swagger.v3.oas.models.media.Schema getResolvedSchema(String originalRefName, String mimeType, TransformationContext context) {
         if (originalRefName == null || mimeType == null) {
             return null;
         }
-        ResponseStore responseStore = StoreProvider.provideResponseStore();
+        ResponseStore responseStore = context.getResponseStore();
         if (responseStore == null) {
             return null;
         }
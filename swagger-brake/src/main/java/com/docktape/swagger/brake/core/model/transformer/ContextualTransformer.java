@@ -0,0 +1,5 @@
+package com.docktape.swagger.brake.core.model.transformer;
+
+public interface ContextualTransformer<S, R> {
+    R transform(S from, TransformationContext context);
+}
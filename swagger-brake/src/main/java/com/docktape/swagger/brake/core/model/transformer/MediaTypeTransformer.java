@@ -7,11 +7,11 @@ import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
-public class MediaTypeTransformer implements Transformer<MediaType, Schema> {
+public class MediaTypeTransformer implements ContextualTransformer<MediaType, Schema> {
     private final SchemaTransformer schemaTransformer;
 
     @Override
-    public Schema transform(MediaType from) {
-        return schemaTransformer.transform(from.getSchema());
+    public Schema transform(MediaType from, TransformationContext context) {
+        return schemaTransformer.transform(from.getSchema(), context);
     }
 }
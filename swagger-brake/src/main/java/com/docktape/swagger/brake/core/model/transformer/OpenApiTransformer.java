@@ -10,41 +10,63 @@ import java.util.stream.Collectors;
 
 import com.docktape.swagger.brake.core.model.Path;
 import com.docktape.swagger.brake.core.model.Specification;
-import com.docktape.swagger.brake.core.model.store.*;
+import com.docktape.swagger.brake.core.CheckerOptions;
+import com.docktape.swagger.brake.core.CheckerOptionsProvider;
+import com.docktape.swagger.brake.core.metrics.MetricsRecorder;
+import com.docktape.swagger.brake.core.model.store.ComponentsTransformer;
+import com.docktape.swagger.brake.core.model.store.HeadersTransformer;
+import com.docktape.swagger.brake.core.model.store.ParametersTransformer;
+import com.docktape.swagger.brake.core.model.store.RequestBodiesTransformer;
+import com.docktape.swagger.brake.core.model.store.ResponsesTransformer;
+import com.docktape.swagger.brake.core.model.store.SchemaStore;
+import com.docktape.swagger.brake.core.model.store.SchemaStoreStatistics;
+import com.docktape.swagger.brake.runner.openapi.OpenApiVersion;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.servers.Server;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class OpenApiTransformer implements Transformer<OpenAPI, Specification> {
     private final PathTransformer pathTransformer;
     private final PathItemTransformer pathItemTransformer;
     private final ComponentsTransformer componentsTransformer;
     private final ParametersTransformer parametersTransformer;
     private final ResponsesTransformer responsesTransformer;
+    private final RequestBodiesTransformer requestBodiesTransformer;
+    private final HeadersTransformer headersTransformer;
+    private final CheckerOptionsProvider checkerOptionsProvider;
+    private final MetricsRecorder metricsRecorder;
 
     @Override
     public Specification transform(OpenAPI from) {
         if (from == null) {
             throw new IllegalArgumentException("input must not be null");
         }
+        OpenApiVersion version = OpenApiVersion.fromOpenApi(from);
+        log.debug("Transforming API with version {}", version);
+        CheckerOptions checkerOptions = checkerOptionsProvider.get();
         SchemaStore schemaStore = componentsTransformer.transform(from.getComponents());
-        ParameterStore parameterStore = parametersTransformer.transform(from.getComponents());
-        ResponseStore responseStore = responsesTransformer.transform(from.getComponents());
-        Collection<Path> paths;
-        Collection<Path> webhooks;
-        try {
-            StoreProvider.setSchemaStore(schemaStore);
-            StoreProvider.setParameterStore(parameterStore);
-            StoreProvider.setResponseStore(responseStore);
-            paths = pathTransformer.transform(from.getPaths());
-            webhooks = transformWebhooks(from.getWebhooks());
-        } finally {
-            StoreProvider.clear();
-        }
+        TransformationContext context = TransformationContext.builder()
+            .schemaStore(schemaStore)
+            .parameterStore(parametersTransformer.transform(from.getComponents()))
+            .responseStore(responsesTransformer.transform(from.getComponents()))
+            .requestBodyStore(requestBodiesTransformer.transform(from.getComponents()))
+            .headerStore(headersTransformer.transform(from.getComponents()))
+            .version(version)
+            .checkerOptions(checkerOptions)
+            .build();
+        Collection<Path> paths = pathTransformer.transform(from.getPaths(), context);
+        Collection<Path> webhooks = transformWebhooks(from.getWebhooks(), context);
+        SchemaStoreStatistics statistics = schemaStore.getStatistics();
+        log.debug("Schema store statistics after the transformation: {}", statistics);
+        // waiting for another thread's transformation is a hit too, bypassing the cache or discarding the result is a miss
+        metricsRecorder.recordCache("schema-store", statistics.getHits() + statistics.getWaits(),
+            statistics.getMisses() + statistics.getBypasses() + statistics.getDiscards());
         List<String> serverUrls = extractServerUrls(from);
         return new Specification(paths, serverUrls, webhooks);
     }
@@ -60,12 +82,12 @@ public class OpenApiTransformer implements Transformer<OpenAPI, Specification> {
             .collect(Collectors.toList());
     }
 
-    private Collection<Path> transformWebhooks(Map<String, PathItem> webhookMap) {
+    private Collection<Path> transformWebhooks(Map<String, PathItem> webhookMap, TransformationContext context) {
         if (webhookMap == null || webhookMap.isEmpty()) {
             return Collections.emptyList();
         }
         return webhookMap.entrySet().stream()
-            .flatMap(e -> pathItemTransformer.transform(e.getValue()).stream()
+            .flatMap(e -> pathItemTransformer.transform(e.getValue(), context).stream()
                 .map(detail -> new Path(
                     e.getKey(),
                     detail.getMethod(),
@@ -4,27 +4,26 @@ import com.docktape.swagger.brake.core.model.parameter.RequestParameter;
 import com.docktape.swagger.brake.core.model.parameter.RequestParameterFactory;
 import com.docktape.swagger.brake.core.model.service.TypeRefNameResolver;
 import com.docktape.swagger.brake.core.model.store.ParameterStore;
-import com.docktape.swagger.brake.core.model.store.StoreProvider;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
-public class ParameterTransformer implements Transformer<Parameter, RequestParameter> {
+public class ParameterTransformer implements ContextualTransformer<Parameter, RequestParameter> {
     private final TypeRefNameResolver typeRefNameResolver;
     private final RequestParameterFactory requestParameterFactory;
 
     @Override
-    public RequestParameter transform(Parameter from) {
+    public RequestParameter transform(Parameter from, TransformationContext context) {
         if (from.get$ref() != null) {
-            from = resolveRef(from);
+            from = resolveRef(from, context);
         }
-        return requestParameterFactory.create(from);
+        return requestParameterFactory.create(from, context);
     }
 
-    private Parameter resolveRef(Parameter from) {
-        ParameterStore parameterStore = StoreProvider.provideParameterStore();
+    private Parameter resolveRef(Parameter from, TransformationContext context) {
+        ParameterStore parameterStore = context.getParameterStore();
         if (parameterStore == null) {
             throw new IllegalStateException("No ParameterStore available.");
         }
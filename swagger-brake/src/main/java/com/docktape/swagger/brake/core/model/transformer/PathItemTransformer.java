@@ -5,7 +5,6 @@ import static java.util.stream.Collectors.toList;
 import java.util.*;
 import java.util.function.Function;
 
-import com.docktape.swagger.brake.core.CheckerOptionsProvider;
 import com.docktape.swagger.brake.core.model.HttpMethod;
 import com.docktape.swagger.brake.core.model.Request;
 import com.docktape.swagger.brake.core.model.Response;
@@ -21,7 +20,7 @@ import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
-public class PathItemTransformer implements Transformer<PathItem, Collection<PathDetail>> {
+public class PathItemTransformer implements ContextualTransformer<PathItem, Collection<PathDetail>> {
     private static final Map<HttpMethod, Function<PathItem, Operation>> MAPPERS = new HashMap<>();
 
     static {
@@ -38,10 +37,9 @@ public class PathItemTransformer implements Transformer<PathItem, Collection<Pat
     private final ApiResponseTransformer apiResponseTransformer;
     private final ParameterTransformer parameterTransformer;
     private final RequestBodyTransformer requestBodyTransformer;
-    private final CheckerOptionsProvider checkerOptionsProvider;
 
     @Override
-    public Collection<PathDetail> transform(PathItem from) {
+    public Collection<PathDetail> transform(PathItem from, TransformationContext context) {
         Collection<PathDetail> result = new ArrayList<>();
         for (Map.Entry<HttpMethod, Function<PathItem, Operation>> e : MAPPERS.entrySet()) {
             Operation operation = e.getValue().apply(from);
@@ -49,10 +47,10 @@ public class PathItemTransformer implements Transformer<PathItem, Collection<Pat
                 HttpMethod key = e.getKey();
 
                 boolean isDeprecated = BooleanUtils.isTrue(operation.getDeprecated());
-                boolean isBetaApi = getBetaApiValue(operation);
-                Request requestBody = getRequestBody(operation);
-                List<RequestParameter> requestParameters = getRequestParameters(operation);
-                List<Response> responses = getResponses(operation);
+                boolean isBetaApi = getBetaApiValue(operation, context);
+                Request requestBody = getRequestBody(operation, context);
+                List<RequestParameter> requestParameters = getRequestParameters(operation, context);
+                List<Response> responses = getResponses(operation, context);
                 PathDetail detail = new PathDetail(key, requestBody, requestParameters, responses, isDeprecated, isBetaApi);
                 result.add(detail);
             }
@@ -60,10 +58,10 @@ public class PathItemTransformer implements Transformer<PathItem, Collection<Pat
         return result;
     }
 
-    private boolean getBetaApiValue(Operation operation) {
+    private boolean getBetaApiValue(Operation operation, TransformationContext context) {
         Map<String, Object> extensions = operation.getExtensions();
         if (extensions != null) {
-            Object betaApiAttribute = extensions.get(checkerOptionsProvider.get().getBetaApiExtensionName());
+            Object betaApiAttribute = extensions.get(context.getCheckerOptions().getBetaApiExtensionName());
             if (betaApiAttribute != null) {
                 return BooleanUtils.toBoolean(betaApiAttribute.toString());
             }
@@ -71,28 +69,28 @@ public class PathItemTransformer implements Transformer<PathItem, Collection<Pat
         return false;
     }
 
-    private Request getRequestBody(Operation operation) {
+    private Request getRequestBody(Operation operation, TransformationContext context) {
         Request result = null;
         RequestBody requestBody = operation.getRequestBody();
         if (requestBody != null) {
-            result = requestBodyTransformer.transform(requestBody);
+            result = requestBodyTransformer.transform(requestBody, context);
         }
         return result;
     }
 
-    private List<RequestParameter> getRequestParameters(Operation operation) {
+    private List<RequestParameter> getRequestParameters(Operation operation, TransformationContext context) {
         List<RequestParameter> result = Collections.emptyList();
         List<Parameter> parameters = operation.getParameters();
         if (parameters != null) {
-            result = parameters.stream().map(parameterTransformer::transform).collect(toList());
+            result = parameters.stream().map(parameter -> parameterTransformer.transform(parameter, context)).collect(toList());
         }
         return result;
     }
 
-    private List<Response> getResponses(Operation operation) {
+    private List<Response> getResponses(Operation operation, TransformationContext context) {
         return operation.getResponses().entrySet().stream()
             .map(entry -> new ImmutablePair<>(entry.getKey(), entry.getValue()))
-            .map(apiResponseTransformer::transform)
+            .map(response -> apiResponseTransformer.transform(response, context))
             .collect(toList());
     }
 }
\ No newline at end of file
@@ -2,33 +2,89 @@ package com.docktape.swagger.brake.core.model.transformer;
 
 import static java.util.stream.Collectors.toList;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
+import com.docktape.swagger.brake.core.CheckerOptions;
+import com.docktape.swagger.brake.core.CheckerOptionsProvider;
 import com.docktape.swagger.brake.core.model.HttpMethod;
 import com.docktape.swagger.brake.core.model.Path;
 import com.docktape.swagger.brake.core.model.Request;
 import com.docktape.swagger.brake.core.model.Response;
 import com.docktape.swagger.brake.core.model.parameter.RequestParameter;
+import com.docktape.swagger.brake.core.util.FutureResults;
 import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.Paths;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
-public class PathTransformer implements Transformer<Paths, Collection<Path>> {
+@Slf4j
+public class PathTransformer implements ContextualTransformer<Paths, Collection<Path>>, DisposableBean {
     private final PathItemTransformer pathItemTransformer;
+    private final CheckerOptionsProvider checkerOptionsProvider;
+    private final Map<Integer, ForkJoinPool> pools = new ConcurrentHashMap<>();
 
     @Override
-    public Collection<Path> transform(Paths from) {
+    public void destroy() {
+        pools.values().forEach(ForkJoinPool::shutdownNow);
+        pools.clear();
+    }
+
+    @Override
+    public Collection<Path> transform(Paths from, TransformationContext context) {
         if (from == null) {
             throw new IllegalArgumentException("input must not be null");
         }
-        return from.entrySet().stream().map(e -> transform(e.getKey(), e.getValue())).flatMap(Collection::stream).collect(toList());
+        int parallelism = context.getCheckerOptions().getTransformationParallelism();
+        if (parallelism > 1 && from.size() > 1) {
+            return transformConcurrently(from, context, parallelism);
+        }
+        return from.entrySet().stream().map(e -> transformPathItem(e.getKey(), e.getValue(), context)).flatMap(Collection::stream).collect(toList());
+    }
+
+    /*
+     * Transforms every path item in its own task on a dedicated work-stealing pool. The tasks share the context,
+     * so a referenced schema is transformed once for the whole API. The results are collected in the order of the
+     * path items, the same way as the sequential mode produces them. The pools are reused by the transformations of
+     * the same parallelism, and are shut down when the application context is closed.
+     */
+    private Collection<Path> transformConcurrently(Paths from, TransformationContext context, int parallelism) {
+        log.debug("Transforming {} paths on {} threads", from.size(), parallelism);
+        CheckerOptions checkerOptions = context.getCheckerOptions();
+        List<Callable<Collection<Path>>> tasks = new ArrayList<>(from.size());
+        for (Map.Entry<String, PathItem> e : from.entrySet()) {
+            tasks.add(() -> checkerOptionsProvider.callWith(checkerOptions, () -> transformPathItem(e.getKey(), e.getValue(), context)));
+        }
+        ForkJoinPool pool = pools.computeIfAbsent(parallelism, ForkJoinPool::new);
+        List<Future<Collection<Path>>> futures = List.of();
+        try {
+            futures = pool.invokeAll(tasks);
+            Collection<Path> result = new ArrayList<>();
+            for (Future<Collection<Path>> future : futures) {
+                result.addAll(FutureResults.getResult(future, "Path transformation failed"));
+            }
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while transforming paths", e);
+        } finally {
+            // the pool is shared with the other transformations, only the tasks of this transformation are stopped on failure
+            futures.forEach(future -> future.cancel(true));
+        }
     }
 
-    private Collection<Path> transform(String path, PathItem pathItem) {
-        return pathItemTransformer.transform(pathItem)
+    private Collection<Path> transformPathItem(String path, PathItem pathItem, TransformationContext context) {
+        return pathItemTransformer.transform(pathItem, context)
             .stream()
             .map(detail -> createPath(path, detail))
             .collect(toList());
@@ -41,6 +97,9 @@ public class PathTransformer implements Transformer<Paths, Collection<Path>> {
         Collection<Response> responses = detail.getResponses();
         boolean deprecated = detail.isDeprecated();
         boolean betaApi = detail.isBetaApi();
-        return new Path(path, method, requestBody, requestParameters, responses, deprecated, betaApi);
+        Path result = new Path(path, method, requestBody, requestParameters, responses, deprecated, betaApi);
+        // the fingerprints are computed bottom-up while the path is at hand, within the task of the path when transforming concurrently
+        result.getFingerprint();
+        return result;
     }
 }
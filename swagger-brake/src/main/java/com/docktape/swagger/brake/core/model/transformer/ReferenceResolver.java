@@ -0,0 +1,106 @@
+package com.docktape.swagger.brake.core.model.transformer;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import com.docktape.swagger.brake.core.model.service.TypeRefNameResolver;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the local references of an API against the stores of the {@link TransformationContext}.
+ * <br>
+ * When an API is loaded without resolving its references fully, the referenced components are looked up only
+ * when a transformer reaches them. A reference pointing to another reference is followed until the referenced
+ * object is found.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceResolver {
+    private static final int MAX_REFERENCE_CHAIN_LENGTH = 32;
+
+    private final TypeRefNameResolver typeRefNameResolver;
+
+    /**
+     * Resolves a schema reference. Schemas are resolved on a best effort basis since the schemas are transformed
+     * through the schema store anyway, so the schema is returned as is if no schema store is available.
+     * @param schema the schema which might be a reference
+     * @param context the context of the transformation
+     * @return the referenced schema, or the schema itself if it's not a reference. Null if the schema is null.
+     */
+    @SuppressWarnings("rawtypes")
+    public Schema resolveSchema(Schema schema, TransformationContext context) {
+        if (schema == null || schema.get$ref() == null || context.getSchemaStore() == null) {
+            return schema;
+        }
+        return resolve(schema, Schema::get$ref, name -> context.getSchemaStore().getNative(name));
+    }
+
+    /**
+     * Resolves a response reference.
+     * @param response the response which might be a reference
+     * @param context the context of the transformation
+     * @return the referenced response, or the response itself if it's not a reference
+     * @throws IllegalStateException if the referenced response cannot be found
+     */
+    public ApiResponse resolveResponse(ApiResponse response, TransformationContext context) {
+        if (response.get$ref() == null) {
+            return response;
+        }
+        if (context.getResponseStore() == null) {
+            throw new IllegalStateException("No ResponseStore available.");
+        }
+        return resolve(response, ApiResponse::get$ref, name -> context.getResponseStore().get(name));
+    }
+
+    /**
+     * Resolves a request body reference.
+     * @param requestBody the request body which might be a reference
+     * @param context the context of the transformation
+     * @return the referenced request body, or the request body itself if it's not a reference
+     * @throws IllegalStateException if the referenced request body cannot be found
+     */
+    public RequestBody resolveRequestBody(RequestBody requestBody, TransformationContext context) {
+        if (requestBody.get$ref() == null) {
+            return requestBody;
+        }
+        if (context.getRequestBodyStore() == null) {
+            throw new IllegalStateException("No RequestBodyStore available.");
+        }
+        return resolve(requestBody, RequestBody::get$ref, name -> context.getRequestBodyStore().get(name));
+    }
+
+    /**
+     * Resolves a header reference.
+     * @param header the header which might be a reference
+     * @param context the context of the transformation
+     * @return the referenced header, or the header itself if it's not a reference
+     * @throws IllegalStateException if the referenced header cannot be found
+     */
+    public Header resolveHeader(Header header, TransformationContext context) {
+        if (header.get$ref() == null) {
+            return header;
+        }
+        if (context.getHeaderStore() == null) {
+            throw new IllegalStateException("No HeaderStore available.");
+        }
+        return resolve(header, Header::get$ref, name -> context.getHeaderStore().get(name));
+    }
+
+    private <T> T resolve(T from, Function<T, String> refGetter, Function<String, Optional<T>> lookup) {
+        T result = from;
+        for (int i = 0; i < MAX_REFERENCE_CHAIN_LENGTH; i++) {
+            String ref = refGetter.apply(result);
+            if (ref == null) {
+                return result;
+            }
+            String refName = typeRefNameResolver.resolve(ref);
+            result = lookup.apply(refName).orElseThrow(() -> new IllegalStateException("Reference not found for " + refName));
+        }
+        throw new IllegalStateException("Reference chain is too long or circular starting from " + refGetter.apply(from));
+    }
+}
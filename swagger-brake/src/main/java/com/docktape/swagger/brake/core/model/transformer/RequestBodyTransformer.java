@@ -16,17 +16,19 @@ import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
-public class RequestBodyTransformer implements Transformer<RequestBody, Request> {
+public class RequestBodyTransformer implements ContextualTransformer<RequestBody, Request> {
     private final MediaTypeTransformer mediaTypeTransformer;
+    private final ReferenceResolver referenceResolver;
 
     @Override
-    public Request transform(RequestBody from) {
+    public Request transform(RequestBody requestBody, TransformationContext context) {
+        RequestBody from = referenceResolver.resolveRequestBody(requestBody, context);
         boolean required = BooleanUtils.isTrue(from.getRequired());
         if (from.getContent() == null) {
             return new Request(Collections.emptyMap(), required);
         }
         Set<Map.Entry<String, io.swagger.v3.oas.models.media.MediaType>> entries = from.getContent().entrySet();
-        Map<MediaType, Schema> mediaTypes = entries.stream().collect(toMap(e -> new MediaType(e.getKey()), e -> mediaTypeTransformer.transform(e.getValue())));
+        Map<MediaType, Schema> mediaTypes = entries.stream().collect(toMap(e -> new MediaType(e.getKey()), e -> mediaTypeTransformer.transform(e.getValue(), context)));
         return new Request(mediaTypes, required);
     }
 }
@@ -1,32 +1,37 @@
 package com.docktape.swagger.brake.core.model.transformer;
 
 import java.math.BigDecimal;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import static java.util.stream.Collectors.toSet;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.ObjectUtils;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import org.springframework.stereotype.Component;
 
-import com.docktape.swagger.brake.core.CheckerOptionsProvider;
 import com.docktape.swagger.brake.core.model.Schema;
 import com.docktape.swagger.brake.core.model.SchemaAttribute;
 import com.docktape.swagger.brake.core.model.SchemaBuilder;
+import com.docktape.swagger.brake.core.model.service.SchemaInterner;
 import com.docktape.swagger.brake.core.model.service.TypeRefNameResolver;
 import com.docktape.swagger.brake.core.model.store.SchemaStore;
-import com.docktape.swagger.brake.core.model.store.StoreProvider;
+import static com.docktape.swagger.brake.core.util.LazyLogArgument.lazy;
 import com.docktape.swagger.brake.core.util.SafeSwaggerSerializer;
 import com.docktape.swagger.brake.runner.openapi.OpenApiVersion;
-import com.docktape.swagger.brake.runner.openapi.OpenApiVersionContext;
+import com.docktape.swagger.brake.runner.openapi.ReferenceResolution;
 
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.ComposedSchema;
@@ -38,74 +43,300 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Slf4j
 @SuppressWarnings("unchecked")
-public class SchemaTransformer implements Transformer<io.swagger.v3.oas.models.media.Schema, Schema> {
+public class SchemaTransformer implements ContextualTransformer<io.swagger.v3.oas.models.media.Schema, Schema> {
     private final TypeRefNameResolver typeRefNameResolver;
     private final TypeResolver typeResolver;
     private final SafeSwaggerSerializer safeSwaggerSerializer;
-    private final CheckerOptionsProvider checkerOptionsProvider;
+    private final SchemaInterner schemaInterner;
+    private final ReferenceResolver referenceResolver;
 
     @Override
-    public Schema transform(io.swagger.v3.oas.models.media.Schema from) {
+    public Schema transform(io.swagger.v3.oas.models.media.Schema from, TransformationContext context) {
+        return run(new TransformTask(from), new SchemaTraversal(context));
+    }
+
+    /*
+     * Transforms the schema with an explicit stack of tasks instead of recursion, hence the nesting depth of the
+     * schemas is limited by the heap only. A task returns the next nested schema to transform as a child task, and
+     * gets the result of that child when it is resumed. Every transformed schema goes through the interner. The
+     * nested schemas are transformed first, hence the schemas are interned bottom-up as the interner requires.
+     */
+    private Schema run(Task root, SchemaTraversal traversal) {
+        Deque<Task> stack = new ArrayDeque<>();
+        stack.push(root);
+        Schema childResult = null;
         try {
-            SchemaTransformationContext.initialize(checkerOptionsProvider.get().getMaxSchemaTransformationDepth());
-            return internalTransform(from);
-        } finally {
-            SeenRefHolder.clear();
-            SchemaTransformationContext.clear();
+            while (true) {
+                Task task = stack.peek();
+                Task child = task.resume(childResult, traversal);
+                if (child != null) {
+                    stack.push(child);
+                    childResult = null;
+                } else {
+                    stack.pop();
+                    if (stack.isEmpty()) {
+                        return task.result;
+                    }
+                    childResult = task.result;
+                }
+            }
+        } catch (RuntimeException | Error e) {
+            // the component schemas being transformed by the unfinished tasks must not keep their waiters blocked
+            for (Task task : stack) {
+                task.abort(e, traversal);
+            }
+            throw e;
         }
     }
 
-    private Schema internalTransform(io.swagger.v3.oas.models.media.Schema swSchema) {
-        if (swSchema == null) {
+    private abstract static class Task {
+        protected Schema result;
+
+        /**
+         * Continues the task.
+         * @param childResult the result of the child task returned by the previous call, null on the first call
+         * @param traversal the state of the transformation
+         * @return the next child task to run, or null if the task is finished and its result is set
+         */
+        abstract Task resume(Schema childResult, SchemaTraversal traversal);
+
+        void abort(Throwable e, SchemaTraversal traversal) {
+        }
+    }
+
+    /*
+     * Transforms any kind of schema and interns the result.
+     */
+    private class TransformTask extends Task {
+        private final io.swagger.v3.oas.models.media.Schema swSchema;
+        private boolean started;
+        private Schema items;
+        private AttributeCollector attributes;
+        private List<io.swagger.v3.oas.models.media.Schema> composedSchemas;
+        private Map<String, SchemaAttribute> composedAttributes;
+        private int composedIndex;
+
+        TransformTask(io.swagger.v3.oas.models.media.Schema swSchema) {
+            this.swSchema = swSchema;
+        }
+
+        @Override
+        Task resume(Schema childResult, SchemaTraversal traversal) {
+            if (swSchema == null) {
+                return null;
+            }
+            if (swSchema instanceof ArraySchema) {
+                return resumeArray(childResult, traversal);
+            } else if (swSchema instanceof ComposedSchema) {
+                return resumeComposed(childResult, traversal);
+            } else if (!started) {
+                started = true;
+                return new ObjectTask(swSchema);
+            }
+            finish(childResult);
             return null;
         }
-        if (swSchema instanceof ArraySchema) {
-            Schema schema = internalTransform(((ArraySchema) swSchema).getItems());
-            return new SchemaBuilder(typeResolver.resolveType(swSchema))
-                .schema(schema).schemaAttributes(getSchemaAttributes(swSchema))
+
+        private Task resumeArray(Schema childResult, SchemaTraversal traversal) {
+            if (!started) {
+                started = true;
+                return new TransformTask(((ArraySchema) swSchema).getItems());
+            }
+            if (attributes == null) {
+                items = childResult;
+                attributes = new AttributeCollector(swSchema, traversal);
+            } else {
+                attributes.add(childResult);
+            }
+            io.swagger.v3.oas.models.media.Schema next = attributes.next();
+            if (next != null) {
+                return new TransformTask(next);
+            }
+            finish(new SchemaBuilder(typeResolver.resolveType(swSchema, traversal.context))
+                .schema(items).schemaAttributes(attributes.getResult())
                 .maxItems(swSchema.getMaxItems())
                 .minItems(swSchema.getMinItems())
                 .uniqueItems(swSchema.getUniqueItems())
-                .build();
-        } else if (swSchema instanceof ComposedSchema) {
-            return transformComposedSchema((ComposedSchema) swSchema);
-        } else {
-            return transformSchema(swSchema);
+                .build());
+            return null;
+        }
+
+        /*
+         * With lazy reference resolution an attribute of a later schema overrides the same attribute of the earlier
+         * ones, just like the parser merges them when it resolves the schemas fully. Otherwise the attributes of the
+         * fully resolved schemas are united and the first one of the same name is kept.
+         */
+        private Task resumeComposed(Schema childResult, SchemaTraversal traversal) {
+            if (!started) {
+                started = true;
+                composedSchemas = getComposedSchemas((ComposedSchema) swSchema);
+                composedAttributes = new LinkedHashMap<>();
+            } else if (childResult != null) {
+                for (SchemaAttribute attribute : childResult.getSchemaAttributes()) {
+                    if (traversal.isLazy()) {
+                        composedAttributes.put(attribute.getName(), attribute);
+                    } else {
+                        composedAttributes.putIfAbsent(attribute.getName(), attribute);
+                    }
+                }
+            }
+            if (composedIndex < composedSchemas.size()) {
+                return new ObjectTask(composedSchemas.get(composedIndex++));
+            }
+            finish(new SchemaBuilder(SchemaTypeUtil.OBJECT_TYPE).schemaAttributes(composedAttributes.values()).build());
+            return null;
+        }
+
+        /*
+         * The fingerprint is computed right after interning too, while the fingerprints of the nested schemas are
+         * cached already, so computing it later on never has to descend into the nested schemas.
+         */
+        private void finish(Schema schema) {
+            result = schemaInterner.intern(schema);
+            if (result != null) {
+                result.getFingerprint();
+            }
         }
     }
 
-    private Schema transformComposedSchema(ComposedSchema swSchema) {
-        List<io.swagger.v3.oas.models.media.Schema> schemas;
+    private List<io.swagger.v3.oas.models.media.Schema> getComposedSchemas(ComposedSchema swSchema) {
         if (CollectionUtils.isNotEmpty(swSchema.getAllOf())) {
-            schemas = swSchema.getAllOf();
+            return swSchema.getAllOf();
         } else if (CollectionUtils.isNotEmpty(swSchema.getOneOf())) {
-            schemas = swSchema.getOneOf();
+            return swSchema.getOneOf();
         } else if (CollectionUtils.isNotEmpty(swSchema.getAnyOf())) {
-            schemas = swSchema.getAnyOf();
+            return swSchema.getAnyOf();
         } else {
             throw new IllegalStateException("Composed schema is used that is not allOf, oneOf nor anyOf.");
         }
-        Collection<SchemaAttribute> objectAttributes = schemas
-            .stream()
-            .map(this::transformSchema)
-            .map(Schema::getSchemaAttributes)
-            .flatMap(Collection::stream)
-            .collect(toSet());
-        return new SchemaBuilder(SchemaTypeUtil.OBJECT_TYPE).schemaAttributes(objectAttributes).build();
     }
 
-    private Schema transformSchema(io.swagger.v3.oas.models.media.Schema swSchema) {
-        String ref = swSchema.get$ref();
-        if (isNotBlank(ref) && SeenRefHolder.isNotSeen(ref)) {
-            SeenRefHolder.store(ref);
-            Schema resolvedSchema = getSchemaForRef(ref);
-            SeenRefHolder.remove(ref);
-            return resolvedSchema;
+    /*
+     * Transforms a referenced or a plain schema, without interning it.
+     */
+    private class ObjectTask extends Task {
+        private final io.swagger.v3.oas.models.media.Schema swSchema;
+        private boolean started;
+        private String ref;
+        private SchemaStore.Transformation transformation;
+        private SchemaTraversal.Component component;
+        private SchemaBuilder schemaBuilder;
+        private AttributeCollector attributes;
+
+        ObjectTask(io.swagger.v3.oas.models.media.Schema swSchema) {
+            this.swSchema = swSchema;
+        }
+
+        @Override
+        Task resume(Schema childResult, SchemaTraversal traversal) {
+            if (!started) {
+                started = true;
+                return start(traversal);
+            }
+            if (transformation != null) {
+                completeTransformation(childResult, traversal);
+                transformation = null;
+                finishRef(childResult, traversal);
+                return null;
+            }
+            attributes.add(childResult);
+            return nextAttribute();
+        }
+
+        private Task start(SchemaTraversal traversal) {
+            String schemaRef = swSchema.get$ref();
+            if (isNotBlank(schemaRef) && traversal.isNotSeen(schemaRef)) {
+                ref = schemaRef;
+                traversal.store(ref);
+                return startRef(traversal);
+            }
+            if (isNotBlank(schemaRef)) {
+                traversal.cutOff();
+                if (isRecursiveReference(swSchema, traversal)) {
+                    // a recursive reference to a schema which is being transformed already
+                    return null;
+                }
+            }
+            schemaBuilder = createSchemaBuilder(swSchema, traversal);
+            attributes = new AttributeCollector(swSchema, traversal);
+            return nextAttribute();
+        }
+
+        private Task startRef(SchemaTraversal traversal) {
+            String refName = typeRefNameResolver.resolve(ref);
+            SchemaStore schemaStore = traversal.context.getSchemaStore();
+            if (schemaStore == null) {
+                traversal.remove(ref);
+                return null;
+            }
+            io.swagger.v3.oas.models.media.Schema nativeSchema = schemaStore.getNative(refName).orElseThrow(() -> new IllegalStateException("Reference not found for " + refName));
+            SchemaStore.Transformation started = schemaStore.startTransformation(refName, traversal.getRemainingDepth());
+            if (started.isDone()) {
+                traversal.reachDepth(started.getDepth());
+                finishRef(started.getResult(), traversal);
+                return null;
+            }
+            transformation = started;
+            component = traversal.startComponent();
+            return new TransformTask(nativeSchema);
         }
-        String schemaType = typeResolver.resolveType(swSchema);
-        if (isNotBlank(ref) && SeenRefHolder.isSeen(ref) && isBlank(schemaType)) {
+
+        /*
+         * A component is transformed within the traversal of the schema referencing it. If that traversal cut the
+         * component short, e.g. at a recursive reference or at the depth limit, the result depends on where the
+         * component was referenced, so it's not kept for the other requesters. A component without cut-offs is the
+         * same wherever it's referenced, provided its depth still fits into the depth limit there.
+         */
+        private void completeTransformation(Schema transformedSchema, SchemaTraversal traversal) {
+            SchemaStore schemaStore = traversal.context.getSchemaStore();
+            SchemaTraversal.Component finished = component;
+            component = null;
+            if (traversal.finishComponent(finished)) {
+                schemaStore.completeTransformation(transformation, transformedSchema, finished.getDepth());
+            } else {
+                schemaStore.discardTransformation(transformation);
+            }
+        }
+
+        private void finishRef(Schema transformedSchema, SchemaTraversal traversal) {
+            traversal.remove(ref);
+            if (transformedSchema == null) {
+                throw new IllegalArgumentException("Transformed schema cannot be resolved");
+            }
+            result = transformedSchema;
+        }
+
+        private Task nextAttribute() {
+            io.swagger.v3.oas.models.media.Schema next = attributes.next();
+            if (next != null) {
+                return new TransformTask(next);
+            }
+            result = schemaBuilder.schemaAttributes(attributes.getResult()).build();
             return null;
         }
+
+        @Override
+        void abort(Throwable e, SchemaTraversal traversal) {
+            if (transformation != null) {
+                traversal.context.getSchemaStore().failTransformation(transformation, e);
+                transformation = null;
+            }
+        }
+    }
+
+    /*
+     * A lazily resolved reference has no type of its own, while a reference left in a fully resolved schema is
+     * skipped only if its type cannot be resolved either.
+     */
+    private boolean isRecursiveReference(io.swagger.v3.oas.models.media.Schema swSchema, SchemaTraversal traversal) {
+        if (traversal.isLazy()) {
+            return swSchema.getType() == null && swSchema.getTypes() == null;
+        }
+        return isBlank(typeResolver.resolveType(swSchema, traversal.context));
+    }
+
+    private SchemaBuilder createSchemaBuilder(io.swagger.v3.oas.models.media.Schema swSchema, SchemaTraversal traversal) {
+        String schemaType = typeResolver.resolveType(swSchema, traversal.context);
         if (isBlank(schemaType)) {
             // you can create a schema in JSON format without any definition, so let's fall back to object type here
             schemaType = "object";
@@ -124,11 +355,11 @@ public class SchemaTransformer implements Transformer<io.swagger.v3.oas.models.m
         // Handle exclusive bounds based on OpenAPI version
         // In OpenAPI 3.0.x: exclusiveMaximum/exclusiveMinimum are Boolean modifiers, stored via getExclusiveMaximum()/getExclusiveMinimum()
         // In OpenAPI 3.1.x: exclusiveMaximum/exclusiveMinimum are BigDecimal values, stored via getExclusiveMaximumValue()/getExclusiveMinimumValue()
-        OpenApiVersion version = OpenApiVersionContext.getCurrentVersion();
+        OpenApiVersion version = traversal.context.getVersion();
         log.trace("Transforming schema with type '{}', current version context: {}", schemaType, version);
         
         if (version != null && version.is3_1()) {
-            log.trace("OpenAPI 3.1.x detected for schema transformation. {}", safeSwaggerSerializer.serialize(swSchema));
+            log.trace("OpenAPI 3.1.x detected for schema transformation. {}", lazy(() -> safeSwaggerSerializer.serialize(swSchema)));
             // OpenAPI 3.1.x: Use the numeric *Value() methods for exclusive bounds
             BigDecimal exclusiveMaxValue = swSchema.getExclusiveMaximumValue();
             BigDecimal exclusiveMinValue = swSchema.getExclusiveMinimumValue();
@@ -154,7 +385,6 @@ public class SchemaTransformer implements Transformer<io.swagger.v3.oas.models.m
             schemaBuilder.exclusiveMinimum(swSchema.getExclusiveMinimum());
         }
         
-        schemaBuilder.schemaAttributes(getSchemaAttributes(swSchema));
         List rawEnums = swSchema.getEnum();
         if (CollectionUtils.isNotEmpty(rawEnums)) {
             List<String> enumValues = rawEnums.stream().filter(Objects::nonNull).map(Object::toString).toList();
@@ -185,166 +415,217 @@ public class SchemaTransformer implements Transformer<io.swagger.v3.oas.models.m
             schemaBuilder.additionalPropertiesAllowed(Boolean.TRUE);
         }
         // null means unspecified, leave additionalPropertiesAllowed as null
-        return schemaBuilder.build();
+        return schemaBuilder;
     }
 
-    private List<SchemaAttribute> getSchemaAttributes(io.swagger.v3.oas.models.media.Schema swSchema) {
-        Map<String, io.swagger.v3.oas.models.media.Schema> properties = swSchema.getProperties();
-        if (properties == null) {
-            return Collections.emptyList();
-        }
-        Set<String> requiredAttributes = new HashSet<>();
-        if (CollectionUtils.isNotEmpty(swSchema.getRequired())) {
-            requiredAttributes.addAll(swSchema.getRequired());
+    /*
+     * Collects the attributes of a schema. It returns the property schemas to transform one by one, and the
+     * caller hands back the transformed schema of each before asking for the next one.
+     */
+    private class AttributeCollector {
+        private final SchemaTraversal traversal;
+        private final Iterator<Map.Entry<String, io.swagger.v3.oas.models.media.Schema>> properties;
+        private final Set<String> requiredAttributes = new HashSet<>();
+        private final List<SchemaAttribute> result = new ArrayList<>();
+        private Map.Entry<String, io.swagger.v3.oas.models.media.Schema> current;
+
+        AttributeCollector(io.swagger.v3.oas.models.media.Schema swSchema, SchemaTraversal traversal) {
+            this.traversal = traversal;
+            Map<String, io.swagger.v3.oas.models.media.Schema> schemaProperties = swSchema.getProperties();
+            this.properties = schemaProperties == null ? Collections.emptyIterator() : schemaProperties.entrySet().iterator();
+            if (CollectionUtils.isNotEmpty(swSchema.getRequired())) {
+                requiredAttributes.addAll(swSchema.getRequired());
+            }
         }
 
-        Set<Map.Entry<String, io.swagger.v3.oas.models.media.Schema>> entries = properties.entrySet();
-        List<SchemaAttribute> result = new ArrayList<>();
-        for (Map.Entry<String, io.swagger.v3.oas.models.media.Schema> e : entries) {
-            io.swagger.v3.oas.models.media.Schema newInternalSchema = e.getValue();
-            
-            // Check for circular reference or depth limit before recursing
-            if (SchemaTransformationContext.isCircularReference(newInternalSchema)) {
-                if (log.isTraceEnabled()) {
-                    log.trace("Circular reference detected for property '{}', skipping to prevent StackOverflowError. Schema: {}",
-                        e.getKey(), safeSwaggerSerializer.serialize(newInternalSchema));
+        /*
+         * Returns the schema of the next property to transform, or null if there are no more properties.
+         */
+        io.swagger.v3.oas.models.media.Schema next() {
+            while (properties.hasNext()) {
+                Map.Entry<String, io.swagger.v3.oas.models.media.Schema> e = properties.next();
+                io.swagger.v3.oas.models.media.Schema newInternalSchema = e.getValue();
+
+                // Check for circular reference or depth limit before descending
+                if (traversal.isCircularReference(newInternalSchema)) {
+                    traversal.cutOff();
+                    if (log.isTraceEnabled()) {
+                        log.trace("Circular reference detected for property '{}', skipping it. Schema: {}",
+                            e.getKey(), safeSwaggerSerializer.serialize(newInternalSchema));
+                    }
+                    continue; // Skip this property to prevent infinite recursion
                 }
-                continue; // Skip this property to prevent infinite recursion
-            }
-            
-            if (SchemaTransformationContext.isDepthLimitReached()) {
-                if (log.isTraceEnabled()) {
-                    log.trace("Max transformation depth reached for property '{}', skipping further nesting. Schema: {}",
-                        e.getKey(), safeSwaggerSerializer.serialize(newInternalSchema));
+
+                if (traversal.isLazy() && isNotBlank(newInternalSchema.get$ref()) && traversal.isSeen(newInternalSchema.get$ref())) {
+                    traversal.cutOff();
+                    log.trace("Recursive reference detected for property '{}', skipping it", e.getKey());
+                    continue; // Skip this property just like a circular reference of a fully resolved schema
                 }
-                continue; // Skip this property to prevent excessive depth
-            }
-            
-            SchemaTransformationContext.enterSchema(newInternalSchema);
-            try {
-                Schema schema = internalTransform(newInternalSchema);
-                String attributeName = e.getKey();
-                Boolean deprecatedInSchema = newInternalSchema.getDeprecated();
-                boolean deprecated = deprecatedInSchema == null ? false : deprecatedInSchema;
-                boolean required = requiredAttributes.contains(attributeName);
-                boolean nullable = BooleanUtils.isTrue(newInternalSchema.getNullable());
-                result.add(new SchemaAttribute(attributeName, schema, required, deprecated, nullable));
-            } finally {
-                SchemaTransformationContext.exitSchema(newInternalSchema);
+
+                if (traversal.isDepthLimitReached()) {
+                    traversal.cutOff();
+                    if (log.isTraceEnabled()) {
+                        log.trace("Max transformation depth reached for property '{}', skipping further nesting. Schema: {}",
+                            e.getKey(), safeSwaggerSerializer.serialize(newInternalSchema));
+                    }
+                    continue; // Skip this property to prevent excessive depth
+                }
+
+                traversal.enterSchema(newInternalSchema);
+                current = e;
+                return newInternalSchema;
             }
+            return null;
         }
-        return result;
-    }
 
-    private Schema getSchemaForRef(String originalRefName) {
-        if (originalRefName == null) {
-            return null;
+        /*
+         * Adds the attribute of the property returned by the last call of next.
+         */
+        void add(Schema schema) {
+            io.swagger.v3.oas.models.media.Schema newInternalSchema = current.getValue();
+            String attributeName = current.getKey();
+            // a lazily resolved reference takes the flags of the referenced schema unless it declares them itself
+            io.swagger.v3.oas.models.media.Schema flagSchema = traversal.isLazy()
+                ? referenceResolver.resolveSchema(newInternalSchema, traversal.context)
+                : newInternalSchema;
+            Boolean deprecatedInSchema = ObjectUtils.firstNonNull(newInternalSchema.getDeprecated(), flagSchema.getDeprecated());
+            boolean deprecated = deprecatedInSchema == null ? false : deprecatedInSchema;
+            boolean required = requiredAttributes.contains(attributeName);
+            boolean nullable = BooleanUtils.isTrue(ObjectUtils.firstNonNull(newInternalSchema.getNullable(), flagSchema.getNullable()));
+            result.add(new SchemaAttribute(attributeName, schema, required, deprecated, nullable));
+            traversal.exitSchema(newInternalSchema);
+            current = null;
         }
-        String refName = typeRefNameResolver.resolve(originalRefName);
-        SchemaStore schemaStore = StoreProvider.provideSchemaStore();
-        if (schemaStore == null) {
-            return null;
+
+        List<SchemaAttribute> getResult() {
+            return result;
         }
-        io.swagger.v3.oas.models.media.Schema nativeSchema = schemaStore.getNative(refName).orElseThrow(() -> new IllegalStateException("Reference not found for " + refName));
-        Schema transformedSchema =
-            schemaStore.getTransformer(refName, () -> internalTransform(nativeSchema)).orElseThrow(() -> new IllegalArgumentException("Transformed schema cannot be resolved"));
-        return transformedSchema;
     }
 
     /*
-     * The purpose of this class is to keep track of already seen schema references to avoid recursive schemas breaking the functionality.
+     * The state of transforming a single schema. It keeps track of the already seen schema references to avoid
+     * recursive schemas breaking the functionality, and detects circular references in inline schema property
+     * traversal and enforces the depth limit to prevent StackOverflowError. Unlike the seen references which are
+     * tracked by name, the inline schemas are tracked by object identity. A schema left out or transformed
+     * differently because of this state or because of the depth limit is counted as a cut-off, and the deepest
+     * level reached is kept, so it can be told whether the result of a component depends on where it's referenced.
+     * A new instance is created for every transformation, hence it's never shared between threads.
      */
-    private static class SeenRefHolder {
-        private static final ThreadLocal<Collection<String>> HOLDER = new ThreadLocal<>();
-
-        private static Collection<String> get() {
-            Collection<String> seenRefs = HOLDER.get();
-            if (seenRefs == null) {
-                seenRefs = new HashSet<>();
-                HOLDER.set(seenRefs);
-            }
-            return seenRefs;
+    private static class SchemaTraversal {
+        private static final int MAX_LAZY_REFERENCE_EXPANSIONS = 2;
+
+        private final TransformationContext context;
+        private final boolean lazy;
+        private final int maxReferenceExpansions;
+        private final Map<String, Integer> seenRefs = new HashMap<>();
+        private final Set<io.swagger.v3.oas.models.media.Schema> seenSchemas = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final int maxDepth;
+        private int currentDepth;
+        private int deepestDepth;
+        private int cutOffs;
+
+        SchemaTraversal(TransformationContext context) {
+            this.context = context;
+            this.maxDepth = context.getCheckerOptions().getMaxSchemaTransformationDepth();
+            this.lazy = context.getCheckerOptions().getReferenceResolution() == ReferenceResolution.LAZY;
+            this.maxReferenceExpansions = lazy ? MAX_LAZY_REFERENCE_EXPANSIONS : 1;
         }
 
-        static boolean isSeen(String refName) {
-            return get().contains(refName);
+        boolean isLazy() {
+            return lazy;
         }
 
-        static boolean isNotSeen(String refName) {
+        /*
+         * A lazily resolved reference is expanded twice at most within a branch, which unrolls a recursive schema
+         * once just like the object graph of a fully resolved schema is traversed until the same schema object is
+         * reached again. The references left in a fully resolved schema are expanded once.
+         */
+        boolean isSeen(String refName) {
+            return seenRefs.getOrDefault(refName, 0) >= maxReferenceExpansions;
+        }
+
+        boolean isNotSeen(String refName) {
             return !isSeen(refName);
         }
 
-        static void store(String refName) {
-            get().add(refName);
+        void store(String refName) {
+            seenRefs.merge(refName, 1, Integer::sum);
         }
 
-        static void remove(String refName) {
-            get().remove(refName);
+        void remove(String refName) {
+            seenRefs.computeIfPresent(refName, (name, count) -> count == 1 ? null : count - 1);
         }
 
-        static void clear() {
-            HOLDER.remove();
+        void cutOff() {
+            cutOffs++;
         }
-    }
 
-    /*
-     * The purpose of this class is to detect circular references in inline schema property traversal
-     * and enforce depth limits to prevent StackOverflowError. Unlike SeenRefHolder which tracks $ref
-     * names, this tracks actual schema object instances using identity-based comparison.
-     */
-    private static class SchemaTransformationContext {
-        private static final ThreadLocal<Context> HOLDER = new ThreadLocal<>();
-
-        private static class Context {
-            private final Set<io.swagger.v3.oas.models.media.Schema> seenSchemas;
-            private final int maxDepth;
-            private int currentDepth;
-
-            Context(int maxDepth) {
-                // Use IdentityHashMap to track object instances, not equality
-                this.seenSchemas = Collections.newSetFromMap(new java.util.IdentityHashMap<>());
-                this.maxDepth = maxDepth;
-                this.currentDepth = 0;
-            }
+        int getRemainingDepth() {
+            return maxDepth - currentDepth;
         }
 
-        static void initialize(int maxDepth) {
-            HOLDER.set(new Context(maxDepth));
+        /*
+         * Takes the depth of an already transformed component into account as if it was traversed right now.
+         */
+        void reachDepth(int depth) {
+            deepestDepth = Math.max(deepestDepth, currentDepth + depth);
         }
 
-        static void clear() {
-            HOLDER.remove();
+        Component startComponent() {
+            Component component = new Component(currentDepth, deepestDepth, cutOffs);
+            deepestDepth = currentDepth;
+            return component;
         }
 
-        static boolean isCircularReference(io.swagger.v3.oas.models.media.Schema schema) {
-            Context context = HOLDER.get();
-            if (context == null) {
-                return false;
-            }
-            return context.seenSchemas.contains(schema);
+        /*
+         * Returns true if the component was transformed without cut-offs. The depth reached within the component
+         * counts towards the enclosing schemas as well.
+         */
+        boolean finishComponent(Component component) {
+            component.depth = deepestDepth - component.startDepth;
+            deepestDepth = Math.max(deepestDepth, component.enclosingDeepestDepth);
+            return cutOffs == component.startCutOffs;
         }
 
-        static boolean isDepthLimitReached() {
-            Context context = HOLDER.get();
-            if (context == null) {
-                return false;
-            }
-            return context.currentDepth >= context.maxDepth;
+        boolean isCircularReference(io.swagger.v3.oas.models.media.Schema schema) {
+            return seenSchemas.contains(schema);
         }
 
-        static void enterSchema(io.swagger.v3.oas.models.media.Schema schema) {
-            Context context = HOLDER.get();
-            if (context != null) {
-                context.seenSchemas.add(schema);
-                context.currentDepth++;
-            }
+        boolean isDepthLimitReached() {
+            return currentDepth >= maxDepth;
         }
 
-        static void exitSchema(io.swagger.v3.oas.models.media.Schema schema) {
-            Context context = HOLDER.get();
-            if (context != null) {
-                context.seenSchemas.remove(schema);
-                context.currentDepth--;
+        void enterSchema(io.swagger.v3.oas.models.media.Schema schema) {
+            seenSchemas.add(schema);
+            currentDepth++;
+            deepestDepth = Math.max(deepestDepth, currentDepth);
+        }
+
+        void exitSchema(io.swagger.v3.oas.models.media.Schema schema) {
+            seenSchemas.remove(schema);
+            currentDepth--;
+        }
+
+        /*
+         * A component being transformed within the traversal.
+         */
+        static final class Component {
+            private final int startDepth;
+            private final int enclosingDeepestDepth;
+            private final int startCutOffs;
+            private int depth;
+
+            private Component(int startDepth, int enclosingDeepestDepth, int startCutOffs) {
+                this.startDepth = startDepth;
+                this.enclosingDeepestDepth = enclosingDeepestDepth;
+                this.startCutOffs = startCutOffs;
+            }
+
+            /*
+             * The number of nested levels of the component counting towards the depth limit.
+             */
+            int getDepth() {
+                return depth;
             }
         }
     }
@@ -0,0 +1,29 @@
+package com.docktape.swagger.brake.core.model.transformer;
+
+import com.docktape.swagger.brake.core.CheckerOptions;
+import com.docktape.swagger.brake.core.model.store.HeaderStore;
+import com.docktape.swagger.brake.core.model.store.ParameterStore;
+import com.docktape.swagger.brake.core.model.store.RequestBodyStore;
+import com.docktape.swagger.brake.core.model.store.ResponseStore;
+import com.docktape.swagger.brake.core.model.store.SchemaStore;
+import com.docktape.swagger.brake.runner.openapi.OpenApiVersion;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * The state needed for transforming a single API, passed down explicitly through the transformers.
+ * <br>
+ * The context itself is immutable and the stores are safe for concurrent use, hence a single context can be
+ * shared by every thread transforming parts of the same API.
+ */
+@Getter
+@Builder
+public class TransformationContext {
+    private final SchemaStore schemaStore;
+    private final ParameterStore parameterStore;
+    private final ResponseStore responseStore;
+    private final RequestBodyStore requestBodyStore;
+    private final HeaderStore headerStore;
+    private final OpenApiVersion version;
+    private final CheckerOptions checkerOptions;
+}
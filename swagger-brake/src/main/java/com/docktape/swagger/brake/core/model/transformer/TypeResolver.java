@@ -1,13 +1,10 @@
 package com.docktape.swagger.brake.core.model.transformer;
 
 import com.docktape.swagger.brake.core.CheckerOptions;
-import com.docktape.swagger.brake.core.CheckerOptionsProvider;
 import com.docktape.swagger.brake.runner.openapi.OpenApiVersion;
-import com.docktape.swagger.brake.runner.openapi.OpenApiVersionContext;
 import io.swagger.v3.oas.models.media.Schema;
 import java.util.Set;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -21,13 +18,10 @@ import org.springframework.stereotype.Component;
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class TypeResolver {
     private static final String DEFAULT_TYPE = "object";
     private static final String NULL_TYPE = "null";
     
-    private final CheckerOptionsProvider checkerOptionsProvider;
-    
     /**
      * Resolves the primary type from a schema, handling both OpenAPI 3.0.x
      * single type strings and OpenAPI 3.1.x type arrays.
@@ -47,15 +41,16 @@ public class TypeResolver {
      * </ul>
      * 
      * @param schema the swagger-parser Schema object
+     * @param context the {@link TransformationContext} providing the OpenAPI version and the options
      * @return the primary type string (never null)
      */
-    public String resolveType(Schema<?> schema) {
+    public String resolveType(Schema<?> schema, TransformationContext context) {
         if (schema == null) {
             log.debug("Schema is null, returning default type: {}", DEFAULT_TYPE);
             return DEFAULT_TYPE;
         }
         
-        OpenApiVersion version = OpenApiVersionContext.getCurrentVersion();
+        OpenApiVersion version = context.getVersion();
         
         // OpenAPI 3.1.x: Check for type array
         if (version != null && version.is3_1()) {
@@ -93,7 +88,7 @@ public class TypeResolver {
         // OpenAPI 3.0.x or fallback: Use single type field
         String type = schema.getType();
         if (type == null) {
-            handleNullType();
+            handleNullType(context.getCheckerOptions());
             return DEFAULT_TYPE;
         }
         
@@ -105,8 +100,7 @@ public class TypeResolver {
      * Handles null type scenarios with appropriate logging and strict mode validation.
      * In strict validation mode, throws an exception. Otherwise, logs a warning.
      */
-    private void handleNullType() {
-        CheckerOptions options = checkerOptionsProvider.get();
+    private void handleNullType(CheckerOptions options) {
         boolean strictMode = options != null && options.isStrictValidation();
         
         String message = "Schema has null type, using default 'object' type. "
@@ -132,14 +126,15 @@ public class TypeResolver {
      * <p>For OpenAPI 3.0.x: checks the {@code nullable} flag.</p>
      * 
      * @param schema the swagger-parser Schema object
+     * @param context the {@link TransformationContext} providing the OpenAPI version
      * @return true if the schema allows null values, false otherwise
      */
-    public boolean isNullableFromTypeArray(Schema<?> schema) {
+    public boolean isNullableFromTypeArray(Schema<?> schema, TransformationContext context) {
         if (schema == null) {
             return false;
         }
         
-        OpenApiVersion version = OpenApiVersionContext.getCurrentVersion();
+        OpenApiVersion version = context.getVersion();
         
         // OpenAPI 3.1.x: Check if "null" is in type array
         if (version != null && version.is3_1()) {
@@ -0,0 +1,19 @@
+package com.docktape.swagger.brake.core.rule;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * A path independent finding of a type change of an attribute, found by comparing an old and a new schema.
+ */
+@Getter
+@RequiredArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class AttributeTypeChange {
+    private final String attributeName;
+    private final String oldType;
+    private final String newType;
+}
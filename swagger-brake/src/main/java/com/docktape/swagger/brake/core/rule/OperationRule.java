@@ -0,0 +1,115 @@
+package com.docktape.swagger.brake.core.rule;
+
+import java.util.Collection;
+
+import com.docktape.swagger.brake.core.BreakingChange;
+import com.docktape.swagger.brake.core.model.AttributePath;
+import com.docktape.swagger.brake.core.model.MediaType;
+import com.docktape.swagger.brake.core.model.Path;
+import com.docktape.swagger.brake.core.model.Request;
+import com.docktape.swagger.brake.core.model.Response;
+import com.docktape.swagger.brake.core.model.Schema;
+import com.docktape.swagger.brake.core.model.parameter.RequestParameter;
+
+/**
+ * A {@link BreakingChangeRule} which inspects matched old and new operations through callbacks instead of
+ * walking the specifications on its own. The callbacks are invoked by {@link OperationTraversal} for every
+ * operation of the old API which is not skipped and is present in the new API as well, so any number of rules
+ * can share a single traversal.
+ * <br>
+ * Every callback is a no-op by default, rules override only the ones they care about. The first parameter of
+ * each callback is always the operation of the old API and found breaking changes have to be added to the
+ * collection passed as the last parameter.
+ * @param <T> the type of the breaking change
+ */
+public interface OperationRule<T extends BreakingChange> extends BreakingChangeRule<T> {
+    /**
+     * Called once for every matched operation.
+     * @param path the operation of the old API
+     * @param newPath the operation of the new API
+     * @param breakingChanges the collection to add the breaking changes to
+     */
+    default void visitPath(Path path, Path newPath, Collection<T> breakingChanges) {
+    }
+
+    /**
+     * Called for every request parameter of the old operation which is present by name in the new operation.
+     * @param path the operation of the old API
+     * @param requestParameter the request parameter of the old API
+     * @param newRequestParameter the request parameter of the new API
+     * @param breakingChanges the collection to add the breaking changes to
+     */
+    default void visitRequestParameter(Path path, RequestParameter requestParameter, RequestParameter newRequestParameter,
+                                       Collection<T> breakingChanges) {
+    }
+
+    /**
+     * Called when both the old and the new operation have a request body.
+     * @param path the operation of the old API
+     * @param request the request body of the old API
+     * @param newRequest the request body of the new API
+     * @param breakingChanges the collection to add the breaking changes to
+     */
+    default void visitRequestBody(Path path, Request request, Request newRequest, Collection<T> breakingChanges) {
+    }
+
+    /**
+     * Called for every media type of the old request body which is present in the new request body as well.
+     * @param path the operation of the old API
+     * @param mediaType the media type
+     * @param schema the schema of the old API
+     * @param newSchema the schema of the new API
+     * @param breakingChanges the collection to add the breaking changes to
+     */
+    default void visitRequestMediaType(Path path, MediaType mediaType, Schema schema, Schema newSchema, Collection<T> breakingChanges) {
+    }
+
+    /**
+     * Called for every schema of a visited request media type which is present in the new schema under the
+     * same key of {@link Schema#getSchemasRecursively()}.
+     * @param path the operation of the old API
+     * @param attributePath the key of the schema
+     * @param schema the schema of the old API
+     * @param newSchema the schema of the new API
+     * @param breakingChanges the collection to add the breaking changes to
+     */
+    default void visitRequestSchema(Path path, AttributePath attributePath, Schema schema, Schema newSchema, Collection<T> breakingChanges) {
+    }
+
+    /**
+     * Called for every response of the old operation which is present by code in the new operation.
+     * @param path the operation of the old API
+     * @param response the response of the old API
+     * @param newResponse the response of the new API
+     * @param breakingChanges the collection to add the breaking changes to
+     */
+    default void visitResponse(Path path, Response response, Response newResponse, Collection<T> breakingChanges) {
+    }
+
+    /**
+     * Called for every media type of a visited response which is present in the new response as well.
+     * @param path the operation of the old API
+     * @param response the response of the old API
+     * @param mediaType the media type
+     * @param schema the schema of the old API
+     * @param newSchema the schema of the new API
+     * @param breakingChanges the collection to add the breaking changes to
+     */
+    default void visitResponseMediaType(Path path, Response response, MediaType mediaType, Schema schema, Schema newSchema,
+                                        Collection<T> breakingChanges) {
+    }
+
+    /**
+     * Called for every schema of a visited response media type which is present in the new schema under the
+     * same key of {@link Schema#getSchemasRecursively()}.
+     * @param path the operation of the old API
+     * @param response the response of the old API
+     * @param attributePath the key of the schema
+     * @param schema the schema of the old API
+     * @param newSchema the schema of the new API
+     * @param breakingChanges the collection to add the breaking changes to
+     */
+    default void visitResponseSchema(Path path, Response response, AttributePath attributePath, Schema schema, Schema newSchema,
+                                     Collection<T> breakingChanges) {
+    }
+}
@@ -0,0 +1,307 @@
+package com.docktape.swagger.brake.core.rule;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.docktape.swagger.brake.core.BreakingChange;
+import com.docktape.swagger.brake.core.metrics.PhaseTimer;
+import com.docktape.swagger.brake.core.model.AttributePath;
+import com.docktape.swagger.brake.core.model.MediaType;
+import com.docktape.swagger.brake.core.model.Path;
+import com.docktape.swagger.brake.core.model.Request;
+import com.docktape.swagger.brake.core.model.Response;
+import com.docktape.swagger.brake.core.model.Schema;
+import com.docktape.swagger.brake.core.model.Specification;
+import com.docktape.swagger.brake.core.model.parameter.RequestParameter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.CollectionUtils;
+
+/**
+ * Single pass traversal of the matched operations of two {@link Specification}s. Every operation of the old API
+ * which is not skipped and is present in the new API is walked exactly once, down to its request parameters,
+ * request body, responses, media types and schemas, and each matched element is dispatched to the callbacks of
+ * all the given {@link OperationRule}s.
+ * <br>
+ * The traversal descends only into the elements that have changed. Operations, request parameters, request bodies,
+ * responses and schemas of the old API having the same fingerprint as their counterparts in the new API are
+ * structurally identical, hence they are not dispatched to the rules at all.
+ */
+@Slf4j
+public abstract class OperationTraversal {
+    /**
+     * Traverses the specifications for a single rule.
+     * @param oldApi the old API
+     * @param newApi the new API
+     * @param pathSkipper the skipper deciding which operations of the old API are not checked
+     * @param rule the rule to dispatch the callbacks to
+     * @param <T> the type of the breaking change
+     * @return the breaking changes found by the rule
+     */
+    public static <T extends BreakingChange> Collection<T> traverse(Specification oldApi, Specification newApi, PathSkipper pathSkipper,
+                                                                 OperationRule<T> rule) {
+        return traverse(oldApi.getPaths(), newApi, pathSkipper, rule);
+    }
+
+    /**
+     * Traverses a subset of the operations of the old API for a single rule. Useful for splitting the traversal of
+     * large specifications into independent chunks.
+     * @param oldPaths the operations of the old API to traverse
+     * @param newApi the new API
+     * @param pathSkipper the skipper deciding which operations of the old API are not checked
+     * @param rule the rule to dispatch the callbacks to
+     * @param <T> the type of the breaking change
+     * @return the breaking changes found by the rule, in traversal order
+     */
+    public static <T extends BreakingChange> Collection<T> traverse(Collection<Path> oldPaths, Specification newApi, PathSkipper pathSkipper,
+                                                                 OperationRule<T> rule) {
+        RuleVisit<T> visit = new RuleVisit<>(rule, null);
+        traverse(oldPaths, newApi, pathSkipper, List.of(visit));
+        return visit.breakingChanges;
+    }
+
+    /**
+     * Traverses the specifications once for all the given rules.
+     * @param oldApi the old API
+     * @param newApi the new API
+     * @param pathSkipper the skipper deciding which operations of the old API are not checked
+     * @param rules the rules to dispatch the callbacks to
+     * @return the breaking changes found by the rules, grouped by rule in the iteration order of the rules
+     *     and in traversal order within a rule
+     */
+    public static Collection<BreakingChange> traverse(Specification oldApi, Specification newApi, PathSkipper pathSkipper,
+                                                      Collection<? extends OperationRule<?>> rules) {
+        Collection<BreakingChange> result = new ArrayList<>();
+        for (Collection<BreakingChange> ruleResult : traverseByRule(oldApi.getPaths(), newApi, pathSkipper, rules)) {
+            result.addAll(ruleResult);
+        }
+        return result;
+    }
+
+    private static void traverse(Collection<Path> oldPaths, Specification newApi, PathSkipper pathSkipper, List<RuleVisit<?>> visits) {
+        if (visits.isEmpty()) {
+            return;
+        }
+        int unchangedPaths = 0;
+        for (Path path : oldPaths) {
+            if (pathSkipper.shouldSkip(path)) {
+                log.debug("Skipping {} as it's marked as a beta API", path);
+                continue;
+            }
+            Optional<Path> newApiPath = newApi.getPath(path);
+            if (newApiPath.isPresent()) {
+                if (path.getFingerprint() == newApiPath.get().getFingerprint()) {
+                    unchangedPaths++;
+                    continue;
+                }
+                visitPath(path, newApiPath.get(), visits);
+            }
+        }
+        log.debug("Skipped {} unchanged operations", unchangedPaths);
+    }
+
+    /**
+     * Traverses a subset of the operations of the old API once for all the given rules. Useful for splitting the
+     * traversal of large specifications into independent chunks.
+     * @param oldPaths the operations of the old API to traverse
+     * @param newApi the new API
+     * @param pathSkipper the skipper deciding which operations of the old API are not checked
+     * @param rules the rules to dispatch the callbacks to
+     * @return the breaking changes found by the rules, one collection per rule in the iteration order of the rules
+     *     and in traversal order within a rule
+     */
+    public static List<Collection<BreakingChange>> traverseByRule(Collection<Path> oldPaths, Specification newApi, PathSkipper pathSkipper,
+                                                                  Collection<? extends OperationRule<?>> rules) {
+        return traverseByRule(oldPaths, newApi, pathSkipper, rules, null);
+    }
+
+    /**
+     * Traverses a subset of the operations of the old API once for all the given rules, measuring the time every rule
+     * spends in its callbacks. The traversal itself is the same as without the timers.
+     * @param oldPaths the operations of the old API to traverse
+     * @param newApi the new API
+     * @param pathSkipper the skipper deciding which operations of the old API are not checked
+     * @param rules the rules to dispatch the callbacks to
+     * @param timers the timers of the rules in the iteration order of the rules, or null if nothing is measured
+     * @return the breaking changes found by the rules, one collection per rule in the iteration order of the rules
+     *     and in traversal order within a rule
+     * @throws IllegalArgumentException if the number of timers doesn't match the number of rules.
+     */
+    public static List<Collection<BreakingChange>> traverseByRule(Collection<Path> oldPaths, Specification newApi, PathSkipper pathSkipper,
+                                                                  Collection<? extends OperationRule<?>> rules, List<PhaseTimer> timers) {
+        if (timers != null && timers.size() != rules.size()) {
+            throw new IllegalArgumentException("A timer must be provided for every rule, got " + timers.size() + " for " + rules.size() + " rules");
+        }
+        List<RuleVisit<?>> visits = new ArrayList<>(rules.size());
+        for (OperationRule<?> rule : rules) {
+            visits.add(new RuleVisit<>(rule, timers == null ? null : timers.get(visits.size())));
+        }
+        traverse(oldPaths, newApi, pathSkipper, visits);
+        List<Collection<BreakingChange>> result = new ArrayList<>(visits.size());
+        for (RuleVisit<?> visit : visits) {
+            result.add(new ArrayList<>(visit.breakingChanges));
+        }
+        return result;
+    }
+
+    private static void visitPath(Path path, Path newPath, List<RuleVisit<?>> visits) {
+        for (RuleVisit<?> visit : visits) {
+            visit.visitPath(path, newPath);
+        }
+        if (CollectionUtils.isNotEmpty(path.getRequestParameters())) {
+            for (RequestParameter requestParameter : path.getRequestParameters()) {
+                Optional<RequestParameter> newRequestParameter = newPath.getRequestParameterByName(requestParameter.getName());
+                if (newRequestParameter.isPresent() && requestParameter.getFingerprint() != newRequestParameter.get().getFingerprint()) {
+                    for (RuleVisit<?> visit : visits) {
+                        visit.visitRequestParameter(path, requestParameter, newRequestParameter.get());
+                    }
+                }
+            }
+        }
+        Optional<Request> requestBody = path.getRequestBody();
+        Optional<Request> newRequestBody = newPath.getRequestBody();
+        if (requestBody.isPresent() && newRequestBody.isPresent() && requestBody.get().getFingerprint() != newRequestBody.get().getFingerprint()) {
+            visitRequestBody(path, requestBody.get(), newRequestBody.get(), visits);
+        }
+        for (Response response : path.getResponses()) {
+            Optional<Response> newResponse = newPath.getResponseByCode(response.getCode());
+            if (newResponse.isPresent() && response.getFingerprint() != newResponse.get().getFingerprint()) {
+                visitResponse(path, response, newResponse.get(), visits);
+            }
+        }
+    }
+
+    private static void visitRequestBody(Path path, Request request, Request newRequest, List<RuleVisit<?>> visits) {
+        for (RuleVisit<?> visit : visits) {
+            visit.visitRequestBody(path, request, newRequest);
+        }
+        for (Map.Entry<MediaType, Schema> entry : request.getMediaTypes().entrySet()) {
+            MediaType mediaType = entry.getKey();
+            Schema schema = entry.getValue();
+            Optional<Schema> newSchema = newRequest.getSchemaByMediaType(mediaType);
+            if (newSchema.isPresent() && isChanged(schema, newSchema.get())) {
+                for (RuleVisit<?> visit : visits) {
+                    visit.visitRequestMediaType(path, mediaType, schema, newSchema.get());
+                }
+                Map<AttributePath, Schema> newSchemas = newSchema.get().getSchemasRecursively();
+                for (Map.Entry<AttributePath, Schema> schemaEntry : schema.getSchemasRecursively().entrySet()) {
+                    Schema newSubSchema = newSchemas.get(schemaEntry.getKey());
+                    if (newSubSchema != null && isChanged(schemaEntry.getValue(), newSubSchema)) {
+                        for (RuleVisit<?> visit : visits) {
+                            visit.visitRequestSchema(path, schemaEntry.getKey(), schemaEntry.getValue(), newSubSchema);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static void visitResponse(Path path, Response response, Response newResponse, List<RuleVisit<?>> visits) {
+        for (RuleVisit<?> visit : visits) {
+            visit.visitResponse(path, response, newResponse);
+        }
+        for (Map.Entry<MediaType, Schema> entry : response.getMediaTypes().entrySet()) {
+            MediaType mediaType = entry.getKey();
+            Schema schema = entry.getValue();
+            Optional<Schema> newSchema = newResponse.getSchemaByMediaType(mediaType);
+            if (newSchema.isPresent() && isChanged(schema, newSchema.get())) {
+                for (RuleVisit<?> visit : visits) {
+                    visit.visitResponseMediaType(path, response, mediaType, schema, newSchema.get());
+                }
+                Map<AttributePath, Schema> newSchemas = newSchema.get().getSchemasRecursively();
+                for (Map.Entry<AttributePath, Schema> schemaEntry : schema.getSchemasRecursively().entrySet()) {
+                    Schema newSubSchema = newSchemas.get(schemaEntry.getKey());
+                    if (newSubSchema != null && isChanged(schemaEntry.getValue(), newSubSchema)) {
+                        for (RuleVisit<?> visit : visits) {
+                            visit.visitResponseSchema(path, response, schemaEntry.getKey(), schemaEntry.getValue(), newSubSchema);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /*
+     * Unchanged schemas are skipped, since no rule reports a breaking change for structurally identical schemas.
+     */
+    private static boolean isChanged(Schema schema, Schema newSchema) {
+        return schema != newSchema && (schema == null || newSchema == null || schema.getFingerprint() != newSchema.getFingerprint());
+    }
+
+    /*
+     * Binds a rule to its own breaking change collection so that the callbacks can be invoked without unchecked casts.
+     * The collection keeps the insertion order so the result does not depend on the hash codes of the breaking changes.
+     * The optional timer measures the callbacks only, the traversal shared with the other rules is not counted.
+     */
+    @RequiredArgsConstructor
+    private static class RuleVisit<T extends BreakingChange> {
+        private final OperationRule<T> rule;
+        private final PhaseTimer timer;
+        private final Set<T> breakingChanges = new LinkedHashSet<>();
+
+        void visitPath(Path path, Path newPath) {
+            start();
+            rule.visitPath(path, newPath, breakingChanges);
+            stop();
+        }
+
+        void visitRequestParameter(Path path, RequestParameter requestParameter, RequestParameter newRequestParameter) {
+            start();
+            rule.visitRequestParameter(path, requestParameter, newRequestParameter, breakingChanges);
+            stop();
+        }
+
+        void visitRequestBody(Path path, Request request, Request newRequest) {
+            start();
+            rule.visitRequestBody(path, request, newRequest, breakingChanges);
+            stop();
+        }
+
+        void visitRequestMediaType(Path path, MediaType mediaType, Schema schema, Schema newSchema) {
+            start();
+            rule.visitRequestMediaType(path, mediaType, schema, newSchema, breakingChanges);
+            stop();
+        }
+
+        void visitRequestSchema(Path path, AttributePath attributePath, Schema schema, Schema newSchema) {
+            start();
+            rule.visitRequestSchema(path, attributePath, schema, newSchema, breakingChanges);
+            stop();
+        }
+
+        void visitResponse(Path path, Response response, Response newResponse) {
+            start();
+            rule.visitResponse(path, response, newResponse, breakingChanges);
+            stop();
+        }
+
+        void visitResponseMediaType(Path path, Response response, MediaType mediaType, Schema schema, Schema newSchema) {
+            start();
+            rule.visitResponseMediaType(path, response, mediaType, schema, newSchema, breakingChanges);
+            stop();
+        }
+
+        void visitResponseSchema(Path path, Response response, AttributePath attributePath, Schema schema, Schema newSchema) {
+            start();
+            rule.visitResponseSchema(path, response, attributePath, schema, newSchema, breakingChanges);
+            stop();
+        }
+
+        private void start() {
+            if (timer != null) {
+                timer.start();
+            }
+        }
+
+        private void stop() {
+            if (timer != null) {
+                timer.stop();
+            }
+        }
+    }
+}
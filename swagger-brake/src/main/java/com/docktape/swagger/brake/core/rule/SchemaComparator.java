@@ -0,0 +1,65 @@
+package com.docktape.swagger.brake.core.rule;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import com.docktape.swagger.brake.core.model.Schema;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the schema comparisons of the rules through the {@link SchemaComparisonCache} of the current check.
+ * <br>
+ * Rules compare an old and a new schema into path independent findings, and stamp the findings with the concrete
+ * path, method and response code afterwards, so the same schema pair is compared once per rule and check, no
+ * matter how many operations reference it. The cache bound with {@link #callWith(SchemaComparisonCache, Supplier)}
+ * is visible only to the current thread for the duration of the call, work handed over to other threads has to be
+ * wrapped again. Without a bound cache the comparisons are simply computed.
+ */
+@Component
+public class SchemaComparator {
+    private final ThreadLocal<SchemaComparisonCache> boundCache = new ThreadLocal<>();
+
+    /**
+     * Binds the {@link SchemaComparisonCache} to the current thread while executing the supplier. The previously
+     * bound cache, if any, is restored afterwards.
+     * @param cache the cache of the current check. Must be not null.
+     * @param supplier the code to execute
+     * @param <T> the type of the result
+     * @return the result of the supplier
+     * @throws IllegalArgumentException if the provided cache is null.
+     */
+    public <T> T callWith(SchemaComparisonCache cache, Supplier<T> supplier) {
+        if (cache == null) {
+            throw new IllegalArgumentException("cache cannot be null");
+        }
+        SchemaComparisonCache previous = boundCache.get();
+        boundCache.set(cache);
+        try {
+            return supplier.get();
+        } finally {
+            if (previous == null) {
+                boundCache.remove();
+            } else {
+                boundCache.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Compares the schemas, or returns the findings of a previous comparison of the same schemas by the same rule.
+     * @param rule the comparing rule, it's part of the cache key
+     * @param schema the schema of the old API
+     * @param newSchema the schema of the new API
+     * @param comparator computes the findings, which must depend on the schemas only
+     * @param <F> the type of the findings
+     * @return the unmodifiable findings
+     */
+    public <F> List<F> compare(Object rule, Schema schema, Schema newSchema, BiFunction<Schema, Schema, List<F>> comparator) {
+        SchemaComparisonCache cache = boundCache.get();
+        if (cache == null) {
+            return comparator.apply(schema, newSchema);
+        }
+        return cache.get(rule, schema, newSchema, comparator);
+    }
+}
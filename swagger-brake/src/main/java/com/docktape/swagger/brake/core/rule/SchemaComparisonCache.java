@@ -0,0 +1,82 @@
+package com.docktape.swagger.brake.core.rule;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+import com.docktape.swagger.brake.core.model.Schema;
+
+/**
+ * Memoizes the path independent findings of the schema comparisons of a single check.
+ * <br>
+ * The findings are keyed by the comparing rule and the identities of the compared schemas. Since the transformed
+ * schemas are interned, a schema shared by many operations, e.g. a common error envelope, is the same instance
+ * everywhere, hence its comparison is computed once per rule and reused for every operation and response code
+ * referencing it. The cache is thread-safe, concurrent first comparisons of the same pair may compute it more
+ * than once, but every computation yields the same findings.
+ */
+public final class SchemaComparisonCache {
+    private final Map<ComparisonKey, List<?>> findings = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    <F> List<F> get(Object comparison, Schema schema, Schema newSchema, BiFunction<Schema, Schema, List<F>> comparator) {
+        ComparisonKey key = new ComparisonKey(comparison, schema, newSchema);
+        List<?> result = findings.get(key);
+        if (result != null) {
+            hits.increment();
+            return (List<F>) result;
+        }
+        misses.increment();
+        List<F> computed = Collections.unmodifiableList(new ArrayList<>(comparator.apply(schema, newSchema)));
+        List<?> existing = findings.putIfAbsent(key, computed);
+        return existing != null ? (List<F>) existing : computed;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /*
+     * Compares every part by identity, the schemas' own equality is neither exact nor cheap enough for a cache key.
+     */
+    private static final class ComparisonKey {
+        private final Object comparison;
+        private final Schema schema;
+        private final Schema newSchema;
+        private final int hash;
+
+        ComparisonKey(Object comparison, Schema schema, Schema newSchema) {
+            this.comparison = comparison;
+            this.schema = schema;
+            this.newSchema = newSchema;
+            this.hash = 31 * (31 * System.identityHashCode(comparison) + System.identityHashCode(schema)) + System.identityHashCode(newSchema);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ComparisonKey)) {
+                return false;
+            }
+            ComparisonKey other = (ComparisonKey) o;
+            return comparison == other.comparison && schema == other.schema && newSchema == other.newSchema;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
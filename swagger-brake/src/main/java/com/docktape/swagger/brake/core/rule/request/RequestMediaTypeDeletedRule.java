@@ -3,7 +3,8 @@ package com.docktape.swagger.brake.core.rule.request;
 import java.util.*;
 
 import com.docktape.swagger.brake.core.model.*;
-import com.docktape.swagger.brake.core.rule.BreakingChangeRule;
+import com.docktape.swagger.brake.core.rule.OperationRule;
+import com.docktape.swagger.brake.core.rule.OperationTraversal;
 import com.docktape.swagger.brake.core.rule.PathSkipper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,33 +13,16 @@ import org.springframework.stereotype.Component;
 @Component
 @Slf4j
 @RequiredArgsConstructor
-public class RequestMediaTypeDeletedRule implements BreakingChangeRule<RequestMediaTypeDeletedBreakingChange> {
+public class RequestMediaTypeDeletedRule implements OperationRule<RequestMediaTypeDeletedBreakingChange> {
     private final PathSkipper pathSkipper;
 
     @Override
     public Collection<RequestMediaTypeDeletedBreakingChange> checkRule(Specification oldApi, Specification newApi) {
-        Set<RequestMediaTypeDeletedBreakingChange> breakingChanges = new HashSet<>();
-        for (Path path : oldApi.getPaths()) {
-            if (pathSkipper.shouldSkip(path)) {
-                log.debug("Skipping {} as it's marked as a beta API", path);
-                continue;
-            }
-            Optional<Path> newApiPath = newApi.getPath(path);
-            if (newApiPath.isPresent()) {
-                Path newPath = newApiPath.get();
-                Optional<Request> requestBody = path.getRequestBody();
-                Optional<Request> newRequestBody = newPath.getRequestBody();
-                if (requestBody.isPresent() && newRequestBody.isPresent()) {
-                    Request request = requestBody.get();
-                    Request newRequest = newRequestBody.get();
-                    checkMediaTypeBreaking(breakingChanges, path, request, newRequest);
-                }
-            }
-        }
-        return breakingChanges;
+        return OperationTraversal.traverse(oldApi, newApi, pathSkipper, this);
     }
 
-    private void checkMediaTypeBreaking(Set<RequestMediaTypeDeletedBreakingChange> breakingChanges, Path path, Request request, Request newRequest) {
+    @Override
+    public void visitRequestBody(Path path, Request request, Request newRequest, Collection<RequestMediaTypeDeletedBreakingChange> breakingChanges) {
         for (Map.Entry<MediaType, Schema> entry : request.getMediaTypes().entrySet()) {
             MediaType mediaType = entry.getKey();
             if (!newRequest.isMediaTypeAllowed(mediaType)) {
@@ -1,54 +1,38 @@
 package com.docktape.swagger.brake.core.rule.request;
 
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.Set;
 
 import com.docktape.swagger.brake.core.model.Path;
 import com.docktape.swagger.brake.core.model.Specification;
 import com.docktape.swagger.brake.core.model.parameter.RequestParameter;
-import com.docktape.swagger.brake.core.rule.BreakingChangeRule;
+import com.docktape.swagger.brake.core.rule.OperationRule;
+import com.docktape.swagger.brake.core.rule.OperationTraversal;
 import com.docktape.swagger.brake.core.rule.PathSkipper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.stereotype.Component;
 
 @Component
 @Slf4j
 @RequiredArgsConstructor
-public class RequestParameterDefaultChangedRule implements BreakingChangeRule<RequestParameterDefaultChangedBreakingChange> {
+public class RequestParameterDefaultChangedRule implements OperationRule<RequestParameterDefaultChangedBreakingChange> {
     private final PathSkipper pathSkipper;
 
     @Override
     public Collection<RequestParameterDefaultChangedBreakingChange> checkRule(Specification oldApi, Specification newApi) {
-        Set<RequestParameterDefaultChangedBreakingChange> breakingChanges = new HashSet<>();
-        for (Path path : oldApi.getPaths()) {
-            if (pathSkipper.shouldSkip(path)) {
-                log.debug("Skipping {} as it's marked as a beta API", path);
-                continue;
-            }
-            Optional<Path> newApiPath = newApi.getPath(path);
-            if (newApiPath.isPresent()) {
-                Path newPath = newApiPath.get();
-                if (CollectionUtils.isNotEmpty(path.getRequestParameters())) {
-                    for (RequestParameter requestParameter : path.getRequestParameters()) {
-                        Optional<RequestParameter> newRequestParameter = newPath.getRequestParameterByName(requestParameter.getName());
-                        if (newRequestParameter.isPresent()) {
-                            String oldDefault = requestParameter.getDefaultValue();
-                            String newDefault = newRequestParameter.get().getDefaultValue();
-                            if (!Objects.equals(oldDefault, newDefault)) {
-                                breakingChanges.add(
-                                    new RequestParameterDefaultChangedBreakingChange(
-                                        path.getPath(), path.getMethod(), requestParameter.getName(), oldDefault, newDefault));
-                            }
-                        }
-                    }
-                }
-            }
+        return OperationTraversal.traverse(oldApi, newApi, pathSkipper, this);
+    }
+
+    @Override
+    public void visitRequestParameter(Path path, RequestParameter requestParameter, RequestParameter newRequestParameter,
+                                      Collection<RequestParameterDefaultChangedBreakingChange> breakingChanges) {
+        String oldDefault = requestParameter.getDefaultValue();
+        String newDefault = newRequestParameter.getDefaultValue();
+        if (!Objects.equals(oldDefault, newDefault)) {
+            breakingChanges.add(
+                new RequestParameterDefaultChangedBreakingChange(
+                    path.getPath(), path.getMethod(), requestParameter.getName(), oldDefault, newDefault));
         }
-        return breakingChanges;
     }
 }
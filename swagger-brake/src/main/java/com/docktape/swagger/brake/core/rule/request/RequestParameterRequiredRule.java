@@ -4,7 +4,8 @@ import java.util.*;
 
 import com.docktape.swagger.brake.core.model.*;
 import com.docktape.swagger.brake.core.model.parameter.RequestParameter;
-import com.docktape.swagger.brake.core.rule.BreakingChangeRule;
+import com.docktape.swagger.brake.core.rule.OperationRule;
+import com.docktape.swagger.brake.core.rule.OperationTraversal;
 import com.docktape.swagger.brake.core.rule.PathSkipper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,52 +15,32 @@ import org.springframework.stereotype.Component;
 @Component
 @Slf4j
 @RequiredArgsConstructor
-public class RequestParameterRequiredRule implements BreakingChangeRule<RequestParameterRequiredBreakingChange> {
+public class RequestParameterRequiredRule implements OperationRule<RequestParameterRequiredBreakingChange> {
     private final PathSkipper pathSkipper;
 
     @Override
     public Collection<RequestParameterRequiredBreakingChange> checkRule(Specification oldApi, Specification newApi) {
-        Set<RequestParameterRequiredBreakingChange> breakingChanges = new HashSet<>();
-        for (Path path : oldApi.getPaths()) {
-            if (pathSkipper.shouldSkip(path)) {
-                log.debug("Skipping {} as it's marked as a beta API", path);
-                continue;
-            }
-            Optional<Path> newApiPath = newApi.getPath(path);
-            if (newApiPath.isPresent()) {
-                Path newPath = newApiPath.get();
-                breakingChanges.addAll(checkQueryParameters(path, newPath));
-                breakingChanges.addAll(checkRequestBody(path, newPath));
-            }
-        }
-        return breakingChanges;
+        return OperationTraversal.traverse(oldApi, newApi, pathSkipper, this);
     }
 
-    private Set<RequestParameterRequiredBreakingChange> checkRequestBody(Path path, Path newPath) {
-        Set<RequestParameterRequiredBreakingChange> breakingChanges = new HashSet<>();
-        if (path.getRequestBody().isPresent() && newPath.getRequestBody().isPresent()) {
-            Request requestBody = path.getRequestBody().get();
-            Request newRequestBody = newPath.getRequestBody().get();
-            for (Map.Entry<MediaType, Schema> entry : requestBody.getMediaTypes().entrySet()) {
-                MediaType mediaType = entry.getKey();
-                Schema schema = entry.getValue();
-                Optional<Schema> optionalNewSchema = newRequestBody.getSchemaByMediaType(mediaType);
-                if (optionalNewSchema.isPresent()) {
-                    Schema newSchema = optionalNewSchema.get();
-                    Set<String> oldRequiredAttributeNames = schema.getRequiredAttributeNames();
-                    Set<String> remainingRequiredAttributeNames = newSchema.getRequiredAttributeNames();
-                    for (String oldRequiredAttributeName : oldRequiredAttributeNames) {
-                        remainingRequiredAttributeNames.remove(oldRequiredAttributeName);
-                    }
-                    if (remainingRequiredAttributeNames.size() > 0) {
-                        for (String remainingRequiredAttr : remainingRequiredAttributeNames) {
-                            breakingChanges.add(new RequestParameterRequiredBreakingChange(path.getPath(), path.getMethod(), remainingRequiredAttr));
-                        }
-                    }
-                }
+    @Override
+    public void visitPath(Path path, Path newPath, Collection<RequestParameterRequiredBreakingChange> breakingChanges) {
+        breakingChanges.addAll(checkQueryParameters(path, newPath));
+    }
+
+    @Override
+    public void visitRequestMediaType(Path path, MediaType mediaType, Schema schema, Schema newSchema,
+                                      Collection<RequestParameterRequiredBreakingChange> breakingChanges) {
+        Set<AttributePath> oldRequiredAttributeNames = schema.getRequiredAttributeNames();
+        Set<AttributePath> remainingRequiredAttributeNames = new HashSet<>(newSchema.getRequiredAttributeNames());
+        for (AttributePath oldRequiredAttributeName : oldRequiredAttributeNames) {
+            remainingRequiredAttributeNames.remove(oldRequiredAttributeName);
+        }
+        if (remainingRequiredAttributeNames.size() > 0) {
+            for (AttributePath remainingRequiredAttr : remainingRequiredAttributeNames) {
+                breakingChanges.add(new RequestParameterRequiredBreakingChange(path.getPath(), path.getMethod(), remainingRequiredAttr.toString()));
             }
         }
-        return breakingChanges;
     }
 
     private Set<RequestParameterRequiredBreakingChange> checkQueryParameters(Path path, Path newPath) {
@@ -6,8 +6,11 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 import com.docktape.swagger.brake.core.model.*;
-import com.docktape.swagger.brake.core.rule.BreakingChangeRule;
+import com.docktape.swagger.brake.core.rule.AttributeTypeChange;
+import com.docktape.swagger.brake.core.rule.OperationRule;
+import com.docktape.swagger.brake.core.rule.OperationTraversal;
 import com.docktape.swagger.brake.core.rule.PathSkipper;
+import com.docktape.swagger.brake.core.rule.SchemaComparator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
@@ -16,51 +19,42 @@ import org.springframework.stereotype.Component;
 @Component
 @Slf4j
 @RequiredArgsConstructor
-public class RequestTypeChangedRule implements BreakingChangeRule<RequestTypeChangedBreakingChange> {
+public class RequestTypeChangedRule implements OperationRule<RequestTypeChangedBreakingChange> {
     private final PathSkipper pathSkipper;
+    private final SchemaComparator schemaComparator;
 
     @Override
     public Collection<RequestTypeChangedBreakingChange> checkRule(Specification oldApi, Specification newApi) {
-        Set<RequestTypeChangedBreakingChange> breakingChanges = new HashSet<>();
-        for (Path path : oldApi.getPaths()) {
-            if (pathSkipper.shouldSkip(path)) {
-                log.debug("Skipping {} as it's marked as a beta API", path);
-                continue;
-            }
-            Optional<Path> newApiPath = newApi.getPath(path);
-            if (newApiPath.isPresent()) {
-                Path newPath = newApiPath.get();
-                Optional<Request> requestBody = path.getRequestBody();
-                Optional<Request> newRequestBody = newPath.getRequestBody();
-                if (requestBody.isPresent() && newRequestBody.isPresent()) {
-                    for (Map.Entry<MediaType, Schema> entry : requestBody.get().getMediaTypes().entrySet()) {
-                        MediaType mediaType = entry.getKey();
-                        Schema schema = entry.getValue();
-                        Optional<Schema> newApiSchema = newRequestBody.get().getSchemaByMediaType(mediaType);
-                        if (newApiSchema.isPresent()) {
-                            Schema newSchema = newApiSchema.get();
-                            Collection<SchemaAttribute> oldSchemaAttributes = schema.getSchemaAttributes();
-                            if (CollectionUtils.isNotEmpty(oldSchemaAttributes)) {
-                                Map<String, SchemaAttribute> newSchemaAttributesMap =
-                                    newSchema.getSchemaAttributes().stream().collect(Collectors.toMap(SchemaAttribute::getName, identity()));
-                                for (SchemaAttribute oldSchemaAttribute : oldSchemaAttributes) {
-                                    String oldAttributeName = oldSchemaAttribute.getName();
-                                    String oldAttributeType = oldSchemaAttribute.getSchema().getType();
-                                    SchemaAttribute newSchemaAttribute = newSchemaAttributesMap.get(oldAttributeName);
-                                    if (newSchemaAttribute != null) {
-                                        String newAttributeType = newSchemaAttribute.getSchema().getType();
-                                        if (!oldAttributeType.equalsIgnoreCase(newAttributeType)) {
-                                            breakingChanges.add(new RequestTypeChangedBreakingChange(path.getPath(), path.getMethod(), oldAttributeName,
-                                                oldAttributeType, newAttributeType));
-                                        }
-                                    }
-                                }
-                            }
-                        }
+        return OperationTraversal.traverse(oldApi, newApi, pathSkipper, this);
+    }
+
+    @Override
+    public void visitRequestMediaType(Path path, MediaType mediaType, Schema schema, Schema newSchema,
+                                      Collection<RequestTypeChangedBreakingChange> breakingChanges) {
+        for (AttributeTypeChange typeChange : schemaComparator.compare(this, schema, newSchema, this::getTypeChanges)) {
+            breakingChanges.add(new RequestTypeChangedBreakingChange(path.getPath(), path.getMethod(), typeChange.getAttributeName(),
+                typeChange.getOldType(), typeChange.getNewType()));
+        }
+    }
+
+    private List<AttributeTypeChange> getTypeChanges(Schema schema, Schema newSchema) {
+        List<AttributeTypeChange> result = new ArrayList<>();
+        Collection<SchemaAttribute> oldSchemaAttributes = schema.getSchemaAttributes();
+        if (CollectionUtils.isNotEmpty(oldSchemaAttributes)) {
+            Map<String, SchemaAttribute> newSchemaAttributesMap =
+                newSchema.getSchemaAttributes().stream().collect(Collectors.toMap(SchemaAttribute::getName, identity()));
+            for (SchemaAttribute oldSchemaAttribute : oldSchemaAttributes) {
+                String oldAttributeName = oldSchemaAttribute.getName();
+                String oldAttributeType = oldSchemaAttribute.getSchema().getType();
+                SchemaAttribute newSchemaAttribute = newSchemaAttributesMap.get(oldAttributeName);
+                if (newSchemaAttribute != null) {
+                    String newAttributeType = newSchemaAttribute.getSchema().getType();
+                    if (!oldAttributeType.equalsIgnoreCase(newAttributeType)) {
+                        result.add(new AttributeTypeChange(oldAttributeName, oldAttributeType, newAttributeType));
                     }
                 }
             }
         }
-        return breakingChanges;
+        return result;
     }
 }
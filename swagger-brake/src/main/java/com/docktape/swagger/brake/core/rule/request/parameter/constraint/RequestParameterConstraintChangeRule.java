@@ -8,62 +8,35 @@ import com.docktape.swagger.brake.core.model.parameter.ArrayRequestParameter;
 import com.docktape.swagger.brake.core.model.parameter.NumberRequestParameter;
 import com.docktape.swagger.brake.core.model.parameter.RequestParameter;
 import com.docktape.swagger.brake.core.model.parameter.StringRequestParameter;
-import com.docktape.swagger.brake.core.rule.BreakingChangeRule;
+import com.docktape.swagger.brake.core.rule.OperationRule;
+import com.docktape.swagger.brake.core.rule.OperationTraversal;
 import com.docktape.swagger.brake.core.rule.PathSkipper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.stereotype.Component;
 
 @Component
 @Slf4j
 @RequiredArgsConstructor
-public class RequestParameterConstraintChangeRule implements BreakingChangeRule<RequestParameterConstraintChangedBreakingChange> {
+public class RequestParameterConstraintChangeRule implements OperationRule<RequestParameterConstraintChangedBreakingChange> {
     private final Collection<Constraint<?>> constraints;
     private final PathSkipper pathSkipper;
 
     @Override
     public Collection<RequestParameterConstraintChangedBreakingChange> checkRule(Specification oldApi, Specification newApi) {
-        Set<RequestParameterConstraintChangedBreakingChange> breakingChanges = new HashSet<>();
-        for (Path path : oldApi.getPaths()) {
-            if (pathSkipper.shouldSkip(path)) {
-                log.debug("Skipping {} as it's marked as a beta API", path);
-                continue;
-            }
-            Optional<Path> newApiPath = newApi.getPath(path);
-            if (newApiPath.isPresent()) {
-                Path newPath = newApiPath.get();
-                if (CollectionUtils.isNotEmpty(path.getRequestParameters())) {
-                    for (RequestParameter requestParameter : path.getRequestParameters()) {
-                        Optional<RequestParameter> newRequestParameter = newPath.getRequestParameterByName(requestParameter.getName());
-                        if (newRequestParameter.isPresent()) {
-                            RequestParameter newRequestParam = newRequestParameter.get();
-                            breakingChanges.addAll(applyConstraints(path, fromRequestParam(requestParameter), fromRequestParam(newRequestParam), newRequestParam.getName()));
-                        }
-                    }
-                }
+        return OperationTraversal.traverse(oldApi, newApi, pathSkipper, this);
+    }
 
-                Optional<Request> requestBody = path.getRequestBody();
-                Optional<Request> newRequestBody = newPath.getRequestBody();
-                if (requestBody.isPresent() && newRequestBody.isPresent()) {
-                    for (MediaType oldMediaType : requestBody.get().getMediaTypes().keySet()) {
-                        Optional<Schema> newSchema = newRequestBody.get().getSchemaByMediaType(oldMediaType);
-                        if (newSchema.isPresent()) {
-                            Schema schema = newSchema.get();
-                            Map<String, Schema> oldSchemas = requestBody.get().getSchemaByMediaType(oldMediaType).get().getSchemasRecursively();
-                            Map<String, Schema> schemasRecursively = schema.getSchemasRecursively();
-                            for (Map.Entry<String, Schema> entry : schemasRecursively.entrySet()) {
-                                Schema oldSchema = oldSchemas.get(entry.getKey());
-                                if (oldSchema != null) {
-                                    breakingChanges.addAll(applyConstraints(path, fromSchema(oldSchema), fromSchema(entry.getValue()), entry.getKey()));
-                                }
-                            }
-                        }
-                    }
-                }
-            }
-        }
-        return breakingChanges;
+    @Override
+    public void visitRequestParameter(Path path, RequestParameter requestParameter, RequestParameter newRequestParameter,
+                                      Collection<RequestParameterConstraintChangedBreakingChange> breakingChanges) {
+        breakingChanges.addAll(applyConstraints(path, fromRequestParam(requestParameter), fromRequestParam(newRequestParameter), newRequestParameter.getName()));
+    }
+
+    @Override
+    public void visitRequestSchema(Path path, AttributePath attributePath, Schema schema, Schema newSchema,
+                                   Collection<RequestParameterConstraintChangedBreakingChange> breakingChanges) {
+        breakingChanges.addAll(applyConstraints(path, fromSchema(schema), fromSchema(newSchema), attributePath.toString()));
     }
 
     private ConstrainedValue fromSchema(Schema schema) {
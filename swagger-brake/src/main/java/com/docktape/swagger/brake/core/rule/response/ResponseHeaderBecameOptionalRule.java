@@ -1,15 +1,13 @@
 package com.docktape.swagger.brake.core.rule.response;
 
 import java.util.Collection;
-import java.util.HashSet;
-import java.util.Optional;
-import java.util.Set;
 
 import com.docktape.swagger.brake.core.model.Path;
 import com.docktape.swagger.brake.core.model.Response;
 import com.docktape.swagger.brake.core.model.ResponseHeader;
 import com.docktape.swagger.brake.core.model.Specification;
-import com.docktape.swagger.brake.core.rule.BreakingChangeRule;
+import com.docktape.swagger.brake.core.rule.OperationRule;
+import com.docktape.swagger.brake.core.rule.OperationTraversal;
 import com.docktape.swagger.brake.core.rule.PathSkipper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,34 +16,16 @@ import org.springframework.stereotype.Component;
 @Component
 @Slf4j
 @RequiredArgsConstructor
-public class ResponseHeaderBecameOptionalRule implements BreakingChangeRule<ResponseHeaderBecameOptionalBreakingChange> {
+public class ResponseHeaderBecameOptionalRule implements OperationRule<ResponseHeaderBecameOptionalBreakingChange> {
     private final PathSkipper pathSkipper;
 
     @Override
     public Collection<ResponseHeaderBecameOptionalBreakingChange> checkRule(Specification oldApi, Specification newApi) {
-        Set<ResponseHeaderBecameOptionalBreakingChange> breakingChanges = new HashSet<>();
-        for (Path path : oldApi.getPaths()) {
-            if (pathSkipper.shouldSkip(path)) {
-                log.debug("Skipping {} as it's marked as a beta API", path);
-                continue;
-            }
-            Optional<Path> newApiPath = newApi.getPath(path);
-            if (newApiPath.isPresent()) {
-                Path newPath = newApiPath.get();
-                for (Response oldResponse : path.getResponses()) {
-                    Optional<Response> newApiResponse = newPath.getResponseByCode(oldResponse.getCode());
-                    if (newApiResponse.isPresent()) {
-                        Response newResponse = newApiResponse.get();
-                        checkHeadersBecameOptional(breakingChanges, path, oldResponse, newResponse);
-                    }
-                }
-            }
-        }
-        return breakingChanges;
+        return OperationTraversal.traverse(oldApi, newApi, pathSkipper, this);
     }
 
-    private void checkHeadersBecameOptional(Set<ResponseHeaderBecameOptionalBreakingChange> breakingChanges, Path path,
-            Response oldResponse, Response newResponse) {
+    @Override
+    public void visitResponse(Path path, Response oldResponse, Response newResponse, Collection<ResponseHeaderBecameOptionalBreakingChange> breakingChanges) {
         for (ResponseHeader oldHeader : oldResponse.getHeaders().values()) {
             if (!oldHeader.isRequired()) {
                 continue;
@@ -3,7 +3,8 @@ package com.docktape.swagger.brake.core.rule.response;
 import java.util.*;
 
 import com.docktape.swagger.brake.core.model.*;
-import com.docktape.swagger.brake.core.rule.BreakingChangeRule;
+import com.docktape.swagger.brake.core.rule.OperationRule;
+import com.docktape.swagger.brake.core.rule.OperationTraversal;
 import com.docktape.swagger.brake.core.rule.PathSkipper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,33 +13,16 @@ import org.springframework.stereotype.Component;
 @Component
 @Slf4j
 @RequiredArgsConstructor
-public class ResponseMediaTypeDeletedRule implements BreakingChangeRule<ResponseMediaTypeDeletedBreakingChange> {
+public class ResponseMediaTypeDeletedRule implements OperationRule<ResponseMediaTypeDeletedBreakingChange> {
     private final PathSkipper pathSkipper;
 
     @Override
     public Collection<ResponseMediaTypeDeletedBreakingChange> checkRule(Specification oldApi, Specification newApi) {
-        Set<ResponseMediaTypeDeletedBreakingChange> breakingChanges = new HashSet<>();
-        for (Path path : oldApi.getPaths()) {
-            if (pathSkipper.shouldSkip(path)) {
-                log.debug("Skipping {} as it's marked as a beta API", path);
-                continue;
-            }
-            Optional<Path> newApiPath = newApi.getPath(path);
-            if (newApiPath.isPresent()) {
-                Path newPath = newApiPath.get();
-                for (Response apiResponse : path.getResponses()) {
-                    Optional<Response> newApiResponse = newPath.getResponseByCode(apiResponse.getCode());
-                    if (newApiResponse.isPresent()) {
-                        Response newResponse = newApiResponse.get();
-                        checkMediaTypeBreaking(breakingChanges, path, apiResponse, newResponse);
-                    }
-                }
-            }
-        }
-        return breakingChanges;
+        return OperationTraversal.traverse(oldApi, newApi, pathSkipper, this);
     }
 
-    private void checkMediaTypeBreaking(Set<ResponseMediaTypeDeletedBreakingChange> breakingChanges, Path path, Response apiResponse, Response newResponse) {
+    @Override
+    public void visitResponse(Path path, Response apiResponse, Response newResponse, Collection<ResponseMediaTypeDeletedBreakingChange> breakingChanges) {
         for (Map.Entry<MediaType, Schema> entry : apiResponse.getMediaTypes().entrySet()) {
             MediaType mediaType = entry.getKey();
             if (!newResponse.isMediaTypeAllowed(mediaType)) {
@@ -1,9 +1,7 @@
 package com.docktape.swagger.brake.core.rule.response;
 
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 
 import com.docktape.swagger.brake.core.model.MediaType;
@@ -11,7 +9,8 @@ import com.docktape.swagger.brake.core.model.Path;
 import com.docktape.swagger.brake.core.model.Response;
 import com.docktape.swagger.brake.core.model.Schema;
 import com.docktape.swagger.brake.core.model.Specification;
-import com.docktape.swagger.brake.core.rule.BreakingChangeRule;
+import com.docktape.swagger.brake.core.rule.OperationRule;
+import com.docktape.swagger.brake.core.rule.OperationTraversal;
 import com.docktape.swagger.brake.core.rule.PathSkipper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,34 +19,17 @@ import org.springframework.stereotype.Component;
 @Component
 @Slf4j
 @RequiredArgsConstructor
-public class ResponseMediaTypeGeneralizedRule implements BreakingChangeRule<ResponseMediaTypeGeneralizedBreakingChange> {
+public class ResponseMediaTypeGeneralizedRule implements OperationRule<ResponseMediaTypeGeneralizedBreakingChange> {
     private final PathSkipper pathSkipper;
 
     @Override
     public Collection<ResponseMediaTypeGeneralizedBreakingChange> checkRule(Specification oldApi, Specification newApi) {
-        Set<ResponseMediaTypeGeneralizedBreakingChange> breakingChanges = new HashSet<>();
-        for (Path path : oldApi.getPaths()) {
-            if (pathSkipper.shouldSkip(path)) {
-                log.debug("Skipping {} as it's marked as a beta API", path);
-                continue;
-            }
-            Optional<Path> newApiPath = newApi.getPath(path);
-            if (newApiPath.isPresent()) {
-                Path newPath = newApiPath.get();
-                for (Response apiResponse : path.getResponses()) {
-                    Optional<Response> newApiResponse = newPath.getResponseByCode(apiResponse.getCode());
-                    if (newApiResponse.isPresent()) {
-                        Response newResponse = newApiResponse.get();
-                        checkMediaTypeGeneralized(breakingChanges, path, apiResponse, newResponse);
-                    }
-                }
-            }
-        }
-        return breakingChanges;
+        return OperationTraversal.traverse(oldApi, newApi, pathSkipper, this);
     }
 
-    private void checkMediaTypeGeneralized(Set<ResponseMediaTypeGeneralizedBreakingChange> breakingChanges,
-            Path path, Response oldResponse, Response newResponse) {
+    @Override
+    public void visitResponse(Path path, Response oldResponse, Response newResponse,
+                              Collection<ResponseMediaTypeGeneralizedBreakingChange> breakingChanges) {
         Set<MediaType> newMediaTypes = newResponse.getMediaTypes().keySet();
         for (Map.Entry<MediaType, Schema> entry : oldResponse.getMediaTypes().entrySet()) {
             String oldMime = entry.getKey().getMimeType();
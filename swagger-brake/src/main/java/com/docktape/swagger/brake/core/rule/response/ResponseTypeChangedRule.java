@@ -3,8 +3,11 @@ package com.docktape.swagger.brake.core.rule.response;
 import java.util.*;
 
 import com.docktape.swagger.brake.core.model.*;
-import com.docktape.swagger.brake.core.rule.BreakingChangeRule;
+import com.docktape.swagger.brake.core.rule.AttributeTypeChange;
+import com.docktape.swagger.brake.core.rule.OperationRule;
+import com.docktape.swagger.brake.core.rule.OperationTraversal;
 import com.docktape.swagger.brake.core.rule.PathSkipper;
+import com.docktape.swagger.brake.core.rule.SchemaComparator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -12,46 +15,35 @@ import org.springframework.stereotype.Component;
 @Component
 @Slf4j
 @RequiredArgsConstructor
-public class ResponseTypeChangedRule implements BreakingChangeRule<ResponseTypeChangedBreakingChange> {
+public class ResponseTypeChangedRule implements OperationRule<ResponseTypeChangedBreakingChange> {
     private final PathSkipper pathSkipper;
+    private final SchemaComparator schemaComparator;
 
     @Override
     public Collection<ResponseTypeChangedBreakingChange> checkRule(Specification oldApi, Specification newApi) {
-        Set<ResponseTypeChangedBreakingChange> breakingChanges = new HashSet<>();
-        for (Path path : oldApi.getPaths()) {
-            if (pathSkipper.shouldSkip(path)) {
-                log.debug("Skipping {} as it's marked as a beta API", path);
-                continue;
-            }
-            Optional<Path> newApiPath = newApi.getPath(path);
-            if (newApiPath.isPresent()) {
-                Path newPath = newApiPath.get();
-                for (Response apiResponse : path.getResponses()) {
-                    Optional<Response> newApiResponse = newPath.getResponseByCode(apiResponse.getCode());
-                    if (newApiResponse.isPresent()) {
-                        Response newResponse = newApiResponse.get();
-                        for (Map.Entry<MediaType, Schema> entry : apiResponse.getMediaTypes().entrySet()) {
-                            MediaType mediaType = entry.getKey();
-                            Schema schema = entry.getValue();
-                            Optional<Schema> newApiSchema = newResponse.getSchemaByMediaType(mediaType);
-                            if (newApiSchema.isPresent()) {
-                                Schema newSchema = newApiSchema.get();
-                                Map<String, String> newTypes = newSchema.getTypes();
-                                for (Map.Entry<String, String> type : schema.getTypes().entrySet()) {
-                                    String attribute = type.getKey();
-                                    String typeName = type.getValue();
-                                    String newType = newTypes.get(attribute);
-                                    if (newType != null && !newType.equals(typeName)) {
-                                        breakingChanges.add(
-                                            new ResponseTypeChangedBreakingChange(path.getPath(), path.getMethod(), apiResponse.getCode(), attribute, typeName, newType));
-                                    }
-                                }
-                            }
-                        }
-                    }
-                }
+        return OperationTraversal.traverse(oldApi, newApi, pathSkipper, this);
+    }
+
+    @Override
+    public void visitResponseMediaType(Path path, Response apiResponse, MediaType mediaType, Schema schema, Schema newSchema,
+                                       Collection<ResponseTypeChangedBreakingChange> breakingChanges) {
+        for (AttributeTypeChange typeChange : schemaComparator.compare(this, schema, newSchema, this::getTypeChanges)) {
+            breakingChanges.add(new ResponseTypeChangedBreakingChange(path.getPath(), path.getMethod(), apiResponse.getCode(),
+                typeChange.getAttributeName(), typeChange.getOldType(), typeChange.getNewType()));
+        }
+    }
+
+    private List<AttributeTypeChange> getTypeChanges(Schema schema, Schema newSchema) {
+        List<AttributeTypeChange> result = new ArrayList<>();
+        Map<AttributePath, String> newTypes = newSchema.getTypes();
+        for (Map.Entry<AttributePath, String> type : schema.getTypes().entrySet()) {
+            AttributePath attribute = type.getKey();
+            String typeName = type.getValue();
+            String newType = newTypes.get(attribute);
+            if (newType != null && !newType.equals(typeName)) {
+                result.add(new AttributeTypeChange(attribute.toString(), typeName, newType));
             }
         }
-        return breakingChanges;
+        return result;
     }
 }
@@ -3,8 +3,10 @@ package com.docktape.swagger.brake.core.rule.response;
 import java.util.*;
 
 import com.docktape.swagger.brake.core.model.*;
-import com.docktape.swagger.brake.core.rule.BreakingChangeRule;
+import com.docktape.swagger.brake.core.rule.OperationRule;
+import com.docktape.swagger.brake.core.rule.OperationTraversal;
 import com.docktape.swagger.brake.core.rule.PathSkipper;
+import com.docktape.swagger.brake.core.rule.SchemaComparator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -12,43 +14,31 @@ import org.springframework.stereotype.Component;
 @Component
 @Slf4j
 @RequiredArgsConstructor
-public class ResponseTypeEnumValueDeletedRule implements BreakingChangeRule<ResponseTypeEnumValueDeletedBreakingChange> {
+public class ResponseTypeEnumValueDeletedRule implements OperationRule<ResponseTypeEnumValueDeletedBreakingChange> {
     private final PathSkipper pathSkipper;
+    private final SchemaComparator schemaComparator;
 
     @Override
     public Collection<ResponseTypeEnumValueDeletedBreakingChange> checkRule(Specification oldApi, Specification newApi) {
-        Set<ResponseTypeEnumValueDeletedBreakingChange> breakingChanges = new HashSet<>();
-        for (Path path : oldApi.getPaths()) {
-            if (pathSkipper.shouldSkip(path)) {
-                log.debug("Skipping {} as it's marked as a beta API", path);
-                continue;
-            }
-            Optional<Path> newApiPath = newApi.getPath(path);
-            if (newApiPath.isPresent()) {
-                Path newPath = newApiPath.get();
-                for (Response apiResponse : path.getResponses()) {
-                    Optional<Response> newApiResponse = newPath.getResponseByCode(apiResponse.getCode());
-                    if (newApiResponse.isPresent()) {
-                        Response newResponse = newApiResponse.get();
-                        for (Map.Entry<MediaType, Schema> entry : apiResponse.getMediaTypes().entrySet()) {
-                            MediaType mediaType = entry.getKey();
-                            Schema schema = entry.getValue();
-                            Optional<Schema> newApiSchema = newResponse.getSchemaByMediaType(mediaType);
-                            if (newApiSchema.isPresent()) {
-                                Collection<String> oldEnumValues = schema.getEnums();
-                                Collection<String> newEnumValues = newApiSchema.get().getEnums();
-                                for (String oldEnumValue : oldEnumValues) {
-                                    if (!newEnumValues.contains(oldEnumValue)) {
-                                        breakingChanges.add(
-                                            new ResponseTypeEnumValueDeletedBreakingChange(path.getPath(), path.getMethod(), oldEnumValue));
-                                    }
-                                }
-                            }
-                        }
-                    }
-                }
+        return OperationTraversal.traverse(oldApi, newApi, pathSkipper, this);
+    }
+
+    @Override
+    public void visitResponseMediaType(Path path, Response apiResponse, MediaType mediaType, Schema schema, Schema newSchema,
+                                       Collection<ResponseTypeEnumValueDeletedBreakingChange> breakingChanges) {
+        for (String oldEnumValue : schemaComparator.compare(this, schema, newSchema, this::getDeletedEnumValues)) {
+            breakingChanges.add(new ResponseTypeEnumValueDeletedBreakingChange(path.getPath(), path.getMethod(), oldEnumValue));
+        }
+    }
+
+    private List<String> getDeletedEnumValues(Schema schema, Schema newSchema) {
+        List<String> result = new ArrayList<>();
+        Collection<String> newEnumValues = newSchema.getEnums();
+        for (String oldEnumValue : schema.getEnums()) {
+            if (!newEnumValues.contains(oldEnumValue)) {
+                result.add(oldEnumValue);
             }
         }
-        return breakingChanges;
+        return result;
     }
 }
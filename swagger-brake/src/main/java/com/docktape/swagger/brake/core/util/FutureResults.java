@@ -0,0 +1,29 @@
+package com.docktape.swagger.brake.core.util;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+public abstract class FutureResults {
+    /**
+     * Waits for the result of a task, rethrowing the runtime exception or error the task failed with as it is.
+     * @param future the future of the task
+     * @param failureMessage the message of the exception wrapping a checked exception the task failed with
+     * @param <T> the type of the result
+     * @return the result of the task
+     * @throws InterruptedException if the current thread was interrupted while waiting
+     */
+    public static <T> T getResult(Future<T> future, String failureMessage) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(failureMessage, cause);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.docktape.swagger.brake.core.util;
+
+import java.util.function.Supplier;
+
+/**
+ * Log argument which is computed only when the log message is actually rendered.
+ * <br>
+ * The parameterized messages of the loggers render their arguments with {@link Object#toString()} only if the
+ * level is enabled, however the arguments themselves are evaluated on every call. Wrapping an expensive argument,
+ * e.g. the serialized form of a schema, defers its computation to the rendering, so a disabled log statement on a
+ * hot path costs a single small allocation at most:
+ * <pre>
+ * log.trace("Transforming schema {}", lazy(() -&gt; safeSwaggerSerializer.serialize(schema)));
+ * </pre>
+ * The value is computed once even if the message is rendered by multiple appenders.
+ */
+public final class LazyLogArgument {
+    private final Supplier<?> supplier;
+    private String value;
+
+    private LazyLogArgument(Supplier<?> supplier) {
+        this.supplier = supplier;
+    }
+
+    /**
+     * Creates a log argument computed by the given supplier when the message is rendered.
+     * @param supplier computes the argument, it can return null
+     * @return the lazy argument
+     * @throws IllegalArgumentException if the supplier is null
+     */
+    public static LazyLogArgument lazy(Supplier<?> supplier) {
+        if (supplier == null) {
+            throw new IllegalArgumentException("supplier cannot be null");
+        }
+        return new LazyLogArgument(supplier);
+    }
+
+    @Override
+    public String toString() {
+        if (value == null) {
+            value = String.valueOf(supplier.get());
+        }
+        return value;
+    }
+}
@@ -6,6 +6,9 @@ import org.apache.commons.lang3.StringUtils;
 
 @Data
 public class DownloadOptions {
+    public static final int DEFAULT_CONNECT_TIMEOUT = 10000;
+    public static final int DEFAULT_READ_TIMEOUT = 60000;
+
     private String repoUrl;
     private String snapshotRepoUrl;
     private String groupId;
@@ -14,8 +17,39 @@ public class DownloadOptions {
     private String password;
     private String currentArtifactVersion;
     private ArtifactPackaging artifactPackaging;
+    private String cachePath;
+    private boolean rangeRequestsEnabled;
+    private int connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+    private int readTimeout = DEFAULT_READ_TIMEOUT;
+    private String localRepositoryPath;
+    private LocalRepositoryUpdatePolicy localRepositoryUpdatePolicy = LocalRepositoryUpdatePolicy.DAILY;
 
     public boolean isAuthenticationNeeded() {
         return StringUtils.isNotBlank(username) && StringUtils.isNotBlank(password);
     }
+
+    /**
+     * Sets the timeout of establishing a connection to the repository, which also limits the time of waiting for a
+     * pooled connection.
+     * @param connectTimeout the timeout in milliseconds, 0 means no timeout.
+     * @throws IllegalArgumentException if the value is negative.
+     */
+    public void setConnectTimeout(int connectTimeout) {
+        if (connectTimeout < 0) {
+            throw new IllegalArgumentException("connectTimeout must not be negative, got: " + connectTimeout);
+        }
+        this.connectTimeout = connectTimeout;
+    }
+
+    /**
+     * Sets the maximum time of inactivity while reading the response of the repository.
+     * @param readTimeout the timeout in milliseconds, 0 means no timeout.
+     * @throws IllegalArgumentException if the value is negative.
+     */
+    public void setReadTimeout(int readTimeout) {
+        if (readTimeout < 0) {
+            throw new IllegalArgumentException("readTimeout must not be negative, got: " + readTimeout);
+        }
+        this.readTimeout = readTimeout;
+    }
 }
@@ -1,7 +1,22 @@
 package com.docktape.swagger.brake.maven;
 
 import java.io.File;
+import java.util.Optional;
+
+import com.docktape.swagger.brake.maven.jar.ResolvedApiFile;
 
 public interface LatestArtifactDownloader {
     File download(DownloadOptions options);
+
+    /**
+     * Downloads only the API file of the latest artifact instead of the whole artifact, if the downloader supports it
+     * with the given options.
+     * @param options the {@link DownloadOptions}.
+     * @param configuredApiFilename the configured name of the API file, can be null.
+     * @return the API file of the latest artifact, or empty if the whole artifact has to be downloaded with
+     *     {@link #download(DownloadOptions)}.
+     */
+    default Optional<ResolvedApiFile> downloadApiFile(DownloadOptions options, String configuredApiFilename) {
+        return Optional.empty();
+    }
 }
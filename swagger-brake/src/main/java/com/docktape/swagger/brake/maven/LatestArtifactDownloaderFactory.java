@@ -2,6 +2,7 @@ package com.docktape.swagger.brake.maven;
 
 import com.docktape.swagger.brake.runner.Options;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Component;
 
@@ -11,11 +12,15 @@ public class LatestArtifactDownloaderFactory {
     private final ApplicationContext applicationContext;
 
     /**
-     * Factory that constructs a {@link LatestArtifactDownloader} instance.
+     * Factory that constructs a {@link LatestArtifactDownloader} instance. With a local Maven repository configured,
+     * the returned instance resolves the artifact from the local repository first.
      * @param options the {@link Options} with which the {@link LatestArtifactDownloader} can be configured.
      * @return the created {@link LatestArtifactDownloader} instance.
      */
     public LatestArtifactDownloader create(Options options) {
+        if (StringUtils.isNotBlank(options.getMavenLocalRepositoryPath())) {
+            return applicationContext.getBean("localRepositoryLatestArtifactDownloader", LatestArtifactDownloader.class);
+        }
         return applicationContext.getBean("maven2LatestArtifactDownloader", LatestArtifactDownloader.class);
     }
 }
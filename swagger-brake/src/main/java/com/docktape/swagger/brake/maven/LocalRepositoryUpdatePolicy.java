@@ -0,0 +1,91 @@
+package com.docktape.swagger.brake.maven;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Locale;
+
+import lombok.EqualsAndHashCode;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Tells when a copy in the local Maven repository is stale, so the remote repository has to be checked for the latest
+ * artifact. The accepted values are the same as the update policies of Maven:
+ * <ul>
+ *     <li>always: the remote repository is checked on every resolution</li>
+ *     <li>daily: the remote repository is checked if the local copy was last updated before today</li>
+ *     <li>interval:X: the remote repository is checked if the local copy is older than X minutes</li>
+ *     <li>never: the local copy is always used, the remote repository is checked only if there's no local copy</li>
+ * </ul>
+ */
+@EqualsAndHashCode
+public final class LocalRepositoryUpdatePolicy {
+    public static final LocalRepositoryUpdatePolicy ALWAYS = new LocalRepositoryUpdatePolicy(Kind.ALWAYS, null);
+    public static final LocalRepositoryUpdatePolicy DAILY = new LocalRepositoryUpdatePolicy(Kind.DAILY, null);
+    public static final LocalRepositoryUpdatePolicy NEVER = new LocalRepositoryUpdatePolicy(Kind.NEVER, null);
+
+    private static final String INTERVAL_PREFIX = "interval:";
+
+    private final Kind kind;
+    private final Duration interval;
+
+    private LocalRepositoryUpdatePolicy(Kind kind, Duration interval) {
+        this.kind = kind;
+        this.interval = interval;
+    }
+
+    /**
+     * Parses an update policy.
+     * @param value the policy, one of always, daily, interval:X where X is in minutes, or never. Case insensitive.
+     * @return the {@link LocalRepositoryUpdatePolicy}.
+     * @throws IllegalArgumentException if the value is not a valid policy.
+     */
+    public static LocalRepositoryUpdatePolicy parse(String value) {
+        String policy = StringUtils.trimToEmpty(value).toLowerCase(Locale.ROOT);
+        return switch (policy) {
+            case "always" -> ALWAYS;
+            case "daily" -> DAILY;
+            case "never" -> NEVER;
+            default -> parseInterval(value, policy);
+        };
+    }
+
+    private static LocalRepositoryUpdatePolicy parseInterval(String value, String policy) {
+        if (policy.startsWith(INTERVAL_PREFIX)) {
+            try {
+                long minutes = Long.parseLong(policy.substring(INTERVAL_PREFIX.length()));
+                if (minutes >= 0) {
+                    return new LocalRepositoryUpdatePolicy(Kind.INTERVAL, Duration.ofMinutes(minutes));
+                }
+            } catch (NumberFormatException e) {
+                // reported below
+            }
+        }
+        throw new IllegalArgumentException("Invalid local repository update policy '" + value + "'. Accepted values are always, daily, interval:<minutes> and never.");
+    }
+
+    /**
+     * Tells whether a local copy last updated at the given time is stale.
+     * @param lastUpdated the time the local copy was last updated.
+     * @param clock the clock providing the current time and the time zone of the days.
+     * @return true if the remote repository has to be checked, false if the local copy can be used.
+     */
+    public boolean isStale(Instant lastUpdated, Clock clock) {
+        return switch (kind) {
+            case ALWAYS -> true;
+            case NEVER -> false;
+            case DAILY -> lastUpdated.isBefore(LocalDate.now(clock).atStartOfDay(clock.getZone()).toInstant());
+            case INTERVAL -> lastUpdated.isBefore(clock.instant().minus(interval));
+        };
+    }
+
+    @Override
+    public String toString() {
+        return kind == Kind.INTERVAL ? INTERVAL_PREFIX + interval.toMinutes() : kind.name().toLowerCase(Locale.ROOT);
+    }
+
+    private enum Kind {
+        ALWAYS, DAILY, INTERVAL, NEVER
+    }
+}
@@ -1,10 +1,14 @@
 package com.docktape.swagger.brake.maven;
 
+import java.util.concurrent.TimeUnit;
+
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import com.docktape.swagger.brake.maven.http.HttpClientErrorHandler;
-import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
@@ -12,9 +16,34 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 @ComponentScan
 public class MavenConfiguration {
+    private static final int MAX_CONNECTIONS = 32;
+    private static final int MAX_CONNECTIONS_PER_ROUTE = 8;
+    private static final long MAX_IDLE_TIME_SECONDS = 30;
+
+    /**
+     * Creates the HTTP client used for accessing the Maven repositories. The connections are pooled and kept alive,
+     * so the metadata, the snapshot metadata and the artifact requests to the same repository reuse the same
+     * connection. The timeouts of the requests are set by the {@link DownloadOptions}, the defaults here only apply
+     * to requests created without them. The client is closed together with the application context.
+     * @return the {@link CloseableHttpClient}.
+     */
     @Bean
-    public HttpClient httpClient() {
-        return HttpClientBuilder.create().addInterceptorLast(new HttpClientErrorHandler()).build();
+    public CloseableHttpClient httpClient() {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(MAX_CONNECTIONS);
+        connectionManager.setDefaultMaxPerRoute(MAX_CONNECTIONS_PER_ROUTE);
+        RequestConfig defaultRequestConfig = RequestConfig.custom()
+            .setConnectTimeout(DownloadOptions.DEFAULT_CONNECT_TIMEOUT)
+            .setConnectionRequestTimeout(DownloadOptions.DEFAULT_CONNECT_TIMEOUT)
+            .setSocketTimeout(DownloadOptions.DEFAULT_READ_TIMEOUT)
+            .build();
+        return HttpClientBuilder.create()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(defaultRequestConfig)
+            .evictExpiredConnections()
+            .evictIdleConnections(MAX_IDLE_TIME_SECONDS, TimeUnit.SECONDS)
+            .addInterceptorLast(new HttpClientErrorHandler())
+            .build();
     }
 
     @Bean
@@ -1,35 +1,31 @@
 package com.docktape.swagger.brake.maven.jar;
 
-import java.io.File;
-import java.io.IOException;
-import java.util.List;
+import java.util.Enumeration;
 import java.util.Optional;
 import java.util.function.Predicate;
-import java.util.jar.JarEntry;
-import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
-import org.apache.commons.collections4.EnumerationUtils;
 import org.springframework.stereotype.Component;
 
 @Component
 public class JarScanner {
     /**
-     * Scans a JAR file for a single entry based on the predicate given.
-     * @param jarFile the {@link File} object pointing to the JAR file.
-     * @param criteria the predicate that the entries will be matched against.
-     * @return An {@link Optional} {@link JarEntry} that matched the predicate given
-     * @throws IOException if an I/O error has occurred
+     * Scans an archive for a single file entry based on the predicate given. The entries are enumerated from the
+     * central directory, which is read only once when the archive is opened, and the scan stops at the first match,
+     * so even archives with tens of thousands of entries are scanned without copying them.
+     * @param archive the opened archive, e.g. a JAR file.
+     * @param criteria the predicate that the file entries will be matched against.
+     * @return An {@link Optional} {@link ZipEntry}, the first one in the central directory that matched the predicate given
      */
-    public Optional<JarEntry> find(File jarFile, Predicate<JarEntry> criteria) throws IOException {
-        Optional<JarEntry> result = Optional.empty();
-        try (JarFile jar = new JarFile(jarFile)) {
-            List<JarEntry> jarEntries = EnumerationUtils.toList(jar.entries());
-            for (JarEntry entry : jarEntries) {
-                if (criteria.test(entry)) {
-                    result = Optional.of(entry);
-                }
+    public Optional<ZipEntry> find(ZipFile archive, Predicate<ZipEntry> criteria) {
+        Enumeration<? extends ZipEntry> entries = archive.entries();
+        while (entries.hasMoreElements()) {
+            ZipEntry entry = entries.nextElement();
+            if (!entry.isDirectory() && criteria.test(entry)) {
+                return Optional.of(entry);
             }
         }
-        return result;
+        return Optional.empty();
     }
 }
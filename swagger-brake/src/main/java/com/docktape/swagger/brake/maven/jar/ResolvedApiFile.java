@@ -0,0 +1,17 @@
+package com.docktape.swagger.brake.maven.jar;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * An API file resolved from an artifact, held in memory.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ResolvedApiFile {
+    /**
+     * The URL of the API file within the artifact, e.g. jar:file:/tmp/api.jar!/swagger.yaml.
+     */
+    private final String location;
+    private final byte[] content;
+}
@@ -1,7 +1,84 @@
 package com.docktape.swagger.brake.maven.maven2;
 
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Locale;
+
 public abstract class ArtifactVersionDecider {
+    // the known qualifiers in ascending order, a release without qualifier is between snapshot and sp
+    private static final List<String> QUALIFIERS = List.of("alpha", "beta", "milestone", "rc", "snapshot", "", "sp");
+    private static final List<String> RELEASE_QUALIFIERS = List.of("ga", "final", "release");
+
     public static boolean isSnapshot(String version) {
         return version.endsWith("-SNAPSHOT");
     }
+
+    /**
+     * Compares two versions the way Maven orders them in the common cases. The versions are split into numeric and
+     * qualifier parts at dots, hyphens and the transitions between digits and letters. Numeric parts are compared by
+     * their value, a missing numeric part counts as 0. Qualifiers are ordered as alpha, beta, milestone, rc,
+     * snapshot, release (no qualifier, ga, final), sp, followed by any other qualifier alphabetically, and every qualifier is lower than a
+     * numeric part.
+     * @param version the first version
+     * @param otherVersion the second version
+     * @return a negative number, zero or a positive number if the first version is lower than, equal to or higher
+     *     than the second one
+     */
+    public static int compare(String version, String otherVersion) {
+        String[] parts = split(version);
+        String[] otherParts = split(otherVersion);
+        for (int i = 0; i < Math.max(parts.length, otherParts.length); i++) {
+            String part = i < parts.length ? parts[i] : null;
+            String otherPart = i < otherParts.length ? otherParts[i] : null;
+            int result = comparePart(part, otherPart);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    private static String[] split(String version) {
+        return version.toLowerCase(Locale.ROOT).split("[.-]|(?<=\\d)(?=\\D)|(?<=\\D)(?=\\d)");
+    }
+
+    private static int comparePart(String part, String otherPart) {
+        boolean numeric = isNumeric(part);
+        boolean otherNumeric = isNumeric(otherPart);
+        if (numeric || otherNumeric) {
+            if (numeric && otherNumeric) {
+                return toNumber(part).compareTo(toNumber(otherPart));
+            }
+            // a missing part counts as 0 against a numeric part, otherwise the numeric part is higher
+            if (part == null || otherPart == null) {
+                return toNumber(part).compareTo(toNumber(otherPart));
+            }
+            return numeric ? 1 : -1;
+        }
+        return compareQualifier(normalizeQualifier(part), normalizeQualifier(otherPart));
+    }
+
+    private static String normalizeQualifier(String qualifier) {
+        return qualifier == null || RELEASE_QUALIFIERS.contains(qualifier) ? "" : qualifier;
+    }
+
+    private static int compareQualifier(String qualifier, String otherQualifier) {
+        int index = QUALIFIERS.indexOf(qualifier);
+        int otherIndex = QUALIFIERS.indexOf(otherQualifier);
+        if (index >= 0 && otherIndex >= 0) {
+            return Integer.compare(index, otherIndex);
+        }
+        if (index >= 0 || otherIndex >= 0) {
+            return index >= 0 ? -1 : 1;
+        }
+        return qualifier.compareTo(otherQualifier);
+    }
+
+    private static boolean isNumeric(String part) {
+        return part != null && !part.isEmpty() && part.chars().allMatch(Character::isDigit);
+    }
+
+    private static BigInteger toNumber(String part) {
+        return part == null ? BigInteger.ZERO : new BigInteger(part);
+    }
 }
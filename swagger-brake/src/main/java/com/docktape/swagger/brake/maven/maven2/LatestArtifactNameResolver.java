@@ -17,7 +17,7 @@ class LatestArtifactNameResolver {
 
     String resolveSnapshot(DownloadOptions options, String latestVersion) {
         String metadataUrl = urlFactory.createLatestArtifactSnapshotMetadataUrl(options, latestVersion);
-        MavenMetadata snapshotMetadata = metadataDownloader.download(requestFactory.create(metadataUrl, options));
+        MavenMetadata snapshotMetadata = metadataDownloader.download(requestFactory.create(metadataUrl, options), options);
         MavenSnapshot snapshot = snapshotMetadata.getVersioning().getSnapshot();
         String snapshotVersion = latestVersion.replaceAll("SNAPSHOT", snapshot.getTimestamp());
         return format("%s-%s-%s", snapshotMetadata.getArtifactId(), snapshotVersion, snapshot.getBuildNumber());
@@ -15,7 +15,7 @@ class LatestArtifactVersionResolver {
 
     String resolve(DownloadOptions options) {
         String metadataUrl = urlFactory.createLatestArtifactVersionMetadataUrl(options);
-        MavenMetadata mavenMetadata = metadataDownloader.download(requestFactory.create(metadataUrl, options));
+        MavenMetadata mavenMetadata = metadataDownloader.download(requestFactory.create(metadataUrl, options), options);
         MavenVersioning versioning = mavenMetadata.getVersioning();
         String version = resolveStandardVersioning(versioning);
         if (version == null) {
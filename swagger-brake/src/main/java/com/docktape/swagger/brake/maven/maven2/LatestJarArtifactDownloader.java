@@ -1,8 +1,10 @@
 package com.docktape.swagger.brake.maven.maven2;
 
 import java.io.File;
+import java.util.Optional;
 
 import com.docktape.swagger.brake.maven.DownloadOptions;
+import com.docktape.swagger.brake.maven.jar.ResolvedApiFile;
 import lombok.RequiredArgsConstructor;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.springframework.stereotype.Component;
@@ -13,10 +15,16 @@ class LatestJarArtifactDownloader {
     private final Maven2UrlFactory urlFactory;
     private final TemporaryJarFileDownloader temporaryJarFileDownloader;
     private final RepositoryRequestFactory requestFactory;
+    private final RangeApiFileDownloader rangeApiFileDownloader;
 
     File download(DownloadOptions options, String latestFilename, String latestVersion) {
         String url = urlFactory.createLatestArtifactUrl(options, latestFilename, latestVersion);
         HttpUriRequest httpRequest = requestFactory.create(url, options);
         return temporaryJarFileDownloader.download(options, httpRequest);
     }
+
+    Optional<ResolvedApiFile> downloadApiFile(DownloadOptions options, String latestFilename, String latestVersion, String configuredApiFilename) {
+        String url = urlFactory.createLatestArtifactUrl(options, latestFilename, latestVersion);
+        return rangeApiFileDownloader.download(options, url, configuredApiFilename);
+    }
 }
@@ -0,0 +1,162 @@
+package com.docktape.swagger.brake.maven.maven2;
+
+import static java.lang.String.format;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.docktape.swagger.brake.maven.DownloadOptions;
+import com.docktape.swagger.brake.maven.model.MavenMetadata;
+import com.docktape.swagger.brake.maven.model.MavenSnapshot;
+import com.docktape.swagger.brake.maven.model.MavenVersioning;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Looks up the latest artifact in a local Maven repository, e.g. ~/.m2/repository or a read-only mirror of a remote
+ * repository. The repository is never written.
+ * <br>
+ * The latest version is taken from the most recently updated maven-metadata.xml or maven-metadata-&lt;repository&gt;.xml
+ * of the artifact. The metadata of locally installed builds, maven-metadata-local.xml, is ignored since those are not
+ * published baselines. Snapshots are looked up by their timestamped name from the metadata of the version, and by
+ * their -SNAPSHOT name as Maven stores them in the local repository.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+class LocalRepository {
+    private static final String METADATA_FILENAME = "maven-metadata.xml";
+    private static final String METADATA_FILENAME_PREFIX = "maven-metadata-";
+    private static final String LOCAL_METADATA_FILENAME = "maven-metadata-local.xml";
+
+    private final XmlMapper xmlMapper;
+
+    /**
+     * Finds the latest artifact in the local repository of the options.
+     * @param options the {@link DownloadOptions}, the local repository path must be set.
+     * @return the latest artifact, or empty if it's not in the local repository.
+     */
+    Optional<LocalArtifact> find(DownloadOptions options) {
+        Path artifactDirectory = Paths.get(options.getLocalRepositoryPath())
+            .resolve(options.getGroupId().replace('.', File.separatorChar))
+            .resolve(options.getArtifactId());
+        Optional<LocalMetadata> metadata = readNewestMetadata(artifactDirectory);
+        if (metadata.isEmpty()) {
+            log.debug("No maven metadata found in the local repository at {}", artifactDirectory);
+            return Optional.empty();
+        }
+        String version = resolveVersion(options, metadata.get().metadata.getVersioning());
+        if (version == null) {
+            log.debug("No version found in the local maven metadata at {}", metadata.get().path);
+            return Optional.empty();
+        }
+        Path versionDirectory = artifactDirectory.resolve(version);
+        String extension = "." + options.getArtifactPackaging().getPackaging();
+        List<Path> candidates = new ArrayList<>();
+        if (ArtifactVersionDecider.isSnapshot(version)) {
+            Optional<LocalMetadata> versionMetadata = readNewestMetadata(versionDirectory);
+            versionMetadata.flatMap(local -> getSnapshot(local.metadata)).ifPresent(snapshot -> {
+                String snapshotVersion = version.replaceAll("SNAPSHOT", snapshot.getTimestamp());
+                candidates.add(versionDirectory.resolve(format("%s-%s-%s%s", options.getArtifactId(), snapshotVersion, snapshot.getBuildNumber(), extension)));
+            });
+        }
+        candidates.add(versionDirectory.resolve(format("%s-%s%s", options.getArtifactId(), version, extension)));
+        for (Path candidate : candidates) {
+            if (Files.isRegularFile(candidate)) {
+                log.debug("Found version {} of the artifact in the local repository at {}", version, candidate);
+                return Optional.of(new LocalArtifact(candidate.toFile(), version));
+            }
+        }
+        log.debug("Version {} of the artifact is not found in the local repository at {}", version, versionDirectory);
+        return Optional.empty();
+    }
+
+    /*
+     * A release baseline is resolved for a release, the latest version might be a snapshot if the snapshot
+     * repository shares the directory of the artifact.
+     */
+    private String resolveVersion(DownloadOptions options, MavenVersioning versioning) {
+        if (versioning == null) {
+            return null;
+        }
+        String latest = versioning.getLatest();
+        String release = versioning.getRelease();
+        if (ArtifactVersionDecider.isSnapshot(options.getCurrentArtifactVersion())) {
+            return latest != null ? latest : release;
+        }
+        if (release != null) {
+            return release;
+        }
+        return latest != null && !ArtifactVersionDecider.isSnapshot(latest) ? latest : null;
+    }
+
+    private Optional<MavenSnapshot> getSnapshot(MavenMetadata metadata) {
+        MavenVersioning versioning = metadata.getVersioning();
+        if (versioning == null || versioning.getSnapshot() == null || versioning.getSnapshot().getTimestamp() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(versioning.getSnapshot());
+    }
+
+    private Optional<LocalMetadata> readNewestMetadata(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return Optional.empty();
+        }
+        LocalMetadata result = null;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, this::isMetadataFile)) {
+            for (Path file : files) {
+                Optional<LocalMetadata> metadata = readMetadata(file);
+                if (metadata.isPresent() && (result == null || metadata.get().lastUpdated.isAfter(result.lastUpdated))) {
+                    result = metadata.get();
+                }
+            }
+        } catch (IOException e) {
+            log.debug("Cannot list the local repository directory {}", directory, e);
+        }
+        return Optional.ofNullable(result);
+    }
+
+    private boolean isMetadataFile(Path file) {
+        String filename = file.getFileName().toString();
+        return METADATA_FILENAME.equals(filename)
+            || (filename.startsWith(METADATA_FILENAME_PREFIX) && filename.endsWith(".xml") && !LOCAL_METADATA_FILENAME.equals(filename));
+    }
+
+    private Optional<LocalMetadata> readMetadata(Path file) {
+        try {
+            Instant lastUpdated = Files.getLastModifiedTime(file).toInstant();
+            return Optional.of(new LocalMetadata(file, xmlMapper.readValue(file.toFile(), MavenMetadata.class), lastUpdated));
+        } catch (IOException e) {
+            log.debug("Cannot read the local maven metadata {}, ignoring it", file, e);
+            return Optional.empty();
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class LocalMetadata {
+        private final Path path;
+        private final MavenMetadata metadata;
+        private final Instant lastUpdated;
+    }
+
+    /**
+     * An artifact found in the local repository.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    static final class LocalArtifact {
+        private final File file;
+        private final String version;
+    }
+}
@@ -0,0 +1,160 @@
+package com.docktape.swagger.brake.maven.maven2;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.util.Optional;
+import java.util.function.Function;
+
+import com.docktape.swagger.brake.maven.DownloadOptions;
+import com.docktape.swagger.brake.maven.LatestArtifactDownloader;
+import com.docktape.swagger.brake.maven.LocalRepositoryUpdatePolicy;
+import com.docktape.swagger.brake.maven.jar.ApiFileJarResolver;
+import com.docktape.swagger.brake.maven.jar.ApiFileResolverParameter;
+import com.docktape.swagger.brake.maven.jar.ResolvedApiFile;
+import com.docktape.swagger.brake.maven.maven2.LocalRepository.LocalArtifact;
+import com.docktape.swagger.brake.maven.maven2.Maven2LatestArtifactDownloader.LatestArtifact;
+import com.docktape.swagger.brake.maven.maven2.RepositoryCache.RemoteCheck;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the latest artifact from the local Maven repository first, and from the remote repository only if the
+ * artifact is missing from the local repository or the local copy is stale under the configured update policy.
+ * <br>
+ * If the remote repository cannot be reached, a stale local copy is used, and without any remote repository
+ * configured the local repository is the only source, so the resolution works in offline builds as well.
+ * <br>
+ * The local repository is never written, hence the last successful remote check is kept in the artifact cache
+ * directory, or in a swagger-brake directory of the temporary directory if there's no cache directory configured.
+ * The check records the latest version of the remote repository and the artifact downloaded for it. While the check
+ * is fresh, the local copy is used only if its version is at least the recorded one, otherwise the recorded artifact
+ * is used. Without a fresh check the remote repository is checked, unless the policy is never, and the artifact is
+ * only downloaded if the remote repository has a newer version than the local copy.
+ */
+@Component("localRepositoryLatestArtifactDownloader")
+@RequiredArgsConstructor
+@Slf4j
+class LocalRepositoryLatestArtifactDownloader implements LatestArtifactDownloader {
+    private static final String DEFAULT_CHECK_DIRECTORY = Paths.get(System.getProperty("java.io.tmpdir"), "swagger-brake").toString();
+
+    private final LocalRepository localRepository;
+    private final Maven2LatestArtifactDownloader remoteDownloader;
+    private final ApiFileJarResolver apiFileJarResolver;
+    private final RepositoryCache repositoryCache;
+    private final Clock clock = Clock.systemDefaultZone();
+
+    @Override
+    public File download(DownloadOptions options) {
+        return resolve(options, Function.identity(), latestArtifact -> {
+            File artifact = remoteDownloader.download(options, latestArtifact);
+            return new RemoteArtifact<>(artifact, artifact);
+        });
+    }
+
+    /*
+     * The API file of a local artifact is read straight from the local repository, hence it's always resolved here
+     * instead of downloading the artifact with download(DownloadOptions).
+     */
+    @Override
+    public Optional<ResolvedApiFile> downloadApiFile(DownloadOptions options, String configuredApiFilename) {
+        Function<File, ResolvedApiFile> apiFileResolver = apiJar -> apiFileJarResolver.resolve(new ApiFileResolverParameter(apiJar, configuredApiFilename));
+        return Optional.of(resolve(options, apiFileResolver, latestArtifact -> remoteDownloader.downloadApiFile(options, latestArtifact, configuredApiFilename)
+            .map(apiFile -> new RemoteArtifact<>(apiFile, null))
+            .orElseGet(() -> {
+                File artifact = remoteDownloader.download(options, latestArtifact);
+                return new RemoteArtifact<>(apiFileResolver.apply(artifact), artifact);
+            })));
+    }
+
+    private <T> T resolve(DownloadOptions options, Function<File, T> fileResolver, Function<LatestArtifact, RemoteArtifact<T>> remoteResolver) {
+        Optional<LocalArtifact> localArtifact = localRepository.find(options);
+        boolean remoteConfigured = StringUtils.isNotBlank(options.getRepoUrl()) || StringUtils.isNotBlank(options.getSnapshotRepoUrl());
+        if (localArtifact.isPresent() && (!remoteConfigured || LocalRepositoryUpdatePolicy.NEVER.equals(options.getLocalRepositoryUpdatePolicy()))) {
+            log.info("Using version {} of the artifact from the local repository", localArtifact.get().getVersion());
+            return fileResolver.apply(localArtifact.get().getFile());
+        }
+        if (!remoteConfigured) {
+            throw new IllegalStateException("The artifact is not present in the local repository and no remote repository is configured");
+        }
+        Optional<RemoteCheck> lastCheck = loadFreshCheck(options);
+        if (lastCheck.isPresent()) {
+            RemoteCheck check = lastCheck.get();
+            Optional<File> checkedArtifact = Optional.ofNullable(check.getArtifact()).filter(File::isFile);
+            if (localArtifact.isPresent() && isUpToDate(localArtifact.get(), check.getVersion(), checkedArtifact.isEmpty())) {
+                log.info("Using version {} of the artifact from the local repository", localArtifact.get().getVersion());
+                return fileResolver.apply(localArtifact.get().getFile());
+            }
+            if (checkedArtifact.isPresent()) {
+                log.info("Using version {} of the artifact downloaded by the last remote check", check.getVersion());
+                return fileResolver.apply(checkedArtifact.get());
+            }
+            log.debug("Version {} found by the last remote check is newer than the local repository and it's not downloaded", check.getVersion());
+        } else {
+            localArtifact.ifPresent(artifact -> log.debug("Version {} in the local repository is stale under update policy {}",
+                artifact.getVersion(), options.getLocalRepositoryUpdatePolicy()));
+        }
+        try {
+            LatestArtifact latestArtifact = remoteDownloader.resolveLatest(options);
+            if (localArtifact.isPresent() && isUpToDate(localArtifact.get(), latestArtifact.getVersion(), false)) {
+                storeCheck(options, latestArtifact.getVersion(), null);
+                log.info("Using version {} of the artifact from the local repository, the remote repository has no newer version", localArtifact.get().getVersion());
+                return fileResolver.apply(localArtifact.get().getFile());
+            }
+            RemoteArtifact<T> result = remoteResolver.apply(latestArtifact);
+            storeCheck(options, latestArtifact.getVersion(), result.artifact);
+            return result.result;
+        } catch (RuntimeException e) {
+            if (localArtifact.isEmpty() || ExceptionUtils.indexOfType(e, IOException.class) < 0) {
+                throw e;
+            }
+            log.warn("Cannot reach the remote repository, using version {} of the artifact from the local repository: {}",
+                localArtifact.get().getVersion(), e.getMessage());
+            return fileResolver.apply(localArtifact.get().getFile());
+        }
+    }
+
+    /*
+     * The local artifact can be used if its version is at least the latest one of the remote repository. A snapshot
+     * of the same version might be an older build, so it's only used if there's nothing better at hand.
+     */
+    private boolean isUpToDate(LocalArtifact localArtifact, String latestVersion, boolean sameSnapshotAccepted) {
+        int comparison = ArtifactVersionDecider.compare(localArtifact.getVersion(), latestVersion);
+        return comparison > 0 || (comparison == 0 && (!ArtifactVersionDecider.isSnapshot(latestVersion) || sameSnapshotAccepted));
+    }
+
+    private Optional<RemoteCheck> loadFreshCheck(DownloadOptions options) {
+        LocalRepositoryUpdatePolicy updatePolicy = options.getLocalRepositoryUpdatePolicy();
+        return repositoryCache.loadLastCheck(getCheckDirectory(options), getCheckKey(options))
+            .filter(check -> !updatePolicy.isStale(check.getCheckedAt(), clock));
+    }
+
+    private void storeCheck(DownloadOptions options, String version, File artifact) {
+        repositoryCache.storeLastCheck(getCheckDirectory(options), getCheckKey(options), new RemoteCheck(clock.instant(), version, artifact));
+    }
+
+    private String getCheckDirectory(DownloadOptions options) {
+        String cacheDirectory = options.getCachePath();
+        return StringUtils.isNotBlank(cacheDirectory) ? cacheDirectory : DEFAULT_CHECK_DIRECTORY;
+    }
+
+    /*
+     * The latest version depends on the repositories, the local repository and whether a snapshot is resolved.
+     */
+    private String getCheckKey(DownloadOptions options) {
+        return String.join("|", options.getLocalRepositoryPath(), StringUtils.defaultString(options.getRepoUrl()),
+            StringUtils.defaultString(options.getSnapshotRepoUrl()), options.getGroupId(), options.getArtifactId(),
+            String.valueOf(ArtifactVersionDecider.isSnapshot(options.getCurrentArtifactVersion())));
+    }
+
+    @RequiredArgsConstructor
+    private static final class RemoteArtifact<T> {
+        private final T result;
+        // the downloaded artifact file, null if only the API file has been downloaded
+        private final File artifact;
+    }
+}
@@ -1,9 +1,14 @@
 package com.docktape.swagger.brake.maven.maven2;
 
 import java.io.File;
+import java.util.Optional;
 
 import com.docktape.swagger.brake.maven.DownloadOptions;
 import com.docktape.swagger.brake.maven.LatestArtifactDownloader;
+import com.docktape.swagger.brake.maven.jar.ApiFileJarResolver;
+import com.docktape.swagger.brake.maven.jar.ApiFileResolverParameter;
+import com.docktape.swagger.brake.maven.jar.ResolvedApiFile;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -13,16 +18,80 @@ class Maven2LatestArtifactDownloader implements LatestArtifactDownloader {
     private final LatestArtifactVersionResolver latestArtifactVersionResolver;
     private final LatestArtifactNameResolver latestArtifactNameResolver;
     private final LatestJarArtifactDownloader latestJarArtifactDownloader;
+    private final ApiFileJarResolver apiFileJarResolver;
 
     @Override
     public File download(DownloadOptions options) {
+        return download(options, resolveLatest(options));
+    }
+
+    /**
+     * Downloads the given latest artifact.
+     * @param options the {@link DownloadOptions}
+     * @param latestArtifact the latest artifact resolved by {@link #resolveLatest(DownloadOptions)}
+     * @return the artifact file
+     */
+    File download(DownloadOptions options, LatestArtifact latestArtifact) {
+        return latestJarArtifactDownloader.download(options, latestArtifact.getFilename(), latestArtifact.getVersion());
+    }
+
+    /*
+     * Falls back to downloading the whole artifact itself when range requests are not served, so the metadata is
+     * not resolved twice.
+     */
+    @Override
+    public Optional<ResolvedApiFile> downloadApiFile(DownloadOptions options, String configuredApiFilename) {
+        if (!options.isRangeRequestsEnabled()) {
+            return Optional.empty();
+        }
+        LatestArtifact latestArtifact = resolveLatest(options);
+        Optional<ResolvedApiFile> apiFile = downloadApiFile(options, latestArtifact, configuredApiFilename);
+        if (apiFile.isPresent()) {
+            return apiFile;
+        }
+        File apiJar = download(options, latestArtifact);
+        return Optional.of(apiFileJarResolver.resolve(new ApiFileResolverParameter(apiJar, configuredApiFilename)));
+    }
+
+    /**
+     * Downloads only the API file of the given latest artifact with range requests.
+     * @param options the {@link DownloadOptions}
+     * @param latestArtifact the latest artifact resolved by {@link #resolveLatest(DownloadOptions)}
+     * @param configuredApiFilename the configured name of the API file, can be null
+     * @return the API file, or empty if range requests are disabled or not served.
+     */
+    Optional<ResolvedApiFile> downloadApiFile(DownloadOptions options, LatestArtifact latestArtifact, String configuredApiFilename) {
+        if (!options.isRangeRequestsEnabled()) {
+            return Optional.empty();
+        }
+        return latestJarArtifactDownloader.downloadApiFile(options, latestArtifact.getFilename(), latestArtifact.getVersion(), configuredApiFilename);
+    }
+
+    /**
+     * Resolves the latest version of the artifact and the name of its file from the remote repository.
+     * @param options the {@link DownloadOptions}
+     * @return the {@link LatestArtifact}
+     */
+    LatestArtifact resolveLatest(DownloadOptions options) {
         String latestVersion = latestArtifactVersionResolver.resolve(options);
-        String latestFilename;
+        return new LatestArtifact(latestVersion, resolveLatestFilename(options, latestVersion));
+    }
+
+    private String resolveLatestFilename(DownloadOptions options, String latestVersion) {
         if (ArtifactVersionDecider.isSnapshot(latestVersion)) {
-            latestFilename = latestArtifactNameResolver.resolveSnapshot(options, latestVersion);
+            return latestArtifactNameResolver.resolveSnapshot(options, latestVersion);
         } else {
-            latestFilename = latestArtifactNameResolver.resolveRelease(options, latestVersion);
+            return latestArtifactNameResolver.resolveRelease(options, latestVersion);
         }
-        return latestJarArtifactDownloader.download(options, latestFilename, latestVersion);
+    }
+
+    /**
+     * The latest version of an artifact in the remote repository together with the name of its file.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    static final class LatestArtifact {
+        private final String version;
+        private final String filename;
     }
 }
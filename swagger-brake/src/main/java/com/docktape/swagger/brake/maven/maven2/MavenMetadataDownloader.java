@@ -1,15 +1,24 @@
 package com.docktape.swagger.brake.maven.maven2;
 
 import java.io.IOException;
-import java.io.InputStream;
+import java.util.Optional;
 
+import com.docktape.swagger.brake.core.metrics.MetricsRecorder;
+import com.docktape.swagger.brake.maven.DownloadOptions;
+import com.docktape.swagger.brake.maven.maven2.RepositoryCache.CachedMetadata;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import com.docktape.swagger.brake.maven.model.MavenMetadata;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
 import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.utils.HttpClientUtils;
+import org.apache.http.util.EntityUtils;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -18,20 +27,60 @@ import org.springframework.stereotype.Component;
 class MavenMetadataDownloader {
     private final HttpClient httpClient;
     private final XmlMapper xmlMapper;
+    private final RepositoryCache repositoryCache;
+    private final MetricsRecorder metricsRecorder;
 
-    MavenMetadata download(HttpUriRequest httpRequest) {
+    /*
+     * With a cache directory configured, the cached metadata is revalidated with a conditional request and reused
+     * if the repository responds with 304 Not Modified.
+     */
+    MavenMetadata download(HttpUriRequest httpRequest, DownloadOptions options) {
         try {
             log.debug("Downloading maven metadata from {}", httpRequest.getURI());
+            String cacheDirectory = options.getCachePath();
+            String url = httpRequest.getURI().toString();
+            Optional<CachedMetadata> cachedMetadata = StringUtils.isBlank(cacheDirectory) ? Optional.empty() : repositoryCache.loadMetadata(cacheDirectory, url);
+            cachedMetadata.ifPresent(cached -> addValidators(httpRequest, cached));
+            RepositoryDownloadEvent event = new RepositoryDownloadEvent();
+            event.begin();
             HttpResponse response = httpClient.execute(httpRequest);
-            // TODO: content type check would be great here
-            return getMetadata(response);
+            byte[] content;
+            try {
+                int statusCode = response.getStatusLine().getStatusCode();
+                if (statusCode == HttpStatus.SC_NOT_MODIFIED && cachedMetadata.isPresent()) {
+                    log.debug("Maven metadata at {} is not modified, using the cached one", url);
+                    content = cachedMetadata.get().getContent();
+                    metricsRecorder.recordCache("repository-cache", 1, 0);
+                } else {
+                    // TODO: content type check would be great here
+                    content = EntityUtils.toByteArray(response.getEntity());
+                    if (statusCode == HttpStatus.SC_OK && StringUtils.isNotBlank(cacheDirectory)) {
+                        repositoryCache.storeMetadata(cacheDirectory, url, new CachedMetadata(getHeader(response, HttpHeaders.ETAG),
+                            getHeader(response, HttpHeaders.LAST_MODIFIED), content));
+                        metricsRecorder.recordCache("repository-cache", 0, 1);
+                    }
+                }
+                event.complete(RepositoryDownloadEvent.METADATA, httpRequest, response, content.length);
+            } finally {
+                HttpClientUtils.closeQuietly(response);
+            }
+            return xmlMapper.readValue(content, MavenMetadata.class);
         } catch (IOException e) {
             throw new RuntimeException("Cannot get metadata", e);
         }
     }
 
-    private MavenMetadata getMetadata(HttpResponse response) throws IOException {
-        InputStream content = response.getEntity().getContent();
-        return xmlMapper.readValue(content, MavenMetadata.class);
+    private void addValidators(HttpUriRequest httpRequest, CachedMetadata cachedMetadata) {
+        if (cachedMetadata.getEtag() != null) {
+            httpRequest.setHeader(HttpHeaders.IF_NONE_MATCH, cachedMetadata.getEtag());
+        }
+        if (cachedMetadata.getLastModified() != null) {
+            httpRequest.setHeader(HttpHeaders.IF_MODIFIED_SINCE, cachedMetadata.getLastModified());
+        }
+    }
+
+    private String getHeader(HttpResponse response, String name) {
+        Header header = response.getFirstHeader(name);
+        return header == null ? null : header.getValue();
     }
 }
@@ -0,0 +1,312 @@
+package com.docktape.swagger.brake.maven.maven2;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+
+import com.docktape.swagger.brake.maven.DownloadOptions;
+import com.docktape.swagger.brake.maven.jar.ResolvedApiFile;
+import com.docktape.swagger.brake.maven.jar.filename.ApiFileNameChecker;
+import com.docktape.swagger.brake.maven.jar.filename.ApiFilenameCheckerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.utils.HttpClientUtils;
+import org.apache.http.util.EntityUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Downloads only the API file of a remote artifact with HTTP Range requests.
+ * <br>
+ * The tail of the archive is fetched first to locate the end of central directory record, then the central directory
+ * is scanned for the API file the same way as {@link com.docktape.swagger.brake.maven.jar.ApiFileJarResolver} does,
+ * and finally only the compressed bytes of the API file are fetched and inflated. That's a few requests of some
+ * kilobytes instead of downloading a fat jar of hundreds of megabytes.
+ * <br>
+ * Empty result means the API file cannot be downloaded on its own and the whole artifact has to be downloaded, e.g.
+ * the server ignores the Range header, a range request fails, the archive is a ZIP64 or a malformed one, or the
+ * artifact is already cached on disk.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+class RangeApiFileDownloader {
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int CENTRAL_DIRECTORY_HEADER_SIGNATURE = 0x02014b50;
+    private static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+    private static final int CENTRAL_DIRECTORY_HEADER_SIZE = 46;
+    private static final int LOCAL_FILE_HEADER_SIZE = 30;
+    private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+    private static final int ZIP64_MAGIC_COUNT = 0xFFFF;
+    private static final long ZIP64_MAGIC_VALUE = 0xFFFFFFFFL;
+    private static final Pattern CONTENT_RANGE = Pattern.compile("bytes (\\d+)-(\\d+)/(\\d+|\\*)");
+
+    private final HttpClient httpClient;
+    private final RepositoryRequestFactory requestFactory;
+    private final RepositoryCache repositoryCache;
+    private final ApiFilenameCheckerFactory apiFilenameCheckerFactory;
+
+    Optional<ResolvedApiFile> download(DownloadOptions options, String url, String configuredApiFilename) {
+        String cacheDirectory = options.getCachePath();
+        if (StringUtils.isNotBlank(cacheDirectory)
+            && repositoryCache.loadArtifact(cacheDirectory, url, options.getArtifactPackaging().getPackaging()).isPresent()) {
+            log.debug("Artifact {} is cached, skipping range requests", url);
+            return Optional.empty();
+        }
+        try {
+            log.debug("Downloading the API file from {} with range requests", url);
+            Optional<Chunk> tail = fetch(options, url, "bytes=-" + (END_OF_CENTRAL_DIRECTORY_SIZE + MAX_COMMENT_LENGTH));
+            Optional<ResolvedApiFile> result = Optional.empty();
+            if (tail.isPresent()) {
+                result = download(options, url, tail.get(), apiFilenameCheckerFactory.create(configuredApiFilename));
+            }
+            if (result.isEmpty()) {
+                log.info("The repository doesn't support range requests for {}, downloading the whole artifact", url);
+            }
+            return result;
+        } catch (IOException e) {
+            // covers malformed archives as well as failed range requests, the whole artifact download reports the
+            // error if the repository cannot be reached at all
+            log.info("Cannot download the API file from {} with range requests, downloading the whole artifact: {}", url, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Optional<ResolvedApiFile> download(DownloadOptions options, String url, Chunk tail, ApiFileNameChecker apiFileNameChecker) throws IOException {
+        ByteBuffer tailBuffer = tail.buffer();
+        int endOfCentralDirectory = findEndOfCentralDirectory(tailBuffer);
+        int totalEntries = Short.toUnsignedInt(tailBuffer.getShort(endOfCentralDirectory + 10));
+        long centralDirectorySize = Integer.toUnsignedLong(tailBuffer.getInt(endOfCentralDirectory + 12));
+        long centralDirectoryOffset = Integer.toUnsignedLong(tailBuffer.getInt(endOfCentralDirectory + 16));
+        if (totalEntries == ZIP64_MAGIC_COUNT || centralDirectorySize == ZIP64_MAGIC_VALUE || centralDirectoryOffset == ZIP64_MAGIC_VALUE) {
+            throw new ZipException("ZIP64 archives are not supported");
+        }
+        // offsets are relative to the start of the archive, which differs from the start of the file if data is
+        // prepended to it, e.g. the launch script of a fully executable Spring Boot jar
+        long archiveStart = tail.start + endOfCentralDirectory - centralDirectorySize - centralDirectoryOffset;
+        if (archiveStart < 0) {
+            throw new ZipException("Invalid central directory offset");
+        }
+        long centralDirectoryStart = archiveStart + centralDirectoryOffset;
+        ByteBuffer centralDirectory;
+        if (centralDirectoryStart >= tail.start) {
+            long from = centralDirectoryStart - tail.start;
+            if (from + centralDirectorySize > tail.content.length) {
+                throw new ZipException("Invalid central directory size");
+            }
+            centralDirectory = ByteBuffer.wrap(tail.content, (int) from, (int) centralDirectorySize).slice().order(ByteOrder.LITTLE_ENDIAN);
+        } else {
+            Optional<Chunk> chunk = fetchExactly(options, url, centralDirectoryStart, centralDirectorySize);
+            if (chunk.isEmpty()) {
+                return Optional.empty();
+            }
+            centralDirectory = chunk.get().buffer();
+        }
+        Optional<CentralDirectoryEntry> entry = findEntry(centralDirectory, apiFileNameChecker);
+        if (entry.isEmpty()) {
+            throw new IllegalStateException("Swagger file is not present in the artifact");
+        }
+        log.debug("Found swagger file {} in the central directory", entry.get().name);
+        Optional<byte[]> compressed = fetchCompressedContent(options, url, archiveStart, entry.get());
+        if (compressed.isEmpty()) {
+            return Optional.empty();
+        }
+        byte[] content = decompress(entry.get(), compressed.get());
+        log.debug("Downloaded swagger file {} of {} bytes", entry.get().name, content.length);
+        return Optional.of(new ResolvedApiFile("jar:" + url + "!/" + entry.get().name, content));
+    }
+
+    /*
+     * The record is at the very end of the archive unless the archive has a comment, hence it's searched backwards.
+     */
+    private int findEndOfCentralDirectory(ByteBuffer tail) throws ZipException {
+        for (int position = tail.limit() - END_OF_CENTRAL_DIRECTORY_SIZE; position >= 0; position--) {
+            if (tail.getInt(position) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                int commentLength = Short.toUnsignedInt(tail.getShort(position + 20));
+                if (position + END_OF_CENTRAL_DIRECTORY_SIZE + commentLength <= tail.limit()) {
+                    return position;
+                }
+            }
+        }
+        throw new ZipException("End of central directory record is not found");
+    }
+
+    private Optional<CentralDirectoryEntry> findEntry(ByteBuffer centralDirectory, ApiFileNameChecker apiFileNameChecker) throws ZipException {
+        int position = 0;
+        while (position + CENTRAL_DIRECTORY_HEADER_SIZE <= centralDirectory.limit()) {
+            if (centralDirectory.getInt(position) != CENTRAL_DIRECTORY_HEADER_SIGNATURE) {
+                throw new ZipException("Invalid central directory header");
+            }
+            int nameLength = Short.toUnsignedInt(centralDirectory.getShort(position + 28));
+            int extraLength = Short.toUnsignedInt(centralDirectory.getShort(position + 30));
+            int commentLength = Short.toUnsignedInt(centralDirectory.getShort(position + 32));
+            if (position + CENTRAL_DIRECTORY_HEADER_SIZE + nameLength > centralDirectory.limit()) {
+                throw new ZipException("Truncated central directory");
+            }
+            byte[] nameBytes = new byte[nameLength];
+            centralDirectory.get(position + CENTRAL_DIRECTORY_HEADER_SIZE, nameBytes);
+            String name = new String(nameBytes, StandardCharsets.UTF_8);
+            if (!name.endsWith("/") && apiFileNameChecker.isApiFile(name)) {
+                CentralDirectoryEntry entry = new CentralDirectoryEntry(
+                    name,
+                    Short.toUnsignedInt(centralDirectory.getShort(position + 10)),
+                    Integer.toUnsignedLong(centralDirectory.getInt(position + 16)),
+                    Integer.toUnsignedLong(centralDirectory.getInt(position + 20)),
+                    Integer.toUnsignedLong(centralDirectory.getInt(position + 24)),
+                    extraLength,
+                    Integer.toUnsignedLong(centralDirectory.getInt(position + 42)));
+                if (entry.compressedSize == ZIP64_MAGIC_VALUE || entry.size == ZIP64_MAGIC_VALUE || entry.localHeaderOffset == ZIP64_MAGIC_VALUE) {
+                    throw new ZipException("ZIP64 entries are not supported");
+                }
+                return Optional.of(entry);
+            }
+            position += CENTRAL_DIRECTORY_HEADER_SIZE + nameLength + extraLength + commentLength;
+        }
+        return Optional.empty();
+    }
+
+    /*
+     * The extra field of the local header may differ from the one in the central directory. The local header is
+     * fetched together with the content assuming they are the same, and the content is fetched again only if not.
+     */
+    private Optional<byte[]> fetchCompressedContent(DownloadOptions options, String url, long archiveStart, CentralDirectoryEntry entry)
+        throws IOException {
+        long localHeaderStart = archiveStart + entry.localHeaderOffset;
+        int nameLength = entry.name.getBytes(StandardCharsets.UTF_8).length;
+        long expectedLength = LOCAL_FILE_HEADER_SIZE + nameLength + entry.extraLength + entry.compressedSize;
+        Optional<Chunk> chunk = fetchExactly(options, url, localHeaderStart, expectedLength);
+        if (chunk.isEmpty()) {
+            return Optional.empty();
+        }
+        ByteBuffer localHeader = chunk.get().buffer();
+        if (localHeader.getInt(0) != LOCAL_FILE_HEADER_SIGNATURE) {
+            throw new ZipException("Invalid local file header");
+        }
+        int dataOffset = LOCAL_FILE_HEADER_SIZE + Short.toUnsignedInt(localHeader.getShort(26)) + Short.toUnsignedInt(localHeader.getShort(28));
+        if (dataOffset + entry.compressedSize <= chunk.get().content.length) {
+            return Optional.of(Arrays.copyOfRange(chunk.get().content, dataOffset, (int) (dataOffset + entry.compressedSize)));
+        }
+        return fetchExactly(options, url, localHeaderStart + dataOffset, entry.compressedSize).map(data -> data.content);
+    }
+
+    private byte[] decompress(CentralDirectoryEntry entry, byte[] compressed) throws ZipException {
+        if (entry.size > Integer.MAX_VALUE - 8) {
+            throw new ZipException("Entry is too large");
+        }
+        byte[] content;
+        if (entry.method == ZipEntry.STORED) {
+            content = compressed;
+        } else if (entry.method == ZipEntry.DEFLATED) {
+            content = inflate(compressed, (int) entry.size);
+        } else {
+            throw new ZipException("Unsupported compression method " + entry.method);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        if (content.length != entry.size || crc.getValue() != entry.crc) {
+            throw new ZipException("Corrupt entry " + entry.name);
+        }
+        return content;
+    }
+
+    private byte[] inflate(byte[] compressed, int size) throws ZipException {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(compressed);
+            byte[] result = new byte[size];
+            int length = 0;
+            while (!inflater.finished() && length < size) {
+                int inflated = inflater.inflate(result, length, size - length);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new ZipException("Truncated entry");
+                }
+                length += inflated;
+            }
+            return result;
+        } catch (DataFormatException e) {
+            throw new ZipException(e.getMessage());
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private Optional<Chunk> fetchExactly(DownloadOptions options, String url, long start, long length) throws IOException {
+        if (length <= 0) {
+            return Optional.of(new Chunk(start, new byte[0]));
+        }
+        Optional<Chunk> chunk = fetch(options, url, "bytes=" + start + "-" + (start + length - 1));
+        if (chunk.isPresent() && (chunk.get().start != start || chunk.get().content.length != length)) {
+            throw new ZipException("Unexpected range returned");
+        }
+        return chunk;
+    }
+
+    /*
+     * Anything but a partial content response means the range is not served, the request is aborted then instead of
+     * reading a possibly huge body.
+     */
+    private Optional<Chunk> fetch(DownloadOptions options, String url, String range) throws IOException {
+        HttpUriRequest httpRequest = requestFactory.create(url, options);
+        httpRequest.setHeader(HttpHeaders.RANGE, range);
+        RepositoryDownloadEvent event = new RepositoryDownloadEvent();
+        event.begin();
+        HttpResponse response = httpClient.execute(httpRequest);
+        Header contentRange = response.getFirstHeader(HttpHeaders.CONTENT_RANGE);
+        Matcher matcher = contentRange == null ? null : CONTENT_RANGE.matcher(contentRange.getValue());
+        if (response.getStatusLine().getStatusCode() != HttpStatus.SC_PARTIAL_CONTENT || matcher == null || !matcher.matches()) {
+            log.debug("Range {} of {} is not served, status code {}", range, url, response.getStatusLine().getStatusCode());
+            httpRequest.abort();
+            event.complete(RepositoryDownloadEvent.ARTIFACT_RANGE, httpRequest, response, 0);
+            return Optional.empty();
+        }
+        try {
+            byte[] content = EntityUtils.toByteArray(response.getEntity());
+            event.complete(RepositoryDownloadEvent.ARTIFACT_RANGE, httpRequest, response, content.length);
+            return Optional.of(new Chunk(Long.parseLong(matcher.group(1)), content));
+        } finally {
+            HttpClientUtils.closeQuietly(response);
+        }
+    }
+
+    private static final class Chunk {
+        private final long start;
+        private final byte[] content;
+
+        Chunk(long start, byte[] content) {
+            this.start = start;
+            this.content = content;
+        }
+
+        ByteBuffer buffer() {
+            return ByteBuffer.wrap(content).order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class CentralDirectoryEntry {
+        private final String name;
+        private final int method;
+        private final long crc;
+        private final long compressedSize;
+        private final long size;
+        private final int extraLength;
+        private final long localHeaderOffset;
+    }
+}
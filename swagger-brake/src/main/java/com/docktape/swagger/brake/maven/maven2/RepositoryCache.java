@@ -0,0 +1,247 @@
+package com.docktape.swagger.brake.maven.maven2;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Persistent on-disk cache of the files downloaded from Maven repositories.
+ * <br>
+ * The entries are keyed by the SHA-256 hash of their URL, which consists of the repository URL and the path of the
+ * group, artifact and version, so multiple repositories can share the same cache directory. Metadata is stored
+ * together with its {@code ETag} and {@code Last-Modified} validators and is revalidated with a conditional request
+ * on every use. Artifact files are never revalidated: released artifacts and timestamped snapshot artifacts never
+ * change once deployed. The last check of the remote repository for an artifact, with the version found and the
+ * downloaded artifact, is stored as well, so the local Maven repository can be used without writing it. Entries are
+ * written atomically, hence multiple runs can share the same cache directory. Any problem while reading or writing an entry is logged and treated as a cache miss.
+ */
+@Component
+@Slf4j
+class RepositoryCache {
+    private static final String METADATA_DIRECTORY = "metadata";
+    private static final String ARTIFACT_DIRECTORY = "artifacts";
+    private static final String CHECK_DIRECTORY = "checks";
+
+    /**
+     * Loads cached metadata.
+     * @param cacheDirectory the cache directory
+     * @param url the URL of the metadata
+     * @return the cached metadata with its validators, or empty if there's no usable entry for the URL.
+     */
+    Optional<CachedMetadata> loadMetadata(String cacheDirectory, String url) {
+        Path entry = getEntry(cacheDirectory, METADATA_DIRECTORY, url, ".xml");
+        if (!Files.isRegularFile(entry)) {
+            log.debug("No cached metadata found for {}", url);
+            return Optional.empty();
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(entry)))) {
+            String etag = StringUtils.trimToNull(in.readUTF());
+            String lastModified = StringUtils.trimToNull(in.readUTF());
+            byte[] content = in.readAllBytes();
+            return Optional.of(new CachedMetadata(etag, lastModified, content));
+        } catch (IOException e) {
+            log.warn("Cannot read cached metadata {}, ignoring it", entry, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores metadata in the cache. Metadata without validators is not stored, as it couldn't be revalidated.
+     * @param cacheDirectory the cache directory, created if doesn't exist
+     * @param url the URL of the metadata
+     * @param metadata the metadata with its validators
+     */
+    void storeMetadata(String cacheDirectory, String url, CachedMetadata metadata) {
+        if (!metadata.hasValidators()) {
+            log.debug("Metadata of {} has no validators, it won't be cached", url);
+            return;
+        }
+        Path entry = getEntry(cacheDirectory, METADATA_DIRECTORY, url, ".xml");
+        write(entry, out -> {
+            DataOutputStream dataOut = new DataOutputStream(out);
+            dataOut.writeUTF(StringUtils.defaultString(metadata.getEtag()));
+            dataOut.writeUTF(StringUtils.defaultString(metadata.getLastModified()));
+            dataOut.write(metadata.getContent());
+            dataOut.flush();
+        });
+    }
+
+    /**
+     * Returns a cached artifact file.
+     * @param cacheDirectory the cache directory
+     * @param url the URL of the artifact
+     * @param extension the extension of the artifact file, e.g. jar
+     * @return the cached file, or empty if the artifact is not cached.
+     */
+    Optional<File> loadArtifact(String cacheDirectory, String url, String extension) {
+        Path entry = getEntry(cacheDirectory, ARTIFACT_DIRECTORY, url, "." + extension);
+        if (!Files.isRegularFile(entry)) {
+            log.debug("No cached artifact found for {}", url);
+            return Optional.empty();
+        }
+        return Optional.of(entry.toFile());
+    }
+
+    /**
+     * Moves a downloaded artifact file into the cache.
+     * @param cacheDirectory the cache directory, created if doesn't exist
+     * @param url the URL of the artifact
+     * @param extension the extension of the artifact file, e.g. jar
+     * @param file the downloaded artifact, it's deleted if the artifact has been stored
+     * @return the cached file, or empty if the artifact couldn't be stored and the downloaded file is kept.
+     */
+    Optional<File> storeArtifact(String cacheDirectory, String url, String extension, File file) {
+        Path entry = getEntry(cacheDirectory, ARTIFACT_DIRECTORY, url, "." + extension);
+        if (!write(entry, out -> Files.copy(file.toPath(), out))) {
+            return Optional.empty();
+        }
+        deleteQuietly(file.toPath());
+        return Optional.of(entry.toFile());
+    }
+
+    /**
+     * Loads the last check of the remote repository.
+     * @param cacheDirectory the cache directory
+     * @param key the key of the check, e.g. the repository URL and the coordinates of the artifact
+     * @return the last check, or empty if there's no usable entry for the key.
+     */
+    Optional<RemoteCheck> loadLastCheck(String cacheDirectory, String key) {
+        Path entry = getEntry(cacheDirectory, CHECK_DIRECTORY, key, ".dat");
+        if (!Files.isRegularFile(entry)) {
+            log.debug("No last check found for {}", key);
+            return Optional.empty();
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(entry)))) {
+            Instant checkedAt = Instant.parse(in.readUTF());
+            String version = in.readUTF();
+            String artifact = StringUtils.trimToNull(in.readUTF());
+            return Optional.of(new RemoteCheck(checkedAt, version, artifact != null ? new File(artifact) : null));
+        } catch (IOException | DateTimeParseException e) {
+            log.warn("Cannot read last check {}, ignoring it", entry, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the last check of the remote repository.
+     * @param cacheDirectory the cache directory, created if doesn't exist
+     * @param key the key of the check, e.g. the repository URL and the coordinates of the artifact
+     * @param check the check
+     */
+    void storeLastCheck(String cacheDirectory, String key, RemoteCheck check) {
+        Path entry = getEntry(cacheDirectory, CHECK_DIRECTORY, key, ".dat");
+        write(entry, out -> {
+            DataOutputStream dataOut = new DataOutputStream(out);
+            dataOut.writeUTF(check.getCheckedAt().toString());
+            dataOut.writeUTF(check.getVersion());
+            dataOut.writeUTF(check.getArtifact() != null ? check.getArtifact().getAbsolutePath() : "");
+            dataOut.flush();
+        });
+    }
+
+    private boolean write(Path entry, ContentWriter writer) {
+        Path directory = entry.getParent();
+        Path tempFile = null;
+        try {
+            Files.createDirectories(directory);
+            tempFile = Files.createTempFile(directory, entry.getFileName().toString(), ".tmp");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                writer.write(out);
+            }
+            move(tempFile, entry);
+            log.debug("Stored cache entry {}", entry);
+            return true;
+        } catch (IOException e) {
+            log.warn("Cannot write cache entry {}", entry, e);
+            return false;
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    private Path getEntry(String cacheDirectory, String type, String url, String extension) {
+        return Paths.get(cacheDirectory).resolve(type).resolve(sha256(url) + extension);
+    }
+
+    private void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.debug("Cannot delete temporary file {}", path, e);
+        }
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ContentWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Metadata content together with the validators of the response it was received in.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    static class CachedMetadata {
+        private final String etag;
+        private final String lastModified;
+        private final byte[] content;
+
+        boolean hasValidators() {
+            return etag != null || lastModified != null;
+        }
+    }
+
+    /**
+     * A check of the remote repository: the time of the check, the latest version found and the artifact file of
+     * that version if it has been downloaded.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    static class RemoteCheck {
+        private final Instant checkedAt;
+        private final String version;
+        private final File artifact;
+    }
+}
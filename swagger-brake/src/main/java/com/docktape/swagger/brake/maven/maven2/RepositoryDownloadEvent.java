@@ -0,0 +1,51 @@
+package com.docktape.swagger.brake.maven.maven2;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+
+/**
+ * Flight Recorder event of downloading a file from a Maven repository.
+ */
+@Name("com.docktape.swagger.brake.RepositoryDownload")
+@Label("Repository Download")
+@Category({"Swagger Brake", "Maven"})
+@Description("Downloading Maven metadata, an artifact or a part of an artifact")
+final class RepositoryDownloadEvent extends Event {
+    static final String METADATA = "metadata";
+    static final String ARTIFACT = "artifact";
+    static final String ARTIFACT_RANGE = "artifact-range";
+
+    @Label("URL")
+    String url;
+
+    @Label("Kind")
+    @Description("Either metadata, artifact or artifact-range")
+    String kind;
+
+    @Label("Status Code")
+    int statusCode;
+
+    @Label("Size")
+    @DataAmount
+    long size;
+
+    /**
+     * Ends the event and commits it if it's recorded. The attributes are only filled in when they are needed.
+     */
+    void complete(String kind, HttpUriRequest request, HttpResponse response, long size) {
+        end();
+        if (shouldCommit()) {
+            this.url = request.getURI().toString();
+            this.kind = kind;
+            this.statusCode = response.getStatusLine().getStatusCode();
+            this.size = size;
+            commit();
+        }
+    }
+}
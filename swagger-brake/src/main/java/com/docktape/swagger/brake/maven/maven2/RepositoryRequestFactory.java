@@ -3,6 +3,8 @@ package com.docktape.swagger.brake.maven.maven2;
 import com.docktape.swagger.brake.maven.DownloadOptions;
 import com.docktape.swagger.brake.maven.http.HttpRequestFactory;
 import lombok.RequiredArgsConstructor;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.springframework.stereotype.Component;
 
@@ -13,18 +15,25 @@ public class RepositoryRequestFactory {
 
     /**
      * Creates an {@link HttpUriRequest} based on the parameters given. Either a Basic authorized one or
-     * without authorization.
+     * without authorization. The timeouts of the request are taken from the options.
      * @param url the URL.
      * @param options the {@link DownloadOptions}.
      * @return the {@link HttpUriRequest}.
      */
     public HttpUriRequest create(String url, DownloadOptions options) {
         try {
+            HttpGet result;
             if (options.isAuthenticationNeeded()) {
-                return requestFactory.authenticatedGet(url, options.getUsername(), options.getPassword());
+                result = requestFactory.authenticatedGet(url, options.getUsername(), options.getPassword());
             } else {
-                return requestFactory.get(url);
+                result = requestFactory.get(url);
             }
+            result.setConfig(RequestConfig.custom()
+                .setConnectTimeout(options.getConnectTimeout())
+                .setConnectionRequestTimeout(options.getConnectTimeout())
+                .setSocketTimeout(options.getReadTimeout())
+                .build());
+            return result;
         } catch (Exception e) {
             throw new RuntimeException("Error while creating the http request", e);
         }
@@ -3,14 +3,19 @@ package com.docktape.swagger.brake.maven.maven2;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.Optional;
 
+import com.docktape.swagger.brake.core.metrics.MetricsRecorder;
 import com.docktape.swagger.brake.maven.DownloadOptions;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.utils.HttpClientUtils;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -18,15 +23,47 @@ import org.springframework.stereotype.Component;
 @Slf4j
 class TemporaryJarFileDownloader {
     private final HttpClient httpClient;
+    private final RepositoryCache repositoryCache;
+    private final MetricsRecorder metricsRecorder;
 
+    /*
+     * With a cache directory configured, the artifact is served from the cache without any request if it has been
+     * downloaded before, otherwise it's downloaded into the cache instead of a temporary file.
+     */
     File download(DownloadOptions options, HttpUriRequest httpRequest) {
+        String cacheDirectory = options.getCachePath();
+        String url = httpRequest.getURI().toString();
+        String extension = options.getArtifactPackaging().getPackaging();
+        if (StringUtils.isNotBlank(cacheDirectory)) {
+            Optional<File> cachedArtifact = repositoryCache.loadArtifact(cacheDirectory, url, extension);
+            if (cachedArtifact.isPresent()) {
+                log.debug("Using cached artifact {} for {}", cachedArtifact.get().getAbsolutePath(), url);
+                metricsRecorder.recordCache("repository-cache", 1, 0);
+                return cachedArtifact.get();
+            }
+        }
         try {
             log.debug("Downloading artifact from {}", httpRequest.getURI());
-            File destination = Files.createTempFile("swagger-brake", "." + options.getArtifactPackaging().getPackaging()).toFile();
+            RepositoryDownloadEvent event = new RepositoryDownloadEvent();
+            event.begin();
+            File destination = Files.createTempFile("swagger-brake", "." + extension).toFile();
             HttpResponse response = httpClient.execute(httpRequest);
-            FileUtils.copyInputStreamToFile(response.getEntity().getContent(), destination);
-            log.debug("Created temporary artifact file to {}", destination.getAbsolutePath());
-            return destination;
+            try {
+                FileUtils.copyInputStreamToFile(response.getEntity().getContent(), destination);
+                log.debug("Created temporary artifact file to {}", destination.getAbsolutePath());
+                if (StringUtils.isNotBlank(cacheDirectory) && response.getStatusLine().getStatusCode() == HttpStatus.SC_OK) {
+                    metricsRecorder.recordCache("repository-cache", 0, 1);
+                    Optional<File> cachedArtifact = repositoryCache.storeArtifact(cacheDirectory, url, extension, destination);
+                    if (cachedArtifact.isPresent()) {
+                        destination = cachedArtifact.get();
+                        log.debug("Moved artifact into the cache at {}", destination.getAbsolutePath());
+                    }
+                }
+                event.complete(RepositoryDownloadEvent.ARTIFACT, httpRequest, response, destination.length());
+                return destination;
+            } finally {
+                HttpClientUtils.closeQuietly(response);
+            }
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
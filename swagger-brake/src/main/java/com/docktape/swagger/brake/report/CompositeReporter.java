@@ -4,12 +4,14 @@ import com.docktape.swagger.brake.core.ApiInfo;
 import java.util.Collection;
 
 import com.docktape.swagger.brake.core.BreakingChange;
+import com.docktape.swagger.brake.core.metrics.MetricsRecorder;
 import com.docktape.swagger.brake.runner.Options;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
 class CompositeReporter implements Reporter {
     private final Collection<Reporter> delegates;
+    private final MetricsRecorder metricsRecorder;
 
     @Override
     public void report(Collection<BreakingChange> breakingChanges, Options options) {
@@ -23,6 +25,18 @@ class CompositeReporter implements Reporter {
 
     @Override
     public void report(Collection<BreakingChange> breakingChanges, Collection<BreakingChange> ignoredBreakingChanges, Options options, ApiInfo apiInfo) {
-        delegates.forEach(d -> d.report(breakingChanges, ignoredBreakingChanges, options, apiInfo));
+        delegates.forEach(d -> metricsRecorder.measure("report:" + d.getClass().getSimpleName(), () -> {
+            ReportEvent event = new ReportEvent();
+            event.begin();
+            d.report(breakingChanges, ignoredBreakingChanges, options, apiInfo);
+            event.end();
+            if (event.shouldCommit()) {
+                event.reporter = d.getClass().getSimpleName();
+                event.breakingChanges = breakingChanges.size();
+                event.ignoredBreakingChanges = ignoredBreakingChanges.size();
+                event.commit();
+            }
+            return null;
+        }));
     }
 }
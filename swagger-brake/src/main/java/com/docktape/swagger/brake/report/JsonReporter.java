@@ -5,10 +5,13 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 import com.docktape.swagger.brake.core.ApiInfo;
 import com.docktape.swagger.brake.core.BreakingChange;
+import com.docktape.swagger.brake.core.metrics.CheckMetrics;
+import com.docktape.swagger.brake.core.metrics.MetricsRecorder;
 import com.docktape.swagger.brake.report.file.DirectoryCreator;
 import com.docktape.swagger.brake.report.file.FileWriter;
 import com.docktape.swagger.brake.report.json.JsonConverter;
 import com.docktape.swagger.brake.runner.OutputFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -23,10 +26,12 @@ class JsonReporter extends AbstractFileReporter implements CheckableReporter {
     private static final String DEFAULT_FILENAME = "swagger-brake.json";
     private static final String VERSIONED_FILENAME_TEMPLATE = "swagger-brake-%s.json";
     private final JsonConverter jsonConverter;
+    private final MetricsRecorder metricsRecorder;
 
-    public JsonReporter(FileWriter fileWriter, DirectoryCreator directoryCreator, JsonConverter jsonConverter) {
+    public JsonReporter(FileWriter fileWriter, DirectoryCreator directoryCreator, JsonConverter jsonConverter, MetricsRecorder metricsRecorder) {
         super(fileWriter, directoryCreator);
         this.jsonConverter = jsonConverter;
+        this.metricsRecorder = metricsRecorder;
     }
 
     @Override
@@ -42,7 +47,9 @@ class JsonReporter extends AbstractFileReporter implements CheckableReporter {
     protected String toFileContent(Collection<BreakingChange> breakingChanges, Collection<BreakingChange> ignoredBreakingChanges, ApiInfo apiInfo) {
         Map<String, List<BreakingChange>> nameMapping = breakingChanges.stream().collect(groupingBy(BreakingChange::getRuleCode));
         Map<String, List<BreakingChange>> ignoredNameMapping = ignoredBreakingChanges.stream().collect(groupingBy(BreakingChange::getRuleCode));
-        return jsonConverter.convert(new JsonContent(apiInfo, nameMapping, ignoredNameMapping));
+        // the metrics of the reporting itself are incomplete at this point, the report contains the finished phases only
+        CheckMetrics metrics = metricsRecorder.get().orElse(null);
+        return jsonConverter.convert(new JsonContent(apiInfo, nameMapping, ignoredNameMapping, metrics));
     }
 
     @Override
@@ -56,5 +63,7 @@ class JsonReporter extends AbstractFileReporter implements CheckableReporter {
         private final ApiInfo info;
         private final Map<String, List<BreakingChange>> breakingChanges;
         private final Map<String, List<BreakingChange>> ignoredBreakingChanges;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private final CheckMetrics metrics;
     }
 }
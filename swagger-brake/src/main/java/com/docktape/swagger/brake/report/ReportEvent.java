@@ -0,0 +1,25 @@
+package com.docktape.swagger.brake.report;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event of a reporter writing the results of a check.
+ */
+@Name("com.docktape.swagger.brake.Report")
+@Label("Report")
+@Category({"Swagger Brake", "Report"})
+@Description("A reporter writing the breaking changes")
+final class ReportEvent extends Event {
+    @Label("Reporter")
+    String reporter;
+
+    @Label("Breaking Changes")
+    int breakingChanges;
+
+    @Label("Ignored Breaking Changes")
+    int ignoredBreakingChanges;
+}
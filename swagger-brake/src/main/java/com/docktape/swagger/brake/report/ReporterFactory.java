@@ -5,6 +5,7 @@ import static java.util.stream.Collectors.toSet;
 
 import java.util.Collection;
 
+import com.docktape.swagger.brake.core.metrics.MetricsRecorder;
 import com.docktape.swagger.brake.runner.Options;
 import com.docktape.swagger.brake.runner.OutputFormat;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +17,7 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class ReporterFactory {
     private final Collection<CheckableReporter> reporters;
+    private final MetricsRecorder metricsRecorder;
 
     /**
      * Creates a {@link Reporter} instance based on the {@link Options} provided.
@@ -28,7 +30,7 @@ public class ReporterFactory {
             throw new IllegalStateException("No suitable reporters could be loaded");
         }
         log.debug("The following reporters will be used {}", reporters.stream().map(Reporter::getClass).map(Class::getSimpleName).collect(toList()));
-        return new CompositeReporter(reporters);
+        return new CompositeReporter(reporters, metricsRecorder);
     }
 
     private Collection<Reporter> findReporters(OutputFormat outputFormat) {
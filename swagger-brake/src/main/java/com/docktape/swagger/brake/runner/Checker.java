@@ -1,6 +1,7 @@
 package com.docktape.swagger.brake.runner;
 
 import java.util.Collection;
+import java.util.function.Supplier;
 
 import org.springframework.stereotype.Component;
 
@@ -8,10 +9,9 @@ import com.docktape.swagger.brake.core.BreakChecker;
 import com.docktape.swagger.brake.core.BreakingChange;
 import com.docktape.swagger.brake.core.CheckerOptions;
 import com.docktape.swagger.brake.core.CheckerOptionsProvider;
+import com.docktape.swagger.brake.core.metrics.MetricsRecorder;
 import com.docktape.swagger.brake.core.model.Specification;
 import com.docktape.swagger.brake.core.model.transformer.Transformer;
-import com.docktape.swagger.brake.runner.openapi.OpenApiVersion;
-import com.docktape.swagger.brake.runner.openapi.OpenApiVersionContext;
 
 import io.swagger.v3.oas.models.OpenAPI;
 import lombok.RequiredArgsConstructor;
@@ -27,44 +27,70 @@ class Checker {
     private final Transformer<OpenAPI, Specification> transformer;
     private final BreakChecker breakChecker;
     private final CheckerOptionsProvider checkerOptionsProvider;
+    private final MetricsRecorder metricsRecorder;
 
     public Collection<BreakingChange> check(OpenAPI oldApi, OpenAPI newApi, CheckerOptions checkerOptions) {
+        return check(() -> transform("old", oldApi), () -> transform("new", newApi), checkerOptions);
+    }
+
+    /**
+     * Checks breaking changes between two specifications which are produced by the given suppliers. The suppliers
+     * are invoked concurrently with the options and the metrics of the current thread bound to their threads, so they
+     * can use {@link #transform(String, OpenAPI)}.
+     * @param oldApiSupplier the supplier of the old API
+     * @param newApiSupplier the supplier of the new API
+     * @param checkerOptions the options for the check
+     * @return a collection of breaking changes. The collection is never null.
+     */
+    public Collection<BreakingChange> check(Supplier<Specification> oldApiSupplier, Supplier<Specification> newApiSupplier,
+                                            CheckerOptions checkerOptions) {
         log.info("Starting the check for breaking API changes with options: {}", checkerOptions);
         if (checkerOptions == null) {
             throw new IllegalArgumentException("checkerOptions must be provided");
         }
-        checkerOptionsProvider.set(checkerOptions);
-
-        // Extract versions from APIs (checks extensions first, then openapi field)
-        OpenApiVersion oldVersion = OpenApiVersion.fromOpenApi(oldApi);
-        OpenApiVersion newVersion = OpenApiVersion.fromOpenApi(newApi);
-        log.info("Comparing APIs: old version={}, new version={}", oldVersion, newVersion);
+        // the options are bound to the threads of this check only, so concurrent checks can use different options
+        return checkerOptionsProvider.callWith(checkerOptions, () -> doCheck(oldApiSupplier, newApiSupplier, checkerOptions));
+    }
 
-        // Transform old API with its version context
-        Mono<Specification> oldSpecMono = Mono.fromCallable(() -> {
-            log.debug("Transforming old API with version context: {}", oldVersion);
-            try (OpenApiVersionContext context = new OpenApiVersionContext(oldVersion)) {
-                log.trace("Version context set for old API transformation: {}", OpenApiVersionContext.getCurrentVersion());
-                return transformer.transform(oldApi);
-            }
-        }).subscribeOn(Schedulers.boundedElastic());
+    /**
+     * Transforms an API into a {@link Specification}. Must be called within a check, i.e. from a supplier passed
+     * to {@link #check(Supplier, Supplier, CheckerOptions)}.
+     * @param side the side of the API for logging, old or new
+     * @param api the API to transform
+     * @return the transformed {@link Specification}
+     */
+    Specification transform(String side, OpenAPI api) {
+        log.info("Transforming {} API", side);
+        SpecificationTransformationEvent event = new SpecificationTransformationEvent();
+        event.begin();
+        Specification specification = metricsRecorder.measure("transformation:" + side, () -> transformer.transform(api));
+        event.end();
+        if (event.shouldCommit()) {
+            event.side = side;
+            event.paths = specification.getPaths().size();
+            event.commit();
+        }
+        return specification;
+    }
 
-        // Transform new API with its version context
-        Mono<Specification> newSpecMono = Mono.fromCallable(() -> {
-            log.debug("Transforming new API with version context: {}", newVersion);
-            try (OpenApiVersionContext context = new OpenApiVersionContext(newVersion)) {
-                log.trace("Version context set for new API transformation: {}", OpenApiVersionContext.getCurrentVersion());
-                return transformer.transform(newApi);
-            }
-        }).subscribeOn(Schedulers.boundedElastic());
+    private Collection<BreakingChange> doCheck(Supplier<Specification> oldApiSupplier, Supplier<Specification> newApiSupplier,
+                                               CheckerOptions checkerOptions) {
+        // Produce the old and new API concurrently, each with the options and the metrics of this check
+        Supplier<Specification> oldSpecSupplier = metricsRecorder.propagate(oldApiSupplier);
+        Supplier<Specification> newSpecSupplier = metricsRecorder.propagate(newApiSupplier);
+        Mono<Specification> oldSpecMono = Mono.fromCallable(() -> checkerOptionsProvider.callWith(checkerOptions, oldSpecSupplier))
+            .subscribeOn(Schedulers.boundedElastic());
+        Mono<Specification> newSpecMono = Mono.fromCallable(() -> checkerOptionsProvider.callWith(checkerOptions, newSpecSupplier))
+            .subscribeOn(Schedulers.boundedElastic());
 
         Tuple2<Specification, Specification> specs = Mono.zip(oldSpecMono, newSpecMono)
                 .block();
 
         Specification oldApiSpec = specs.getT1();
         Specification newApiSpec = specs.getT2();
-        Collection<BreakingChange> breakingChanges = breakChecker.check(oldApiSpec, newApiSpec);
-        log.info("Check has finished. Found {}", breakingChanges);
+        Collection<BreakingChange> breakingChanges = metricsRecorder.measure("check", () -> breakChecker.check(oldApiSpec, newApiSpec));
+        log.info("Check has finished. Found {} breaking changes", breakingChanges.size());
+        log.debug("Breaking changes found: {}", breakingChanges);
         return breakingChanges;
     }
 }
@@ -1,6 +1,7 @@
 package com.docktape.swagger.brake.runner;
 
 import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Component;
 
@@ -21,6 +22,10 @@ public class CheckerOptionsFactory {
         checkerOptions.setStrictValidation(isStrictValidationEnabled(options));
         checkerOptions.setMaxLogSerializationDepth(getMaxLogSerializationDepth(options, checkerOptions.getMaxLogSerializationDepth()));
         checkerOptions.setServerUrlChangeEnabled(isServerUrlChangeEnabled(options));
+        checkerOptions.setCheckParallelism(getOrDefault(options.getCheckParallelism(), checkerOptions.getCheckParallelism()));
+        checkerOptions.setCheckChunkSize(getOrDefault(options.getCheckChunkSize(), checkerOptions.getCheckChunkSize()));
+        checkerOptions.setTransformationParallelism(getOrDefault(options.getTransformationParallelism(), checkerOptions.getTransformationParallelism()));
+        checkerOptions.setReferenceResolution(ObjectUtils.defaultIfNull(options.getReferenceResolution(), checkerOptions.getReferenceResolution()));
         return checkerOptions;
     }
 
@@ -44,4 +49,8 @@ public class CheckerOptionsFactory {
     private boolean isServerUrlChangeEnabled(Options options) {
         return BooleanUtils.toBooleanDefaultIfNull(options.getServerUrlChangeEnabled(), false);
     }
+
+    private int getOrDefault(Integer value, int defaultValue) {
+        return value != null ? value : defaultValue;
+    }
 }
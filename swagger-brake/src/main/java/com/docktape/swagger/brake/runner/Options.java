@@ -4,6 +4,7 @@ import java.util.Collections;
 import java.util.Set;
 
 import com.docktape.swagger.brake.core.Severity;
+import com.docktape.swagger.brake.runner.openapi.ReferenceResolution;
 import lombok.Data;
 
 @Data
@@ -13,6 +14,9 @@ public class Options {
 
     private Set<OutputFormat> outputFormats = Collections.emptySet();
     private String outputFilePath;
+    private String specificationCachePath;
+    private String artifactCachePath;
+    private Boolean artifactRangeRequestsEnabled;
 
     private String mavenRepoUrl;
     private String mavenSnapshotRepoUrl;
@@ -20,6 +24,10 @@ public class Options {
     private String artifactId;
     private String mavenRepoUsername;
     private String mavenRepoPassword;
+    private Integer mavenConnectTimeout;
+    private Integer mavenReadTimeout;
+    private String mavenLocalRepositoryPath;
+    private String mavenLocalRepositoryUpdatePolicy;
     private String currentArtifactVersion;
     private ArtifactPackaging artifactPackaging;
 
@@ -32,5 +40,10 @@ public class Options {
     private Boolean strictValidation;
     private Integer maxLogSerializationDepth;
     private Boolean serverUrlChangeEnabled;
+    private Integer checkParallelism;
+    private Integer checkChunkSize;
+    private Integer transformationParallelism;
+    private Boolean metricsEnabled;
     private Severity failOnSeverity = Severity.ERROR;
+    private ReferenceResolution referenceResolution = ReferenceResolution.FULL;
 }
@@ -67,7 +67,7 @@ public class OptionsValidator {
         if (mavenRepoUrlFunction != null && mavenSnapshotRepoUrlFunction != null) {
             String mavenRepoUrl = mavenRepoUrlFunction.apply(options);
             String mavenSnapshotRepoUrl = mavenSnapshotRepoUrlFunction.apply(options);
-            return isNotBlank(mavenRepoUrl) || isNotBlank(mavenSnapshotRepoUrl);
+            return isNotBlank(mavenRepoUrl) || isNotBlank(mavenSnapshotRepoUrl) || isNotBlank(options.getMavenLocalRepositoryPath());
         }
         throw new IllegalStateException("mavenConfigMap is not configured properly");
     }
@@ -0,0 +1,30 @@
+package com.docktape.swagger.brake.runner;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import com.docktape.swagger.brake.core.BreakingChange;
+import com.docktape.swagger.brake.core.metrics.CheckMetrics;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The result of a Swagger Brake execution.
+ */
+@RequiredArgsConstructor
+public class RunResult {
+    /**
+     * The breaking changes meeting the severity to fail on, never null.
+     */
+    @Getter
+    private final Collection<BreakingChange> breakingChanges;
+    private final CheckMetrics metrics;
+
+    /**
+     * Returns the timing, allocation and cache measurements of the execution.
+     * @return the metrics, empty if they weren't enabled in the {@link Options}
+     */
+    public Optional<CheckMetrics> getMetrics() {
+        return Optional.ofNullable(metrics);
+    }
+}
@@ -3,13 +3,26 @@ package com.docktape.swagger.brake.runner;
 import com.docktape.swagger.brake.core.ApiInfo;
 import com.docktape.swagger.brake.core.Severity;
 import com.docktape.swagger.brake.runner.openapi.ApiInfoFactory;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 import com.docktape.swagger.brake.core.BreakingChange;
 import com.docktape.swagger.brake.core.CheckerOptions;
+import com.docktape.swagger.brake.core.metrics.CheckMetrics;
+import com.docktape.swagger.brake.core.metrics.MetricsRecorder;
+import com.docktape.swagger.brake.core.model.Specification;
+import com.docktape.swagger.brake.maven.jar.ResolvedApiFile;
 import com.docktape.swagger.brake.report.ReporterFactory;
+import com.docktape.swagger.brake.runner.cache.SpecificationCache;
 import com.docktape.swagger.brake.runner.download.ArtifactDownloaderHandler;
 import com.docktape.swagger.brake.runner.openapi.OpenApiFactory;
+import com.docktape.swagger.brake.runner.openapi.ReferenceResolution;
 import io.swagger.v3.oas.models.OpenAPI;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,6 +43,8 @@ public class Runner {
     private final Checker checker;
     private final ReporterFactory reporterFactory;
     private final ApiInfoFactory apiInfoFactory;
+    private final SpecificationCache specificationCache;
+    private final MetricsRecorder metricsRecorder;
 
     /**
      * Runs Swagger Brake with the specified {@link Options}.
@@ -37,31 +52,128 @@ public class Runner {
      * @return a collection of breaking changes or an empty collection if no breaking change has been detected.
      */
     public Collection<BreakingChange> run(Options options) {
+        return execute(options).getBreakingChanges();
+    }
+
+    /**
+     * Runs Swagger Brake with the specified {@link Options}. If the metrics are enabled, the time and allocations of
+     * the phases and the hit rates of the caches are measured as well, and are available in the result.
+     * @param options the options that should be used for the execution.
+     * @return the result of the execution, never null.
+     */
+    public RunResult execute(Options options) {
+        if (!Boolean.TRUE.equals(options.getMetricsEnabled())) {
+            return new RunResult(doRun(options), null);
+        }
+        CheckMetrics metrics = new CheckMetrics();
+        Collection<BreakingChange> breakingChanges = metricsRecorder.callWith(metrics, () -> doRun(options));
+        log.debug("Phase metrics: {}", metrics.getPhases());
+        log.debug("Cache metrics: {}", metrics.getCaches());
+        return new RunResult(breakingChanges, metrics);
+    }
+
+    private Collection<BreakingChange> doRun(Options options) {
         optionsValidator.validate(options);
-        artifactDownloaderHandler.handle(options);
-        String oldApiPath = options.getOldApiPath();
-        if (StringUtils.isBlank(oldApiPath)) {
+        if (StringUtils.isBlank(options.getOldApiPath()) && !artifactDownloaderHandler.isOldApiResolutionRequired(options)) {
             throw new IllegalArgumentException("oldApiPath must be provided");
         }
         String newApiPath = options.getNewApiPath();
         if (StringUtils.isBlank(newApiPath)) {
             throw new IllegalArgumentException("newApiPath must be provided");
         }
-        log.info("Loading old API from {}", oldApiPath);
-        log.info("Loading new API from {}", newApiPath);
-        OpenAPI oldApi = openApiFactory.fromFile(oldApiPath);
-        OpenAPI newApi = openApiFactory.fromFile(newApiPath);
-        log.info("Successfully loaded APIs");
         CheckerOptions checkerOptions = checkerOptionsFactory.create(options);
-        Collection<BreakingChange> allBreakingChanges = checker.check(oldApi, newApi, checkerOptions);
+        AtomicReference<OpenAPI> newApiHolder = new AtomicReference<>();
+        // the whole pipeline of both sides runs concurrently, so parsing the new API overlaps with the artifact download
+        Collection<BreakingChange> allBreakingChanges = checker.check(
+            () -> loadOldSpecification(options, checkerOptions),
+            () -> {
+                Optional<byte[]> newApiContent = readApiFile(newApiPath);
+                OpenAPI newApi = loadApi("new", newApiPath, newApiContent, options);
+                newApiHolder.set(newApi);
+                return loadSpecification("new", newApiPath, newApiContent, () -> newApi, options, checkerOptions);
+            },
+            checkerOptions);
         Collection<BreakingChange> breakingChanges = allBreakingChanges.stream().filter(bc -> isNotIgnoredBreakingChange(options, bc)).toList();
         Collection<BreakingChange> ignoredBreakingChanges = allBreakingChanges.stream().filter(bc -> isIgnoredBreakingChange(options, bc)).toList();
 
-        ApiInfo apiInfo = apiInfoFactory.create(newApi);
+        ApiInfo apiInfo = apiInfoFactory.create(newApiHolder.get());
         reporterFactory.create(options).report(breakingChanges, ignoredBreakingChanges, options, apiInfo);
         return breakingChanges.stream().filter(bc -> meetsFailOnSeverity(options.getFailOnSeverity(), bc.getSeverity())).toList();
     }
 
+    private Specification loadOldSpecification(Options options, CheckerOptions checkerOptions) {
+        Optional<ResolvedApiFile> artifactApiFile = metricsRecorder.measure("artifact-resolution", () -> artifactDownloaderHandler.handle(options));
+        if (artifactApiFile.isPresent()) {
+            String location = artifactApiFile.get().getLocation();
+            Optional<byte[]> content = Optional.of(artifactApiFile.get().getContent());
+            return loadSpecification("old", location, content, () -> loadApi("old", location, content, options), options, checkerOptions);
+        }
+        String oldApiPath = options.getOldApiPath();
+        if (StringUtils.isBlank(oldApiPath)) {
+            throw new IllegalArgumentException("oldApiPath must be provided");
+        }
+        Optional<byte[]> content = readApiFile(oldApiPath);
+        return loadSpecification("old", oldApiPath, content, () -> loadApi("old", oldApiPath, content, options), options, checkerOptions);
+    }
+
+    /*
+     * Reads an API file into memory once, so the cache key, the version detection and the parsing all use the
+     * same content. Returns empty if the path doesn't denote a file on the file system, e.g. a classpath resource.
+     */
+    private Optional<byte[]> readApiFile(String apiPath) {
+        Path file = Paths.get(apiPath);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Files.readAllBytes(file));
+        } catch (IOException e) {
+            throw new IllegalStateException("API cannot be loaded from path " + apiPath, e);
+        }
+    }
+
+    private OpenAPI loadApi(String side, String apiPath, Optional<byte[]> content, Options options) {
+        log.info("Loading {} API from {}", side, apiPath);
+        ReferenceResolution referenceResolution = options.getReferenceResolution();
+        SpecificationLoadEvent event = new SpecificationLoadEvent();
+        event.begin();
+        OpenAPI api = metricsRecorder.measure("load:" + side, () -> content.map(c -> openApiFactory.fromBytes(c, apiPath, referenceResolution))
+            .orElseGet(() -> openApiFactory.fromFile(apiPath, referenceResolution)));
+        event.end();
+        if (event.shouldCommit()) {
+            event.side = side;
+            event.location = apiPath;
+            event.size = content.map(c -> (long) c.length).orElse(-1L);
+            event.commit();
+        }
+        log.info("Successfully loaded {} API", side);
+        return api;
+    }
+
+    /*
+     * Returns the transformed API from the specification cache if it's enabled and has an entry for the API content,
+     * otherwise loads and transforms the API and stores the result in the cache. The new API is loaded by the caller
+     * even on a hit, since the reports need its info, so a hit skips only its transformation.
+     */
+    private Specification loadSpecification(String side, String apiPath, Optional<byte[]> content, Supplier<OpenAPI> apiLoader,
+                                            Options options, CheckerOptions checkerOptions) {
+        String cachePath = options.getSpecificationCachePath();
+        Optional<String> cacheKey = StringUtils.isBlank(cachePath)
+            ? Optional.empty()
+            : content.flatMap(c -> specificationCache.createKey(c, checkerOptions, options.getReferenceResolution()));
+        if (cacheKey.isPresent()) {
+            Optional<Specification> cachedSpecification = specificationCache.load(cachePath, cacheKey.get());
+            metricsRecorder.recordCache("specification-cache", cachedSpecification.isPresent() ? 1 : 0, cachedSpecification.isPresent() ? 0 : 1);
+            if (cachedSpecification.isPresent()) {
+                log.info("Using cached {} API for {}", side, apiPath);
+                return cachedSpecification.get();
+            }
+        }
+        Specification specification = checker.transform(side, apiLoader.get());
+        cacheKey.ifPresent(key -> specificationCache.store(cachePath, key, specification));
+        return specification;
+    }
+
     private boolean isNotIgnoredBreakingChange(Options options, BreakingChange breakingChange) {
         return !isIgnoredBreakingChange(options, breakingChange);
     }
@@ -0,0 +1,28 @@
+package com.docktape.swagger.brake.runner;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event of loading an API definition, including the version detection and the parsing.
+ */
+@Name("com.docktape.swagger.brake.SpecificationLoad")
+@Label("Specification Load")
+@Category({"Swagger Brake", "Load"})
+@Description("Loading and parsing an API definition")
+final class SpecificationLoadEvent extends Event {
+    @Label("Side")
+    String side;
+
+    @Label("Location")
+    String location;
+
+    @Label("Size")
+    @DataAmount
+    @Description("The size of the definition, -1 if it's read by the parser")
+    long size;
+}
@@ -0,0 +1,22 @@
+package com.docktape.swagger.brake.runner;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event of transforming a loaded API into the model the rules work on.
+ */
+@Name("com.docktape.swagger.brake.SpecificationTransformation")
+@Label("Specification Transformation")
+@Category({"Swagger Brake", "Transformation"})
+@Description("Transforming an API into the model of the check")
+final class SpecificationTransformationEvent extends Event {
+    @Label("Side")
+    String side;
+
+    @Label("Paths")
+    int paths;
+}
@@ -4,18 +4,14 @@ import java.util.Collection;
 
 import com.docktape.swagger.brake.core.BreakingChange;
 import com.docktape.swagger.brake.core.CheckerOptions;
-import com.docktape.swagger.brake.core.CoreConfiguration;
-import com.docktape.swagger.brake.maven.MavenConfiguration;
-import com.docktape.swagger.brake.report.ReporterConfiguration;
 import io.swagger.v3.oas.models.OpenAPI;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 
 @Slf4j
 public class Starter {
     public static Collection<BreakingChange> start(Options options) {
         log.info("Starting the application with options: {}", options);
-        return createApplicationContext().getBean(Runner.class).run(options);
+        return EngineHolder.ENGINE.run(options);
     }
 
     /**
@@ -43,12 +39,13 @@ public class Starter {
      */
     public static Collection<BreakingChange> check(OpenAPI oldApi, OpenAPI newApi, CheckerOptions checkerOptions) {
         log.debug("Checking breaking changes between two OpenAPI instances with explicit options: {}", checkerOptions);
-        return createApplicationContext().getBean(Checker.class).check(oldApi, newApi, checkerOptions);
+        return EngineHolder.ENGINE.check(oldApi, newApi, checkerOptions);
     }
 
-    private static AnnotationConfigApplicationContext createApplicationContext() {
-        log.debug("Creating application context with configurations: RunnerConfiguration, ReporterConfiguration, MavenConfiguration, CoreConfiguration");
-        return new AnnotationConfigApplicationContext(RunnerConfiguration.class, ReporterConfiguration.class,
-                MavenConfiguration.class, CoreConfiguration.class);
+    /*
+     * The shared engine is created on first use and lives as long as the class loader.
+     */
+    private static class EngineHolder {
+        private static final SwaggerBrakeEngine ENGINE = SwaggerBrakeEngine.create();
     }
 }
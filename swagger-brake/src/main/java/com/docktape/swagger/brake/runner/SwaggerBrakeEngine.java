@@ -0,0 +1,88 @@
+package com.docktape.swagger.brake.runner;
+
+import java.util.Collection;
+
+import com.docktape.swagger.brake.core.BreakingChange;
+import com.docktape.swagger.brake.core.CheckerOptions;
+import com.docktape.swagger.brake.core.CoreConfiguration;
+import com.docktape.swagger.brake.maven.MavenConfiguration;
+import com.docktape.swagger.brake.report.ReporterConfiguration;
+import io.swagger.v3.oas.models.OpenAPI;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * Long-lived, reusable entrypoint of Swagger Brake for library users who run many checks.
+ * <br>
+ * The engine sets up its components once when created, the {@link CheckerOptions} are passed on every invocation.
+ * Invocations don't share any mutable state, hence the engine can be used from multiple threads concurrently.
+ * The engine should be closed when it's no longer needed.
+ */
+@Slf4j
+public final class SwaggerBrakeEngine implements AutoCloseable {
+    private final AnnotationConfigApplicationContext applicationContext;
+    private final Runner runner;
+    private final Checker checker;
+
+    private SwaggerBrakeEngine(AnnotationConfigApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+        this.runner = applicationContext.getBean(Runner.class);
+        this.checker = applicationContext.getBean(Checker.class);
+    }
+
+    /**
+     * Creates a new engine.
+     * @return the engine
+     */
+    public static SwaggerBrakeEngine create() {
+        log.debug("Creating application context with configurations: RunnerConfiguration, ReporterConfiguration, MavenConfiguration, CoreConfiguration");
+        return new SwaggerBrakeEngine(new AnnotationConfigApplicationContext(RunnerConfiguration.class, ReporterConfiguration.class,
+                MavenConfiguration.class, CoreConfiguration.class));
+    }
+
+    /**
+     * Runs Swagger Brake with the specified {@link Options}, including artifact resolution and reporting.
+     * @param options the options that should be used for the execution.
+     * @return a collection of breaking changes or an empty collection if no breaking change has been detected.
+     */
+    public Collection<BreakingChange> run(Options options) {
+        return runner.run(options);
+    }
+
+    /**
+     * Runs Swagger Brake with the specified {@link Options}, including artifact resolution and reporting. The
+     * result contains the timing, allocation and cache measurements too, if they are enabled in the options.
+     * @param options the options that should be used for the execution.
+     * @return the result of the execution, never null.
+     */
+    public RunResult execute(Options options) {
+        return runner.execute(options);
+    }
+
+    /**
+     * Checks breaking changes between two {@link OpenAPI} instances with the default options.
+     * @param oldApi the old API
+     * @param newApi the new API
+     * @return a collection of breaking changes. The collection is never null.
+     */
+    public Collection<BreakingChange> check(OpenAPI oldApi, OpenAPI newApi) {
+        return check(oldApi, newApi, new CheckerOptions());
+    }
+
+    /**
+     * Checks breaking changes between two {@link OpenAPI} instances with the given options. The options are used
+     * for this invocation only and must not be modified while the check is running.
+     * @param oldApi the old API
+     * @param newApi the new API
+     * @param checkerOptions the options for the check
+     * @return a collection of breaking changes. The collection is never null.
+     */
+    public Collection<BreakingChange> check(OpenAPI oldApi, OpenAPI newApi, CheckerOptions checkerOptions) {
+        return checker.check(oldApi, newApi, checkerOptions);
+    }
+
+    @Override
+    public void close() {
+        applicationContext.close();
+    }
+}
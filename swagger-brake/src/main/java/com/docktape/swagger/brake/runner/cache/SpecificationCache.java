@@ -0,0 +1,244 @@
+package com.docktape.swagger.brake.runner.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.docktape.swagger.brake.core.CheckerOptions;
+import com.docktape.swagger.brake.core.model.Specification;
+import com.docktape.swagger.brake.runner.openapi.ReferenceResolution;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Content-addressed on-disk cache of transformed {@link Specification}s.
+ * <br>
+ * The key is the SHA-256 hash of the API definition bytes together with the swagger-brake version and the
+ * {@link CheckerOptions} which affect the transformation, so a changed definition, an upgrade or a different
+ * configuration never hits a stale entry. Development builds without a version use a fingerprint of their classes
+ * instead. API definitions referencing external files are not cached, since a change of those files wouldn't change
+ * the key. Entries are written atomically, hence multiple runs can share the same cache directory. Any problem while
+ * reading or writing an entry is logged and treated as a cache miss. Entries are never evicted.
+ */
+@Component
+@Slf4j
+public class SpecificationCache {
+    private static final String FORMAT_VERSION = "2";
+    private static final String FILE_EXTENSION = ".spec";
+    private static final String DEVELOPMENT_VERSION = "development";
+    // a nested schema takes a schema, its attribute collection and the attribute, plus an internal array of some collections
+    private static final int OBJECTS_PER_SCHEMA_LEVEL = 4;
+    // the specification, path, request or response and media type map above the schemas
+    private static final int MAX_OBJECTS_ABOVE_SCHEMAS = 100;
+    private static final ObjectInputFilter ALLOWED_CLASSES = ObjectInputFilter.Config.createFilter(
+        "maxdepth=" + (CheckerOptions.MAX_SCHEMA_TRANSFORMATION_DEPTH * OBJECTS_PER_SCHEMA_LEVEL + MAX_OBJECTS_ABOVE_SCHEMAS)
+            + ";com.docktape.swagger.brake.core.model.**;java.lang.*;java.math.*;java.util.*;"
+            + "org.springframework.util.*;com.google.common.collect.*;!*");
+    // the value of a $ref in JSON and YAML, quoted or not
+    private static final Pattern REFERENCE = Pattern.compile("[\"']?\\$ref[\"']?\\s*:\\s*[\"']?([^\"'\\s,}]*)");
+    private static final ObjectInputFilter INPUT_FILTER = filterInfo -> {
+        ObjectInputFilter.Status status = ALLOWED_CLASSES.checkInput(filterInfo);
+        if (status == ObjectInputFilter.Status.REJECTED) {
+            log.warn("Cache entry is rejected, class: {}, depth: {}", filterInfo.serialClass(), filterInfo.depth());
+        }
+        return status;
+    };
+
+    private volatile String version;
+
+    /**
+     * Creates the cache key for the content of an API definition.
+     * @param content the content of the API definition
+     * @param checkerOptions the options of the execution
+     * @return the cache key, or empty if the API definition references external files.
+     */
+    public Optional<String> createKey(byte[] content, CheckerOptions checkerOptions) {
+        return createKey(content, checkerOptions, ReferenceResolution.FULL);
+    }
+
+    /**
+     * Creates the cache key for the content of an API definition loaded with the given reference resolution.
+     * @param content the content of the API definition
+     * @param checkerOptions the options of the execution
+     * @param referenceResolution how the references of the API definition are resolved while loading it
+     * @return the cache key, or empty if the API definition references external files.
+     */
+    public Optional<String> createKey(byte[] content, CheckerOptions checkerOptions, ReferenceResolution referenceResolution) {
+        if (hasExternalReference(content)) {
+            log.debug("The API references external files which are not part of the cache key, it won't be cached");
+            return Optional.empty();
+        }
+        MessageDigest digest = sha256();
+        update(digest, FORMAT_VERSION);
+        update(digest, getVersion());
+        update(digest, checkerOptions.getBetaApiExtensionName());
+        update(digest, String.valueOf(checkerOptions.isStrictValidation()));
+        update(digest, String.valueOf(checkerOptions.getMaxSchemaTransformationDepth()));
+        update(digest, referenceResolution.name());
+        digest.update(content);
+        return Optional.of(HexFormat.of().formatHex(digest.digest()));
+    }
+
+    /**
+     * Loads a {@link Specification} from the cache.
+     * @param cacheDirectory the cache directory
+     * @param key the cache key
+     * @return the cached {@link Specification}, or empty if there's no usable entry for the key.
+     */
+    public Optional<Specification> load(String cacheDirectory, String key) {
+        Path entry = Paths.get(cacheDirectory).resolve(key + FILE_EXTENSION);
+        if (!Files.isRegularFile(entry)) {
+            log.debug("No cache entry found at {}", entry);
+            return Optional.empty();
+        }
+        try (InputStream in = Files.newInputStream(entry);
+             ObjectInputStream objectIn = new ObjectInputStream(new GZIPInputStream(new BufferedInputStream(in)))) {
+            objectIn.setObjectInputFilter(INPUT_FILTER);
+            Specification specification = (Specification) objectIn.readObject();
+            log.info("Loaded transformed API from cache entry {}", entry);
+            return Optional.of(specification);
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            log.warn("Cannot read cache entry {}, ignoring it", entry, e);
+            return Optional.empty();
+        } catch (StackOverflowError e) {
+            log.warn("Cache entry {} is too deeply nested to be read, ignoring it", entry);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores a {@link Specification} in the cache. The entry is written to a temporary file first and then moved to
+     * its final place so concurrent readers never see a partially written entry. Schemas nested too deeply for the
+     * recursive Java serialization are not stored.
+     * @param cacheDirectory the cache directory, created if doesn't exist
+     * @param key the cache key
+     * @param specification the {@link Specification} to store
+     */
+    public void store(String cacheDirectory, String key, Specification specification) {
+        Path directory = Paths.get(cacheDirectory);
+        Path entry = directory.resolve(key + FILE_EXTENSION);
+        Path tempFile = null;
+        try {
+            Files.createDirectories(directory);
+            tempFile = Files.createTempFile(directory, key, ".tmp");
+            try (OutputStream out = Files.newOutputStream(tempFile);
+                 ObjectOutputStream objectOut = new ObjectOutputStream(new GZIPOutputStream(new BufferedOutputStream(out)))) {
+                objectOut.writeObject(specification);
+            }
+            move(tempFile, entry);
+            log.debug("Stored transformed API in cache entry {}", entry);
+        } catch (IOException e) {
+            log.warn("Cannot write cache entry {}", entry, e);
+        } catch (StackOverflowError e) {
+            log.warn("Transformed API is too deeply nested to be stored in cache entry {}", entry);
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    private void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.debug("Cannot delete temporary file {}", path, e);
+        }
+    }
+
+    private static boolean hasExternalReference(byte[] content) {
+        Matcher matcher = REFERENCE.matcher(new String(content, StandardCharsets.UTF_8));
+        while (matcher.find()) {
+            if (!matcher.group(1).startsWith("#")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String getVersion() {
+        String result = version;
+        if (result == null) {
+            String implementationVersion = SpecificationCache.class.getPackage().getImplementationVersion();
+            result = StringUtils.isNotBlank(implementationVersion) ? implementationVersion : DEVELOPMENT_VERSION + ":" + getClassesFingerprint();
+            version = result;
+        }
+        return result;
+    }
+
+    /*
+     * Without a released version the classes may change between runs, e.g. in a development build, so the names,
+     * sizes and modification times of the classes of swagger-brake stand in for the version. If they cannot be read,
+     * a random value is used which disables the cache for the run.
+     */
+    private static String getClassesFingerprint() {
+        CodeSource codeSource = SpecificationCache.class.getProtectionDomain().getCodeSource();
+        if (codeSource == null || codeSource.getLocation() == null) {
+            log.warn("The location of the swagger-brake classes is unknown, cached APIs won't be reused");
+            return UUID.randomUUID().toString();
+        }
+        try {
+            Path location = Paths.get(codeSource.getLocation().toURI());
+            MessageDigest digest = sha256();
+            try (Stream<Path> files = Files.walk(location)) {
+                for (Path file : files.filter(Files::isRegularFile).sorted().toList()) {
+                    BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                    update(digest, location.relativize(file).toString());
+                    update(digest, attributes.size() + ":" + attributes.lastModifiedTime().toMillis());
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | URISyntaxException | IllegalArgumentException | FileSystemNotFoundException e) {
+            log.warn("Cannot fingerprint the swagger-brake classes at {}, cached APIs won't be reused", codeSource.getLocation(), e);
+            return UUID.randomUUID().toString();
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(StringUtils.defaultString(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -3,12 +3,15 @@ package com.docktape.swagger.brake.runner.download;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 import java.io.File;
+import java.util.Optional;
 
 import com.docktape.swagger.brake.maven.DownloadOptions;
+import com.docktape.swagger.brake.maven.LatestArtifactDownloader;
 import com.docktape.swagger.brake.maven.LatestArtifactDownloaderFactory;
 import com.docktape.swagger.brake.maven.http.UnauthorizedException;
 import com.docktape.swagger.brake.maven.jar.ApiFileJarResolver;
 import com.docktape.swagger.brake.maven.jar.ApiFileResolverParameter;
+import com.docktape.swagger.brake.maven.jar.ResolvedApiFile;
 import com.docktape.swagger.brake.runner.Options;
 import com.docktape.swagger.brake.runner.exception.LatestArtifactDownloadException;
 import lombok.RequiredArgsConstructor;
@@ -26,8 +29,9 @@ public class ArtifactDownloaderHandler {
     /**
      * Orchestrates the resolution and downloading the latest artifact based on the {@link Options} provided.
      * @param options the {@link Options}.
+     * @return the API file resolved from the latest artifact, or empty if the latest artifact is not used.
      */
-    public void handle(Options options) {
+    public Optional<ResolvedApiFile> handle(Options options) {
         if (isOldApiParamSet(options)) {
             log.debug("Latest artifact resolution will be skipped due to configuration settings");
         } else if (isLatestArtifactDownloadEnabled(options)) {
@@ -37,10 +41,14 @@ public class ArtifactDownloaderHandler {
                 String artifactId = options.getArtifactId();
                 log.info("Downloading latest artifact with groupId '{}' artifactId '{}'", groupId, artifactId);
                 DownloadOptions downloadOptions = downloadOptionsFactory.create(options);
-                File apiJar = downloaderFactory.create(options).download(downloadOptions);
+                LatestArtifactDownloader downloader = downloaderFactory.create(options);
+                Optional<ResolvedApiFile> apiFile = downloader.downloadApiFile(downloadOptions, options.getApiFilename());
+                if (apiFile.isPresent()) {
+                    return apiFile;
+                }
+                File apiJar = downloader.download(downloadOptions);
                 ApiFileResolverParameter apiFileResolverParameter = new ApiFileResolverParameter(apiJar, options.getApiFilename());
-                File swaggerFile = apiFileResolver.resolve(apiFileResolverParameter);
-                options.setOldApiPath(swaggerFile.getAbsolutePath());
+                return Optional.of(apiFileResolver.resolve(apiFileResolverParameter));
             } catch (UnauthorizedException e) {
                 throw new LatestArtifactDownloadException("Cannot access Maven repository due to insufficient privileges. Consider providing username and password.", e);
             } catch (Exception e) {
@@ -49,6 +57,16 @@ public class ArtifactDownloaderHandler {
         } else if (isLatestArtifactDownloadWronglyConfigured(options)) {
             log.warn("Seems like latest artifact resolution is intended to be used but missing some of the parameters");
         }
+        return Optional.empty();
+    }
+
+    /**
+     * Tells whether {@link #handle(Options)} will resolve the old API by downloading the latest artifact.
+     * @param options the {@link Options}.
+     * @return true if the old API will be resolved from the latest artifact, false otherwise.
+     */
+    public boolean isOldApiResolutionRequired(Options options) {
+        return !isOldApiParamSet(options) && isLatestArtifactDownloadEnabled(options);
     }
 
     private boolean isOldApiParamSet(Options options) {
@@ -63,7 +81,7 @@ public class ArtifactDownloaderHandler {
     }
 
     private boolean isAnyRepoSet(Options options) {
-        return isNotBlank(options.getMavenRepoUrl()) || isNotBlank(options.getMavenSnapshotRepoUrl());
+        return isNotBlank(options.getMavenRepoUrl()) || isNotBlank(options.getMavenSnapshotRepoUrl()) || isNotBlank(options.getMavenLocalRepositoryPath());
     }
 
     private boolean isLatestArtifactDownloadWronglyConfigured(Options options) {
@@ -1,7 +1,9 @@
 package com.docktape.swagger.brake.runner.download;
 
 import com.docktape.swagger.brake.maven.DownloadOptions;
+import com.docktape.swagger.brake.maven.LocalRepositoryUpdatePolicy;
 import com.docktape.swagger.brake.runner.Options;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -21,6 +23,18 @@ public class DownloadOptionsFactory {
         result.setPassword(options.getMavenRepoPassword());
         result.setCurrentArtifactVersion(options.getCurrentArtifactVersion());
         result.setArtifactPackaging(options.getArtifactPackaging());
+        result.setCachePath(options.getArtifactCachePath());
+        result.setRangeRequestsEnabled(Boolean.TRUE.equals(options.getArtifactRangeRequestsEnabled()));
+        if (options.getMavenConnectTimeout() != null) {
+            result.setConnectTimeout(options.getMavenConnectTimeout());
+        }
+        if (options.getMavenReadTimeout() != null) {
+            result.setReadTimeout(options.getMavenReadTimeout());
+        }
+        result.setLocalRepositoryPath(options.getMavenLocalRepositoryPath());
+        if (StringUtils.isNotBlank(options.getMavenLocalRepositoryUpdatePolicy())) {
+            result.setLocalRepositoryUpdatePolicy(LocalRepositoryUpdatePolicy.parse(options.getMavenLocalRepositoryUpdatePolicy()));
+        }
         return result;
     }
 }
@@ -1,15 +1,31 @@
 package com.docktape.swagger.brake.runner.openapi;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
+import org.apache.commons.lang3.StringUtils;
+
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import com.docktape.swagger.brake.core.metrics.MetricsRecorder;
+import io.swagger.parser.SwaggerParser;
+import io.swagger.parser.SwaggerResolver;
+import io.swagger.parser.util.SwaggerDeserializationResult;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.converter.SwaggerConverter;
+import io.swagger.v3.parser.core.extensions.SwaggerParserExtension;
 import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import io.swagger.v3.parser.util.ResolverFully;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -20,7 +36,14 @@ import lombok.extern.slf4j.Slf4j;
 public class OpenApiFactory {
     private static final Pattern SWAGGER_2_YAML_PATTERN = Pattern.compile("swagger:\\s*[\"']?2\\.0");
     private static final Pattern SWAGGER_2_JSON_PATTERN = Pattern.compile("\"swagger\"\\s*:\\s*\"2\\.0\"");
+    private static final Pattern OPENAPI_3_0_YAML_PATTERN = Pattern.compile("^openapi:\\s*[\"']?3\\.0\\.");
+    private static final Pattern OPENAPI_3_0_JSON_PATTERN = Pattern.compile("\"openapi\"\\s*:\\s*\"3\\.0\\.");
     private static final int MAX_LINES_TO_SCAN = 100;
+    private static final String IN_MEMORY_LOCATION = "<in-memory content>";
+    // swagger-parser dereferences OpenAPI 3.1 definitions with a shared OpenAPIDereferencer31 instance keeping the
+    // definition being resolved in its fields, so schemas of one definition might end up in another one resolved at
+    // the same time. Only the definitions which are not known to be Swagger 2.0 or OpenAPI 3.0 are parsed under the lock.
+    static final Object PARSER_LOCK = new Object();
     
     /**
      * Extension key used to store the original detected version in the OpenAPI object.
@@ -28,19 +51,157 @@ public class OpenApiFactory {
      * losing the original version information.
      */
     public static final String X_SWAGGER_BRAKE_ORIGINAL_VERSION = "x-swagger-brake-original-version";
-    
+
+    private final MetricsRecorder metricsRecorder;
+
+    /**
+     * Creates a factory which doesn't record any metrics.
+     */
+    public OpenApiFactory() {
+        this(new MetricsRecorder());
+    }
+
+    /**
+     * Creates a factory which records the version detection into the metrics of the current check.
+     * @param metricsRecorder the {@link MetricsRecorder}
+     */
+    @Autowired
+    public OpenApiFactory(MetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder;
+    }
+
     /**
      * The method loads an OpenAPI definition from the file system and detects its version.
+     * <br>
+     * A file on the file system is read only once, the version detection and the parsing work on the same content.
+     * Other locations, like classpath resources or URLs, are read by the parser itself.
      * @param path the path of the definition file. It can be a relative path or an absolute one as well.
      * @return the {@link OpenAPI} object instance representing the definition
      * @throws IllegalStateException in case any error happens or the version is unsupported
      */
     public OpenAPI fromFile(String path) {
+        return fromFile(path, ReferenceResolution.FULL);
+    }
+
+    /**
+     * The method loads an OpenAPI definition from the file system and detects its version.
+     * @param path the path of the definition file. It can be a relative path or an absolute one as well.
+     * @param referenceResolution how the references of the definition are resolved
+     * @return the {@link OpenAPI} object instance representing the definition
+     * @throws IllegalStateException in case any error happens or the version is unsupported
+     * @see #fromFile(String)
+     */
+    public OpenAPI fromFile(String path, ReferenceResolution referenceResolution) {
+        Path file = Paths.get(path);
+        if (!Files.isRegularFile(file)) {
+            log.debug("{} is not a file on the file system, it will be loaded by the parser", path);
+            return load(path, () -> OpenApiVersion.UNSUPPORTED, () -> loadV3Api(path, referenceResolution));
+        }
+        byte[] content;
+        try {
+            content = Files.readAllBytes(file);
+        } catch (IOException e) {
+            throw new IllegalStateException("API cannot be loaded from path " + path, e);
+        }
+        return fromBytes(content, file.toAbsolutePath().toString(), referenceResolution);
+    }
+
+    /**
+     * The method loads an OpenAPI definition from its content and detects its version.
+     * @param content the UTF-8 encoded content of the definition
+     * @param location the location of the definition used for resolving relative references and for logging,
+     *                 can be null if the definition has no relative references
+     * @return the {@link OpenAPI} object instance representing the definition
+     * @throws IllegalStateException in case any error happens or the version is unsupported
+     */
+    public OpenAPI fromBytes(byte[] content, String location) {
+        return fromBytes(content, location, ReferenceResolution.FULL);
+    }
+
+    /**
+     * The method loads an OpenAPI definition from its content and detects its version.
+     * @param content the UTF-8 encoded content of the definition
+     * @param location the location of the definition used for resolving relative references and for logging,
+     *                 can be null if the definition has no relative references
+     * @param referenceResolution how the references of the definition are resolved
+     * @return the {@link OpenAPI} object instance representing the definition
+     * @throws IllegalStateException in case any error happens or the version is unsupported
+     */
+    public OpenAPI fromBytes(byte[] content, String location, ReferenceResolution referenceResolution) {
+        return fromString(new String(content, StandardCharsets.UTF_8), location, referenceResolution);
+    }
+
+    /**
+     * The method loads an OpenAPI definition from an {@link InputStream} and detects its version.
+     * The stream is read fully but not closed.
+     * @param inputStream the stream of the UTF-8 encoded content of the definition
+     * @param location the location of the definition used for resolving relative references and for logging,
+     *                 can be null if the definition has no relative references
+     * @return the {@link OpenAPI} object instance representing the definition
+     * @throws IllegalStateException in case any error happens or the version is unsupported
+     */
+    public OpenAPI fromInputStream(InputStream inputStream, String location) {
+        return fromInputStream(inputStream, location, ReferenceResolution.FULL);
+    }
+
+    /**
+     * The method loads an OpenAPI definition from an {@link InputStream} and detects its version.
+     * The stream is read fully but not closed.
+     * @param inputStream the stream of the UTF-8 encoded content of the definition
+     * @param location the location of the definition used for resolving relative references and for logging,
+     *                 can be null if the definition has no relative references
+     * @param referenceResolution how the references of the definition are resolved
+     * @return the {@link OpenAPI} object instance representing the definition
+     * @throws IllegalStateException in case any error happens or the version is unsupported
+     */
+    public OpenAPI fromInputStream(InputStream inputStream, String location, ReferenceResolution referenceResolution) {
+        try {
+            return fromBytes(inputStream.readAllBytes(), location, referenceResolution);
+        } catch (IOException e) {
+            throw new IllegalStateException("API cannot be loaded from " + describe(location), e);
+        }
+    }
+
+    /**
+     * The method loads an OpenAPI definition from its content and detects its version.
+     * @param content the content of the definition
+     * @param location the location of the definition used for resolving relative references and for logging,
+     *                 can be null if the definition has no relative references
+     * @return the {@link OpenAPI} object instance representing the definition
+     * @throws IllegalStateException in case any error happens or the version is unsupported
+     */
+    public OpenAPI fromString(String content, String location) {
+        return fromString(content, location, ReferenceResolution.FULL);
+    }
+
+    /**
+     * The method loads an OpenAPI definition from its content and detects its version.
+     * @param content the content of the definition
+     * @param location the location of the definition used for resolving relative references and for logging,
+     *                 can be null if the definition has no relative references
+     * @param referenceResolution how the references of the definition are resolved
+     * @return the {@link OpenAPI} object instance representing the definition
+     * @throws IllegalStateException in case any error happens or the version is unsupported
+     */
+    public OpenAPI fromString(String content, String location, ReferenceResolution referenceResolution) {
+        String description = describe(location);
+        return load(description, () -> detectSourceVersion(content, description), () -> loadV3Api(content, location, referenceResolution));
+    }
+
+    private OpenAPI load(String path, Supplier<OpenApiVersion> sourceVersionDetector, Supplier<OpenAPI> apiLoader) {
         try {
             // Detect if this is a Swagger 2.0 file before parsing
-            boolean isV2Source = detectV2SourceFile(path);
-            
-            OpenAPI loadedApi = loadV3Api(path);
+            OpenApiVersion sourceVersion = metricsRecorder.measure("version-detection", sourceVersionDetector);
+            boolean isV2Source = sourceVersion == OpenApiVersion.V2_CONVERTED;
+
+            OpenAPI loadedApi;
+            if (isV2Source || sourceVersion == OpenApiVersion.V3_0_X) {
+                loadedApi = apiLoader.get();
+            } else {
+                synchronized (PARSER_LOCK) {
+                    loadedApi = apiLoader.get();
+                }
+            }
             if (loadedApi == null) {
                 String errorMsg = isV2Source 
                     ? "Failed to convert Swagger 2.0 specification from path " + path
@@ -81,47 +242,101 @@ public class OpenApiFactory {
     }
 
     /**
-     * Detects if a file is a Swagger 2.0 specification by reading the file header.
-     * Checks for the presence of "swagger: \"2.0\"" (YAML) or "\"swagger\": \"2.0\"" (JSON).
+     * Detects if a content is a Swagger 2.0 or an OpenAPI 3.0 specification by scanning its first lines.
+     * Checks for the presence of "swagger: \"2.0\"" (YAML) or "\"swagger\": \"2.0\"" (JSON), and
+     * "openapi: 3.0.x" (YAML) or "\"openapi\": \"3.0.x\"" (JSON).
      * 
-     * @param path the path to the specification file
-     * @return true if the file appears to be Swagger 2.0, false otherwise
+     * @param content the content of the specification
+     * @param path the path of the specification for logging
+     * @return {@link OpenApiVersion#V2_CONVERTED} or {@link OpenApiVersion#V3_0_X} if the content appears to be
+     *     Swagger 2.0 or OpenAPI 3.0, {@link OpenApiVersion#UNSUPPORTED} otherwise
      */
-    private boolean detectV2SourceFile(String path) {
-        try (BufferedReader reader = new BufferedReader(new FileReader(path, java.nio.charset.StandardCharsets.UTF_8))) {
-            String line;
-            int linesRead = 0;
-            
-            while ((line = reader.readLine()) != null && linesRead < MAX_LINES_TO_SCAN) {
-                linesRead++;
-                
-                // Trim the line to handle leading whitespace which is valid in YAML
-                String trimmedLine = line.trim();
+    private OpenApiVersion detectSourceVersion(String content, String path) {
+        Iterator<String> lines = content.lines().limit(MAX_LINES_TO_SCAN).iterator();
+        int linesRead = 0;
+        while (lines.hasNext()) {
+            linesRead++;
 
-                // Check for YAML format: swagger: "2.0" or swagger: 2.0 or swagger: '2.0'
-                if (SWAGGER_2_YAML_PATTERN.matcher(trimmedLine).find()) {
-                    log.debug("Detected Swagger 2.0 YAML format in file: {}", path);
-                    return true;
-                }
-                
-                // Check for JSON format: "swagger": "2.0"
-                if (SWAGGER_2_JSON_PATTERN.matcher(trimmedLine).find()) {
-                    log.debug("Detected Swagger 2.0 JSON format in file: {}", path);
-                    return true;
-                }
+            // Trim the line to handle leading whitespace which is valid in YAML
+            String trimmedLine = lines.next().trim();
+
+            // Check for YAML format: swagger: "2.0" or swagger: 2.0 or swagger: '2.0'
+            if (SWAGGER_2_YAML_PATTERN.matcher(trimmedLine).find()) {
+                log.debug("Detected Swagger 2.0 YAML format in file: {}", path);
+                return OpenApiVersion.V2_CONVERTED;
+            }
+
+            // Check for JSON format: "swagger": "2.0"
+            if (SWAGGER_2_JSON_PATTERN.matcher(trimmedLine).find()) {
+                log.debug("Detected Swagger 2.0 JSON format in file: {}", path);
+                return OpenApiVersion.V2_CONVERTED;
+            }
+
+            if (OPENAPI_3_0_YAML_PATTERN.matcher(trimmedLine).find() || OPENAPI_3_0_JSON_PATTERN.matcher(trimmedLine).find()) {
+                log.debug("Detected OpenAPI 3.0 format in file: {}", path);
+                return OpenApiVersion.V3_0_X;
             }
-            
-            log.debug("No Swagger 2.0 signature detected in first {} lines of file: {}", linesRead, path);
-            return false;
-        } catch (IOException e) {
-            log.warn("Could not read file to detect version: {}. Assuming OpenAPI 3.x.", path, e);
-            return false;
         }
+
+        log.debug("No Swagger 2.0 or OpenAPI 3.0 signature detected in first {} lines of file: {}", linesRead, path);
+        return OpenApiVersion.UNSUPPORTED;
+    }
+
+    private OpenAPI loadV3Api(String path, ReferenceResolution referenceResolution) {
+        return new OpenAPIV3Parser().read(path, null, createParseOptions(referenceResolution));
     }
 
-    private OpenAPI loadV3Api(String path) {
+    /*
+     * Mirrors OpenAPIV3Parser#read for already loaded content: the parser extensions, e.g. the Swagger 2.0
+     * converter, are tried in order and the first successfully parsed API wins.
+     */
+    private OpenAPI loadV3Api(String content, String location, ReferenceResolution referenceResolution) {
+        ParseOptions parseOptions = createParseOptions(referenceResolution);
+        for (SwaggerParserExtension extension : OpenAPIV3Parser.getExtensions()) {
+            SwaggerParseResult result;
+            if (extension instanceof OpenAPIV3Parser v3Parser) {
+                result = v3Parser.readContents(content, null, parseOptions, location);
+            } else if (extension instanceof SwaggerConverter converter) {
+                result = convertV2Contents(converter, content, location, parseOptions);
+            } else {
+                result = extension.readContents(content, null, parseOptions);
+            }
+            if (result != null && result.getOpenAPI() != null) {
+                return result.getOpenAPI();
+            }
+        }
+        return null;
+    }
+
+    /*
+     * Mirrors SwaggerConverter#readLocation for already loaded content. SwaggerConverter#readContents resolves the
+     * relative references without a location, so the Swagger 2.0 definition is parsed and resolved against its
+     * location here, and only the conversion is left to the converter.
+     */
+    private SwaggerParseResult convertV2Contents(SwaggerConverter converter, String content, String location, ParseOptions parseOptions) {
+        SwaggerDeserializationResult v2Result = new SwaggerParser().readWithInfo(content, false);
+        if (v2Result.getSwagger() != null && parseOptions.isResolve()) {
+            v2Result.setSwagger(new SwaggerResolver(v2Result.getSwagger(), null, location).resolve());
+        }
+        SwaggerParseResult result = converter.convert(v2Result);
+        if (result != null && result.getOpenAPI() != null && parseOptions.isResolveFully()) {
+            new ResolverFully(parseOptions).resolveFully(result.getOpenAPI());
+        }
+        return result;
+    }
+
+    private ParseOptions createParseOptions(ReferenceResolution referenceResolution) {
         ParseOptions parseOptions = new ParseOptions();
-        parseOptions.setResolveFully(true);
-        return new OpenAPIV3Parser().read(path, null, parseOptions);
+        if (referenceResolution == ReferenceResolution.LAZY) {
+            // only the references to other files are resolved, the local ones are resolved during the transformation
+            parseOptions.setResolve(true);
+        } else {
+            parseOptions.setResolveFully(true);
+        }
+        return parseOptions;
+    }
+
+    private String describe(String location) {
+        return StringUtils.defaultIfBlank(location, IN_MEMORY_LOCATION);
     }
 }
@@ -0,0 +1,17 @@
+package com.docktape.swagger.brake.runner.openapi;
+
+/**
+ * Enum representing how the references of an OpenAPI definition are resolved while loading it.
+ */
+public enum ReferenceResolution {
+    /**
+     * Every reference is inlined by the parser, producing a fully expanded object graph.
+     */
+    FULL,
+
+    /**
+     * References to other files are resolved by the parser, while the local references are kept and resolved
+     * on demand during the transformation, where each referenced schema is transformed only once.
+     */
+    LAZY
+}
@@ -70,4 +70,46 @@ class CheckerOptionsTest {
                 () -> assertTrue(exception.getMessage().contains("21"))
         );
     }
+
+    @Test
+    void testDefaultCheckParallelismAndChunkSize() {
+        CheckerOptions options = new CheckerOptions();
+        assertAll(
+                () -> assertEquals(1, options.getCheckParallelism()),
+                () -> assertEquals(64, options.getCheckChunkSize())
+        );
+    }
+
+    @Test
+    void testSetCheckParallelismWithOutOfRangeValueThrowsException() {
+        CheckerOptions options = new CheckerOptions();
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            options.setCheckParallelism(0);
+        });
+        assertTrue(exception.getMessage().contains("must be between 1 and 256"));
+    }
+
+    @Test
+    void testSetCheckChunkSizeWithZeroThrowsException() {
+        CheckerOptions options = new CheckerOptions();
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            options.setCheckChunkSize(0);
+        });
+        assertTrue(exception.getMessage().contains("must be at least 1"));
+    }
+
+    @Test
+    void testDefaultTransformationParallelism() {
+        CheckerOptions options = new CheckerOptions();
+        assertEquals(1, options.getTransformationParallelism());
+    }
+
+    @Test
+    void testSetTransformationParallelismWithOutOfRangeValueThrowsException() {
+        CheckerOptions options = new CheckerOptions();
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            options.setTransformationParallelism(257);
+        });
+        assertTrue(exception.getMessage().contains("must be between 1 and 256"));
+    }
 }
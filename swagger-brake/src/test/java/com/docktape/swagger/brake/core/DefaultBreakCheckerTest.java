@@ -0,0 +1,168 @@
+package com.docktape.swagger.brake.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.docktape.swagger.brake.core.metrics.CheckMetrics;
+import com.docktape.swagger.brake.core.metrics.MetricsRecorder;
+import com.docktape.swagger.brake.core.metrics.PhaseMetrics;
+import com.docktape.swagger.brake.core.model.HttpMethod;
+import com.docktape.swagger.brake.core.model.Path;
+import com.docktape.swagger.brake.core.model.Response;
+import com.docktape.swagger.brake.core.model.Specification;
+import com.docktape.swagger.brake.core.rule.BreakingChangeRule;
+import com.docktape.swagger.brake.core.rule.PathSkipper;
+import com.docktape.swagger.brake.core.rule.SchemaComparator;
+import com.docktape.swagger.brake.core.rule.path.PathDeletedRule;
+import com.docktape.swagger.brake.core.rule.response.ResponseDeletedRule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class DefaultBreakCheckerTest {
+    private CheckerOptions checkerOptions;
+    private MetricsRecorder metricsRecorder;
+    private DefaultBreakChecker underTest;
+
+    @BeforeEach
+    void setUp() {
+        checkerOptions = new CheckerOptions();
+        CheckerOptionsProvider checkerOptionsProvider = new CheckerOptionsProvider();
+        checkerOptionsProvider.set(checkerOptions);
+        PathSkipper pathSkipper = mock(PathSkipper.class);
+        when(pathSkipper.shouldSkip(any())).thenReturn(false);
+        List<BreakingChangeRule<? extends BreakingChange>> rules = List.of(
+            new ResponseDeletedRule(pathSkipper),
+            new PathDeletedRule(pathSkipper, checkerOptionsProvider)
+        );
+        metricsRecorder = new MetricsRecorder();
+        underTest = new DefaultBreakChecker(rules, pathSkipper, checkerOptionsProvider, new SchemaComparator(), metricsRecorder);
+    }
+
+    @Test
+    void testCheckConcurrentlyShouldReturnSameResultInSameOrderAsSequentialCheck() {
+        // given
+        Specification oldApi = specification(100, List.of("200", "400", "404"));
+        Specification newApi = specification(90, List.of("200"));
+        Collection<BreakingChange> expected = underTest.check(oldApi, newApi);
+        checkerOptions.setCheckParallelism(4);
+        checkerOptions.setCheckChunkSize(7);
+        // when
+        Collection<BreakingChange> result = underTest.check(oldApi, newApi);
+        // then
+        assertThat(expected).hasSize(10 + 90 * 2);
+        assertThat(result).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void testCheckShouldReturnSameResultInSameOrderWhenTraversingChunksInParallel() {
+        // given
+        Specification oldApi = specification(100, List.of("200", "400", "404"));
+        Specification newApi = specification(90, List.of("200"));
+        checkerOptions.setCheckChunkSize(100);
+        Collection<BreakingChange> expected = underTest.check(oldApi, newApi);
+        checkerOptions.setCheckChunkSize(3);
+        // when
+        Collection<BreakingChange> result = underTest.check(oldApi, newApi);
+        // then
+        assertThat(expected).hasSize(10 + 90 * 2);
+        assertThat(result).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void testCheckShouldMeasureRulesInsideTheChunkedTraversal() {
+        // given
+        Specification oldApi = specification(100, List.of("200", "400", "404"));
+        Specification newApi = specification(90, List.of("200"));
+        checkerOptions.setCheckChunkSize(30);
+        Collection<BreakingChange> expected = underTest.check(oldApi, newApi);
+        CheckMetrics metrics = new CheckMetrics();
+        // when
+        Collection<BreakingChange> result = metricsRecorder.callWith(metrics, () -> underTest.check(oldApi, newApi));
+        // then
+        assertThat(result).containsExactlyElementsOf(expected);
+        Map<String, Long> countsByPhase = metrics.getPhases().stream()
+            .collect(Collectors.toMap(PhaseMetrics::getName, PhaseMetrics::getCount));
+        // 4 chunks of operations, the webhooks are empty and have no chunks
+        assertThat(countsByPhase).containsEntry("rule:ResponseDeletedRule", 4L);
+        assertThat(countsByPhase).containsEntry("rule:PathDeletedRule", 1L);
+    }
+
+    @Test
+    void testCheckConcurrentlyShouldWorkAfterPoolsAreDestroyed() {
+        // given
+        Specification oldApi = specification(20, List.of("200", "400"));
+        Specification newApi = specification(10, List.of("200"));
+        checkerOptions.setCheckParallelism(4);
+        Collection<BreakingChange> expected = underTest.check(oldApi, newApi);
+        // when
+        underTest.destroy();
+        Collection<BreakingChange> result = underTest.check(oldApi, newApi);
+        // then
+        assertThat(result).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void testCheckConcurrentlyShouldHandleEmptySpecifications() {
+        // given
+        Specification api = new Specification(Collections.emptyList());
+        checkerOptions.setCheckParallelism(4);
+        // when
+        Collection<BreakingChange> result = underTest.check(api, api);
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void testCheckShouldEmitRuleExecutionEventsWhenRecording(@TempDir java.nio.file.Path tempDir) throws IOException {
+        // given
+        Specification oldApi = specification(10, List.of("200", "400"));
+        Specification newApi = specification(8, List.of("200"));
+        java.nio.file.Path recordingFile = tempDir.resolve("check.jfr");
+        // when
+        Collection<BreakingChange> result;
+        try (Recording recording = new Recording()) {
+            recording.enable(RuleExecutionEvent.class).withoutThreshold();
+            recording.start();
+            result = underTest.check(oldApi, newApi);
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+        // then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile).stream()
+            .filter(e -> "com.docktape.swagger.brake.RuleExecution".equals(e.getEventType().getName()))
+            .toList();
+        Map<String, Integer> findingsByRule = events.stream()
+            .collect(Collectors.groupingBy(e -> e.getString("rule"), Collectors.summingInt(e -> e.getInt("findings"))));
+        assertThat(findingsByRule).containsEntry(ResponseDeletedRule.class.getName(), 8)
+            .containsEntry(PathDeletedRule.class.getName(), 2);
+        assertThat(findingsByRule.values().stream().mapToInt(Integer::intValue).sum()).isEqualTo(result.size());
+        assertThat(events).allSatisfy(e -> assertThat(e.getDuration("ruleTime")).isLessThanOrEqualTo(e.getDuration()));
+    }
+
+    private Specification specification(int pathCount, List<String> responseCodes) {
+        List<Response> responses = new ArrayList<>();
+        for (String code : responseCodes) {
+            responses.add(new Response(code, Collections.emptyMap(), Collections.emptyMap()));
+        }
+        List<Path> paths = new ArrayList<>();
+        for (int i = 0; i < pathCount; i++) {
+            paths.add(new Path("/path" + i, HttpMethod.GET, null, Collections.emptyList(), responses, false, false));
+        }
+        return new Specification(paths);
+    }
+}
@@ -0,0 +1,66 @@
+package com.docktape.swagger.brake.core.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class CheckMetricsTest {
+    private final CheckMetrics underTest = new CheckMetrics();
+
+    @Test
+    void testMeasureShouldSumUpExecutionsOfTheSamePhase() {
+        // given
+        // when
+        String first = underTest.measure("load:old", () -> "first");
+        String second = underTest.measure("load:old", () -> new StringBuilder("second").toString());
+        underTest.measure("load:new", () -> null);
+        // then
+        assertThat(first).isEqualTo("first");
+        assertThat(second).isEqualTo("second");
+        List<PhaseMetrics> phases = underTest.getPhases();
+        assertThat(phases).extracting(PhaseMetrics::getName).containsExactly("load:old", "load:new");
+        assertThat(phases).extracting(PhaseMetrics::getCount).containsExactly(2L, 1L);
+        assertThat(phases.get(0).getWallTimeNanos()).isPositive();
+    }
+
+    @Test
+    void testMeasureShouldRecordPhaseWhenItFails() {
+        // given
+        // when
+        assertThatThrownBy(() -> underTest.measure("check", () -> {
+            throw new IllegalStateException("failed");
+        })).isExactlyInstanceOf(IllegalStateException.class);
+        // then
+        assertThat(underTest.getPhases()).extracting(PhaseMetrics::getName).containsExactly("check");
+    }
+
+    @Test
+    void testGetPhasesShouldKeepTheOrderOfStartWithoutUnfinishedPhases() {
+        // given
+        List<PhaseMetrics> nestedPhases = underTest.measure("check", () -> underTest.measure("rule:PathDeletedRule", underTest::getPhases));
+        // when
+        List<PhaseMetrics> result = underTest.getPhases();
+        // then
+        assertThat(nestedPhases).isEmpty();
+        assertThat(result).extracting(PhaseMetrics::getName).containsExactly("check", "rule:PathDeletedRule");
+    }
+
+    @Test
+    void testRecordCacheShouldSumUpStatisticsOfTheSameCache() {
+        // given
+        underTest.recordCache("schema-store", 3, 1);
+        underTest.recordCache("schema-store", 3, 1);
+        underTest.recordCache("schema-comparison", 0, 0);
+        // when
+        List<CacheMetrics> result = underTest.getCaches();
+        // then
+        assertThat(result).extracting(CacheMetrics::getName).containsExactly("schema-store", "schema-comparison");
+        assertThat(result.get(0).getHits()).isEqualTo(6);
+        assertThat(result.get(0).getMisses()).isEqualTo(2);
+        assertThat(result.get(0).getHitRate()).isEqualTo(0.75);
+        assertThat(result.get(1).getHitRate()).isZero();
+    }
+}
@@ -0,0 +1,60 @@
+package com.docktape.swagger.brake.core.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+class MetricsRecorderTest {
+    private final MetricsRecorder underTest = new MetricsRecorder();
+
+    @Test
+    void testMeasureShouldRecordIntoBoundMetrics() {
+        // given
+        CheckMetrics metrics = new CheckMetrics();
+        // when
+        String result = underTest.callWith(metrics, () -> {
+            underTest.recordCache("schema-store", 1, 0);
+            return underTest.measure("version-detection", () -> "result");
+        });
+        // then
+        assertThat(result).isEqualTo("result");
+        assertThat(metrics.getPhases()).extracting(PhaseMetrics::getName).containsExactly("version-detection");
+        assertThat(metrics.getCaches()).extracting(CacheMetrics::getName).containsExactly("schema-store");
+        assertThat(underTest.get()).isEmpty();
+    }
+
+    @Test
+    void testMeasureShouldOnlyExecuteSupplierWhenNoMetricsAreBound() {
+        // given
+        // when
+        String result = underTest.measure("version-detection", () -> "result");
+        underTest.recordCache("schema-store", 1, 0);
+        // then
+        assertThat(result).isEqualTo("result");
+        assertThat(underTest.isRecording()).isFalse();
+    }
+
+    @Test
+    void testPropagateShouldBindMetricsOnOtherThread() {
+        // given
+        CheckMetrics metrics = new CheckMetrics();
+        Supplier<Optional<CheckMetrics>> supplier = underTest.callWith(metrics, () -> underTest.propagate(underTest::get));
+        // when
+        Optional<CheckMetrics> result = CompletableFuture.supplyAsync(supplier).join();
+        // then
+        assertThat(result).containsSame(metrics);
+    }
+
+    @Test
+    void testCallWithShouldThrowExceptionWhenMetricsIsNull() {
+        // given
+        // when
+        // then
+        assertThatThrownBy(() -> underTest.callWith(null, () -> null)).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,51 @@
+package com.docktape.swagger.brake.core.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class AttributePathTest {
+
+    @Test
+    void testToStringJoinsSegmentsWithDots() {
+        // given
+        AttributePath underTest = AttributePath.ROOT.child("owner").child("address").child("street");
+        // when
+        String result = underTest.toString();
+        // then
+        assertThat(result).isEqualTo("owner.address.street");
+    }
+
+    @Test
+    void testRootIsRenderedAsEmptyString() {
+        // given
+        // when
+        // then
+        assertThat(AttributePath.ROOT.toString()).isEmpty();
+        assertThat(AttributePath.ROOT.isRoot()).isTrue();
+        assertThat(AttributePath.ROOT.getParent()).isEmpty();
+    }
+
+    @Test
+    void testEqualsComparesSegmentsStructurally() {
+        // given
+        AttributePath first = AttributePath.of("owner", "name");
+        AttributePath second = AttributePath.ROOT.child("owner").child("name");
+        // when
+        // then
+        assertThat(first).isEqualTo(second).hasSameHashCodeAs(second);
+        assertThat(first.getDepth()).isEqualTo(2);
+        assertThat(first.getParent()).contains(AttributePath.of("owner"));
+    }
+
+    @Test
+    void testDottedSegmentIsNotEqualToNestedPath() {
+        // given
+        AttributePath dotted = AttributePath.of("owner.name");
+        AttributePath nested = AttributePath.of("owner", "name");
+        // when
+        // then
+        assertThat(dotted).isNotEqualTo(nested);
+        assertThat(dotted.toString()).isEqualTo(nested.toString());
+    }
+}
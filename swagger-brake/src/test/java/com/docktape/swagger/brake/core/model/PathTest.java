@@ -0,0 +1,80 @@
+package com.docktape.swagger.brake.core.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import com.docktape.swagger.brake.core.model.parameter.RequestParameter;
+import org.junit.jupiter.api.Test;
+
+class PathTest {
+
+    @Test
+    void testGetResponseByCodeReturnsMatchingResponse() {
+        // given
+        Response ok = new Response("200", Collections.emptyMap(), Collections.emptyMap());
+        Response notFound = new Response("404", Collections.emptyMap(), Collections.emptyMap());
+        Path underTest = path(Collections.emptyList(), List.of(ok, notFound));
+        // when
+        // then
+        assertThat(underTest.getResponseByCode("404")).containsSame(notFound);
+        assertThat(underTest.getResponseByCode("500")).isEmpty();
+    }
+
+    @Test
+    void testGetRequestParameterByNameReturnsFirstParameterWithName() {
+        // given
+        RequestParameter query = new RequestParameter(RequestParameterInType.QUERY, "id", false, AttributeType.STRING);
+        RequestParameter header = new RequestParameter(RequestParameterInType.HEADER, "id", false, AttributeType.STRING);
+        Path underTest = path(List.of(query, header), Collections.emptyList());
+        // when
+        // then
+        assertThat(underTest.getRequestParameterByName("id")).containsSame(query);
+        assertThat(underTest.getRequestParameterByName("other")).isEmpty();
+    }
+
+    @Test
+    void testIsMediaTypeAllowedConsidersWildcard() {
+        // given
+        MediaType json = new MediaType("application/json");
+        Response wildcard = new Response("200", Map.of(MediaType.ALL, new Schema("object", null, null, null)), Collections.emptyMap());
+        Response specific = new Response("200", Map.of(json, new Schema("object", null, null, null)), Collections.emptyMap());
+        // when
+        // then
+        assertThat(wildcard.isMediaTypeAllowed(new MediaType("text/plain"))).isTrue();
+        assertThat(specific.isMediaTypeAllowed(new MediaType("application/json"))).isTrue();
+        assertThat(specific.isMediaTypeAllowed(new MediaType("text/plain"))).isFalse();
+    }
+
+    @Test
+    void testFingerprintDoesNotDependOnOrderOfResponsesAndParameters() {
+        // given
+        Response ok = new Response("200", Collections.emptyMap(), Collections.emptyMap());
+        Response notFound = new Response("404", Collections.emptyMap(), Collections.emptyMap());
+        RequestParameter query = new RequestParameter(RequestParameterInType.QUERY, "id", false, AttributeType.STRING);
+        RequestParameter header = new RequestParameter(RequestParameterInType.HEADER, "id", false, AttributeType.STRING);
+        Path underTest = path(List.of(query, header), List.of(ok, notFound));
+        // when
+        long result = underTest.getFingerprint();
+        // then
+        assertThat(result).isEqualTo(path(List.of(header, query), List.of(notFound, ok)).getFingerprint());
+    }
+
+    @Test
+    void testFingerprintDiffersWhenResponseHeaderChanges() {
+        // given
+        Response optional = new Response("200", Collections.emptyMap(), Map.of("X-Rate-Limit", new ResponseHeader("X-Rate-Limit", false, "integer")));
+        Response required = new Response("200", Collections.emptyMap(), Map.of("X-Rate-Limit", new ResponseHeader("X-Rate-Limit", true, "integer")));
+        Path underTest = path(Collections.emptyList(), List.of(optional));
+        // when
+        long result = underTest.getFingerprint();
+        // then
+        assertThat(result).isNotEqualTo(path(Collections.emptyList(), List.of(required)).getFingerprint());
+    }
+
+    private Path path(List<RequestParameter> requestParameters, List<Response> responses) {
+        return new Path("/pets", HttpMethod.GET, null, requestParameters, responses, false, false);
+    }
+}
@@ -0,0 +1,121 @@
+package com.docktape.swagger.brake.core.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+class SchemaTest {
+
+    @Test
+    void testRecursiveAccessorsFlattenNestedAttributes() {
+        // given
+        Schema underTest = petSchema();
+        // when
+        // then
+        assertThat(underTest.getAttributeNames()).containsExactly(
+            AttributePath.of("id"), AttributePath.of("owner"), AttributePath.of("owner", "name"), AttributePath.of("owner", "nickname"));
+        assertThat(underTest.getNonDeprecatedAttributeNames()).containsExactly(AttributePath.of("id"), AttributePath.of("owner"), AttributePath.of("owner", "name"));
+        assertThat(underTest.getRequiredAttributeNames()).containsExactlyInAnyOrder(AttributePath.of("id"), AttributePath.of("owner"), AttributePath.of("owner", "name"));
+        assertThat(underTest.getNullableAttributes()).containsEntry(AttributePath.of("owner", "nickname"), true).containsEntry(AttributePath.of("id"), false);
+        assertThat(underTest.getTypes()).containsEntry(AttributePath.ROOT, "object")
+            .containsEntry(AttributePath.of("owner"), "object")
+            .containsEntry(AttributePath.of("name"), "string");
+    }
+
+    @Test
+    void testAttributeNamesAreSortedByTheirDottedNames() {
+        // given
+        Schema child = new Schema("object", Set.of(), attributes(new SchemaAttribute("zip", stringSchema(), false, false, false)), null);
+        Schema underTest = new Schema("object", Set.of(), attributes(
+            new SchemaAttribute("address", child, false, false, false),
+            new SchemaAttribute("city", stringSchema(), false, false, false)), null);
+        // when
+        // then
+        assertThat(underTest.getAttributeNames()).containsExactly(AttributePath.of("address"), AttributePath.of("address", "zip"), AttributePath.of("city"));
+        assertThat(underTest.getNonDeprecatedAttributeNames()).containsExactly(AttributePath.of("address"), AttributePath.of("address", "zip"), AttributePath.of("city"));
+    }
+
+    @Test
+    void testRequiredAttributeNamesExcludeChildrenOfOptionalAttributes() {
+        // given
+        Schema child = new Schema("object", Set.of(), attributes(new SchemaAttribute("name", stringSchema(), true, false, false)), null);
+        Schema underTest = new Schema("object", Set.of(), attributes(new SchemaAttribute("owner", child, false, false, false)), null);
+        // when
+        Set<AttributePath> result = underTest.getRequiredAttributeNames();
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void testRecursiveAccessorsReturnUnmodifiableViews() {
+        // given
+        Schema underTest = petSchema();
+        // when
+        Set<AttributePath> result = underTest.getRequiredAttributeNames();
+        // then
+        assertThatThrownBy(() -> result.add(AttributePath.of("other"))).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(underTest.getRequiredAttributeNames()).hasSize(3);
+    }
+
+    @Test
+    void testFingerprintIsSameForStructurallyIdenticalSchemas() {
+        // given
+        Schema underTest = petSchema();
+        // when
+        long result = underTest.getFingerprint();
+        // then
+        assertThat(result).isEqualTo(petSchema().getFingerprint());
+    }
+
+    @Test
+    void testFingerprintDiffersWhenNestedAttributeChanges() {
+        // given
+        Schema owner = new Schema("object", Set.of(), attributes(
+            new SchemaAttribute("name", stringSchema(), true, false, false),
+            new SchemaAttribute("nickname", stringSchema(), false, true, false)
+        ), null);
+        Schema underTest = new Schema("object", Set.of(), attributes(
+            new SchemaAttribute("id", new Schema("integer", Set.of(), Set.of(), null), true, false, false),
+            new SchemaAttribute("owner", owner, true, false, false)
+        ), null);
+        // when
+        long result = underTest.getFingerprint();
+        // then
+        assertThat(underTest).isEqualTo(petSchema());
+        assertThat(result).isNotEqualTo(petSchema().getFingerprint());
+    }
+
+    @Test
+    void testFingerprintCoversSubclassFields() {
+        // given
+        StringSchema underTest = new StringSchema("string", Set.of(), Set.of(), null, 10, null, null, null, null);
+        StringSchema other = new StringSchema("string", Set.of(), Set.of(), null, 20, null, null, null, null);
+        // when
+        long result = underTest.getFingerprint();
+        // then
+        assertThat(result).isNotEqualTo(other.getFingerprint()).isNotEqualTo(stringSchema().getFingerprint());
+    }
+
+    private Schema petSchema() {
+        Schema owner = new Schema("object", Set.of(), attributes(
+            new SchemaAttribute("name", stringSchema(), true, false, false),
+            new SchemaAttribute("nickname", stringSchema(), false, true, true)
+        ), null);
+        return new Schema("object", Set.of(), attributes(
+            new SchemaAttribute("id", new Schema("integer", Set.of(), Set.of(), null), true, false, false),
+            new SchemaAttribute("owner", owner, true, false, false)
+        ), null);
+    }
+
+    private Schema stringSchema() {
+        return new Schema("string", Set.of(), Set.of(), null);
+    }
+
+    private Set<SchemaAttribute> attributes(SchemaAttribute... attributes) {
+        return new TreeSet<>(Set.of(attributes));
+    }
+}
@@ -0,0 +1,79 @@
+package com.docktape.swagger.brake.core.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+class SpecificationTest {
+
+    @Test
+    void testGetPathReturnsMatchingPathAndMethod() {
+        // given
+        Path get = path("/pets", HttpMethod.GET);
+        Path post = path("/pets", HttpMethod.POST);
+        Specification underTest = new Specification(List.of(get, post));
+        // when
+        Optional<Path> result = underTest.getPath("/pets", HttpMethod.POST);
+        // then
+        assertThat(result).containsSame(post);
+    }
+
+    @Test
+    void testGetPathReturnsEmptyWhenMethodDoesNotMatch() {
+        // given
+        Specification underTest = new Specification(List.of(path("/pets", HttpMethod.GET)));
+        // when
+        Optional<Path> result = underTest.getPath("/pets", HttpMethod.DELETE);
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void testGetPathMatchesExactPathOnly() {
+        // given
+        Path withTrailingSlash = path("/pets/", HttpMethod.GET);
+        Path withoutTrailingSlash = path("/pets", HttpMethod.GET);
+        Specification underTest = new Specification(List.of(withTrailingSlash, withoutTrailingSlash));
+        // when
+        Optional<Path> result = underTest.getPath("/pets", HttpMethod.GET);
+        Optional<Path> missingResult = underTest.getPath("pets", HttpMethod.GET);
+        // then
+        assertThat(result).containsSame(withoutTrailingSlash);
+        assertThat(missingResult).isEmpty();
+    }
+
+    @Test
+    void testGetPathReturnsFirstPathWhenDuplicated() {
+        // given
+        Path first = path("/pets", HttpMethod.GET);
+        Path second = path("/pets", HttpMethod.GET);
+        Specification underTest = new Specification(List.of(first, second));
+        // when
+        Optional<Path> result = underTest.getPath("/pets", HttpMethod.GET);
+        // then
+        assertThat(result).containsSame(first);
+    }
+
+    @Test
+    void testWebhooksAreIndexedSeparately() {
+        // given
+        Path webhook = path("newPet", HttpMethod.POST);
+        Specification underTest = new Specification(Collections.emptyList(), Collections.emptyList(), List.of(webhook));
+        // when
+        Optional<Path> pathResult = underTest.getPath("newPet", HttpMethod.POST);
+        Optional<Path> webhookResult = underTest.getWebhook("newPet", HttpMethod.POST);
+        Optional<Path> webhookSpecResult = underTest.toWebhookSpecification().getPath(webhook);
+        // then
+        assertThat(pathResult).isEmpty();
+        assertThat(webhookResult).containsSame(webhook);
+        assertThat(webhookSpecResult).containsSame(webhook);
+    }
+
+    private Path path(String path, HttpMethod method) {
+        return new Path(path, method, null, Collections.emptyList(), Collections.emptyList(), false, false);
+    }
+}
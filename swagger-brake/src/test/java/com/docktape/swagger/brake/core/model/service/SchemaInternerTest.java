@@ -0,0 +1,80 @@
+package com.docktape.swagger.brake.core.model.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import com.docktape.swagger.brake.core.model.Schema;
+import com.docktape.swagger.brake.core.model.SchemaAttribute;
+import com.docktape.swagger.brake.core.model.SchemaBuilder;
+import org.junit.jupiter.api.Test;
+
+class SchemaInternerTest {
+    private final SchemaInterner underTest = new SchemaInterner();
+
+    @Test
+    void testInternShouldReturnTheSameInstanceWhenStructurallyIdenticalSchemasGiven() {
+        // given
+        Schema first = createPet(underTest.intern(new SchemaBuilder("string").maxLength(10).build()), true);
+        Schema second = createPet(underTest.intern(new SchemaBuilder("string").maxLength(10).build()), true);
+        // when
+        Schema firstResult = underTest.intern(first);
+        Schema secondResult = underTest.intern(second);
+        // then
+        assertThat(firstResult).isSameAs(first);
+        assertThat(secondResult).isSameAs(first);
+    }
+
+    @Test
+    void testInternShouldKeepSchemasApartWhenAttributeSchemasDiffer() {
+        // given
+        Schema first = createPet(underTest.intern(new SchemaBuilder("string").build()), true);
+        Schema second = createPet(underTest.intern(new SchemaBuilder("integer").build()), true);
+        // when
+        Schema firstResult = underTest.intern(first);
+        Schema secondResult = underTest.intern(second);
+        // then
+        assertThat(firstResult).isSameAs(first);
+        assertThat(secondResult).isSameAs(second);
+    }
+
+    @Test
+    void testInternShouldKeepSchemasApartWhenAttributeFlagsDiffer() {
+        // given
+        Schema stringSchema = underTest.intern(new SchemaBuilder("string").build());
+        Schema first = createPet(stringSchema, true);
+        Schema second = createPet(stringSchema, false);
+        // when
+        Schema firstResult = underTest.intern(first);
+        Schema secondResult = underTest.intern(second);
+        // then
+        assertThat(secondResult).isNotSameAs(firstResult);
+    }
+
+    @Test
+    void testInternShouldKeepSchemasApartWhenArrayItemsDiffer() {
+        // given
+        Schema stringPet = underTest.intern(createPet(underTest.intern(new SchemaBuilder("string").build()), true));
+        Schema integerPet = underTest.intern(createPet(underTest.intern(new SchemaBuilder("integer").build()), true));
+        Schema first = new SchemaBuilder("array").schema(stringPet).build();
+        Schema second = new SchemaBuilder("array").schema(integerPet).build();
+        // when
+        Schema firstResult = underTest.intern(first);
+        Schema secondResult = underTest.intern(second);
+        // then
+        assertThat(secondResult).isNotSameAs(firstResult);
+    }
+
+    @Test
+    void testInternShouldReturnNullWhenNullGiven() {
+        // given
+        // when
+        Schema result = underTest.intern(null);
+        // then
+        assertThat(result).isNull();
+    }
+
+    private Schema createPet(Schema nameSchema, boolean required) {
+        return new SchemaBuilder("object").schemaAttributes(List.of(new SchemaAttribute("name", nameSchema, required, false, false))).build();
+    }
+}
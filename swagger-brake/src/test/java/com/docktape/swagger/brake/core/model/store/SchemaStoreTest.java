@@ -0,0 +1,176 @@
+package com.docktape.swagger.brake.core.model.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.docktape.swagger.brake.core.model.Schema;
+import com.docktape.swagger.brake.core.model.SchemaBuilder;
+import org.junit.jupiter.api.Test;
+
+class SchemaStoreTest {
+    private final SchemaStore underTest = new SchemaStore(Collections.emptyMap());
+
+    @Test
+    void testGetTransformerShouldComputeOnceWhenCalledRepeatedly() {
+        // given
+        AtomicInteger computations = new AtomicInteger();
+        Schema schema = new SchemaBuilder("object").build();
+        // when
+        Optional<Schema> first = underTest.getTransformer("Pet", () -> {
+            computations.incrementAndGet();
+            return schema;
+        });
+        Optional<Schema> second = underTest.getTransformer("Pet", () -> {
+            computations.incrementAndGet();
+            return schema;
+        });
+        // then
+        assertThat(first).containsSame(schema);
+        assertThat(second).containsSame(schema);
+        assertThat(computations).hasValue(1);
+        SchemaStoreStatistics statistics = underTest.getStatistics();
+        assertThat(statistics.getMisses()).isEqualTo(1);
+        assertThat(statistics.getHits()).isEqualTo(1);
+        assertThat(statistics.getBypasses()).isZero();
+    }
+
+    @Test
+    void testGetTransformerShouldComputeOnceWhenCalledConcurrently() throws Exception {
+        // given
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Schema schema = new SchemaBuilder("object").build();
+        List<Callable<Optional<Schema>>> tasks = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            tasks.add(() -> underTest.getTransformer("Pet", () -> {
+                computations.incrementAndGet();
+                started.countDown();
+                await(release);
+                return schema;
+            }));
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        // when
+        List<Future<Optional<Schema>>> results = new ArrayList<>();
+        try {
+            tasks.forEach(task -> results.add(executorService.submit(task)));
+            await(started);
+            release.countDown();
+            // then
+            for (Future<Optional<Schema>> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).containsSame(schema);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertThat(computations).hasValue(1);
+        SchemaStoreStatistics statistics = underTest.getStatistics();
+        assertThat(statistics.getMisses()).isEqualTo(1);
+        assertThat(statistics.getHits() + statistics.getWaits()).isEqualTo(7);
+    }
+
+    @Test
+    void testGetTransformerShouldNotWaitWhenThreadsRequestEachOthersSchema() throws Exception {
+        // given
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Schema pet = new SchemaBuilder("object").build();
+        Schema category = new SchemaBuilder("object").build();
+        Callable<Optional<Schema>> petTask = () -> underTest.getTransformer("Pet", () -> {
+            bothStarted.countDown();
+            await(bothStarted);
+            underTest.getTransformer("Category", () -> category);
+            return pet;
+        });
+        Callable<Optional<Schema>> categoryTask = () -> underTest.getTransformer("Category", () -> {
+            bothStarted.countDown();
+            await(bothStarted);
+            underTest.getTransformer("Pet", () -> pet);
+            return category;
+        });
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        // when
+        try {
+            Future<Optional<Schema>> petResult = executorService.submit(petTask);
+            Future<Optional<Schema>> categoryResult = executorService.submit(categoryTask);
+            // then
+            assertThat(petResult.get(10, TimeUnit.SECONDS)).containsSame(pet);
+            assertThat(categoryResult.get(10, TimeUnit.SECONDS)).containsSame(category);
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertThat(underTest.getStatistics().getBypasses()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void testGetTransformerShouldComputeAgainWhenPreviousComputationFailed() {
+        // given
+        Schema schema = new SchemaBuilder("object").build();
+        assertThatThrownBy(() -> underTest.getTransformer("Pet", () -> {
+            throw new IllegalStateException("Reference not found for Category");
+        })).isExactlyInstanceOf(IllegalStateException.class);
+        // when
+        Optional<Schema> result = underTest.getTransformer("Pet", () -> schema);
+        // then
+        assertThat(result).containsSame(schema);
+    }
+
+    @Test
+    void testStartTransformationShouldComputeAgainWhenPreviousResultWasDiscarded() {
+        // given
+        Schema schema = new SchemaBuilder("object").build();
+        SchemaStore.Transformation discarded = underTest.startTransformation("Pet");
+        underTest.discardTransformation(discarded);
+        // when
+        SchemaStore.Transformation result = underTest.startTransformation("Pet");
+        // then
+        assertThat(result.isDone()).isFalse();
+        underTest.completeTransformation(result, schema);
+        assertThat(underTest.startTransformation("Pet").getResult()).isSameAs(schema);
+        SchemaStoreStatistics statistics = underTest.getStatistics();
+        assertThat(statistics.getDiscards()).isEqualTo(1);
+        assertThat(statistics.getMisses()).isEqualTo(1);
+        assertThat(statistics.getHits()).isEqualTo(1);
+    }
+
+    @Test
+    void testStartTransformationShouldNotReuseResultDeeperThanTheRemainingDepth() {
+        // given
+        Schema schema = new SchemaBuilder("object").build();
+        SchemaStore.Transformation transformation = underTest.startTransformation("Pet", 10);
+        underTest.completeTransformation(transformation, schema, 3);
+        // when
+        SchemaStore.Transformation shallow = underTest.startTransformation("Pet", 2);
+        SchemaStore.Transformation deep = underTest.startTransformation("Pet", 3);
+        // then
+        assertThat(shallow.isDone()).isFalse();
+        assertThat(deep.getResult()).isSameAs(schema);
+        assertThat(deep.getDepth()).isEqualTo(3);
+        SchemaStoreStatistics statistics = underTest.getStatistics();
+        assertThat(statistics.getBypasses()).isEqualTo(1);
+        assertThat(statistics.getHits()).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Timed out");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
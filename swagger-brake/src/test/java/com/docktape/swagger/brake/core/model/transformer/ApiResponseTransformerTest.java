@@ -3,12 +3,14 @@ package com.docktape.swagger.brake.core.model.transformer;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.docktape.swagger.brake.core.model.Response;
+import com.docktape.swagger.brake.core.model.service.TypeRefNameResolver;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -16,6 +18,9 @@ class ApiResponseTransformerTest {
     @Mock
     private MediaTypeTransformer mediaTypeTransformer;
 
+    @Spy
+    private ReferenceResolver referenceResolver = new ReferenceResolver(new TypeRefNameResolver());
+
     @InjectMocks
     private ApiResponseTransformer underTest;
 
@@ -29,7 +34,7 @@ class ApiResponseTransformerTest {
         ApiResponse apiResponse = new ApiResponse();
         apiResponse.setDescription("Unauthorized");
         // when
-        Response result = underTest.transform(new ImmutablePair<>(code, apiResponse));
+        Response result = underTest.transform(new ImmutablePair<>(code, apiResponse), TransformationContext.builder().build());
         // then
         assertThat(result).isNotNull();
         assertThat(result.getCode()).isEqualTo(code);
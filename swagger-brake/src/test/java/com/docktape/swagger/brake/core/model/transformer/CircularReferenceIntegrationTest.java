@@ -13,6 +13,7 @@ import static org.mockito.Mockito.when;
 
 import com.docktape.swagger.brake.core.CheckerOptions;
 import com.docktape.swagger.brake.core.CheckerOptionsProvider;
+import com.docktape.swagger.brake.core.model.service.SchemaInterner;
 import com.docktape.swagger.brake.core.model.service.TypeRefNameResolver;
 import com.docktape.swagger.brake.core.util.SafeSwaggerSerializer;
 
@@ -38,9 +39,10 @@ class CircularReferenceIntegrationTest {
         
         safeSwaggerSerializer = new SafeSwaggerSerializer(checkerOptionsProvider);
         TypeRefNameResolver typeRefNameResolver = new TypeRefNameResolver();
-        TypeResolver typeResolver = new TypeResolver(checkerOptionsProvider);
+        TypeResolver typeResolver = new TypeResolver();
         
-        schemaTransformer = new SchemaTransformer(typeRefNameResolver, typeResolver, safeSwaggerSerializer, checkerOptionsProvider);
+        schemaTransformer = new SchemaTransformer(typeRefNameResolver, typeResolver, safeSwaggerSerializer, new SchemaInterner(),
+            new ReferenceResolver(typeRefNameResolver));
     }
 
     @Test
@@ -0,0 +1,88 @@
+package com.docktape.swagger.brake.core.model.transformer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import com.docktape.swagger.brake.core.CheckerOptions;
+import com.docktape.swagger.brake.core.CheckerOptionsProvider;
+import com.docktape.swagger.brake.core.model.HttpMethod;
+import com.docktape.swagger.brake.core.model.Path;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PathTransformerTest {
+    @Mock
+    private PathItemTransformer pathItemTransformer;
+
+    @Test
+    void testTransformShouldKeepThePathOrderWhenTransformingConcurrently() {
+        // given
+        PathTransformer underTest = new PathTransformer(pathItemTransformer, new CheckerOptionsProvider());
+        Paths paths = new Paths();
+        IntStream.range(0, 100).forEach(i -> paths.addPathItem("/path" + i, new PathItem()));
+        given(pathItemTransformer.transform(any(PathItem.class), any(TransformationContext.class)))
+            .willReturn(List.of(new PathDetail(HttpMethod.GET, null, Collections.emptyList(), Collections.emptyList(), false, false)));
+        // when
+        Collection<Path> sequentialResult = underTest.transform(paths, createContext(1));
+        Collection<Path> concurrentResult = underTest.transform(paths, createContext(4));
+        // then
+        assertThat(concurrentResult).hasSize(100).containsExactlyElementsOf(sequentialResult);
+    }
+
+    @Test
+    void testTransformShouldPropagateExceptionWhenTransformingConcurrently() {
+        // given
+        PathTransformer underTest = new PathTransformer(pathItemTransformer, new CheckerOptionsProvider());
+        Paths paths = new Paths();
+        PathItem invalidPathItem = new PathItem();
+        invalidPathItem.setDescription("invalid");
+        paths.addPathItem("/valid", new PathItem());
+        paths.addPathItem("/invalid", invalidPathItem);
+        TransformationContext context = createContext(2);
+        given(pathItemTransformer.transform(any(PathItem.class), any(TransformationContext.class))).willAnswer(invocation -> {
+            if (invocation.getArgument(0) == invalidPathItem) {
+                throw new IllegalStateException("Reference not found for Pet");
+            }
+            return Collections.emptyList();
+        });
+        // when
+        assertThatThrownBy(() -> underTest.transform(paths, context))
+            .isExactlyInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Reference not found for Pet");
+        // then exception thrown
+    }
+
+    @Test
+    void testTransformConcurrentlyShouldWorkAfterPoolsAreDestroyed() {
+        // given
+        PathTransformer underTest = new PathTransformer(pathItemTransformer, new CheckerOptionsProvider());
+        Paths paths = new Paths();
+        IntStream.range(0, 10).forEach(i -> paths.addPathItem("/path" + i, new PathItem()));
+        given(pathItemTransformer.transform(any(PathItem.class), any(TransformationContext.class)))
+            .willReturn(List.of(new PathDetail(HttpMethod.GET, null, Collections.emptyList(), Collections.emptyList(), false, false)));
+        Collection<Path> expected = underTest.transform(paths, createContext(4));
+        // when
+        underTest.destroy();
+        Collection<Path> result = underTest.transform(paths, createContext(4));
+        // then
+        assertThat(result).hasSize(10).containsExactlyElementsOf(expected);
+    }
+
+    private TransformationContext createContext(int transformationParallelism) {
+        CheckerOptions checkerOptions = new CheckerOptions();
+        checkerOptions.setTransformationParallelism(transformationParallelism);
+        return TransformationContext.builder().checkerOptions(checkerOptions).build();
+    }
+}
@@ -19,10 +19,10 @@ import static org.mockito.Mockito.when;
 
 import com.docktape.swagger.brake.core.CheckerOptions;
 import com.docktape.swagger.brake.core.CheckerOptionsProvider;
+import com.docktape.swagger.brake.core.model.service.SchemaInterner;
 import com.docktape.swagger.brake.core.model.service.TypeRefNameResolver;
 import com.docktape.swagger.brake.core.util.SafeSwaggerSerializer;
 import com.docktape.swagger.brake.runner.openapi.OpenApiVersion;
-import com.docktape.swagger.brake.runner.openapi.OpenApiVersionContext;
 
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.Schema;
@@ -58,9 +58,10 @@ class RealWorldOpenApiSpecTest {
         
         safeSwaggerSerializer = new SafeSwaggerSerializer(checkerOptionsProvider);
         TypeRefNameResolver typeRefNameResolver = new TypeRefNameResolver();
-        TypeResolver typeResolver = new TypeResolver(checkerOptionsProvider);
+        TypeResolver typeResolver = new TypeResolver();
         
-        schemaTransformer = new SchemaTransformer(typeRefNameResolver, typeResolver, safeSwaggerSerializer, checkerOptionsProvider);
+        schemaTransformer = new SchemaTransformer(typeRefNameResolver, typeResolver, safeSwaggerSerializer, new SchemaInterner(),
+            new ReferenceResolver(typeRefNameResolver));
     }
 
     /**
@@ -108,57 +109,59 @@ class RealWorldOpenApiSpecTest {
         log.info("✓ Verified circular reference: MarketplaceNumber → entity (Entity)");
         
         // Test safe serialization with OpenAPI 3.1.x context (the version that triggered the bug)
-        try (OpenApiVersionContext context = new OpenApiVersionContext(OpenApiVersion.V3_1_X)) {
-            log.info("\n--- Testing SafeSwaggerSerializer with Entity schema ---");
-            
-            // This would have caused StackOverflowError before the fix
-            assertDoesNotThrow(() -> {
-                String serializedEntity = safeSwaggerSerializer.serialize(entitySchema);
+        TransformationContext context = TransformationContext.builder()
+            .version(OpenApiVersion.V3_1_X)
+            .checkerOptions(checkerOptionsProvider.get())
+            .build();
+        log.info("\n--- Testing SafeSwaggerSerializer with Entity schema ---");
+        
+        // This would have caused StackOverflowError before the fix
+        assertDoesNotThrow(() -> {
+            String serializedEntity = safeSwaggerSerializer.serialize(entitySchema);
 
-                assertAll(
-                        () -> assertNotNull(serializedEntity, "Entity serialization should not return null"),
-                        () -> assertFalse(serializedEntity.isEmpty(), "Entity serialization should produce output")
-                );
-                log.info("✓ Entity schema serialized safely: " + truncate(serializedEntity, 100));
-            }, "Entity schema serialization should not cause StackOverflowError");
-            
-            log.info("\n--- Testing SafeSwaggerSerializer with MarketplaceNumber schema ---");
-            
-            assertDoesNotThrow(() -> {
-                String serializedMarketplace = safeSwaggerSerializer.serialize(marketplaceNumberSchema);
-                assertAll(
-                        () -> assertNotNull(serializedMarketplace, "MarketplaceNumber serialization should not return null"),
-                        () -> assertFalse(serializedMarketplace.isEmpty(), "MarketplaceNumber serialization should produce output")
-                );
-                log.info("✓ MarketplaceNumber schema serialized safely: " + truncate(serializedMarketplace, 100));
-            }, "MarketplaceNumber schema serialization should not cause StackOverflowError");
-            
-            log.info("\n--- Testing SchemaTransformer with circular references ---");
-            
-            // Test that SchemaTransformer can handle these schemas without StackOverflowError
-            com.docktape.swagger.brake.core.model.Schema transformedEntity = assertDoesNotThrow(() -> {
-                com.docktape.swagger.brake.core.model.Schema result = schemaTransformer.transform(entitySchema);
-                log.info("✓ Entity schema transformation completed without StackOverflowError");
-                return result;
-            }, "Entity schema transformation should complete successfully");
-            
-            assertNotNull(transformedEntity, "Transformed Entity schema should not be null");
-            log.info("✓ Transformed Entity schema: " + transformedEntity.getType());
-            
-            com.docktape.swagger.brake.core.model.Schema transformedMarketplaceNumber = assertDoesNotThrow(() -> {
-                com.docktape.swagger.brake.core.model.Schema result = schemaTransformer.transform(marketplaceNumberSchema);
-                log.info("✓ MarketplaceNumber schema transformation completed without StackOverflowError");
-                return result;
-            }, "MarketplaceNumber schema transformation should complete successfully");
-            
-            assertNotNull(transformedMarketplaceNumber, "Transformed MarketplaceNumber schema should not be null");
-            log.info("✓ Transformed MarketplaceNumber schema: " + transformedMarketplaceNumber.getType());
-            
-            log.info("\n╔═══════════════════════════════════════════════════════════════════════════════╗");
-            log.info("║  ✓ ALL TESTS PASSED - Real-world spec with circular references handled!     ║");
-            log.info("║  ✓ No StackOverflowError - Fix is working correctly in production scenario! ║");
-            log.info("╚═══════════════════════════════════════════════════════════════════════════════╝\n");
-        }
+            assertAll(
+                    () -> assertNotNull(serializedEntity, "Entity serialization should not return null"),
+                    () -> assertFalse(serializedEntity.isEmpty(), "Entity serialization should produce output")
+            );
+            log.info("✓ Entity schema serialized safely: " + truncate(serializedEntity, 100));
+        }, "Entity schema serialization should not cause StackOverflowError");
+        
+        log.info("\n--- Testing SafeSwaggerSerializer with MarketplaceNumber schema ---");
+        
+        assertDoesNotThrow(() -> {
+            String serializedMarketplace = safeSwaggerSerializer.serialize(marketplaceNumberSchema);
+            assertAll(
+                    () -> assertNotNull(serializedMarketplace, "MarketplaceNumber serialization should not return null"),
+                    () -> assertFalse(serializedMarketplace.isEmpty(), "MarketplaceNumber serialization should produce output")
+            );
+            log.info("✓ MarketplaceNumber schema serialized safely: " + truncate(serializedMarketplace, 100));
+        }, "MarketplaceNumber schema serialization should not cause StackOverflowError");
+        
+        log.info("\n--- Testing SchemaTransformer with circular references ---");
+        
+        // Test that SchemaTransformer can handle these schemas without StackOverflowError
+        com.docktape.swagger.brake.core.model.Schema transformedEntity = assertDoesNotThrow(() -> {
+            com.docktape.swagger.brake.core.model.Schema result = schemaTransformer.transform(entitySchema, context);
+            log.info("✓ Entity schema transformation completed without StackOverflowError");
+            return result;
+        }, "Entity schema transformation should complete successfully");
+        
+        assertNotNull(transformedEntity, "Transformed Entity schema should not be null");
+        log.info("✓ Transformed Entity schema: " + transformedEntity.getType());
+        
+        com.docktape.swagger.brake.core.model.Schema transformedMarketplaceNumber = assertDoesNotThrow(() -> {
+            com.docktape.swagger.brake.core.model.Schema result = schemaTransformer.transform(marketplaceNumberSchema, context);
+            log.info("✓ MarketplaceNumber schema transformation completed without StackOverflowError");
+            return result;
+        }, "MarketplaceNumber schema transformation should complete successfully");
+        
+        assertNotNull(transformedMarketplaceNumber, "Transformed MarketplaceNumber schema should not be null");
+        log.info("✓ Transformed MarketplaceNumber schema: " + transformedMarketplaceNumber.getType());
+        
+        log.info("\n╔═══════════════════════════════════════════════════════════════════════════════╗");
+        log.info("║  ✓ ALL TESTS PASSED - Real-world spec with circular references handled!     ║");
+        log.info("║  ✓ No StackOverflowError - Fix is working correctly in production scenario! ║");
+        log.info("╚═══════════════════════════════════════════════════════════════════════════════╝\n");
     }
 
     @ParameterizedTest
@@ -173,25 +176,23 @@ class RealWorldOpenApiSpecTest {
         
         log.info("\n✓ Total schemas to process: " + schemas.size());
         
-        try (OpenApiVersionContext context = new OpenApiVersionContext(OpenApiVersion.V3_1_X)) {
-            int successCount = 0;
+        int successCount = 0;
+        
+        for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
+            String schemaName = entry.getKey();
+            Schema<?> schema = entry.getValue();
             
-            for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
-                String schemaName = entry.getKey();
-                Schema<?> schema = entry.getValue();
-                
-                // Every schema should be serializable without crashes
-                assertDoesNotThrow(() -> {
-                    String serialized = safeSwaggerSerializer.serialize(schema);
-                    assertNotNull(serialized, "Serialization of " + schemaName + " should not be null");
-                }, "Schema " + schemaName + " should serialize without StackOverflowError");
-                
-                successCount++;
-            }
+            // Every schema should be serializable without crashes
+            assertDoesNotThrow(() -> {
+                String serialized = safeSwaggerSerializer.serialize(schema);
+                assertNotNull(serialized, "Serialization of " + schemaName + " should not be null");
+            }, "Schema " + schemaName + " should serialize without StackOverflowError");
             
-            log.info("\n✓ Successfully processed all " + successCount + " schemas without any StackOverflowError");
-            log.info("✓ SafeSwaggerSerializer is production-ready!");
+            successCount++;
         }
+        
+        log.info("\n✓ Successfully processed all " + successCount + " schemas without any StackOverflowError");
+        log.info("✓ SafeSwaggerSerializer is production-ready!");
     }
 
     @ParameterizedTest
@@ -206,20 +207,18 @@ class RealWorldOpenApiSpecTest {
         
         int[] depths = {1, 2, 3, 5, 10, 20};
         
-        try (OpenApiVersionContext context = new OpenApiVersionContext(OpenApiVersion.V3_1_X)) {
-            for (int depth : depths) {
-                CheckerOptions options = new CheckerOptions();
-                options.setMaxLogSerializationDepth(depth);
-                when(checkerOptionsProvider.get()).thenReturn(options);
-                
-                assertDoesNotThrow(() -> {
-                    String output = safeSwaggerSerializer.serialize(firstSchema);
-                    log.info("✓ Depth " + depth + ": " + truncate(output, 80));
-                }, "Depth " + depth + " should work without StackOverflowError");
-            }
+        for (int depth : depths) {
+            CheckerOptions options = new CheckerOptions();
+            options.setMaxLogSerializationDepth(depth);
+            when(checkerOptionsProvider.get()).thenReturn(options);
             
-            log.info("\n✓ All depth configurations handled circular references correctly");
+            assertDoesNotThrow(() -> {
+                String output = safeSwaggerSerializer.serialize(firstSchema);
+                log.info("✓ Depth " + depth + ": " + truncate(output, 80));
+            }, "Depth " + depth + " should work without StackOverflowError");
         }
+        
+        log.info("\n✓ All depth configurations handled circular references correctly");
     }
 
     /**
@@ -0,0 +1,90 @@
+package com.docktape.swagger.brake.core.model.transformer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+
+import com.docktape.swagger.brake.core.model.service.TypeRefNameResolver;
+import com.docktape.swagger.brake.core.model.store.RequestBodyStore;
+import com.docktape.swagger.brake.core.model.store.ResponseStore;
+import com.docktape.swagger.brake.core.model.store.SchemaStore;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import org.junit.jupiter.api.Test;
+
+class ReferenceResolverTest {
+    private final ReferenceResolver underTest = new ReferenceResolver(new TypeRefNameResolver());
+
+    @Test
+    void testResolveResponseShouldFollowReferenceChain() {
+        // given
+        ApiResponse notFound = new ApiResponse().description("Not found");
+        ApiResponse alias = new ApiResponse().$ref("#/components/responses/NotFound");
+        TransformationContext context = TransformationContext.builder()
+            .responseStore(new ResponseStore(Map.of("NotFound", notFound, "Missing", alias)))
+            .build();
+        // when
+        ApiResponse result = underTest.resolveResponse(new ApiResponse().$ref("#/components/responses/Missing"), context);
+        // then
+        assertThat(result).isSameAs(notFound);
+    }
+
+    @Test
+    void testResolveRequestBodyShouldReturnRequestBodyWhenItIsNotReference() {
+        // given
+        RequestBody requestBody = new RequestBody().description("Pet");
+        // when
+        RequestBody result = underTest.resolveRequestBody(requestBody, TransformationContext.builder().build());
+        // then
+        assertThat(result).isSameAs(requestBody);
+    }
+
+    @Test
+    void testResolveRequestBodyShouldThrowExceptionWhenReferenceNotFound() {
+        // given
+        TransformationContext context = TransformationContext.builder().requestBodyStore(new RequestBodyStore(Map.of())).build();
+        // when
+        // then
+        assertThatThrownBy(() -> underTest.resolveRequestBody(new RequestBody().$ref("#/components/requestBodies/Pet"), context))
+            .isExactlyInstanceOf(IllegalStateException.class)
+            .hasMessage("Reference not found for Pet");
+    }
+
+    @Test
+    void testResolveResponseShouldThrowExceptionWhenReferencesAreCircular() {
+        // given
+        ApiResponse first = new ApiResponse().$ref("#/components/responses/Second");
+        ApiResponse second = new ApiResponse().$ref("#/components/responses/First");
+        TransformationContext context = TransformationContext.builder()
+            .responseStore(new ResponseStore(Map.of("First", first, "Second", second)))
+            .build();
+        // when
+        // then
+        assertThatThrownBy(() -> underTest.resolveResponse(first, context))
+            .isExactlyInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("circular");
+    }
+
+    @Test
+    void testResolveSchemaShouldReturnSchemaWhenNoSchemaStoreAvailable() {
+        // given
+        Schema<?> schema = new Schema<>().$ref("#/components/schemas/Pet");
+        // when
+        Schema<?> result = underTest.resolveSchema(schema, TransformationContext.builder().build());
+        // then
+        assertThat(result).isSameAs(schema);
+    }
+
+    @Test
+    void testResolveSchemaShouldReturnReferencedSchema() {
+        // given
+        Schema<?> pet = new Schema<>().type("object");
+        TransformationContext context = TransformationContext.builder().schemaStore(new SchemaStore(Map.of("Pet", pet))).build();
+        // when
+        Schema<?> result = underTest.resolveSchema(new Schema<>().$ref("#/components/schemas/Pet"), context);
+        // then
+        assertThat(result).isSameAs(pet);
+    }
+}
@@ -18,10 +18,10 @@ import static org.mockito.Mockito.when;
 import com.docktape.swagger.brake.core.CheckerOptions;
 import com.docktape.swagger.brake.core.CheckerOptionsProvider;
 import com.docktape.swagger.brake.core.model.Schema;
+import com.docktape.swagger.brake.core.model.service.SchemaInterner;
 import com.docktape.swagger.brake.core.model.service.TypeRefNameResolver;
 import com.docktape.swagger.brake.core.util.SafeSwaggerSerializer;
 import com.docktape.swagger.brake.runner.openapi.OpenApiVersion;
-import com.docktape.swagger.brake.runner.openapi.OpenApiVersionContext;
 
 /**
  * End-to-end verification test that simulates the actual SchemaTransformer
@@ -41,9 +41,10 @@ class SchemaTransformerE2EVerificationTest {
         
         safeSwaggerSerializer = new SafeSwaggerSerializer(checkerOptionsProvider);
         TypeRefNameResolver typeRefNameResolver = new TypeRefNameResolver();
-        TypeResolver typeResolver = new TypeResolver(checkerOptionsProvider);
+        TypeResolver typeResolver = new TypeResolver();
         
-        schemaTransformer = new SchemaTransformer(typeRefNameResolver, typeResolver, safeSwaggerSerializer, checkerOptionsProvider);
+        schemaTransformer = new SchemaTransformer(typeRefNameResolver, typeResolver, safeSwaggerSerializer, new SchemaInterner(),
+            new ReferenceResolver(typeRefNameResolver));
     }
 
     @AfterEach
@@ -58,59 +59,61 @@ class SchemaTransformerE2EVerificationTest {
         log.debug("╚═══════════════════════════════════════════════════════════════╝");
         
         // Use OpenAPI 3.1.x context to trigger the code path that logs schemas
-        try (OpenApiVersionContext context = new OpenApiVersionContext(OpenApiVersion.V3_1_X)) {
-            // Create the exact scenario from the bug report
-            io.swagger.v3.oas.models.media.Schema<?> businessSchema = new io.swagger.v3.oas.models.media.Schema<>();
-            businessSchema.setName("Business");
-            businessSchema.setType("object");
-            businessSchema.set$ref("#/components/schemas/Business");
-            
-            io.swagger.v3.oas.models.media.Schema<?> auctionNumberSchema = new io.swagger.v3.oas.models.media.Schema<>();
-            auctionNumberSchema.setName("AuctionNumber");
-            auctionNumberSchema.setType("object");
-            auctionNumberSchema.set$ref("#/components/schemas/AuctionNumber");
-            
-            // Create circular reference: Business -> auctionNumber -> Business
-            Map<String, io.swagger.v3.oas.models.media.Schema> businessProperties = new HashMap<>();
-            businessProperties.put("auctionNumber", auctionNumberSchema);
-            businessProperties.put("name", new io.swagger.v3.oas.models.media.Schema<>().type("string"));
-            businessProperties.put("id", new io.swagger.v3.oas.models.media.Schema<>().type("integer"));
-            businessSchema.setProperties(businessProperties);
-            
-            Map<String, io.swagger.v3.oas.models.media.Schema> auctionNumberProperties = new HashMap<>();
-            auctionNumberProperties.put("business", businessSchema);
-            auctionNumberProperties.put("number", new io.swagger.v3.oas.models.media.Schema<>().type("string"));
-            auctionNumberSchema.setProperties(auctionNumberProperties);
-            
-            log.debug("\n✓ Created circular schema structure: Business → AuctionNumber → Business");
-            log.debug("✓ OpenAPI Version: {}", OpenApiVersion.V3_1_X);
-            
-            // Test safe serialization directly
-            log.debug("\n--- Testing SafeSwaggerSerializer ---");
-            String serialized = safeSwaggerSerializer.serialize(businessSchema);
-            log.debug("Serialized output: {}", serialized);
-            assertNotNull(serialized, "Serialization should not return null");
-            assertFalse(serialized.isEmpty(), "Serialization should produce output");
-            
-            // This would have thrown StackOverflowError before the fix
-            log.debug("\n--- Testing SchemaTransformer.transform() ---");
-            log.debug("This internally calls safeSwaggerSerializer.serialize() at line 114");
-            log.debug("Before fix: Would cause StackOverflowError");
-            log.debug("After fix: Should complete successfully...");
-            
-            assertDoesNotThrow(() -> {
-                // Call transform - the key is that it doesn't throw StackOverflowError
-                // (result may be null due to missing data, but that's not what we're testing)
-                Schema result = schemaTransformer.transform(businessSchema);
-                log.debug("✓ Transform completed successfully - No StackOverflowError!");
-                log.debug("✓ Result: {}",
-                        (result != null ? result.getClass().getSimpleName() : "null (expected due to test data)"));
-            }, "SchemaTransformer should handle circular references without StackOverflowError");
-            
-            log.debug("\n╔═══════════════════════════════════════════════════════════════╗");
-            log.debug("║  ✓ VERIFICATION PASSED - Fix is working correctly!            ║");
-            log.debug("╚═══════════════════════════════════════════════════════════════╝\n");
-        }
+        TransformationContext context = TransformationContext.builder()
+            .version(OpenApiVersion.V3_1_X)
+            .checkerOptions(checkerOptionsProvider.get())
+            .build();
+        // Create the exact scenario from the bug report
+        io.swagger.v3.oas.models.media.Schema<?> businessSchema = new io.swagger.v3.oas.models.media.Schema<>();
+        businessSchema.setName("Business");
+        businessSchema.setType("object");
+        businessSchema.set$ref("#/components/schemas/Business");
+        
+        io.swagger.v3.oas.models.media.Schema<?> auctionNumberSchema = new io.swagger.v3.oas.models.media.Schema<>();
+        auctionNumberSchema.setName("AuctionNumber");
+        auctionNumberSchema.setType("object");
+        auctionNumberSchema.set$ref("#/components/schemas/AuctionNumber");
+        
+        // Create circular reference: Business -> auctionNumber -> Business
+        Map<String, io.swagger.v3.oas.models.media.Schema> businessProperties = new HashMap<>();
+        businessProperties.put("auctionNumber", auctionNumberSchema);
+        businessProperties.put("name", new io.swagger.v3.oas.models.media.Schema<>().type("string"));
+        businessProperties.put("id", new io.swagger.v3.oas.models.media.Schema<>().type("integer"));
+        businessSchema.setProperties(businessProperties);
+        
+        Map<String, io.swagger.v3.oas.models.media.Schema> auctionNumberProperties = new HashMap<>();
+        auctionNumberProperties.put("business", businessSchema);
+        auctionNumberProperties.put("number", new io.swagger.v3.oas.models.media.Schema<>().type("string"));
+        auctionNumberSchema.setProperties(auctionNumberProperties);
+        
+        log.debug("\n✓ Created circular schema structure: Business → AuctionNumber → Business");
+        log.debug("✓ OpenAPI Version: {}", OpenApiVersion.V3_1_X);
+        
+        // Test safe serialization directly
+        log.debug("\n--- Testing SafeSwaggerSerializer ---");
+        String serialized = safeSwaggerSerializer.serialize(businessSchema);
+        log.debug("Serialized output: {}", serialized);
+        assertNotNull(serialized, "Serialization should not return null");
+        assertFalse(serialized.isEmpty(), "Serialization should produce output");
+        
+        // This would have thrown StackOverflowError before the fix
+        log.debug("\n--- Testing SchemaTransformer.transform() ---");
+        log.debug("This internally calls safeSwaggerSerializer.serialize() at line 114");
+        log.debug("Before fix: Would cause StackOverflowError");
+        log.debug("After fix: Should complete successfully...");
+        
+        assertDoesNotThrow(() -> {
+            // Call transform - the key is that it doesn't throw StackOverflowError
+            // (result may be null due to missing data, but that's not what we're testing)
+            Schema result = schemaTransformer.transform(businessSchema, context);
+            log.debug("✓ Transform completed successfully - No StackOverflowError!");
+            log.debug("✓ Result: {}",
+                    (result != null ? result.getClass().getSimpleName() : "null (expected due to test data)"));
+        }, "SchemaTransformer should handle circular references without StackOverflowError");
+        
+        log.debug("\n╔═══════════════════════════════════════════════════════════════╗");
+        log.debug("║  ✓ VERIFICATION PASSED - Fix is working correctly!            ║");
+        log.debug("╚═══════════════════════════════════════════════════════════════╝\n");
     }
 
     @Test
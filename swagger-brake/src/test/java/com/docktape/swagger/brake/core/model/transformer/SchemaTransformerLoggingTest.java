@@ -0,0 +1,91 @@
+package com.docktape.swagger.brake.core.model.transformer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.docktape.swagger.brake.core.CheckerOptions;
+import com.docktape.swagger.brake.core.CheckerOptionsProvider;
+import com.docktape.swagger.brake.core.model.Schema;
+import com.docktape.swagger.brake.core.model.service.SchemaInterner;
+import com.docktape.swagger.brake.core.model.service.TypeRefNameResolver;
+import com.docktape.swagger.brake.core.util.SafeSwaggerSerializer;
+import com.docktape.swagger.brake.runner.openapi.OpenApiVersion;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Checks that the diagnostics of the transformation are only computed while the trace logging is on.
+ */
+class SchemaTransformerLoggingTest {
+    private final Logger transformerLogger = (Logger) LoggerFactory.getLogger(SchemaTransformer.class);
+    private Level originalLevel;
+    private SafeSwaggerSerializer safeSwaggerSerializer;
+    private SchemaTransformer underTest;
+
+    @BeforeEach
+    void setUp() {
+        originalLevel = transformerLogger.getLevel();
+        CheckerOptionsProvider checkerOptionsProvider = new CheckerOptionsProvider();
+        checkerOptionsProvider.set(new CheckerOptions());
+        safeSwaggerSerializer = spy(new SafeSwaggerSerializer(checkerOptionsProvider));
+        underTest = new SchemaTransformer(new TypeRefNameResolver(), new TypeResolver(), safeSwaggerSerializer, new SchemaInterner(),
+            new ReferenceResolver(new TypeRefNameResolver()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        transformerLogger.setLevel(originalLevel);
+    }
+
+    @Test
+    void testTransformDoesNotSerializeSchemasWhenTraceIsOff() {
+        // given
+        transformerLogger.setLevel(Level.INFO);
+        io.swagger.v3.oas.models.media.Schema<?> schema = createSchema();
+        TransformationContext context = createContext();
+        // when
+        Schema result = underTest.transform(schema, context);
+        // then
+        assertThat(result.getAttributeNames()).hasSize(20);
+        verify(safeSwaggerSerializer, never()).serialize(any());
+    }
+
+    @Test
+    void testTransformSerializesSchemasWhenTraceIsOn() {
+        // given
+        transformerLogger.setLevel(Level.TRACE);
+        // when
+        underTest.transform(createSchema(), createContext());
+        // then
+        verify(safeSwaggerSerializer, atLeastOnce()).serialize(any());
+    }
+
+    private io.swagger.v3.oas.models.media.Schema<?> createSchema() {
+        Map<String, io.swagger.v3.oas.models.media.Schema> properties = new LinkedHashMap<>();
+        for (int i = 0; i < 10; i++) {
+            properties.put("id" + i, new IntegerSchema());
+            properties.put("name" + i, new StringSchema());
+        }
+        ObjectSchema schema = new ObjectSchema();
+        schema.setProperties(properties);
+        return schema;
+    }
+
+    private TransformationContext createContext() {
+        return TransformationContext.builder().checkerOptions(new CheckerOptions()).version(OpenApiVersion.V3_1_X).build();
+    }
+}
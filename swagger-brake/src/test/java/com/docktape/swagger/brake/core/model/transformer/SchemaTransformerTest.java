@@ -1,22 +1,35 @@
 package com.docktape.swagger.brake.core.model.transformer;
 
-import java.util.function.Supplier;
-
 import static org.assertj.core.api.Assertions.assertThat;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
 import com.docktape.swagger.brake.core.CheckerOptions;
 import com.docktape.swagger.brake.core.CheckerOptionsProvider;
+import com.docktape.swagger.brake.core.model.AttributePath;
 import com.docktape.swagger.brake.core.model.Schema;
 import com.docktape.swagger.brake.core.model.SchemaAttribute;
 import com.docktape.swagger.brake.core.model.SchemaBuilder;
+import com.docktape.swagger.brake.core.model.service.SchemaInterner;
 import com.docktape.swagger.brake.core.model.service.TypeRefNameResolver;
 import com.docktape.swagger.brake.core.model.store.SchemaStore;
-import com.docktape.swagger.brake.core.model.store.StoreProvider;
 import com.docktape.swagger.brake.core.util.SafeSwaggerSerializer;
+import com.docktape.swagger.brake.runner.openapi.ReferenceResolution;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import static com.google.common.collect.ImmutableMap.of;
@@ -36,7 +49,8 @@ class SchemaTransformerTest {
         CheckerOptions checkerOptions = new CheckerOptions();
         when(checkerOptionsProvider.get()).thenReturn(checkerOptions);
         SafeSwaggerSerializer safeSwaggerSerializer = new SafeSwaggerSerializer(checkerOptionsProvider);
-        underTest = new SchemaTransformer(new TypeRefNameResolver(), new TypeResolver(checkerOptionsProvider), safeSwaggerSerializer, checkerOptionsProvider);
+        underTest = new SchemaTransformer(new TypeRefNameResolver(), new TypeResolver(), safeSwaggerSerializer, new SchemaInterner(),
+            new ReferenceResolver(new TypeRefNameResolver()));
     }
 
     @Test
@@ -70,7 +84,7 @@ class SchemaTransformerTest {
             new SchemaAttribute("breed", new SchemaBuilder("string").build(), false, false, false)
         )).build();
         // when
-        Schema result = withSchemaStore(schemaStore, () -> underTest.transform(composedSchema));
+        Schema result = underTest.transform(composedSchema, createContext(schemaStore));
         // then
         assertThat(result).isEqualTo(expectedSchema);
     }
@@ -105,7 +119,7 @@ class SchemaTransformerTest {
             new SchemaAttribute("breed", new SchemaBuilder("string").build(), false, false, false)
         )).build();
         // when
-        Schema result = withSchemaStore(schemaStore, () -> underTest.transform(composedSchema));
+        Schema result = underTest.transform(composedSchema, createContext(schemaStore));
         // then
         assertThat(result).isEqualTo(expectedSchema);
     }
@@ -149,7 +163,7 @@ class SchemaTransformerTest {
             new SchemaAttribute("meow", new SchemaBuilder("string").build(), false, false, false)
         )).build();
         // when
-        Schema result = withSchemaStore(schemaStore, () -> underTest.transform(composedSchema));
+        Schema result = underTest.transform(composedSchema, createContext(schemaStore));
         // then
         assertThat(result).isEqualTo(expectedSchema);
     }
@@ -193,17 +207,164 @@ class SchemaTransformerTest {
             new SchemaAttribute("meow", new SchemaBuilder("string").build(), false, false, false)
         )).build();
         // when
-        Schema result = withSchemaStore(schemaStore, () -> underTest.transform(composedSchema));
+        Schema result = underTest.transform(composedSchema, createContext(schemaStore));
         // then
         assertThat(result).isEqualTo(expectedSchema);
     }
 
-    private <T> T withSchemaStore(SchemaStore schemaStore, Supplier<T> f) {
+    @Test
+    void testTransformShouldKeepFirstAttributeOfSameNameInOneOfComposedSchemaWithFullReferenceResolution() {
+        // given
+        ComposedSchema composedSchema = new ComposedSchema();
+        composedSchema.setOneOf(ImmutableList.of(createIdSchema(new IntegerSchema()), createIdSchema(new StringSchema())));
+        // when
+        Schema result = underTest.transform(composedSchema, createContext(new SchemaStore(Map.of()), ReferenceResolution.FULL));
+        // then
+        assertThat(result.getSchemaAttributes()).singleElement().extracting(attribute -> attribute.getSchema().getType()).isEqualTo("integer");
+    }
+
+    @Test
+    void testTransformShouldKeepFirstAttributeOfSameNameInAnyOfComposedSchemaWithFullReferenceResolution() {
+        // given
+        ComposedSchema composedSchema = new ComposedSchema();
+        composedSchema.setAnyOf(ImmutableList.of(createIdSchema(new IntegerSchema()), createIdSchema(new StringSchema())));
+        // when
+        Schema result = underTest.transform(composedSchema, createContext(new SchemaStore(Map.of()), ReferenceResolution.FULL));
+        // then
+        assertThat(result.getSchemaAttributes()).singleElement().extracting(attribute -> attribute.getSchema().getType()).isEqualTo("integer");
+    }
+
+    @Test
+    void testTransformShouldKeepLastAttributeOfSameNameInOneOfComposedSchemaWithLazyReferenceResolution() {
+        // given
+        ComposedSchema composedSchema = new ComposedSchema();
+        composedSchema.setOneOf(ImmutableList.of(createIdSchema(new IntegerSchema()), createIdSchema(new StringSchema())));
+        // when
+        Schema result = underTest.transform(composedSchema, createContext(new SchemaStore(Map.of()), ReferenceResolution.LAZY));
+        // then
+        assertThat(result.getSchemaAttributes()).singleElement().extracting(attribute -> attribute.getSchema().getType()).isEqualTo("string");
+    }
+
+    @Test
+    void testTransformShouldNotNeedDeepStackForDeeplyNestedSchema() throws Exception {
+        // given
+        int depth = 3000;
+        ObjectSchema root = new ObjectSchema();
+        ObjectSchema current = root;
+        for (int i = 0; i < depth; i++) {
+            ObjectSchema child = new ObjectSchema();
+            current.setProperties(of("child", child));
+            current = child;
+        }
+        CheckerOptions checkerOptions = new CheckerOptions();
+        checkerOptions.setMaxSchemaTransformationDepth(depth);
+        TransformationContext context = TransformationContext.builder().checkerOptions(checkerOptions).build();
+        // when
+        Schema result = runWithSmallStack(() -> underTest.transform(root, context));
+        // then
+        assertThat(runWithSmallStack(result::getAttributeNames)).hasSize(depth);
+    }
+
+    @Test
+    void testTransformShouldNotNeedDeepStackForLongReferenceChain() throws Exception {
+        // given
+        int depth = 3000;
+        Map<String, io.swagger.v3.oas.models.media.Schema> schemas = new HashMap<>();
+        for (int i = 0; i < depth; i++) {
+            io.swagger.v3.oas.models.media.Schema nextRef = new io.swagger.v3.oas.models.media.Schema();
+            nextRef.set$ref("#/components/schemas/Level" + (i + 1));
+            ObjectSchema level = new ObjectSchema();
+            level.setProperties(of("next", nextRef));
+            schemas.put("Level" + i, level);
+        }
+        schemas.put("Level" + depth, new StringSchema());
+        io.swagger.v3.oas.models.media.Schema rootRef = new io.swagger.v3.oas.models.media.Schema();
+        rootRef.set$ref("#/components/schemas/Level0");
+        CheckerOptions checkerOptions = new CheckerOptions();
+        checkerOptions.setMaxSchemaTransformationDepth(depth);
+        TransformationContext context = TransformationContext.builder().schemaStore(new SchemaStore(schemas)).checkerOptions(checkerOptions).build();
+        // when
+        Schema result = runWithSmallStack(() -> underTest.transform(rootRef, context));
+        // then
+        assertThat(runWithSmallStack(result::getAttributeNames)).hasSize(depth);
+    }
+
+    @Test
+    void testTransformShouldGiveSameModelsInParallelAsSequentiallyForRecursiveComponentsReachedAtDifferentDepths() throws Exception {
+        // given
+        Map<String, io.swagger.v3.oas.models.media.Schema> components = of(
+            "Node", createObjectSchema(of("name", new StringSchema(), "edge", createRef("Edge"))),
+            "Edge", createObjectSchema(of("weight", new IntegerSchema(), "target", createRef("Node"))));
+        List<io.swagger.v3.oas.models.media.Schema> requesters = List.of(
+            createRef("Node"),
+            createRef("Edge"),
+            createObjectSchema(of("wrapped", createRef("Edge"))),
+            createObjectSchema(of("outer", createObjectSchema(of("inner", createRef("Node"))))));
+        // every requester transformed on its own, without a store shared with the others
+        List<Map<AttributePath, String>> expected = new ArrayList<>();
+        for (io.swagger.v3.oas.models.media.Schema requester : requesters) {
+            expected.add(underTest.transform(requester, createContext(new SchemaStore(components), ReferenceResolution.LAZY)).getTypes());
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
         try {
-            StoreProvider.setSchemaStore(schemaStore);
-            return f.get();
+            for (int i = 0; i < 20; i++) {
+                TransformationContext sequentialContext = createContext(new SchemaStore(components), ReferenceResolution.LAZY);
+                TransformationContext parallelContext = createContext(new SchemaStore(components), ReferenceResolution.LAZY);
+                List<Callable<Schema>> tasks = new ArrayList<>();
+                for (io.swagger.v3.oas.models.media.Schema requester : requesters) {
+                    tasks.add(() -> underTest.transform(requester, parallelContext));
+                }
+                Collections.shuffle(tasks, new Random(i));
+                // when
+                List<Map<AttributePath, String>> sequentialResult = new ArrayList<>();
+                for (int j = requesters.size() - 1; j >= 0; j--) {
+                    sequentialResult.add(0, underTest.transform(requesters.get(j), sequentialContext).getTypes());
+                }
+                List<Map<AttributePath, String>> parallelResult = new ArrayList<>();
+                for (Future<Schema> future : executor.invokeAll(tasks)) {
+                    parallelResult.add(future.get().getTypes());
+                }
+                // then
+                assertThat(sequentialResult).isEqualTo(expected);
+                assertThat(parallelResult).containsExactlyInAnyOrderElementsOf(expected);
+            }
         } finally {
-            StoreProvider.clear();
+            executor.shutdownNow();
         }
     }
-}
\ No newline at end of file
+
+    private <T> T runWithSmallStack(Callable<T> callable) throws Exception {
+        FutureTask<T> task = new FutureTask<>(callable);
+        Thread thread = new Thread(null, task, "small-stack", 256 * 1024);
+        thread.start();
+        return task.get(30, TimeUnit.SECONDS);
+    }
+
+    private TransformationContext createContext(SchemaStore schemaStore) {
+        return TransformationContext.builder().schemaStore(schemaStore).checkerOptions(new CheckerOptions()).build();
+    }
+
+    private TransformationContext createContext(SchemaStore schemaStore, ReferenceResolution referenceResolution) {
+        CheckerOptions checkerOptions = new CheckerOptions();
+        checkerOptions.setReferenceResolution(referenceResolution);
+        return TransformationContext.builder().schemaStore(schemaStore).checkerOptions(checkerOptions).build();
+    }
+
+    private ObjectSchema createObjectSchema(Map<String, io.swagger.v3.oas.models.media.Schema> properties) {
+        ObjectSchema schema = new ObjectSchema();
+        schema.setProperties(properties);
+        return schema;
+    }
+
+    private io.swagger.v3.oas.models.media.Schema createRef(String name) {
+        io.swagger.v3.oas.models.media.Schema schema = new io.swagger.v3.oas.models.media.Schema();
+        schema.set$ref("#/components/schemas/" + name);
+        return schema;
+    }
+
+    private ObjectSchema createIdSchema(io.swagger.v3.oas.models.media.Schema<?> idSchema) {
+        ObjectSchema schema = new ObjectSchema();
+        schema.setProperties(of("id", idSchema));
+        return schema;
+    }
+}
@@ -0,0 +1,171 @@
+package com.docktape.swagger.brake.core.rule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.docktape.swagger.brake.core.BreakingChange;
+import com.docktape.swagger.brake.core.metrics.PhaseTimer;
+import com.docktape.swagger.brake.core.model.AttributePath;
+import com.docktape.swagger.brake.core.model.HttpMethod;
+import com.docktape.swagger.brake.core.model.MediaType;
+import com.docktape.swagger.brake.core.model.Path;
+import com.docktape.swagger.brake.core.model.Response;
+import com.docktape.swagger.brake.core.model.Schema;
+import com.docktape.swagger.brake.core.model.SchemaAttribute;
+import com.docktape.swagger.brake.core.model.Specification;
+import com.docktape.swagger.brake.core.rule.path.PathDeletedBreakingChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OperationTraversalTest {
+    private static final MediaType JSON = new MediaType("application/json");
+
+    private PathSkipper pathSkipper;
+
+    @BeforeEach
+    void setUp() {
+        pathSkipper = mock(PathSkipper.class);
+        when(pathSkipper.shouldSkip(any())).thenReturn(false);
+    }
+
+    @Test
+    void testTraverseDispatchesMatchedElementsToEveryRule() {
+        // given
+        Specification oldApi = new Specification(List.of(path("/pets", "id", "string"), path("/owners", "name", "string")));
+        Specification newApi = new Specification(List.of(path("/pets", "id", "integer")));
+        RecordingRule first = new RecordingRule("first");
+        RecordingRule second = new RecordingRule("second");
+        // when
+        Collection<BreakingChange> result = OperationTraversal.traverse(oldApi, newApi, pathSkipper, List.of(first, second));
+        // then
+        assertThat(result).containsExactlyInAnyOrder(
+            new PathDeletedBreakingChange("first:path:/pets", HttpMethod.GET),
+            new PathDeletedBreakingChange("first:response:200", HttpMethod.GET),
+            new PathDeletedBreakingChange("first:schema:", HttpMethod.GET),
+            new PathDeletedBreakingChange("first:schema:id", HttpMethod.GET),
+            new PathDeletedBreakingChange("second:path:/pets", HttpMethod.GET),
+            new PathDeletedBreakingChange("second:response:200", HttpMethod.GET),
+            new PathDeletedBreakingChange("second:schema:", HttpMethod.GET),
+            new PathDeletedBreakingChange("second:schema:id", HttpMethod.GET)
+        );
+    }
+
+    @Test
+    void testTraverseSkipsPathsRejectedByPathSkipper() {
+        // given
+        Path pets = path("/pets", "id", "string");
+        Specification api = new Specification(List.of(pets));
+        when(pathSkipper.shouldSkip(pets)).thenReturn(true);
+        // when
+        Collection<PathDeletedBreakingChange> result = OperationTraversal.traverse(api, api, pathSkipper, new RecordingRule("rule"));
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void testTraverseSkipsUnchangedPaths() {
+        // given
+        Specification oldApi = new Specification(List.of(path("/pets", "id", "string")));
+        Specification newApi = new Specification(List.of(path("/pets", "id", "string")));
+        // when
+        Collection<PathDeletedBreakingChange> result = OperationTraversal.traverse(oldApi, newApi, pathSkipper, new RecordingRule("rule"));
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void testTraverseSkipsUnchangedResponsesOfChangedPaths() {
+        // given
+        Response unchanged = response("201", "id", "string");
+        Path oldPath = new Path("/pets", HttpMethod.GET, null, Collections.emptyList(), List.of(response("200", "id", "string"), unchanged), false, false);
+        Path newPath = new Path("/pets", HttpMethod.GET, null, Collections.emptyList(),
+            List.of(response("200", "id", "integer"), response("201", "id", "string")), false, false);
+        // when
+        Collection<PathDeletedBreakingChange> result = OperationTraversal.traverse(new Specification(List.of(oldPath)),
+            new Specification(List.of(newPath)), pathSkipper, new RecordingRule("rule"));
+        // then
+        assertThat(result).containsExactlyInAnyOrder(
+            new PathDeletedBreakingChange("rule:path:/pets", HttpMethod.GET),
+            new PathDeletedBreakingChange("rule:response:200", HttpMethod.GET),
+            new PathDeletedBreakingChange("rule:schema:", HttpMethod.GET),
+            new PathDeletedBreakingChange("rule:schema:id", HttpMethod.GET)
+        );
+    }
+
+    @Test
+    void testTraverseByRuleWithTimersShouldMeasureEveryRuleWithoutChangingTheResult() {
+        // given
+        Specification oldApi = new Specification(List.of(path("/pets", "id", "string"), path("/owners", "name", "string")));
+        Specification newApi = new Specification(List.of(path("/pets", "id", "integer"), path("/owners", "name", "integer")));
+        List<RecordingRule> rules = List.of(new RecordingRule("first"), new RecordingRule("second"));
+        List<Collection<BreakingChange>> expected = OperationTraversal.traverseByRule(oldApi.getPaths(), newApi, pathSkipper, rules);
+        List<PhaseTimer> timers = List.of(new PhaseTimer(), new PhaseTimer());
+        // when
+        List<Collection<BreakingChange>> result = OperationTraversal.traverseByRule(oldApi.getPaths(), newApi, pathSkipper, rules, timers);
+        // then
+        assertThat(result).isEqualTo(expected);
+        assertThat(timers).allSatisfy(timer -> assertThat(timer.getWallTimeNanos()).isPositive());
+    }
+
+    @Test
+    void testTraverseByRuleShouldRejectTimersNotMatchingTheRules() {
+        // given
+        Specification api = new Specification(List.of(path("/pets", "id", "string")));
+        List<RecordingRule> rules = List.of(new RecordingRule("first"), new RecordingRule("second"));
+        // when
+        // then
+        assertThatThrownBy(() -> OperationTraversal.traverseByRule(api.getPaths(), api, pathSkipper, rules, List.of(new PhaseTimer())))
+            .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Path path(String path, String attributeName, String attributeType) {
+        Response response = response("200", attributeName, attributeType);
+        return new Path(path, HttpMethod.GET, null, Collections.emptyList(), List.of(response), false, false);
+    }
+
+    private Response response(String code, String attributeName, String attributeType) {
+        Schema attributeSchema = new Schema(attributeType, Collections.emptySet(), Collections.emptySet(), null);
+        Set<SchemaAttribute> attributes = new TreeSet<>(Set.of(new SchemaAttribute(attributeName, attributeSchema, false, false, false)));
+        Schema schema = new Schema("object", Collections.emptySet(), attributes, null);
+        return new Response(code, Map.of(JSON, schema), Collections.emptyMap());
+    }
+
+    private static class RecordingRule implements OperationRule<PathDeletedBreakingChange> {
+        private final String name;
+
+        RecordingRule(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Collection<PathDeletedBreakingChange> checkRule(Specification oldApi, Specification newApi) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public void visitPath(Path path, Path newPath, Collection<PathDeletedBreakingChange> breakingChanges) {
+            breakingChanges.add(new PathDeletedBreakingChange(name + ":path:" + path.getPath(), path.getMethod()));
+        }
+
+        @Override
+        public void visitResponse(Path path, Response response, Response newResponse, Collection<PathDeletedBreakingChange> breakingChanges) {
+            breakingChanges.add(new PathDeletedBreakingChange(name + ":response:" + response.getCode(), path.getMethod()));
+        }
+
+        @Override
+        public void visitResponseSchema(Path path, Response response, AttributePath attributePath, Schema schema, Schema newSchema,
+                                        Collection<PathDeletedBreakingChange> breakingChanges) {
+            breakingChanges.add(new PathDeletedBreakingChange(name + ":schema:" + attributePath, path.getMethod()));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.docktape.swagger.brake.core.rule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import com.docktape.swagger.brake.core.model.Schema;
+import org.junit.jupiter.api.Test;
+
+class SchemaComparatorTest {
+    private final SchemaComparator underTest = new SchemaComparator();
+
+    @Test
+    void testCompareShouldComputeSamePairOnlyOnceWhenCacheIsBound() {
+        // given
+        Schema schema = schema("object");
+        Schema newSchema = schema("object");
+        AtomicInteger computations = new AtomicInteger();
+        BiFunction<Schema, Schema, List<String>> comparator = (oldOne, newOne) -> {
+            computations.incrementAndGet();
+            return List.of("finding");
+        };
+        SchemaComparisonCache cache = new SchemaComparisonCache();
+        // when
+        List<String> first = underTest.callWith(cache, () -> underTest.compare(this, schema, newSchema, comparator));
+        List<String> second = underTest.callWith(cache, () -> underTest.compare(this, schema, newSchema, comparator));
+        // then
+        assertThat(first).containsExactly("finding");
+        assertThat(second).isSameAs(first);
+        assertThat(computations).hasValue(1);
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void testCompareShouldKeepFindingsOfDifferentRulesAndSchemasApart() {
+        // given
+        Schema schema = schema("object");
+        Schema newSchema = schema("object");
+        Schema otherNewSchema = schema("object");
+        SchemaComparisonCache cache = new SchemaComparisonCache();
+        // when
+        List<String> first = underTest.callWith(cache, () -> underTest.compare("first", schema, newSchema, (o, n) -> List.of("first")));
+        List<String> second = underTest.callWith(cache, () -> underTest.compare("second", schema, newSchema, (o, n) -> List.of("second")));
+        List<String> third = underTest.callWith(cache, () -> underTest.compare("first", schema, otherNewSchema, (o, n) -> List.of("third")));
+        // then
+        assertThat(first).containsExactly("first");
+        assertThat(second).containsExactly("second");
+        assertThat(third).containsExactly("third");
+        assertThat(cache.getMisses()).isEqualTo(3);
+    }
+
+    @Test
+    void testCompareShouldComputeEveryTimeWhenNoCacheIsBound() {
+        // given
+        Schema schema = schema("object");
+        Schema newSchema = schema("object");
+        AtomicInteger computations = new AtomicInteger();
+        BiFunction<Schema, Schema, List<String>> comparator = (oldOne, newOne) -> {
+            computations.incrementAndGet();
+            return List.of();
+        };
+        SchemaComparisonCache cache = new SchemaComparisonCache();
+        underTest.callWith(cache, () -> underTest.compare(this, schema, newSchema, comparator));
+        // when
+        underTest.compare(this, schema, newSchema, comparator);
+        underTest.compare(this, schema, newSchema, comparator);
+        // then
+        assertThat(computations).hasValue(3);
+    }
+
+    @Test
+    void testCallWithShouldThrowExceptionWhenCacheIsNull() {
+        // given
+        // when
+        // then
+        assertThatThrownBy(() -> underTest.callWith(null, () -> null)).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Schema schema(String type) {
+        return new Schema(type, Collections.emptySet(), Collections.emptySet(), null);
+    }
+}
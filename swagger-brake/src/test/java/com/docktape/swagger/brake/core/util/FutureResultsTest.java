@@ -0,0 +1,55 @@
+package com.docktape.swagger.brake.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+class FutureResultsTest {
+
+    @Test
+    void testGetResultReturnsResultOfTask() throws Exception {
+        // given
+        CompletableFuture<String> future = CompletableFuture.completedFuture("result");
+        // when
+        String result = FutureResults.getResult(future, "failed");
+        // then
+        assertThat(result).isEqualTo("result");
+    }
+
+    @Test
+    void testGetResultRethrowsRuntimeExceptionOfTask() {
+        // given
+        IllegalArgumentException cause = new IllegalArgumentException("invalid");
+        CompletableFuture<String> future = CompletableFuture.failedFuture(cause);
+        // when
+        assertThatThrownBy(() -> FutureResults.getResult(future, "failed")).isSameAs(cause);
+        // then exception thrown
+    }
+
+    @Test
+    void testGetResultRethrowsErrorOfTask() {
+        // given
+        StackOverflowError cause = new StackOverflowError();
+        CompletableFuture<String> future = CompletableFuture.failedFuture(cause);
+        // when
+        assertThatThrownBy(() -> FutureResults.getResult(future, "failed")).isSameAs(cause);
+        // then exception thrown
+    }
+
+    @Test
+    void testGetResultWrapsCheckedExceptionOfTask() {
+        // given
+        IOException cause = new IOException("unreadable");
+        CompletableFuture<String> future = CompletableFuture.failedFuture(cause);
+        // when
+        assertThatThrownBy(() -> FutureResults.getResult(future, "failed"))
+            .isExactlyInstanceOf(IllegalStateException.class)
+            .hasMessage("failed")
+            .hasCause(cause);
+        // then exception thrown
+    }
+}
@@ -0,0 +1,53 @@
+package com.docktape.swagger.brake.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class LazyLogArgumentTest {
+
+    @Test
+    void testLazyDoesNotComputeValueUntilRendered() {
+        // given
+        AtomicInteger computations = new AtomicInteger();
+        // when
+        LazyLogArgument.lazy(() -> computations.incrementAndGet());
+        // then
+        assertThat(computations).hasValue(0);
+    }
+
+    @Test
+    void testToStringComputesValueOnce() {
+        // given
+        AtomicInteger computations = new AtomicInteger();
+        LazyLogArgument underTest = LazyLogArgument.lazy(() -> "value" + computations.incrementAndGet());
+        // when
+        String first = underTest.toString();
+        String second = underTest.toString();
+        // then
+        assertThat(first).isEqualTo("value1");
+        assertThat(second).isEqualTo("value1");
+        assertThat(computations).hasValue(1);
+    }
+
+    @Test
+    void testToStringRendersNullValue() {
+        // given
+        LazyLogArgument underTest = LazyLogArgument.lazy(() -> null);
+        // when
+        String result = underTest.toString();
+        // then
+        assertThat(result).isEqualTo("null");
+    }
+
+    @Test
+    void testLazyThrowsExceptionWhenNullGiven() {
+        // given
+        // when
+        assertThatThrownBy(() -> LazyLogArgument.lazy(null)).isExactlyInstanceOf(IllegalArgumentException.class);
+        // then exception thrown
+    }
+}
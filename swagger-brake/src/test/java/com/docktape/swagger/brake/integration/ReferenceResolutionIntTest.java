@@ -0,0 +1,48 @@
+package com.docktape.swagger.brake.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.docktape.swagger.brake.core.BreakingChange;
+import com.docktape.swagger.brake.runner.Options;
+import com.docktape.swagger.brake.runner.openapi.ReferenceResolution;
+import java.util.Collection;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+class ReferenceResolutionIntTest extends AbstractSwaggerBrakeIntTest {
+    @ParameterizedTest
+    @CsvSource({
+        "swaggers/v2/path/deleted/petstore.yaml, swaggers/v2/path/deleted/petstore_v2.yaml",
+        "swaggers/v2/response/recursiveresponseattributeremoved/schema.json, swaggers/v2/response/recursiveresponseattributeremoved/schema_v2.json",
+        "swaggers/v3/request/attributeremoved/petstore.yaml, swaggers/v3/request/attributeremoved/petstore_v2.yaml",
+        "swaggers/v3/request/requestbody/allof/propertydeleted/petstore.yaml, swaggers/v3/request/requestbody/allof/propertydeleted/petstore_v2.yaml",
+        "swaggers/v3/request/requestbody/allof/propertytypechanged/petstore.yaml, swaggers/v3/request/requestbody/allof/propertytypechanged/petstore_v2.yaml",
+        "swaggers/v3/request/requestbody/oneof/propertydeleted/petstore.yaml, swaggers/v3/request/requestbody/oneof/propertydeleted/petstore_v2.yaml",
+        "swaggers/v3/response/attributeremoved/petstore.yaml, swaggers/v3/response/attributeremoved/petstore_v2.yaml",
+        "swaggers/v3/response/headerdeleted/petstore.yaml, swaggers/v3/response/headerdeleted/petstore_v2.yaml",
+        "swaggers/v3/response/nullabletransition/petstore.yaml, swaggers/v3/response/nullabletransition/petstore_v2.yaml",
+        "swaggers/v3/response/property-became-required/petstore.yaml, swaggers/v3/response/property-became-required/petstore_v2.yaml"
+    })
+    void testLazyReferenceResolutionShouldReportSameBreakingChangesAsFullResolution(String oldApiPath, String newApiPath) {
+        // given
+        Options fullOptions = createOptions(oldApiPath, newApiPath, ReferenceResolution.FULL);
+        Options lazyOptions = createOptions(oldApiPath, newApiPath, ReferenceResolution.LAZY);
+        // when
+        Collection<BreakingChange> fullResult = execute(fullOptions);
+        Collection<BreakingChange> lazyResult = execute(lazyOptions);
+        // then
+        assertThat(lazyResult).hasSameElementsAs(fullResult).hasSameSizeAs(fullResult);
+    }
+
+    private Options createOptions(String oldApiPath, String newApiPath, ReferenceResolution referenceResolution) {
+        Options options = new Options();
+        options.setOldApiPath(oldApiPath);
+        options.setNewApiPath(newApiPath);
+        options.setStrictValidation(true);
+        options.setReferenceResolution(referenceResolution);
+        return options;
+    }
+}
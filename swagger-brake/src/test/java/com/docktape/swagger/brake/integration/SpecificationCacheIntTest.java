@@ -0,0 +1,55 @@
+package com.docktape.swagger.brake.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.docktape.swagger.brake.core.BreakingChange;
+import com.docktape.swagger.brake.core.model.HttpMethod;
+import com.docktape.swagger.brake.core.rule.request.RequestTypeAttributeRemovedBreakingChange;
+import com.docktape.swagger.brake.runner.Options;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+class SpecificationCacheIntTest extends AbstractSwaggerBrakeIntTest {
+    @TempDir
+    Path cacheDirectory;
+
+    @Test
+    void testRunShouldReturnSameResultWhenApisAreLoadedFromCache() throws Exception {
+        // given
+        Options options = new Options();
+        options.setOldApiPath(resolve("swaggers/v3/request/attributeremoved/petstore.yaml"));
+        options.setNewApiPath(resolve("swaggers/v3/request/attributeremoved/petstore_v2.yaml"));
+        options.setSpecificationCachePath(cacheDirectory.toString());
+        RequestTypeAttributeRemovedBreakingChange bc = new RequestTypeAttributeRemovedBreakingChange("/pet", HttpMethod.PATCH, "id");
+        // when
+        Collection<BreakingChange> firstResult = execute(options);
+        List<Path> cacheEntries = listCacheEntries();
+        Collection<BreakingChange> secondResult = execute(options);
+        // then
+        assertThat(cacheEntries).hasSize(2);
+        assertThat(firstResult).containsExactly(bc);
+        assertThat(secondResult).containsExactly(bc);
+        assertThat(listCacheEntries()).isEqualTo(cacheEntries);
+    }
+
+    private List<Path> listCacheEntries() throws Exception {
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private String resolve(String resource) throws URISyntaxException {
+        return Paths.get(getClass().getClassLoader().getResource(resource).toURI()).toString();
+    }
+}
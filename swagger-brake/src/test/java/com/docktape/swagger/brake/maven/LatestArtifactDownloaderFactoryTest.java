@@ -0,0 +1,46 @@
+package com.docktape.swagger.brake.maven;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.docktape.swagger.brake.runner.Options;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationContext;
+
+@ExtendWith(MockitoExtension.class)
+class LatestArtifactDownloaderFactoryTest {
+    @Mock
+    private ApplicationContext applicationContext;
+
+    @InjectMocks
+    private LatestArtifactDownloaderFactory underTest;
+
+    @Test
+    void testCreateShouldReturnRemoteDownloaderWhenLocalRepositoryIsNotConfigured() {
+        // given
+        LatestArtifactDownloader expected = mock(LatestArtifactDownloader.class);
+        given(applicationContext.getBean("maven2LatestArtifactDownloader", LatestArtifactDownloader.class)).willReturn(expected);
+        // when
+        LatestArtifactDownloader result = underTest.create(new Options());
+        // then
+        assertThat(result).isSameAs(expected);
+    }
+
+    @Test
+    void testCreateShouldReturnLocalRepositoryDownloaderWhenLocalRepositoryIsConfigured() {
+        // given
+        Options options = new Options();
+        options.setMavenLocalRepositoryPath("/home/user/.m2/repository");
+        LatestArtifactDownloader expected = mock(LatestArtifactDownloader.class);
+        given(applicationContext.getBean("localRepositoryLatestArtifactDownloader", LatestArtifactDownloader.class)).willReturn(expected);
+        // when
+        LatestArtifactDownloader result = underTest.create(options);
+        // then
+        assertThat(result).isSameAs(expected);
+    }
+}
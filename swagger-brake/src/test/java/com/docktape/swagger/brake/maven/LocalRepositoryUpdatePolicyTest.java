@@ -0,0 +1,53 @@
+package com.docktape.swagger.brake.maven;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+class LocalRepositoryUpdatePolicyTest {
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-05-10T12:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    void testParseShouldAcceptMavenUpdatePolicies() {
+        // given
+        // when
+        // then
+        assertThat(LocalRepositoryUpdatePolicy.parse("always")).isSameAs(LocalRepositoryUpdatePolicy.ALWAYS);
+        assertThat(LocalRepositoryUpdatePolicy.parse(" Daily ")).isSameAs(LocalRepositoryUpdatePolicy.DAILY);
+        assertThat(LocalRepositoryUpdatePolicy.parse("NEVER")).isSameAs(LocalRepositoryUpdatePolicy.NEVER);
+        assertThat(LocalRepositoryUpdatePolicy.parse("interval:30")).hasToString("interval:30");
+    }
+
+    @Test
+    void testParseShouldThrowExceptionWhenPolicyIsInvalid() {
+        // given
+        // when
+        // then
+        assertThatThrownBy(() -> LocalRepositoryUpdatePolicy.parse("weekly")).isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LocalRepositoryUpdatePolicy.parse("interval:")).isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LocalRepositoryUpdatePolicy.parse("interval:-1")).isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LocalRepositoryUpdatePolicy.parse(null)).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testIsStaleShouldFollowThePolicy() {
+        // given
+        Instant yesterday = Instant.parse("2024-05-09T23:59:00Z");
+        Instant today = Instant.parse("2024-05-10T00:01:00Z");
+        LocalRepositoryUpdatePolicy interval = LocalRepositoryUpdatePolicy.parse("interval:60");
+        // when
+        // then
+        assertThat(LocalRepositoryUpdatePolicy.ALWAYS.isStale(CLOCK.instant(), CLOCK)).isTrue();
+        assertThat(LocalRepositoryUpdatePolicy.NEVER.isStale(Instant.EPOCH, CLOCK)).isFalse();
+        assertThat(LocalRepositoryUpdatePolicy.DAILY.isStale(yesterday, CLOCK)).isTrue();
+        assertThat(LocalRepositoryUpdatePolicy.DAILY.isStale(today, CLOCK)).isFalse();
+        assertThat(interval.isStale(CLOCK.instant().minus(Duration.ofMinutes(61)), CLOCK)).isTrue();
+        assertThat(interval.isStale(CLOCK.instant().minus(Duration.ofMinutes(59)), CLOCK)).isFalse();
+    }
+}
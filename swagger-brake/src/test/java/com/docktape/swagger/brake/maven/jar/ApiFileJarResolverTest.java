@@ -0,0 +1,80 @@
+package com.docktape.swagger.brake.maven.jar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import com.docktape.swagger.brake.maven.jar.filename.ApiFilenameCheckerFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ApiFileJarResolverTest {
+    private final ApiFileJarResolver underTest = new ApiFileJarResolver(new JarScanner(), new ApiFilenameCheckerFactory());
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testResolveShouldReadApiFileFromJar() throws IOException {
+        // given
+        String content = "openapi: 3.0.1";
+        File jarFile = createJar("META-INF/resources/swagger.yaml", content);
+        // when
+        ResolvedApiFile result = underTest.resolve(new ApiFileResolverParameter(jarFile, null));
+        // then
+        assertThat(new String(result.getContent(), StandardCharsets.UTF_8)).isEqualTo(content);
+        assertThat(result.getLocation()).isEqualTo("jar:" + jarFile.toURI() + "!/META-INF/resources/swagger.yaml");
+    }
+
+    @Test
+    void testResolveShouldThrowExceptionWhenApiFileIsMissing() throws IOException {
+        // given
+        File jarFile = createJar("META-INF/MANIFEST.MF", "Manifest-Version: 1.0");
+        // when
+        assertThatThrownBy(() -> underTest.resolve(new ApiFileResolverParameter(jarFile, null))).isExactlyInstanceOf(IllegalStateException.class);
+        // then exception thrown
+    }
+
+    @Test
+    void testResolveShouldReadFirstApiFileFromLargeJar() throws IOException {
+        // given
+        File jarFile = directory.resolve("large.jar").toFile();
+        try (OutputStream out = Files.newOutputStream(jarFile.toPath()); JarOutputStream jar = new JarOutputStream(out)) {
+            jar.putNextEntry(new JarEntry("BOOT-INF/classes/swagger.yaml/"));
+            jar.closeEntry();
+            for (int i = 0; i < 20000; i++) {
+                jar.putNextEntry(new JarEntry("BOOT-INF/classes/com/example/Class" + i + ".class"));
+                jar.closeEntry();
+            }
+            jar.putNextEntry(new JarEntry("BOOT-INF/classes/api.yml"));
+            jar.write("openapi: 3.0.1".getBytes(StandardCharsets.UTF_8));
+            jar.closeEntry();
+            jar.putNextEntry(new JarEntry("BOOT-INF/classes/static/swagger.yaml"));
+            jar.write("openapi: 3.0.2".getBytes(StandardCharsets.UTF_8));
+            jar.closeEntry();
+        }
+        // when
+        ResolvedApiFile result = underTest.resolve(new ApiFileResolverParameter(jarFile, "api"));
+        // then
+        assertThat(new String(result.getContent(), StandardCharsets.UTF_8)).isEqualTo("openapi: 3.0.1");
+        assertThat(result.getLocation()).endsWith("!/BOOT-INF/classes/api.yml");
+    }
+
+    private File createJar(String entryName, String content) throws IOException {
+        File jarFile = directory.resolve("api.jar").toFile();
+        try (OutputStream out = Files.newOutputStream(jarFile.toPath()); JarOutputStream jar = new JarOutputStream(out)) {
+            jar.putNextEntry(new JarEntry(entryName));
+            jar.write(content.getBytes(StandardCharsets.UTF_8));
+            jar.closeEntry();
+        }
+        return jarFile;
+    }
+}
@@ -1,5 +1,6 @@
 package com.docktape.swagger.brake.maven.maven2;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -32,4 +33,43 @@ class ArtifactVersionDeciderTest {
         // then
         assertFalse(result);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCompareOrdersNumericPartsByValue() {
+        // given
+        // when
+        int result = ArtifactVersionDecider.compare("1.10.0", "1.9.3");
+        // then
+        assertTrue(result > 0);
+    }
+
+    @Test
+    void testCompareTreatsMissingNumericPartsAsZero() {
+        // given
+        // when
+        int result = ArtifactVersionDecider.compare("1.0", "1.0.0");
+        // then
+        assertEquals(0, result);
+    }
+
+    @Test
+    void testCompareOrdersQualifiersBeforeRelease() {
+        // given
+        // when
+        // then
+        assertTrue(ArtifactVersionDecider.compare("1.0.0-alpha1", "1.0.0-beta") < 0);
+        assertTrue(ArtifactVersionDecider.compare("1.0.0-rc2", "1.0.0-SNAPSHOT") < 0);
+        assertTrue(ArtifactVersionDecider.compare("1.0.0-SNAPSHOT", "1.0.0") < 0);
+        assertTrue(ArtifactVersionDecider.compare("1.0.0", "1.0.0-sp1") < 0);
+        assertEquals(0, ArtifactVersionDecider.compare("1.0.0.Final", "1.0.0"));
+    }
+
+    @Test
+    void testCompareOrdersNextNumericVersionAfterQualifiedOne() {
+        // given
+        // when
+        int result = ArtifactVersionDecider.compare("1.0.1", "1.0.0-rc1");
+        // then
+        assertTrue(result > 0);
+    }
+}
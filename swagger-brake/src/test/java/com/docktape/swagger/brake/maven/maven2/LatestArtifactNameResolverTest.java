@@ -45,7 +45,7 @@ class LatestArtifactNameResolverTest {
         HttpUriRequest metadataRequest = mock(HttpUriRequest.class);
         given(urlFactory.createLatestArtifactSnapshotMetadataUrl(options, latestVersion)).willReturn(metadataUrl);
         given(requestFactory.create(metadataUrl, options)).willReturn(metadataRequest);
-        given(metadataDownloader.download(metadataRequest)).willReturn(mavenMetadata);
+        given(metadataDownloader.download(metadataRequest, options)).willReturn(mavenMetadata);
         // when
         String result = underTest.resolveSnapshot(options, latestVersion);
         // then
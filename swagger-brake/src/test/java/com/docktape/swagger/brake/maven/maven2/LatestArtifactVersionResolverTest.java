@@ -40,7 +40,7 @@ class LatestArtifactVersionResolverTest {
         HttpUriRequest metadataRequest = mock(HttpUriRequest.class);
         given(urlFactory.createLatestArtifactVersionMetadataUrl(options)).willReturn(metadataUrl);
         given(requestFactory.create(metadataUrl, options)).willReturn(metadataRequest);
-        given(metadataDownloader.download(metadataRequest)).willReturn(mavenMetadata);
+        given(metadataDownloader.download(metadataRequest, options)).willReturn(mavenMetadata);
         // when
         assertThatThrownBy(() -> underTest.resolve(options)).isExactlyInstanceOf(IllegalStateException.class);
         // then exception thrown
@@ -57,7 +57,7 @@ class LatestArtifactVersionResolverTest {
         HttpUriRequest metadataRequest = mock(HttpUriRequest.class);
         given(urlFactory.createLatestArtifactVersionMetadataUrl(options)).willReturn(metadataUrl);
         given(requestFactory.create(metadataUrl, options)).willReturn(metadataRequest);
-        given(metadataDownloader.download(metadataRequest)).willReturn(mavenMetadata);
+        given(metadataDownloader.download(metadataRequest, options)).willReturn(mavenMetadata);
         // when
         String result = underTest.resolve(options);
         // then
@@ -75,7 +75,7 @@ class LatestArtifactVersionResolverTest {
         HttpUriRequest metadataRequest = mock(HttpUriRequest.class);
         given(urlFactory.createLatestArtifactVersionMetadataUrl(options)).willReturn(metadataUrl);
         given(requestFactory.create(metadataUrl, options)).willReturn(metadataRequest);
-        given(metadataDownloader.download(metadataRequest)).willReturn(mavenMetadata);
+        given(metadataDownloader.download(metadataRequest, options)).willReturn(mavenMetadata);
         // when
         String result = underTest.resolve(options);
         // then
@@ -93,7 +93,7 @@ class LatestArtifactVersionResolverTest {
         HttpUriRequest metadataRequest = mock(HttpUriRequest.class);
         given(urlFactory.createLatestArtifactVersionMetadataUrl(options)).willReturn(metadataUrl);
         given(requestFactory.create(metadataUrl, options)).willReturn(metadataRequest);
-        given(metadataDownloader.download(metadataRequest)).willReturn(mavenMetadata);
+        given(metadataDownloader.download(metadataRequest, options)).willReturn(mavenMetadata);
         // when
         String result = underTest.resolve(options);
         // then
@@ -5,8 +5,10 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
 import java.io.File;
+import java.util.Optional;
 
 import com.docktape.swagger.brake.maven.DownloadOptions;
+import com.docktape.swagger.brake.maven.jar.ResolvedApiFile;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -25,6 +27,9 @@ class LatestJarArtifactDownloaderTest {
     @Mock
     private RepositoryRequestFactory requestFactory;
 
+    @Mock
+    private RangeApiFileDownloader rangeApiFileDownloader;
+
     @InjectMocks
     private LatestJarArtifactDownloader underTest;
 
@@ -45,4 +50,21 @@ class LatestJarArtifactDownloaderTest {
         // then
         assertThat(result).isEqualTo(expected);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testDownloadApiFileShouldUseRangeRequests() {
+        // given
+        String url = "url";
+        String latestVersion = "lv";
+        String latestSnapshotName = "lsn";
+        String apiFilename = "api.yaml";
+        DownloadOptions options = mock(DownloadOptions.class);
+        ResolvedApiFile expected = new ResolvedApiFile("jar:url!/api.yaml", new byte[0]);
+        given(urlFactory.createLatestArtifactUrl(options, latestSnapshotName, latestVersion)).willReturn(url);
+        given(rangeApiFileDownloader.download(options, url, apiFilename)).willReturn(Optional.of(expected));
+        // when
+        Optional<ResolvedApiFile> result = underTest.downloadApiFile(options, latestSnapshotName, latestVersion, apiFilename);
+        // then
+        assertThat(result).containsSame(expected);
+    }
+}
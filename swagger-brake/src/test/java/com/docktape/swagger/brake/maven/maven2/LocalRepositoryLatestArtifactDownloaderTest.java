@@ -0,0 +1,303 @@
+package com.docktape.swagger.brake.maven.maven2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+
+import com.docktape.swagger.brake.maven.DownloadOptions;
+import com.docktape.swagger.brake.maven.LocalRepositoryUpdatePolicy;
+import com.docktape.swagger.brake.maven.http.UnauthorizedException;
+import com.docktape.swagger.brake.maven.jar.ApiFileJarResolver;
+import com.docktape.swagger.brake.maven.jar.ApiFileResolverParameter;
+import com.docktape.swagger.brake.maven.jar.ResolvedApiFile;
+import com.docktape.swagger.brake.maven.maven2.LocalRepository.LocalArtifact;
+import com.docktape.swagger.brake.maven.maven2.Maven2LatestArtifactDownloader.LatestArtifact;
+import com.docktape.swagger.brake.maven.maven2.RepositoryCache.RemoteCheck;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LocalRepositoryLatestArtifactDownloaderTest {
+    private static final String CACHE_PATH = "/home/user/.swagger-brake";
+
+    @Mock
+    private LocalRepository localRepository;
+
+    @Mock
+    private Maven2LatestArtifactDownloader remoteDownloader;
+
+    @Mock
+    private ApiFileJarResolver apiFileJarResolver;
+
+    @Mock
+    private RepositoryCache repositoryCache;
+
+    @InjectMocks
+    private LocalRepositoryLatestArtifactDownloader underTest;
+
+    @Test
+    void testDownloadApiFileShouldReadFreshLocalArtifactWithoutRemoteAccess() {
+        // given
+        DownloadOptions options = createOptions(LocalRepositoryUpdatePolicy.DAILY);
+        File localJar = mock(File.class);
+        ResolvedApiFile expected = new ResolvedApiFile("jar:file:/api.jar!/swagger.yaml", new byte[0]);
+        given(localRepository.find(options)).willReturn(Optional.of(new LocalArtifact(localJar, "1.0.0")));
+        given(repositoryCache.loadLastCheck(eq(CACHE_PATH), anyString())).willReturn(Optional.of(new RemoteCheck(Instant.now(), "1.0.0", null)));
+        given(apiFileJarResolver.resolve(new ApiFileResolverParameter(localJar, "swagger"))).willReturn(expected);
+        // when
+        Optional<ResolvedApiFile> result = underTest.downloadApiFile(options, "swagger");
+        // then
+        assertThat(result).containsSame(expected);
+        verifyNoInteractions(remoteDownloader);
+    }
+
+    @Test
+    void testDownloadShouldUseRemoteRepositoryAndRecordTheCheckWhenLastCheckIsStale() {
+        // given
+        DownloadOptions options = createOptions(LocalRepositoryUpdatePolicy.DAILY);
+        File remoteJar = mock(File.class);
+        LatestArtifact latestArtifact = new LatestArtifact("1.1.0", "api-1.1.0");
+        given(localRepository.find(options)).willReturn(Optional.of(new LocalArtifact(mock(File.class), "1.0.0")));
+        given(repositoryCache.loadLastCheck(eq(CACHE_PATH), anyString())).willReturn(Optional.of(new RemoteCheck(Instant.EPOCH, "1.0.0", null)));
+        given(remoteDownloader.resolveLatest(options)).willReturn(latestArtifact);
+        given(remoteDownloader.download(options, latestArtifact)).willReturn(remoteJar);
+        ArgumentCaptor<RemoteCheck> check = ArgumentCaptor.forClass(RemoteCheck.class);
+        // when
+        File result = underTest.download(options);
+        // then
+        assertThat(result).isSameAs(remoteJar);
+        then(repositoryCache).should().storeLastCheck(eq(CACHE_PATH), anyString(), check.capture());
+        assertThat(check.getValue().getVersion()).isEqualTo("1.1.0");
+        assertThat(check.getValue().getArtifact()).isSameAs(remoteJar);
+    }
+
+    @Test
+    void testDownloadShouldUseRemoteRepositoryWhenItHasNeverBeenChecked() {
+        // given
+        DownloadOptions options = createOptions(LocalRepositoryUpdatePolicy.DAILY);
+        File remoteJar = mock(File.class);
+        LatestArtifact latestArtifact = new LatestArtifact("1.1.0", "api-1.1.0");
+        given(localRepository.find(options)).willReturn(Optional.of(new LocalArtifact(mock(File.class), "1.0.0")));
+        given(repositoryCache.loadLastCheck(eq(CACHE_PATH), anyString())).willReturn(Optional.empty());
+        given(remoteDownloader.resolveLatest(options)).willReturn(latestArtifact);
+        given(remoteDownloader.download(options, latestArtifact)).willReturn(remoteJar);
+        // when
+        File result = underTest.download(options);
+        // then
+        assertThat(result).isSameAs(remoteJar);
+    }
+
+    @Test
+    void testDownloadShouldUseLocalArtifactWithoutRecordedCheckWhenPolicyIsNever() {
+        // given
+        DownloadOptions options = createOptions(LocalRepositoryUpdatePolicy.NEVER);
+        File localJar = mock(File.class);
+        given(localRepository.find(options)).willReturn(Optional.of(new LocalArtifact(localJar, "1.0.0")));
+        // when
+        File result = underTest.download(options);
+        // then
+        assertThat(result).isSameAs(localJar);
+        verifyNoInteractions(remoteDownloader, repositoryCache);
+    }
+
+    @Test
+    void testDownloadShouldKeepTheChecksOfDifferentArtifactsApart() {
+        // given
+        DownloadOptions options = createOptions(LocalRepositoryUpdatePolicy.ALWAYS);
+        DownloadOptions otherOptions = createOptions(LocalRepositoryUpdatePolicy.ALWAYS);
+        otherOptions.setArtifactId("other-api");
+        LatestArtifact latestArtifact = new LatestArtifact("1.1.0", "api-1.1.0");
+        given(remoteDownloader.resolveLatest(any(DownloadOptions.class))).willReturn(latestArtifact);
+        given(remoteDownloader.download(any(DownloadOptions.class), eq(latestArtifact))).willReturn(mock(File.class));
+        ArgumentCaptor<String> keys = ArgumentCaptor.forClass(String.class);
+        // when
+        underTest.download(options);
+        underTest.download(otherOptions);
+        // then
+        then(repositoryCache).should(times(2)).storeLastCheck(eq(CACHE_PATH), keys.capture(), any(RemoteCheck.class));
+        assertThat(keys.getAllValues().get(0)).isNotEqualTo(keys.getAllValues().get(1));
+    }
+
+    @Test
+    void testDownloadShouldUseRemoteRepositoryWhenArtifactIsNotInLocalRepository() {
+        // given
+        DownloadOptions options = createOptions(LocalRepositoryUpdatePolicy.NEVER);
+        File remoteJar = mock(File.class);
+        LatestArtifact latestArtifact = new LatestArtifact("1.1.0", "api-1.1.0");
+        given(localRepository.find(options)).willReturn(Optional.empty());
+        given(remoteDownloader.resolveLatest(options)).willReturn(latestArtifact);
+        given(remoteDownloader.download(options, latestArtifact)).willReturn(remoteJar);
+        // when
+        File result = underTest.download(options);
+        // then
+        assertThat(result).isSameAs(remoteJar);
+    }
+
+    @Test
+    void testDownloadApiFileShouldResolveRemoteArtifactWhenRangeRequestsAreNotUsed() {
+        // given
+        DownloadOptions options = createOptions(LocalRepositoryUpdatePolicy.ALWAYS);
+        File remoteJar = mock(File.class);
+        ResolvedApiFile expected = new ResolvedApiFile("jar:file:/api.jar!/swagger.yaml", new byte[0]);
+        LatestArtifact latestArtifact = new LatestArtifact("1.1.0", "api-1.1.0");
+        given(localRepository.find(options)).willReturn(Optional.empty());
+        given(remoteDownloader.resolveLatest(options)).willReturn(latestArtifact);
+        given(remoteDownloader.downloadApiFile(options, latestArtifact, null)).willReturn(Optional.empty());
+        given(remoteDownloader.download(options, latestArtifact)).willReturn(remoteJar);
+        given(apiFileJarResolver.resolve(new ApiFileResolverParameter(remoteJar, null))).willReturn(expected);
+        // when
+        Optional<ResolvedApiFile> result = underTest.downloadApiFile(options, null);
+        // then
+        assertThat(result).containsSame(expected);
+    }
+
+    @Test
+    void testDownloadShouldUseStaleLocalArtifactWhenRemoteRepositoryCannotBeReached() {
+        // given
+        DownloadOptions options = createOptions(LocalRepositoryUpdatePolicy.ALWAYS);
+        File localJar = mock(File.class);
+        given(localRepository.find(options)).willReturn(Optional.of(new LocalArtifact(localJar, "1.0.0")));
+        given(remoteDownloader.resolveLatest(options)).willThrow(new RuntimeException("Cannot get metadata", new IOException("Connection refused")));
+        // when
+        File result = underTest.download(options);
+        // then
+        assertThat(result).isSameAs(localJar);
+        then(repositoryCache).should(never()).storeLastCheck(anyString(), anyString(), any(RemoteCheck.class));
+    }
+
+    @Test
+    void testDownloadShouldNotHideOtherRemoteFailures() {
+        // given
+        DownloadOptions options = createOptions(LocalRepositoryUpdatePolicy.ALWAYS);
+        given(localRepository.find(options)).willReturn(Optional.of(new LocalArtifact(mock(File.class), "1.0.0")));
+        given(remoteDownloader.resolveLatest(options)).willThrow(new UnauthorizedException("Request unauthorized"));
+        // when
+        // then
+        assertThatThrownBy(() -> underTest.download(options)).isExactlyInstanceOf(UnauthorizedException.class);
+    }
+
+    @Test
+    void testDownloadShouldUseStaleLocalArtifactWhenNoRemoteRepositoryIsConfigured() {
+        // given
+        DownloadOptions options = createOptions(LocalRepositoryUpdatePolicy.ALWAYS);
+        options.setRepoUrl(null);
+        File localJar = mock(File.class);
+        given(localRepository.find(options)).willReturn(Optional.of(new LocalArtifact(localJar, "1.0.0")));
+        // when
+        File result = underTest.download(options);
+        // then
+        assertThat(result).isSameAs(localJar);
+        verifyNoInteractions(remoteDownloader);
+    }
+
+    @Test
+    void testDownloadShouldThrowExceptionWhenArtifactIsMissingAndNoRemoteRepositoryIsConfigured() {
+        // given
+        DownloadOptions options = createOptions(LocalRepositoryUpdatePolicy.DAILY);
+        options.setRepoUrl(null);
+        given(localRepository.find(options)).willReturn(Optional.empty());
+        // when
+        // then
+        assertThatThrownBy(() -> underTest.download(options)).isExactlyInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(remoteDownloader);
+    }
+
+    @Test
+    void testDownloadShouldUseArtifactOfTheLastCheckWhenRemoteIsNewerThanLocalAndCheckIsStillFresh(@TempDir Path cacheDirectory) throws IOException {
+        // given
+        LocalRepositoryLatestArtifactDownloader downloader = new LocalRepositoryLatestArtifactDownloader(localRepository, remoteDownloader,
+            apiFileJarResolver, new RepositoryCache());
+        DownloadOptions options = createOptions(LocalRepositoryUpdatePolicy.DAILY);
+        options.setCachePath(cacheDirectory.toString());
+        File localJar = mock(File.class);
+        File remoteJar = Files.createFile(cacheDirectory.resolve("api-1.1.0.jar")).toFile();
+        LatestArtifact latestArtifact = new LatestArtifact("1.1.0", "api-1.1.0");
+        given(localRepository.find(options)).willReturn(Optional.of(new LocalArtifact(localJar, "1.0.0")));
+        given(remoteDownloader.resolveLatest(options)).willReturn(latestArtifact);
+        given(remoteDownloader.download(options, latestArtifact)).willReturn(remoteJar);
+        File firstResult = downloader.download(options);
+        // when
+        File result = downloader.download(options);
+        // then
+        assertThat(firstResult).isEqualTo(remoteJar);
+        assertThat(result).isEqualTo(remoteJar);
+        then(remoteDownloader).should(times(1)).resolveLatest(options);
+    }
+
+    @Test
+    void testDownloadShouldUseLocalArtifactWhenItIsNewerThanTheLastCheck() {
+        // given
+        DownloadOptions options = createOptions(LocalRepositoryUpdatePolicy.DAILY);
+        File localJar = mock(File.class);
+        given(localRepository.find(options)).willReturn(Optional.of(new LocalArtifact(localJar, "1.2.0")));
+        given(repositoryCache.loadLastCheck(eq(CACHE_PATH), anyString())).willReturn(Optional.of(new RemoteCheck(Instant.now(), "1.1.0", mock(File.class))));
+        // when
+        File result = underTest.download(options);
+        // then
+        assertThat(result).isSameAs(localJar);
+        verifyNoInteractions(remoteDownloader);
+    }
+
+    @Test
+    void testDownloadShouldCheckRemoteAgainWhenLastCheckFoundNewerVersionWithoutArtifact() {
+        // given
+        DownloadOptions options = createOptions(LocalRepositoryUpdatePolicy.DAILY);
+        File remoteJar = mock(File.class);
+        LatestArtifact latestArtifact = new LatestArtifact("1.1.0", "api-1.1.0");
+        given(localRepository.find(options)).willReturn(Optional.of(new LocalArtifact(mock(File.class), "1.0.0")));
+        given(repositoryCache.loadLastCheck(eq(CACHE_PATH), anyString())).willReturn(Optional.of(new RemoteCheck(Instant.now(), "1.1.0", null)));
+        given(remoteDownloader.resolveLatest(options)).willReturn(latestArtifact);
+        given(remoteDownloader.download(options, latestArtifact)).willReturn(remoteJar);
+        // when
+        File result = underTest.download(options);
+        // then
+        assertThat(result).isSameAs(remoteJar);
+    }
+
+    @Test
+    void testDownloadShouldNotDownloadArtifactWhenRemoteHasNoNewerVersionThanLocal() {
+        // given
+        DownloadOptions options = createOptions(LocalRepositoryUpdatePolicy.ALWAYS);
+        File localJar = mock(File.class);
+        given(localRepository.find(options)).willReturn(Optional.of(new LocalArtifact(localJar, "1.0.0")));
+        given(remoteDownloader.resolveLatest(options)).willReturn(new LatestArtifact("1.0.0", "api-1.0.0"));
+        // when
+        File result = underTest.download(options);
+        // then
+        assertThat(result).isSameAs(localJar);
+        then(remoteDownloader).should(never()).download(any(DownloadOptions.class), any(LatestArtifact.class));
+        then(repositoryCache).should().storeLastCheck(eq(CACHE_PATH), anyString(), any(RemoteCheck.class));
+    }
+
+    private DownloadOptions createOptions(LocalRepositoryUpdatePolicy updatePolicy) {
+        DownloadOptions options = new DownloadOptions();
+        options.setRepoUrl("http://localhost/repo");
+        options.setGroupId("com.example");
+        options.setArtifactId("api");
+        options.setCurrentArtifactVersion("1.1.0");
+        options.setCachePath(CACHE_PATH);
+        options.setLocalRepositoryPath("/home/user/.m2/repository");
+        options.setLocalRepositoryUpdatePolicy(updatePolicy);
+        return options;
+    }
+}
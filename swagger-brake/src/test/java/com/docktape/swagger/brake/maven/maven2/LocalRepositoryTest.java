@@ -0,0 +1,143 @@
+package com.docktape.swagger.brake.maven.maven2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Optional;
+
+import com.docktape.swagger.brake.maven.DownloadOptions;
+import com.docktape.swagger.brake.maven.MavenConfiguration;
+import com.docktape.swagger.brake.maven.maven2.LocalRepository.LocalArtifact;
+import com.docktape.swagger.brake.runner.ArtifactPackaging;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LocalRepositoryTest {
+    private static final Instant LAST_UPDATED = Instant.parse("2024-05-10T12:00:00Z");
+
+    private final LocalRepository underTest = new LocalRepository(new MavenConfiguration().xmlMapper());
+
+    @TempDir
+    private Path repository;
+
+    @Test
+    void testFindShouldReturnReleaseOfTheRemoteRepositoryMetadata() throws IOException {
+        // given
+        Path artifactDirectory = repository.resolve("com/example/api");
+        writeMetadata(artifactDirectory.resolve("maven-metadata-central.xml"), "<latest>1.1.0</latest><release>1.1.0</release>", LAST_UPDATED);
+        writeMetadata(artifactDirectory.resolve("maven-metadata-local.xml"), "<latest>1.2.0</latest><release>1.2.0</release>", LAST_UPDATED.plusSeconds(60));
+        Path artifact = writeFile(artifactDirectory.resolve("1.1.0/api-1.1.0.jar"));
+        writeFile(artifactDirectory.resolve("1.2.0/api-1.2.0.jar"));
+        // when
+        Optional<LocalArtifact> result = underTest.find(createOptions("1.2.0"));
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().getFile()).isEqualTo(artifact.toFile());
+        assertThat(result.get().getVersion()).isEqualTo("1.1.0");
+    }
+
+    @Test
+    void testFindShouldUseTheMostRecentlyUpdatedMetadata() throws IOException {
+        // given
+        Path artifactDirectory = repository.resolve("com/example/api");
+        writeMetadata(artifactDirectory.resolve("maven-metadata-central.xml"), "<latest>1.0.0</latest><release>1.0.0</release>", LAST_UPDATED);
+        writeMetadata(artifactDirectory.resolve("maven-metadata-nexus.xml"), "<latest>1.1.0</latest><release>1.1.0</release>", LAST_UPDATED.plusSeconds(60));
+        writeFile(artifactDirectory.resolve("1.0.0/api-1.0.0.jar"));
+        writeFile(artifactDirectory.resolve("1.1.0/api-1.1.0.jar"));
+        // when
+        Optional<LocalArtifact> result = underTest.find(createOptions("1.2.0"));
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().getVersion()).isEqualTo("1.1.0");
+    }
+
+    @Test
+    void testFindShouldReturnTimestampedSnapshotOfMirrorLayout() throws IOException {
+        // given
+        Path artifactDirectory = repository.resolve("com/example/api");
+        writeMetadata(artifactDirectory.resolve("maven-metadata.xml"), "<latest>1.1.0-SNAPSHOT</latest>", LAST_UPDATED);
+        writeMetadata(artifactDirectory.resolve("1.1.0-SNAPSHOT/maven-metadata.xml"),
+            "<snapshot><timestamp>20240510.101010</timestamp><buildNumber>3</buildNumber></snapshot>", LAST_UPDATED.minusSeconds(60));
+        Path artifact = writeFile(artifactDirectory.resolve("1.1.0-SNAPSHOT/api-1.1.0-20240510.101010-3.jar"));
+        // when
+        Optional<LocalArtifact> result = underTest.find(createOptions("1.2.0-SNAPSHOT"));
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().getFile()).isEqualTo(artifact.toFile());
+    }
+
+    @Test
+    void testFindShouldReturnNonUniqueSnapshotOfLocalRepository() throws IOException {
+        // given
+        Path artifactDirectory = repository.resolve("com/example/api");
+        writeMetadata(artifactDirectory.resolve("maven-metadata-snapshots.xml"), "<latest>1.1.0-SNAPSHOT</latest>", LAST_UPDATED);
+        Path artifact = writeFile(artifactDirectory.resolve("1.1.0-SNAPSHOT/api-1.1.0-SNAPSHOT.jar"));
+        // when
+        Optional<LocalArtifact> result = underTest.find(createOptions("1.2.0-SNAPSHOT"));
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().getFile()).isEqualTo(artifact.toFile());
+    }
+
+    @Test
+    void testFindShouldReturnEmptyWhenArtifactFileIsMissing() throws IOException {
+        // given
+        Path artifactDirectory = repository.resolve("com/example/api");
+        writeMetadata(artifactDirectory.resolve("maven-metadata-central.xml"), "<latest>1.1.0</latest><release>1.1.0</release>", LAST_UPDATED);
+        // when
+        Optional<LocalArtifact> result = underTest.find(createOptions("1.2.0"));
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void testFindShouldReturnEmptyWhenArtifactIsNotInTheRepository() {
+        // given
+        // when
+        Optional<LocalArtifact> result = underTest.find(createOptions("1.2.0"));
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void testFindShouldIgnoreUnreadableMetadata() throws IOException {
+        // given
+        Path artifactDirectory = repository.resolve("com/example/api");
+        writeMetadata(artifactDirectory.resolve("maven-metadata-central.xml"), "<latest>1.1.0</latest><release>1.1.0</release>", LAST_UPDATED);
+        Path corrupt = writeFile(artifactDirectory.resolve("maven-metadata-nexus.xml"));
+        Files.setLastModifiedTime(corrupt, FileTime.from(LAST_UPDATED.plusSeconds(60)));
+        writeFile(artifactDirectory.resolve("1.1.0/api-1.1.0.jar"));
+        // when
+        Optional<LocalArtifact> result = underTest.find(createOptions("1.2.0"));
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().getVersion()).isEqualTo("1.1.0");
+    }
+
+    private DownloadOptions createOptions(String currentVersion) {
+        DownloadOptions options = new DownloadOptions();
+        options.setLocalRepositoryPath(repository.toString());
+        options.setGroupId("com.example");
+        options.setArtifactId("api");
+        options.setCurrentArtifactVersion(currentVersion);
+        options.setArtifactPackaging(ArtifactPackaging.JAR);
+        return options;
+    }
+
+    private void writeMetadata(Path file, String versioning, Instant lastUpdated) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "<metadata><groupId>com.example</groupId><artifactId>api</artifactId><versioning>" + versioning + "</versioning></metadata>",
+            StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(file, FileTime.from(lastUpdated));
+    }
+
+    private Path writeFile(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        return Files.write(file, new byte[] {1, 2, 3});
+    }
+}
@@ -3,10 +3,17 @@ package com.docktape.swagger.brake.maven.maven2;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import java.io.File;
+import java.util.Optional;
 
 import com.docktape.swagger.brake.maven.DownloadOptions;
+import com.docktape.swagger.brake.maven.jar.ApiFileJarResolver;
+import com.docktape.swagger.brake.maven.jar.ApiFileResolverParameter;
+import com.docktape.swagger.brake.maven.jar.ResolvedApiFile;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -24,6 +31,9 @@ class Maven2LatestArtifactDownloaderTest {
     @Mock
     private LatestJarArtifactDownloader latestJarArtifactDownloader;
 
+    @Mock
+    private ApiFileJarResolver apiFileJarResolver;
+
     @InjectMocks
     private Maven2LatestArtifactDownloader underTest;
 
@@ -60,4 +70,56 @@ class Maven2LatestArtifactDownloaderTest {
         // then
         assertThat(result).isEqualTo(expectedFile);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testDownloadApiFileShouldReturnEmptyWhenRangeRequestsAreDisabled() {
+        // given
+        DownloadOptions downloadOptions = new DownloadOptions();
+        // when
+        Optional<ResolvedApiFile> result = underTest.downloadApiFile(downloadOptions, null);
+        // then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(latestArtifactVersionResolver, latestArtifactNameResolver, latestJarArtifactDownloader, apiFileJarResolver);
+    }
+
+    @Test
+    void testDownloadApiFileShouldReturnApiFileDownloadedWithRangeRequests() {
+        // given
+        String latestVersion = "1.0.0";
+        String latestArtifactName = "b";
+        DownloadOptions downloadOptions = new DownloadOptions();
+        downloadOptions.setRangeRequestsEnabled(true);
+        ResolvedApiFile expected = new ResolvedApiFile("jar:b!/swagger.yaml", new byte[0]);
+
+        given(latestArtifactVersionResolver.resolve(downloadOptions)).willReturn(latestVersion);
+        given(latestArtifactNameResolver.resolveRelease(downloadOptions, latestVersion)).willReturn(latestArtifactName);
+        given(latestJarArtifactDownloader.downloadApiFile(downloadOptions, latestArtifactName, latestVersion, null)).willReturn(Optional.of(expected));
+        // when
+        Optional<ResolvedApiFile> result = underTest.downloadApiFile(downloadOptions, null);
+        // then
+        assertThat(result).containsSame(expected);
+        verify(latestJarArtifactDownloader, never()).download(downloadOptions, latestArtifactName, latestVersion);
+    }
+
+    @Test
+    void testDownloadApiFileShouldFallBackToWholeArtifactWhenRangeRequestsAreNotServed() {
+        // given
+        String latestVersion = "1.0.0";
+        String latestArtifactName = "b";
+        File apiJar = mock(File.class);
+        DownloadOptions downloadOptions = new DownloadOptions();
+        downloadOptions.setRangeRequestsEnabled(true);
+        ResolvedApiFile expected = new ResolvedApiFile("jar:b!/swagger.yaml", new byte[0]);
+
+        given(latestArtifactVersionResolver.resolve(downloadOptions)).willReturn(latestVersion);
+        given(latestArtifactNameResolver.resolveRelease(downloadOptions, latestVersion)).willReturn(latestArtifactName);
+        given(latestJarArtifactDownloader.downloadApiFile(downloadOptions, latestArtifactName, latestVersion, "api.yaml")).willReturn(Optional.empty());
+        given(latestJarArtifactDownloader.download(downloadOptions, latestArtifactName, latestVersion)).willReturn(apiJar);
+        given(apiFileJarResolver.resolve(new ApiFileResolverParameter(apiJar, "api.yaml"))).willReturn(expected);
+        // when
+        Optional<ResolvedApiFile> result = underTest.downloadApiFile(downloadOptions, "api.yaml");
+        // then
+        assertThat(result).containsSame(expected);
+        verify(latestArtifactVersionResolver).resolve(downloadOptions);
+    }
+}
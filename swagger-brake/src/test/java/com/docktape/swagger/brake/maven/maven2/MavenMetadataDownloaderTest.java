@@ -0,0 +1,138 @@
+package com.docktape.swagger.brake.maven.maven2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.docktape.swagger.brake.core.metrics.MetricsRecorder;
+import com.docktape.swagger.brake.maven.DownloadOptions;
+import com.docktape.swagger.brake.maven.MavenConfiguration;
+import com.docktape.swagger.brake.maven.http.HttpRequestFactory;
+import com.docktape.swagger.brake.maven.model.MavenMetadata;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MavenMetadataDownloaderTest {
+    private static final String ETAG = "\"v1\"";
+    private static final String METADATA = "<metadata><groupId>com.example</groupId><artifactId>api</artifactId>"
+        + "<versioning><latest>1.0.0</latest><release>1.0.0</release></versioning></metadata>";
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger fullResponses = new AtomicInteger();
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    private HttpServer server;
+    private CloseableHttpClient httpClient;
+    private MavenMetadataDownloader underTest;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/repo/com/example/api/maven-metadata.xml", exchange -> {
+            requests.incrementAndGet();
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            fullResponses.incrementAndGet();
+            byte[] body = METADATA.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("ETag", ETAG);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/slow/maven-metadata.xml", exchange -> {
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        server.start();
+        httpClient = new MavenConfiguration().httpClient();
+        underTest = new MavenMetadataDownloader(httpClient, new MavenConfiguration().xmlMapper(), new RepositoryCache(), new MetricsRecorder());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        httpClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    void testDownloadShouldRevalidateCachedMetadataWithConditionalRequest(@TempDir Path cacheDirectory) {
+        // given
+        DownloadOptions options = new DownloadOptions();
+        options.setCachePath(cacheDirectory.toString());
+        MavenMetadata first = underTest.download(createRequest(), options);
+        // when
+        MavenMetadata result = underTest.download(createRequest(), options);
+        // then
+        assertThat(result).isEqualTo(first);
+        assertThat(result.getVersioning().getLatest()).isEqualTo("1.0.0");
+        assertThat(requests).hasValue(2);
+        assertThat(fullResponses).hasValue(1);
+    }
+
+    @Test
+    void testDownloadShouldAlwaysDownloadWhenCacheIsNotConfigured() {
+        // given
+        DownloadOptions options = new DownloadOptions();
+        underTest.download(createRequest(), options);
+        // when
+        MavenMetadata result = underTest.download(createRequest(), options);
+        // then
+        assertThat(result.getVersioning().getLatest()).isEqualTo("1.0.0");
+        assertThat(fullResponses).hasValue(2);
+    }
+
+    @Test
+    void testDownloadShouldReuseTheConnectionOfPreviousRequests() {
+        // given
+        DownloadOptions options = new DownloadOptions();
+        // when
+        for (int i = 0; i < 3; i++) {
+            underTest.download(createRequest(), options);
+        }
+        // then
+        assertThat(requests).hasValue(3);
+        assertThat(clientPorts).hasSize(1);
+    }
+
+    @Test
+    void testDownloadShouldFailWhenReadTimeoutIsExceeded() {
+        // given
+        DownloadOptions options = new DownloadOptions();
+        options.setReadTimeout(100);
+        HttpUriRequest request = new RepositoryRequestFactory(new HttpRequestFactory())
+            .create("http://localhost:" + server.getAddress().getPort() + "/slow/maven-metadata.xml", options);
+        // when
+        Throwable result = catchThrowable(() -> underTest.download(request, options));
+        // then
+        assertThat(result).hasCauseInstanceOf(SocketTimeoutException.class);
+    }
+
+    private HttpGet createRequest() {
+        return new HttpGet("http://localhost:" + server.getAddress().getPort() + "/repo/com/example/api/maven-metadata.xml");
+    }
+}
@@ -0,0 +1,237 @@
+package com.docktape.swagger.brake.maven.maven2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import com.docktape.swagger.brake.maven.DownloadOptions;
+import com.docktape.swagger.brake.maven.http.HttpRequestFactory;
+import com.docktape.swagger.brake.maven.jar.ResolvedApiFile;
+import com.docktape.swagger.brake.maven.jar.filename.ApiFilenameCheckerFactory;
+import com.docktape.swagger.brake.runner.ArtifactPackaging;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RangeApiFileDownloaderTest {
+    private static final Pattern RANGE = Pattern.compile("bytes=(\\d*)-(\\d*)");
+    private static final byte[] API_FILE = "openapi: 3.0.1\ninfo:\n  title: Test API\n".repeat(100).getBytes(StandardCharsets.UTF_8);
+    private static final String ARTIFACT_PATH = "/repo/com/example/api/1.0.0/api-1.0.0.jar";
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicLong servedBytes = new AtomicLong();
+
+    private HttpServer server;
+    private CloseableHttpClient httpClient;
+    private RangeApiFileDownloader underTest;
+    private byte[] artifact;
+    private boolean rangesSupported = true;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(ARTIFACT_PATH, this::serveArtifact);
+        server.start();
+        httpClient = HttpClientBuilder.create().build();
+        underTest = new RangeApiFileDownloader(httpClient, new RepositoryRequestFactory(new HttpRequestFactory()), new RepositoryCache(),
+            new ApiFilenameCheckerFactory());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        httpClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    void testDownloadShouldFetchOnlyTheApiFile() throws IOException {
+        // given
+        artifact = createFatJar(new byte[0], "BOOT-INF/classes/swagger.yaml");
+        // when
+        Optional<ResolvedApiFile> result = underTest.download(createOptions(), getUrl(), null);
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().getContent()).isEqualTo(API_FILE);
+        assertThat(result.get().getLocation()).isEqualTo("jar:" + getUrl() + "!/BOOT-INF/classes/swagger.yaml");
+        assertThat(servedBytes.get()).isLessThan(artifact.length / 4);
+    }
+
+    @Test
+    void testDownloadShouldFetchTheConfiguredApiFile() throws IOException {
+        // given
+        artifact = createFatJar(new byte[0], "BOOT-INF/classes/api/custom.yaml");
+        // when
+        Optional<ResolvedApiFile> result = underTest.download(createOptions(), getUrl(), "custom.yaml");
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().getContent()).isEqualTo(API_FILE);
+    }
+
+    @Test
+    void testDownloadShouldHandleDataPrependedToTheArchive() throws IOException {
+        // given
+        byte[] launchScript = "#!/bin/bash\necho 'fully executable jar'\nexit 0\n".getBytes(StandardCharsets.UTF_8);
+        artifact = createFatJar(launchScript, "BOOT-INF/classes/swagger.yaml");
+        // when
+        Optional<ResolvedApiFile> result = underTest.download(createOptions(), getUrl(), null);
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().getContent()).isEqualTo(API_FILE);
+    }
+
+    @Test
+    void testDownloadShouldReturnEmptyWhenRangesAreNotSupported() throws IOException {
+        // given
+        artifact = createFatJar(new byte[0], "BOOT-INF/classes/swagger.yaml");
+        rangesSupported = false;
+        // when
+        Optional<ResolvedApiFile> result = underTest.download(createOptions(), getUrl(), null);
+        // then
+        assertThat(result).isEmpty();
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void testDownloadShouldReturnEmptyWhenArchiveIsMalformed() {
+        // given
+        artifact = "not a zip archive".getBytes(StandardCharsets.UTF_8);
+        // when
+        Optional<ResolvedApiFile> result = underTest.download(createOptions(), getUrl(), null);
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void testDownloadShouldReturnEmptyWhenRangeRequestFails() throws IOException {
+        // given
+        artifact = createFatJar(new byte[0], "BOOT-INF/classes/swagger.yaml");
+        String url = getUrl();
+        server.stop(0);
+        // when
+        Optional<ResolvedApiFile> result = underTest.download(createOptions(), url, null);
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void testDownloadShouldThrowExceptionWhenApiFileIsNotPresent() throws IOException {
+        // given
+        artifact = createFatJar(new byte[0], "BOOT-INF/classes/application.properties");
+        // when
+        // then
+        assertThatThrownBy(() -> underTest.download(createOptions(), getUrl(), null)).isExactlyInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testDownloadShouldReturnEmptyWithoutRequestWhenArtifactIsCached(@TempDir Path cacheDirectory) throws IOException {
+        // given
+        artifact = createFatJar(new byte[0], "BOOT-INF/classes/swagger.yaml");
+        DownloadOptions options = createOptions();
+        options.setCachePath(cacheDirectory.toString());
+        Path downloaded = Files.write(cacheDirectory.resolve("downloaded.jar"), artifact);
+        new RepositoryCache().storeArtifact(cacheDirectory.toString(), getUrl(), "jar", downloaded.toFile());
+        // when
+        Optional<ResolvedApiFile> result = underTest.download(options, getUrl(), null);
+        // then
+        assertThat(result).isEmpty();
+        assertThat(requests).hasValue(0);
+    }
+
+    /*
+     * Creates an archive resembling a fat jar: a large central directory, which doesn't fit into the fetched tail,
+     * a deflated API file and a large stored nested jar.
+     */
+    private byte[] createFatJar(byte[] prefix, String apiFileName) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        result.write(prefix);
+        try (ZipOutputStream out = new ZipOutputStream(result)) {
+            out.putNextEntry(new ZipEntry("BOOT-INF/"));
+            out.closeEntry();
+            out.putNextEntry(new ZipEntry(apiFileName));
+            out.write(API_FILE);
+            out.closeEntry();
+            for (int i = 0; i < 2000; i++) {
+                out.putNextEntry(new ZipEntry("BOOT-INF/classes/com/example/api/generated/model/GeneratedModelClass" + i + ".class"));
+                out.write(new byte[] {(byte) i});
+                out.closeEntry();
+            }
+            byte[] nestedJar = new byte[4 * 1024 * 1024];
+            for (int i = 0; i < nestedJar.length; i++) {
+                nestedJar[i] = (byte) (i * 31 + (i >>> 8));
+            }
+            CRC32 crc = new CRC32();
+            crc.update(nestedJar);
+            ZipEntry nestedJarEntry = new ZipEntry("BOOT-INF/lib/dependency.jar");
+            nestedJarEntry.setMethod(ZipEntry.STORED);
+            nestedJarEntry.setSize(nestedJar.length);
+            nestedJarEntry.setCrc(crc.getValue());
+            out.putNextEntry(nestedJarEntry);
+            out.write(nestedJar);
+            out.closeEntry();
+        }
+        return result.toByteArray();
+    }
+
+    private void serveArtifact(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        String range = exchange.getRequestHeaders().getFirst("Range");
+        Matcher matcher = range == null ? null : RANGE.matcher(range);
+        if (!rangesSupported || matcher == null || !matcher.matches()) {
+            send(exchange, 200, artifact);
+            return;
+        }
+        int start;
+        int end;
+        if (matcher.group(1).isEmpty()) {
+            start = Math.max(0, artifact.length - Integer.parseInt(matcher.group(2)));
+            end = artifact.length - 1;
+        } else {
+            start = Integer.parseInt(matcher.group(1));
+            end = matcher.group(2).isEmpty() ? artifact.length - 1 : Math.min(artifact.length - 1, Integer.parseInt(matcher.group(2)));
+        }
+        exchange.getResponseHeaders().add("Content-Range", "bytes " + start + "-" + end + "/" + artifact.length);
+        send(exchange, 206, Arrays.copyOfRange(artifact, start, end + 1));
+    }
+
+    private void send(HttpExchange exchange, int statusCode, byte[] content) throws IOException {
+        exchange.sendResponseHeaders(statusCode, content.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(content);
+            servedBytes.addAndGet(content.length);
+        } catch (IOException e) {
+            // the client aborts the request when the range is not served
+        }
+    }
+
+    private DownloadOptions createOptions() {
+        DownloadOptions options = new DownloadOptions();
+        options.setArtifactPackaging(ArtifactPackaging.JAR);
+        options.setRangeRequestsEnabled(true);
+        return options;
+    }
+
+    private String getUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + ARTIFACT_PATH;
+    }
+}
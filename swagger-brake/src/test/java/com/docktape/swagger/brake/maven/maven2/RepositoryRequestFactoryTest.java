@@ -10,6 +10,7 @@ import java.net.URISyntaxException;
 
 import com.docktape.swagger.brake.maven.DownloadOptions;
 import com.docktape.swagger.brake.maven.http.HttpRequestFactory;
+import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.junit.jupiter.api.Test;
@@ -62,6 +63,22 @@ class RepositoryRequestFactoryTest {
         assertThat(result).isEqualTo(expected);
     }
 
+    @Test
+    void testCreateShouldSetTimeoutsOfTheOptions() throws MalformedURLException, URISyntaxException {
+        // given
+        String url = "http://localhost/repo";
+        DownloadOptions options = new DownloadOptions();
+        options.setConnectTimeout(1000);
+        options.setReadTimeout(2000);
+        given(requestFactory.get(url)).willReturn(new HttpGet(url));
+        // when
+        HttpUriRequest result = underTest.create(url, options);
+        // then
+        RequestConfig config = ((HttpGet) result).getConfig();
+        assertThat(config.getConnectTimeout()).isEqualTo(1000);
+        assertThat(config.getConnectionRequestTimeout()).isEqualTo(1000);
+        assertThat(config.getSocketTimeout()).isEqualTo(2000);
+    }
 
     @Test
     void testCreateShouldThrowExceptionWhenRequestCannotBeCreated() throws MalformedURLException, URISyntaxException {
@@ -0,0 +1,95 @@
+package com.docktape.swagger.brake.maven.maven2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.docktape.swagger.brake.core.metrics.MetricsRecorder;
+import com.docktape.swagger.brake.maven.DownloadOptions;
+import com.docktape.swagger.brake.runner.ArtifactPackaging;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TemporaryJarFileDownloaderTest {
+    private static final byte[] ARTIFACT = "artifact".getBytes(StandardCharsets.UTF_8);
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private HttpServer server;
+    private CloseableHttpClient httpClient;
+    private TemporaryJarFileDownloader underTest;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/repo/com/example/api/1.0.0/api-1.0.0.jar", exchange -> {
+            requests.incrementAndGet();
+            exchange.sendResponseHeaders(200, ARTIFACT.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(ARTIFACT);
+            }
+        });
+        server.start();
+        httpClient = HttpClientBuilder.create().build();
+        underTest = new TemporaryJarFileDownloader(httpClient, new RepositoryCache(), new MetricsRecorder());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        httpClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    void testDownloadShouldServeCachedArtifactWithoutRequest(@TempDir Path cacheDirectory) throws IOException {
+        // given
+        DownloadOptions options = createOptions();
+        options.setCachePath(cacheDirectory.toString());
+        File first = underTest.download(options, createRequest());
+        // when
+        File result = underTest.download(options, createRequest());
+        // then
+        assertThat(result).isEqualTo(first);
+        assertThat(result.toPath()).startsWith(cacheDirectory);
+        assertThat(Files.readAllBytes(result.toPath())).isEqualTo(ARTIFACT);
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void testDownloadShouldUseTemporaryFileWhenCacheIsNotConfigured() throws IOException {
+        // given
+        DownloadOptions options = createOptions();
+        // when
+        File result = underTest.download(options, createRequest());
+        // then
+        try {
+            assertThat(Files.readAllBytes(result.toPath())).isEqualTo(ARTIFACT);
+            assertThat(result.getName()).endsWith(".jar");
+        } finally {
+            Files.deleteIfExists(result.toPath());
+        }
+    }
+
+    private DownloadOptions createOptions() {
+        DownloadOptions options = new DownloadOptions();
+        options.setArtifactPackaging(ArtifactPackaging.JAR);
+        return options;
+    }
+
+    private HttpGet createRequest() {
+        return new HttpGet("http://localhost:" + server.getAddress().getPort() + "/repo/com/example/api/1.0.0/api-1.0.0.jar");
+    }
+}
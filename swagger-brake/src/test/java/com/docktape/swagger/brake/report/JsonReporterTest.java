@@ -12,6 +12,8 @@ import java.util.Collection;
 import java.util.Collections;
 
 import com.docktape.swagger.brake.core.BreakingChange;
+import com.docktape.swagger.brake.core.metrics.CheckMetrics;
+import com.docktape.swagger.brake.core.metrics.MetricsRecorder;
 import com.docktape.swagger.brake.report.file.DirectoryCreator;
 import com.docktape.swagger.brake.report.file.FileWriter;
 import com.docktape.swagger.brake.report.json.JsonConverter;
@@ -19,8 +21,10 @@ import com.docktape.swagger.brake.runner.Options;
 import com.docktape.swagger.brake.runner.OutputFormat;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +39,9 @@ class JsonReporterTest {
     @Mock
     private DirectoryCreator directoryCreator;
 
+    @Spy
+    private MetricsRecorder metricsRecorder = new MetricsRecorder();
+
     @InjectMocks
     private JsonReporter underTest;
 
@@ -59,6 +66,43 @@ class JsonReporterTest {
         then(fileWriter).should().write(outputFilePath + File.separator + "swagger-brake.json", content);
     }
 
+    @Test
+    void testReportShouldIncludeMetricsWhenTheyAreRecorded() {
+        // given
+        BreakingChange bc = mock(BreakingChange.class);
+        Options options = new Options();
+        options.setOutputFilePath("outputFilePath");
+        CheckMetrics metrics = new CheckMetrics();
+        metrics.recordCache("schema-store", 3, 1);
+        given(jsonConverter.convert(any())).willReturn("content");
+        given(bc.getRuleCode()).willReturn("RXY");
+        ArgumentCaptor<JsonReporter.JsonContent> captor = ArgumentCaptor.forClass(JsonReporter.JsonContent.class);
+        // when
+        metricsRecorder.callWith(metrics, () -> {
+            underTest.report(Collections.singletonList(bc), options);
+            return null;
+        });
+        // then
+        then(jsonConverter).should().convert(captor.capture());
+        assertThat(captor.getValue().getMetrics()).isSameAs(metrics);
+    }
+
+    @Test
+    void testReportShouldLeaveOutMetricsWhenTheyAreNotRecorded() {
+        // given
+        BreakingChange bc = mock(BreakingChange.class);
+        Options options = new Options();
+        options.setOutputFilePath("outputFilePath");
+        given(jsonConverter.convert(any())).willReturn("content");
+        given(bc.getRuleCode()).willReturn("RXY");
+        ArgumentCaptor<JsonReporter.JsonContent> captor = ArgumentCaptor.forClass(JsonReporter.JsonContent.class);
+        // when
+        underTest.report(Collections.singletonList(bc), options);
+        // then
+        then(jsonConverter).should().convert(captor.capture());
+        assertThat(captor.getValue().getMetrics()).isNull();
+    }
+
     @Test
     void testCanReportShouldReturnTrueIfOutputFormatIsJson() {
         // given
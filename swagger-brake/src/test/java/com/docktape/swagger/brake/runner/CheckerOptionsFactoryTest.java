@@ -3,6 +3,7 @@ package com.docktape.swagger.brake.runner;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.docktape.swagger.brake.core.CheckerOptions;
+import com.docktape.swagger.brake.runner.openapi.ReferenceResolution;
 import org.junit.jupiter.api.Test;
 
 class CheckerOptionsFactoryTest {
@@ -85,4 +86,58 @@ class CheckerOptionsFactoryTest {
         // then
         assertThat(result.isServerUrlChangeEnabled()).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCreateShouldKeepDefaultCheckParallelismAndChunkSizeWhenNullOptionsGiven() {
+        // given
+        Options options = new Options();
+
+        // when
+        CheckerOptions result = underTest.create(options);
+
+        // then
+        assertThat(result.getCheckParallelism()).isEqualTo(1);
+        assertThat(result.getCheckChunkSize()).isEqualTo(64);
+    }
+
+    @Test
+    void testCreateShouldSetCheckParallelismAndChunkSizeWhenOptionsGiven() {
+        // given
+        Options options = new Options();
+        options.setCheckParallelism(8);
+        options.setCheckChunkSize(16);
+
+        // when
+        CheckerOptions result = underTest.create(options);
+
+        // then
+        assertThat(result.getCheckParallelism()).isEqualTo(8);
+        assertThat(result.getCheckChunkSize()).isEqualTo(16);
+    }
+
+    @Test
+    void testCreateShouldSetTransformationParallelismWhenOptionGiven() {
+        // given
+        Options options = new Options();
+        options.setTransformationParallelism(4);
+
+        // when
+        CheckerOptions result = underTest.create(options);
+
+        // then
+        assertThat(result.getTransformationParallelism()).isEqualTo(4);
+    }
+
+    @Test
+    void testCreateShouldSetReferenceResolutionWhenOptionGiven() {
+        // given
+        Options options = new Options();
+        options.setReferenceResolution(ReferenceResolution.LAZY);
+
+        // when
+        CheckerOptions result = underTest.create(options);
+
+        // then
+        assertThat(result.getReferenceResolution()).isEqualTo(ReferenceResolution.LAZY);
+    }
+}
@@ -64,6 +64,21 @@ class OptionsValidatorTest {
         assertThat(result).isNull();
     }
 
+    @Test
+    void testValidateShouldNotThrowExceptionWhenOnlyLocalRepositoryIsSet() {
+        // given
+        Options options = new Options();
+        options.setNewApiPath("something");
+        options.setMavenLocalRepositoryPath("/home/user/.m2/repository");
+        options.setCurrentArtifactVersion("1.0.0");
+        options.setGroupId("com.docktape");
+        options.setArtifactId("swagger-brake");
+        // when
+        Throwable result = Assertions.catchThrowable(() -> underTest.validate(options));
+        // then
+        assertThat(result).isNull();
+    }
+
     @Test
     void testValidateShouldNotThrowExceptionWhenMavenSnapshotRepoUrlIsSetButReleaseRepoIsNot() {
         // given
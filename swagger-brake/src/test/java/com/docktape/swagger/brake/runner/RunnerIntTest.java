@@ -10,23 +10,36 @@ import static org.mockito.Mockito.verify;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import com.docktape.swagger.brake.core.ApiInfo;
+import com.docktape.swagger.brake.core.BreakChecker;
 import com.docktape.swagger.brake.core.BreakingChange;
 import com.docktape.swagger.brake.core.CheckerOptions;
+import com.docktape.swagger.brake.core.CheckerOptionsProvider;
+import com.docktape.swagger.brake.core.metrics.MetricsRecorder;
+import com.docktape.swagger.brake.core.model.Specification;
+import com.docktape.swagger.brake.core.model.transformer.Transformer;
 import com.docktape.swagger.brake.maven.DownloadOptions;
 import com.docktape.swagger.brake.maven.LatestArtifactDownloader;
 import com.docktape.swagger.brake.maven.LatestArtifactDownloaderFactory;
 import com.docktape.swagger.brake.maven.jar.ApiFileJarResolver;
 import com.docktape.swagger.brake.maven.jar.ApiFileResolverParameter;
+import com.docktape.swagger.brake.maven.jar.ResolvedApiFile;
 import com.docktape.swagger.brake.report.Reporter;
 import com.docktape.swagger.brake.report.ReporterFactory;
+import com.docktape.swagger.brake.runner.cache.SpecificationCache;
 import com.docktape.swagger.brake.runner.download.ArtifactDownloaderHandler;
 import com.docktape.swagger.brake.runner.download.DownloadOptionsFactory;
 import com.docktape.swagger.brake.runner.openapi.ApiInfoFactory;
 import com.docktape.swagger.brake.runner.openapi.OpenApiFactory;
+import com.docktape.swagger.brake.runner.openapi.ReferenceResolution;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.info.Info;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -46,6 +59,12 @@ class RunnerIntTest {
     @Mock
     private Checker checker;
 
+    @Mock
+    private Transformer<OpenAPI, Specification> transformer;
+
+    @Mock
+    private BreakChecker breakChecker;
+
     @Spy
     private CheckerOptionsFactory checkerOptionsFactory;
 
@@ -71,13 +90,15 @@ class RunnerIntTest {
     @BeforeEach
     void setUp() {
         artifactDownloaderHandler = new ArtifactDownloaderHandler(downloaderFactory, apiFileResolver, downloadOptionsFactory);
-        underTest = new Runner(optionsValidator, artifactDownloaderHandler, openApiFactory, checkerOptionsFactory, checker, reporterFactory, apiInfoFactory);
+        underTest = new Runner(optionsValidator, artifactDownloaderHandler, openApiFactory, checkerOptionsFactory, checker, reporterFactory, apiInfoFactory,
+            new SpecificationCache(), new MetricsRecorder());
     }
 
     @Test
     void testOptionValidationWorksWhenMavenConfigurationIsSetWithoutOneRepo() {
         // given
-        String oldApiPath = "oldApiPath";
+        String oldApiLocation = "jar:file:/api.jar!/swagger.yaml";
+        byte[] oldApiContent = "swagger: '2.0'".getBytes(StandardCharsets.UTF_8);
         Options options = new Options();
         options.setNewApiPath("something");
         options.setMavenSnapshotRepoUrl("localhost:8080/repo");
@@ -90,14 +111,16 @@ class RunnerIntTest {
         given(downloaderFactory.create(options)).willReturn(latestArtifactDownloader);
         File apiJar = mock(File.class);
         given(latestArtifactDownloader.download(downloadOptions)).willReturn(apiJar);
-        File swaggerFile = mock(File.class);
-        given(apiFileResolver.resolve(any(ApiFileResolverParameter.class))).willReturn(swaggerFile);
-        given(swaggerFile.getAbsolutePath()).willReturn(oldApiPath);
+        given(apiFileResolver.resolve(any(ApiFileResolverParameter.class))).willReturn(new ResolvedApiFile(oldApiLocation, oldApiContent));
         OpenAPI oldApi = mock(OpenAPI.class);
         OpenAPI newApi = mock(OpenAPI.class);
-        given(openApiFactory.fromFile(oldApiPath)).willReturn(oldApi);
-        given(openApiFactory.fromFile(options.getNewApiPath())).willReturn(newApi);
-        given(checker.check(eq(oldApi), eq(newApi), any(CheckerOptions.class))).willReturn(Collections.emptyList());
+        given(openApiFactory.fromBytes(oldApiContent, oldApiLocation, ReferenceResolution.FULL)).willReturn(oldApi);
+        given(openApiFactory.fromFile(options.getNewApiPath(), ReferenceResolution.FULL)).willReturn(newApi);
+        given(checker.check(anySupplier(), anySupplier(), any(CheckerOptions.class))).willAnswer(invocation -> {
+            invocation.<Supplier<Specification>>getArgument(0).get();
+            invocation.<Supplier<Specification>>getArgument(1).get();
+            return Collections.emptyList();
+        });
         Reporter reporter = mock(Reporter.class);
         given(reporterFactory.create(options)).willReturn(reporter);
         // when
@@ -108,16 +131,18 @@ class RunnerIntTest {
         verify(downloaderFactory).create(options);
         verify(latestArtifactDownloader).download(downloadOptions);
         verify(apiFileResolver).resolve(any(ApiFileResolverParameter.class));
-        verify(openApiFactory).fromFile(oldApiPath);
-        verify(openApiFactory).fromFile(options.getNewApiPath());
-        verify(checker).check(eq(oldApi), eq(newApi), any(CheckerOptions.class));
+        verify(openApiFactory).fromBytes(oldApiContent, oldApiLocation, ReferenceResolution.FULL);
+        verify(openApiFactory).fromFile(options.getNewApiPath(), ReferenceResolution.FULL);
+        verify(checker).transform("old", oldApi);
+        verify(checker).transform("new", newApi);
         verify(reporter).report(anyList(), anyList(), eq(options), any(ApiInfo.class));
     }
 
     @Test
     void testOptionValidationWorksWhenMavenConfigurationIsSetWithAllRepos() {
         // given
-        String oldApiPath = "oldApiPath";
+        String oldApiLocation = "jar:file:/api.jar!/swagger.yaml";
+        byte[] oldApiContent = "swagger: '2.0'".getBytes(StandardCharsets.UTF_8);
         Options options = new Options();
         options.setNewApiPath("something");
         options.setMavenSnapshotRepoUrl("localhost:8080/snapshot-repo");
@@ -131,14 +156,16 @@ class RunnerIntTest {
         given(downloaderFactory.create(options)).willReturn(latestArtifactDownloader);
         File apiJar = mock(File.class);
         given(latestArtifactDownloader.download(downloadOptions)).willReturn(apiJar);
-        File swaggerFile = mock(File.class);
-        given(apiFileResolver.resolve(any(ApiFileResolverParameter.class))).willReturn(swaggerFile);
-        given(swaggerFile.getAbsolutePath()).willReturn(oldApiPath);
+        given(apiFileResolver.resolve(any(ApiFileResolverParameter.class))).willReturn(new ResolvedApiFile(oldApiLocation, oldApiContent));
         OpenAPI oldApi = mock(OpenAPI.class);
         OpenAPI newApi = mock(OpenAPI.class);
-        given(openApiFactory.fromFile(oldApiPath)).willReturn(oldApi);
-        given(openApiFactory.fromFile(options.getNewApiPath())).willReturn(newApi);
-        given(checker.check(eq(oldApi), eq(newApi), any(CheckerOptions.class))).willReturn(Collections.emptyList());
+        given(openApiFactory.fromBytes(oldApiContent, oldApiLocation, ReferenceResolution.FULL)).willReturn(oldApi);
+        given(openApiFactory.fromFile(options.getNewApiPath(), ReferenceResolution.FULL)).willReturn(newApi);
+        given(checker.check(anySupplier(), anySupplier(), any(CheckerOptions.class))).willAnswer(invocation -> {
+            invocation.<Supplier<Specification>>getArgument(0).get();
+            invocation.<Supplier<Specification>>getArgument(1).get();
+            return Collections.emptyList();
+        });
         Reporter reporter = mock(Reporter.class);
         given(reporterFactory.create(options)).willReturn(reporter);
         // when
@@ -149,9 +176,64 @@ class RunnerIntTest {
         verify(downloaderFactory).create(options);
         verify(latestArtifactDownloader).download(downloadOptions);
         verify(apiFileResolver).resolve(any(ApiFileResolverParameter.class));
-        verify(openApiFactory).fromFile(oldApiPath);
-        verify(openApiFactory).fromFile(options.getNewApiPath());
-        verify(checker).check(eq(oldApi), eq(newApi), any(CheckerOptions.class));
+        verify(openApiFactory).fromBytes(oldApiContent, oldApiLocation, ReferenceResolution.FULL);
+        verify(openApiFactory).fromFile(options.getNewApiPath(), ReferenceResolution.FULL);
+        verify(checker).transform("old", oldApi);
+        verify(checker).transform("new", newApi);
+        verify(reporter).report(anyList(), anyList(), eq(options), any(ApiInfo.class));
+    }
+
+    @Test
+    void testRunShouldLoadNewApiWhileLatestArtifactIsDownloaded() {
+        // given
+        Checker realChecker = new Checker(transformer, breakChecker, new CheckerOptionsProvider(), new MetricsRecorder());
+        underTest = new Runner(optionsValidator, artifactDownloaderHandler, openApiFactory, checkerOptionsFactory, realChecker, reporterFactory, apiInfoFactory,
+            new SpecificationCache(), new MetricsRecorder());
+        String oldApiLocation = "jar:file:/api.jar!/swagger.yaml";
+        byte[] oldApiContent = "swagger: '2.0'".getBytes(StandardCharsets.UTF_8);
+        Options options = new Options();
+        options.setNewApiPath("something");
+        options.setMavenRepoUrl("localhost:8080/repo");
+        options.setCurrentArtifactVersion("1.0.0-SNAPSHOT");
+        options.setGroupId("com.docktape");
+        options.setArtifactId("swagger-brake");
+        DownloadOptions downloadOptions = mock(DownloadOptions.class);
+        given(downloadOptionsFactory.create(options)).willReturn(downloadOptions);
+        LatestArtifactDownloader latestArtifactDownloader = mock(LatestArtifactDownloader.class);
+        given(downloaderFactory.create(options)).willReturn(latestArtifactDownloader);
+        CountDownLatch newApiLoadStarted = new CountDownLatch(1);
+        File apiJar = mock(File.class);
+        given(latestArtifactDownloader.download(downloadOptions)).willAnswer(invocation -> {
+            // the download only finishes when the new API is being loaded in the meantime
+            if (!newApiLoadStarted.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("New API hasn't been loaded during the download");
+            }
+            return apiJar;
+        });
+        given(apiFileResolver.resolve(any(ApiFileResolverParameter.class))).willReturn(new ResolvedApiFile(oldApiLocation, oldApiContent));
+        OpenAPI oldApi = new OpenAPI().info(new Info().version("1.0.0"));
+        OpenAPI newApi = new OpenAPI().info(new Info().version("1.1.0"));
+        given(openApiFactory.fromBytes(oldApiContent, oldApiLocation, ReferenceResolution.FULL)).willReturn(oldApi);
+        given(openApiFactory.fromFile(options.getNewApiPath(), ReferenceResolution.FULL)).willAnswer(invocation -> {
+            newApiLoadStarted.countDown();
+            return newApi;
+        });
+        Specification oldSpec = mock(Specification.class);
+        Specification newSpec = mock(Specification.class);
+        given(transformer.transform(oldApi)).willReturn(oldSpec);
+        given(transformer.transform(newApi)).willReturn(newSpec);
+        given(breakChecker.check(oldSpec, newSpec)).willReturn(Collections.emptyList());
+        Reporter reporter = mock(Reporter.class);
+        given(reporterFactory.create(options)).willReturn(reporter);
+        // when
+        Collection<BreakingChange> result = underTest.run(options);
+        // then
+        assertThat(result).isEmpty();
+        verify(breakChecker).check(oldSpec, newSpec);
         verify(reporter).report(anyList(), anyList(), eq(options), any(ApiInfo.class));
     }
+
+    private static Supplier<Specification> anySupplier() {
+        return any();
+    }
 }
@@ -0,0 +1,121 @@
+package com.docktape.swagger.brake.runner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.docktape.swagger.brake.core.BreakingChange;
+import com.docktape.swagger.brake.core.CheckerOptions;
+import com.docktape.swagger.brake.core.metrics.CacheMetrics;
+import com.docktape.swagger.brake.core.metrics.CheckMetrics;
+import com.docktape.swagger.brake.core.metrics.MetricsRecorder;
+import com.docktape.swagger.brake.core.metrics.PhaseMetrics;
+import com.docktape.swagger.brake.core.model.HttpMethod;
+import com.docktape.swagger.brake.core.rule.path.PathDeletedBreakingChange;
+import com.docktape.swagger.brake.runner.openapi.OpenApiFactory;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class SwaggerBrakeEngineTest {
+    private static SwaggerBrakeEngine underTest;
+
+    private final OpenApiFactory openApiFactory = new OpenApiFactory(new MetricsRecorder());
+
+    @BeforeAll
+    static void setUp() {
+        underTest = SwaggerBrakeEngine.create();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        underTest.close();
+    }
+
+    @Test
+    void testCheckShouldUseTheOptionsOfEachInvocationWhenCalledConcurrently() throws Exception {
+        // given
+        OpenAPI oldApi = openApiFactory.fromFile("swaggers/v2/path/deleted/deprecated/petstore.yaml");
+        OpenAPI newApi = openApiFactory.fromFile("swaggers/v2/path/deleted/deprecated/petstore_v2.yaml");
+        PathDeletedBreakingChange expected = new PathDeletedBreakingChange("/pet/findByStatus", HttpMethod.GET);
+        List<Callable<Collection<BreakingChange>>> tasks = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            CheckerOptions checkerOptions = new CheckerOptions();
+            checkerOptions.setDeprecatedApiDeletionAllowed(i % 2 == 0);
+            tasks.add(() -> underTest.check(oldApi, newApi, checkerOptions));
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        // when
+        List<Future<Collection<BreakingChange>>> results;
+        try {
+            results = executorService.invokeAll(tasks);
+        } finally {
+            executorService.shutdown();
+        }
+        // then
+        for (int i = 0; i < results.size(); i++) {
+            if (i % 2 == 0) {
+                assertThat(results.get(i).get()).isEmpty();
+            } else {
+                assertThat(results.get(i).get()).containsExactly(expected);
+            }
+        }
+    }
+
+    @Test
+    void testCheckShouldReturnTheSameResultWhenPathsAreTransformedConcurrently() {
+        // given
+        OpenAPI oldApi = openApiFactory.fromFile("swaggers/v3/request/attributeremoved/petstore.yaml");
+        OpenAPI newApi = openApiFactory.fromFile("swaggers/v3/request/attributeremoved/petstore_v2.yaml");
+        CheckerOptions sequentialOptions = new CheckerOptions();
+        CheckerOptions concurrentOptions = new CheckerOptions();
+        concurrentOptions.setTransformationParallelism(4);
+        // when
+        Collection<BreakingChange> sequentialResult = underTest.check(oldApi, newApi, sequentialOptions);
+        Collection<BreakingChange> concurrentResult = underTest.check(oldApi, newApi, concurrentOptions);
+        // then
+        assertThat(sequentialResult).isNotEmpty();
+        assertThat(concurrentResult).containsExactlyElementsOf(sequentialResult);
+    }
+
+    @Test
+    void testExecuteShouldMeasurePhasesWhenMetricsAreEnabled() {
+        // given
+        Options options = new Options();
+        options.setOldApiPath("swaggers/v2/path/deleted/petstore.yaml");
+        options.setNewApiPath("swaggers/v2/path/deleted/petstore_v2.yaml");
+        options.setOutputFormats(Set.of(OutputFormat.STDOUT));
+        options.setMetricsEnabled(true);
+        // when
+        RunResult result = underTest.execute(options);
+        // then
+        assertThat(result.getBreakingChanges()).isNotEmpty();
+        assertThat(result.getMetrics()).isPresent();
+        CheckMetrics metrics = result.getMetrics().get();
+        assertThat(metrics.getPhases()).extracting(PhaseMetrics::getName).contains("load:old", "load:new", "version-detection",
+            "transformation:old", "transformation:new", "check", "rule:PathDeletedRule", "report:StdOutReporter");
+        assertThat(metrics.getCaches()).extracting(CacheMetrics::getName).contains("schema-store", "schema-comparison");
+    }
+
+    @Test
+    void testExecuteShouldNotMeasureWhenMetricsAreDisabled() {
+        // given
+        Options options = new Options();
+        options.setOldApiPath("swaggers/v2/path/deleted/petstore.yaml");
+        options.setNewApiPath("swaggers/v2/path/deleted/petstore_v2.yaml");
+        options.setOutputFormats(Set.of(OutputFormat.STDOUT));
+        // when
+        RunResult result = underTest.execute(options);
+        // then
+        assertThat(result.getBreakingChanges()).isNotEmpty();
+        assertThat(result.getMetrics()).isEmpty();
+    }
+}
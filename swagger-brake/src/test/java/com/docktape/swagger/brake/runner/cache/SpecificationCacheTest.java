@@ -0,0 +1,174 @@
+package com.docktape.swagger.brake.runner.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.zip.GZIPOutputStream;
+
+import com.docktape.swagger.brake.core.CheckerOptions;
+import com.docktape.swagger.brake.core.model.AttributePath;
+import com.docktape.swagger.brake.core.model.AttributeType;
+import com.docktape.swagger.brake.core.model.HttpMethod;
+import com.docktape.swagger.brake.core.model.MediaType;
+import com.docktape.swagger.brake.core.model.Request;
+import com.docktape.swagger.brake.core.model.RequestParameterInType;
+import com.docktape.swagger.brake.core.model.Response;
+import com.docktape.swagger.brake.core.model.ResponseHeader;
+import com.docktape.swagger.brake.core.model.Schema;
+import com.docktape.swagger.brake.core.model.SchemaAttribute;
+import com.docktape.swagger.brake.core.model.Specification;
+import com.docktape.swagger.brake.core.model.StringSchema;
+import com.docktape.swagger.brake.core.model.parameter.RequestParameter;
+import com.docktape.swagger.brake.runner.openapi.ReferenceResolution;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SpecificationCacheTest {
+    private final SpecificationCache underTest = new SpecificationCache();
+
+    @TempDir
+    Path cacheDirectory;
+
+    @Test
+    void testCreateKeyShouldDependOnContentAndTransformationOptions() {
+        // given
+        byte[] content = "openapi: 3.0.0".getBytes(StandardCharsets.UTF_8);
+        CheckerOptions checkerOptions = new CheckerOptions();
+        CheckerOptions lenientOptions = new CheckerOptions();
+        lenientOptions.setStrictValidation(false);
+        CheckerOptions nonTransformationOptions = new CheckerOptions();
+        nonTransformationOptions.setDeprecatedApiDeletionAllowed(false);
+        // when
+        Optional<String> key = underTest.createKey(content, checkerOptions);
+        // then
+        assertThat(key).hasValueSatisfying(value -> assertThat(value).hasSize(64));
+        assertThat(underTest.createKey(content.clone(), checkerOptions)).isEqualTo(key);
+        assertThat(underTest.createKey(content, nonTransformationOptions)).isEqualTo(key);
+        assertThat(underTest.createKey(content, lenientOptions)).isNotEqualTo(key);
+        assertThat(underTest.createKey("openapi: 3.1.0".getBytes(StandardCharsets.UTF_8), checkerOptions)).isNotEqualTo(key);
+    }
+
+    @Test
+    void testCreateKeyShouldDependOnReferenceResolution() {
+        // given
+        byte[] content = "openapi: 3.0.0".getBytes(StandardCharsets.UTF_8);
+        CheckerOptions checkerOptions = new CheckerOptions();
+        // when
+        Optional<String> fullKey = underTest.createKey(content, checkerOptions, ReferenceResolution.FULL);
+        Optional<String> lazyKey = underTest.createKey(content, checkerOptions, ReferenceResolution.LAZY);
+        // then
+        assertThat(fullKey).isPresent().isEqualTo(underTest.createKey(content, checkerOptions));
+        assertThat(lazyKey).isPresent().isNotEqualTo(fullKey);
+    }
+
+    @Test
+    void testCreateKeyShouldReturnKeyWhenApiHasLocalReferencesOnly() {
+        // given
+        String yaml = "schema:\n  $ref: '#/components/schemas/Pet'\n";
+        String json = "{\"schema\": {\"$ref\": \"#/components/schemas/Pet\"}}";
+        // when
+        Optional<String> yamlKey = underTest.createKey(yaml.getBytes(StandardCharsets.UTF_8), new CheckerOptions());
+        Optional<String> jsonKey = underTest.createKey(json.getBytes(StandardCharsets.UTF_8), new CheckerOptions());
+        // then
+        assertThat(yamlKey).isPresent();
+        assertThat(jsonKey).isPresent();
+    }
+
+    @Test
+    void testCreateKeyShouldReturnEmptyWhenApiHasExternalReference() {
+        // given
+        String yaml = "schema:\n  $ref: 'common.yaml#/components/schemas/Pet'\n";
+        String json = "{\"schema\": {\"$ref\": \"https://example.com/common.json#/components/schemas/Pet\"}}";
+        // when
+        Optional<String> yamlKey = underTest.createKey(yaml.getBytes(StandardCharsets.UTF_8), new CheckerOptions());
+        Optional<String> jsonKey = underTest.createKey(json.getBytes(StandardCharsets.UTF_8), new CheckerOptions());
+        // then
+        assertThat(yamlKey).isEmpty();
+        assertThat(jsonKey).isEmpty();
+    }
+
+    @Test
+    void testLoadShouldReturnStoredSpecification() {
+        // given
+        Specification specification = createSpecification();
+        // when
+        underTest.store(cacheDirectory.toString(), "key", specification);
+        Optional<Specification> result = underTest.load(cacheDirectory.toString(), "key");
+        // then
+        assertThat(result).contains(specification);
+        Specification loaded = result.get();
+        assertThat(loaded.getPath("/pets", HttpMethod.POST)).isPresent();
+        Schema loadedSchema = loaded.getPaths().iterator().next().getRequestBody().get().getSchemaByMediaType(new MediaType("application/json")).get();
+        assertThat(loadedSchema.getRequiredAttributeNames()).containsExactly(AttributePath.of("name"));
+    }
+
+    @Test
+    void testLoadShouldReturnEmptyWhenEntryIsMissing() {
+        // given
+        // when
+        Optional<Specification> result = underTest.load(cacheDirectory.toString(), "missing");
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void testLoadShouldReturnEmptyWhenEntryIsCorrupt() throws Exception {
+        // given
+        Files.write(cacheDirectory.resolve("corrupt.spec"), new byte[] {1, 2, 3});
+        // when
+        Optional<Specification> result = underTest.load(cacheDirectory.toString(), "corrupt");
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void testLoadShouldReturnEmptyWhenEntryContainsRejectedClass() throws Exception {
+        // given
+        try (ObjectOutputStream out = new ObjectOutputStream(new GZIPOutputStream(Files.newOutputStream(cacheDirectory.resolve("rejected.spec"))))) {
+            out.writeObject(new File("api.yaml"));
+        }
+        // when
+        Optional<Specification> result = underTest.load(cacheDirectory.toString(), "rejected");
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void testStoreShouldSkipSpecificationNestedTooDeeplyForSerialization() {
+        // given
+        Schema schema = new Schema("string", Collections.emptySet(), Collections.emptySet(), null);
+        for (int i = 0; i < CheckerOptions.MAX_SCHEMA_TRANSFORMATION_DEPTH; i++) {
+            schema = new Schema("object", Collections.emptySet(), new TreeSet<>(List.of(new SchemaAttribute("child", schema, false, false, false))), null);
+        }
+        Request request = new Request(Map.of(new MediaType("application/json"), schema), true);
+        com.docktape.swagger.brake.core.model.Path path = new com.docktape.swagger.brake.core.model.Path("/pets", HttpMethod.POST, request,
+            List.of(), List.of(), false, false);
+        // when
+        underTest.store(cacheDirectory.toString(), "deep", new Specification(List.of(path), List.of()));
+        // then
+        assertThat(underTest.load(cacheDirectory.toString(), "deep")).isEmpty();
+    }
+
+    private Specification createSpecification() {
+        Schema nameSchema = new StringSchema("string", Collections.emptySet(), Collections.emptySet(), null, 10, 1, null, null, "[a-z]+");
+        Set<SchemaAttribute> attributes = new TreeSet<>(List.of(new SchemaAttribute("name", nameSchema, true, false, false)));
+        Schema schema = new Schema("object", Collections.emptySet(), attributes, null);
+        MediaType mediaType = new MediaType("application/json");
+        Request request = new Request(Map.of(mediaType, schema), true);
+        RequestParameter parameter = new RequestParameter(RequestParameterInType.QUERY, "limit", false, nameSchema, AttributeType.STRING, "10");
+        Response response = new Response("200", Map.of(mediaType, schema), Map.of("X-Rate", new ResponseHeader("X-Rate", true, "string")));
+        com.docktape.swagger.brake.core.model.Path path = new com.docktape.swagger.brake.core.model.Path("/pets", HttpMethod.POST, request,
+            List.of(parameter), List.of(response), false, false);
+        return new Specification(List.of(path), List.of("https://example.com"));
+    }
+}
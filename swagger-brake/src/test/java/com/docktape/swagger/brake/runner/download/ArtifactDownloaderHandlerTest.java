@@ -3,15 +3,20 @@ package com.docktape.swagger.brake.runner.download;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import java.io.File;
+import java.util.Optional;
 
 import com.docktape.swagger.brake.maven.DownloadOptions;
 import com.docktape.swagger.brake.maven.LatestArtifactDownloader;
 import com.docktape.swagger.brake.maven.LatestArtifactDownloaderFactory;
 import com.docktape.swagger.brake.maven.jar.ApiFileJarResolver;
 import com.docktape.swagger.brake.maven.jar.ApiFileResolverParameter;
+import com.docktape.swagger.brake.maven.jar.ResolvedApiFile;
 import com.docktape.swagger.brake.runner.Options;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -40,8 +45,9 @@ class ArtifactDownloaderHandlerTest {
         options.setOldApiPath("oldApi");
         options.setNewApiPath("newApi");
         // when
-        underTest.handle(options);
+        Optional<ResolvedApiFile> result = underTest.handle(options);
         // then
+        assertThat(result).isEmpty();
         verifyNoMoreInteractions(downloaderFactory, swaggerFileResolver);
     }
 
@@ -80,18 +86,44 @@ class ArtifactDownloaderHandlerTest {
         File mockDownloadedFile = mock(File.class);
         ApiFileResolverParameter apiFileResolverParameter = new ApiFileResolverParameter(mockDownloadedFile, apiFilename);
 
-        File mockSwaggerFile = mock(File.class);
-        String swaggerFilePath = "absoluteSwaggerFilePath";
+        ResolvedApiFile resolvedApiFile = new ResolvedApiFile("jar:file:/api.jar!/swagger.yaml", new byte[0]);
         LatestArtifactDownloader downloader = mock(LatestArtifactDownloader.class);
         given(downloadOptionsFactory.create(options)).willReturn(downloadOptions);
         given(downloaderFactory.create(options)).willReturn(downloader);
         given(downloader.download(downloadOptions)).willReturn(mockDownloadedFile);
-        given(swaggerFileResolver.resolve(apiFileResolverParameter)).willReturn(mockSwaggerFile);
-        given(mockSwaggerFile.getAbsolutePath()).willReturn(swaggerFilePath);
+        given(swaggerFileResolver.resolve(apiFileResolverParameter)).willReturn(resolvedApiFile);
         // when
-        underTest.handle(options);
+        Optional<ResolvedApiFile> result = underTest.handle(options);
+        // then
+        assertThat(result).containsSame(resolvedApiFile);
+        assertThat(options.getOldApiPath()).isNull();
+    }
+
+    @Test
+    void testHandleShouldUseApiFileDownloadedWithoutWholeArtifact() {
+        // given
+        Options options = new Options();
+        options.setNewApiPath("newApi");
+        options.setMavenRepoUrl("mavenRepoUrl");
+        options.setGroupId("groupId");
+        options.setArtifactId("artifactId");
+        options.setCurrentArtifactVersion("currentVersion");
+        options.setApiFilename("api.yaml");
+        options.setArtifactRangeRequestsEnabled(true);
+
+        DownloadOptions downloadOptions = new DownloadOptions();
+        downloadOptions.setRangeRequestsEnabled(true);
+        ResolvedApiFile resolvedApiFile = new ResolvedApiFile("jar:http://repo/api.jar!/api.yaml", new byte[0]);
+        LatestArtifactDownloader downloader = mock(LatestArtifactDownloader.class);
+        given(downloadOptionsFactory.create(options)).willReturn(downloadOptions);
+        given(downloaderFactory.create(options)).willReturn(downloader);
+        given(downloader.downloadApiFile(downloadOptions, "api.yaml")).willReturn(Optional.of(resolvedApiFile));
+        // when
+        Optional<ResolvedApiFile> result = underTest.handle(options);
         // then
-        assertThat(options).extracting(Options::getOldApiPath).isEqualTo(swaggerFilePath);
+        assertThat(result).containsSame(resolvedApiFile);
+        verify(downloader, never()).download(downloadOptions);
+        verifyNoInteractions(swaggerFileResolver);
     }
 
     @Test
@@ -125,4 +157,35 @@ class ArtifactDownloaderHandlerTest {
         // then
         verifyNoMoreInteractions(downloaderFactory, swaggerFileResolver);
     }
+
+    @Test
+    void testIsOldApiResolutionRequiredShouldReturnTrueWhenLatestArtifactDownloadIsEnabled() {
+        // given
+        Options options = new Options();
+        options.setNewApiPath("newApi");
+        options.setMavenRepoUrl("mavenRepoUrl");
+        options.setGroupId("groupId");
+        options.setArtifactId("artifactId");
+        options.setCurrentArtifactVersion("currentVersion");
+        // when
+        boolean result = underTest.isOldApiResolutionRequired(options);
+        // then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    void testIsOldApiResolutionRequiredShouldReturnFalseWhenOldApiIsProvided() {
+        // given
+        Options options = new Options();
+        options.setNewApiPath("newApi");
+        options.setOldApiPath("oldApi");
+        options.setMavenRepoUrl("mavenRepoUrl");
+        options.setGroupId("groupId");
+        options.setArtifactId("artifactId");
+        options.setCurrentArtifactVersion("currentVersion");
+        // when
+        boolean result = underTest.isOldApiResolutionRequired(options);
+        // then
+        assertThat(result).isFalse();
+    }
 }
@@ -3,6 +3,7 @@ package com.docktape.swagger.brake.runner.download;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.docktape.swagger.brake.maven.DownloadOptions;
+import com.docktape.swagger.brake.maven.LocalRepositoryUpdatePolicy;
 import com.docktape.swagger.brake.runner.Options;
 import org.junit.jupiter.api.Test;
 
@@ -19,6 +20,7 @@ class DownloadOptionsFactoryTest {
         String mavenRepoUsername = "username";
         String mavenRepoPassword = "password";
         String currentArtifactVersion = "1.2.0";
+        String artifactCachePath = "cache";
 
         Options options = new Options();
         options.setNewApiPath("newApi");
@@ -29,6 +31,12 @@ class DownloadOptionsFactoryTest {
         options.setMavenRepoUsername(mavenRepoUsername);
         options.setMavenRepoPassword(mavenRepoPassword);
         options.setCurrentArtifactVersion(currentArtifactVersion);
+        options.setArtifactCachePath(artifactCachePath);
+        options.setArtifactRangeRequestsEnabled(true);
+        options.setMavenConnectTimeout(1000);
+        options.setMavenReadTimeout(2000);
+        options.setMavenLocalRepositoryPath("repository");
+        options.setMavenLocalRepositoryUpdatePolicy("never");
         // when
         DownloadOptions result = underTest.create(options);
         // then
@@ -39,5 +47,23 @@ class DownloadOptionsFactoryTest {
         assertThat(result).extracting(DownloadOptions::getUsername).isEqualTo(mavenRepoUsername);
         assertThat(result).extracting(DownloadOptions::getPassword).isEqualTo(mavenRepoPassword);
         assertThat(result).extracting(DownloadOptions::getCurrentArtifactVersion).isEqualTo(currentArtifactVersion);
+        assertThat(result).extracting(DownloadOptions::getCachePath).isEqualTo(artifactCachePath);
+        assertThat(result).extracting(DownloadOptions::isRangeRequestsEnabled).isEqualTo(true);
+        assertThat(result).extracting(DownloadOptions::getConnectTimeout).isEqualTo(1000);
+        assertThat(result).extracting(DownloadOptions::getReadTimeout).isEqualTo(2000);
+        assertThat(result).extracting(DownloadOptions::getLocalRepositoryPath).isEqualTo("repository");
+        assertThat(result).extracting(DownloadOptions::getLocalRepositoryUpdatePolicy).isEqualTo(LocalRepositoryUpdatePolicy.NEVER);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCreateShouldUseDefaultTimeoutsWhenNotConfigured() {
+        // given
+        Options options = new Options();
+        // when
+        DownloadOptions result = underTest.create(options);
+        // then
+        assertThat(result.getConnectTimeout()).isEqualTo(DownloadOptions.DEFAULT_CONNECT_TIMEOUT);
+        assertThat(result.getReadTimeout()).isEqualTo(DownloadOptions.DEFAULT_READ_TIMEOUT);
+        assertThat(result.getLocalRepositoryUpdatePolicy()).isEqualTo(LocalRepositoryUpdatePolicy.DAILY);
+    }
+}
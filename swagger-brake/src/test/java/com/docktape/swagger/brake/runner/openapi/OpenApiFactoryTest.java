@@ -1,6 +1,14 @@
 package com.docktape.swagger.brake.runner.openapi;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -10,16 +18,32 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.core.io.ClassPathResource;
 
+import com.docktape.swagger.brake.core.metrics.MetricsRecorder;
+import io.swagger.v3.core.util.Json31;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
 
 class OpenApiFactoryTest {
     private OpenApiFactory factory;
     
     @BeforeEach
     void setUp() {
-        factory = new OpenApiFactory();
+        factory = new OpenApiFactory(new MetricsRecorder());
+    }
+
+    @Test
+    void testFromFile_NoArgConstructorLoadsDefinition() {
+        // given
+        OpenApiFactory noMetricsFactory = new OpenApiFactory();
+
+        // when
+        OpenAPI result = noMetricsFactory.fromFile("swaggers/v3/openapi31x/swagger-3.1-types-issues.json");
+
+        // then
+        assertNotNull(result);
     }
 
     @Test
@@ -170,4 +194,334 @@ class OpenApiFactoryTest {
         // Verify Pet schema exists (was in definitions in v2)
         assertTrue(result.getComponents().getSchemas().containsKey("Pet"));
     }
+
+    @Test
+    void testFromBytes_V2_Yaml_DetectedAsV2Converted() throws IOException {
+        // given
+        byte[] content = new ClassPathResource("swaggers/v2/test-v2.yaml").getContentAsByteArray();
+
+        // when
+        OpenAPI result = factory.fromBytes(content, null);
+
+        // then
+        assertAll(
+                () -> assertNotNull(result),
+                () -> assertTrue(result.getOpenapi().startsWith("3.0")),
+                () -> assertEquals("V2_CONVERTED", result.getExtensions().get(OpenApiFactory.X_SWAGGER_BRAKE_ORIGINAL_VERSION))
+        );
+    }
+
+    @Test
+    void testFromString_V3_Yaml_DetectedAsV3() throws IOException {
+        // given
+        String content = new ClassPathResource("swaggers/v3/test-v3.yaml").getContentAsString(StandardCharsets.UTF_8);
+
+        // when
+        OpenAPI result = factory.fromString(content, null);
+
+        // then
+        assertAll(
+                () -> assertNotNull(result),
+                () -> assertEquals("V3_0_X", result.getExtensions().get(OpenApiFactory.X_SWAGGER_BRAKE_ORIGINAL_VERSION))
+        );
+    }
+
+    @Test
+    void testFromInputStream_V2_Json_DetectedAsV2Converted() throws IOException {
+        // given
+        try (InputStream inputStream = new ClassPathResource("swaggers/v2/test-v2.json").getInputStream()) {
+            // when
+            OpenAPI result = factory.fromInputStream(inputStream, null);
+
+            // then
+            assertEquals("V2_CONVERTED", result.getExtensions().get(OpenApiFactory.X_SWAGGER_BRAKE_ORIGINAL_VERSION));
+        }
+    }
+
+    @Test
+    void testFromString_InvalidContent_ThrowsException() {
+        // given
+        String content = "this is not an API definition";
+
+        // when/then
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () ->
+            factory.fromString(content, null)
+        );
+
+        assertTrue(exception.getMessage().contains("API cannot be loaded"));
+    }
+
+    @Test
+    void testFromFile_V3_ResolvesRelativeReferences(@TempDir Path directory) throws IOException {
+        // given
+        Files.writeString(directory.resolve("pet.yaml"), """
+            type: object
+            properties:
+              name:
+                type: string
+            """);
+        Path apiFile = directory.resolve("api.yaml");
+        Files.writeString(apiFile, """
+            openapi: 3.0.1
+            info:
+              title: Pet API
+              version: 1.0.0
+            paths:
+              /pet:
+                get:
+                  responses:
+                    '200':
+                      description: OK
+                      content:
+                        application/json:
+                          schema:
+                            $ref: './pet.yaml'
+            """);
+
+        // when
+        OpenAPI result = factory.fromFile(apiFile.toString());
+
+        // then
+        Schema<?> schema = result.getPaths().get("/pet").getGet().getResponses().get("200").getContent().get("application/json").getSchema();
+        assertTrue(schema.getProperties().containsKey("name"));
+    }
+
+    @Test
+    void testFromFile_V2_ResolvesRelativeReferencesAgainstTheFile(@TempDir Path directory) throws IOException {
+        // given
+        Files.writeString(directory.resolve("pet.yaml"), """
+            type: object
+            properties:
+              name:
+                type: string
+            """);
+        Path apiFile = directory.resolve("api.yaml");
+        Files.writeString(apiFile, """
+            swagger: "2.0"
+            info:
+              title: Pet API
+              version: 1.0.0
+            paths:
+              /pet:
+                get:
+                  produces:
+                    - application/json
+                  responses:
+                    '200':
+                      description: OK
+                      schema:
+                        $ref: 'pet.yaml'
+            """);
+
+        // when
+        OpenAPI result = factory.fromFile(apiFile.toString(), ReferenceResolution.LAZY);
+
+        // then
+        Schema<?> schema = result.getPaths().get("/pet").getGet().getResponses().get("200").getContent().get("application/json").getSchema();
+        assertEquals("#/components/schemas/pet", schema.get$ref());
+        assertTrue(result.getComponents().getSchemas().get("pet").getProperties().containsKey("name"));
+    }
+
+    @Test
+    void testFromString_V2_ResolvesRelativeReferencesAgainstTheLocationWithoutReadingIt(@TempDir Path directory) throws IOException {
+        // given
+        Files.writeString(directory.resolve("pet.yaml"), """
+            type: object
+            properties:
+              name:
+                type: string
+            """);
+        // the definition is only in memory, nothing exists at its location
+        String content = """
+            swagger: "2.0"
+            info:
+              title: Pet API
+              version: 1.0.0
+            paths:
+              /pet:
+                get:
+                  produces:
+                    - application/json
+                  responses:
+                    '200':
+                      description: OK
+                      schema:
+                        $ref: 'pet.yaml'
+            """;
+
+        // when
+        OpenAPI result = factory.fromString(content, directory.resolve("api.yaml").toString(), ReferenceResolution.LAZY);
+
+        // then
+        assertEquals("V2_CONVERTED", result.getExtensions().get(OpenApiFactory.X_SWAGGER_BRAKE_ORIGINAL_VERSION));
+        assertTrue(result.getComponents().getSchemas().get("pet").getProperties().containsKey("name"));
+    }
+
+    @Test
+    void testFromInputStream_V3_LazyReferenceResolutionKeepsComponentReferences() throws IOException {
+        // given
+        String content = """
+            openapi: 3.0.1
+            info:
+              title: Pet API
+              version: 1.0.0
+            paths:
+              /pet:
+                get:
+                  responses:
+                    '200':
+                      description: OK
+                      content:
+                        application/json:
+                          schema:
+                            $ref: '#/components/schemas/Pet'
+            components:
+              schemas:
+                Pet:
+                  type: object
+                  properties:
+                    name:
+                      type: string
+            """;
+
+        // when
+        OpenAPI result;
+        try (InputStream inputStream = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8))) {
+            result = factory.fromInputStream(inputStream, "api.yaml", ReferenceResolution.LAZY);
+        }
+
+        // then
+        Schema<?> schema = result.getPaths().get("/pet").getGet().getResponses().get("200").getContent().get("application/json").getSchema();
+        assertEquals("#/components/schemas/Pet", schema.get$ref());
+    }
+
+    @Test
+    void testFromFile_V31_ConcurrentLoadsDoNotMixDefinitions() {
+        // given
+        String oldPath = "swaggers/v3/openapi31x/swagger-3.1-types-issues.json";
+        String newPath = "swaggers/v3/openapi31x/swagger-3.1-types-issues-invalid.json";
+        String expectedOld = Json31.pretty(factory.fromFile(oldPath));
+        String expectedNew = Json31.pretty(factory.fromFile(newPath));
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            CompletableFuture<OpenAPI> oldApi = CompletableFuture.supplyAsync(() -> factory.fromFile(oldPath));
+            CompletableFuture<OpenAPI> newApi = CompletableFuture.supplyAsync(() -> factory.fromFile(newPath));
+
+            // then
+            assertEquals(expectedOld, Json31.pretty(oldApi.join()));
+            assertEquals(expectedNew, Json31.pretty(newApi.join()));
+        }
+    }
+
+    @Test
+    void testFromString_V31_ConcurrentLoadsDoNotMixDefinitions() throws IOException {
+        // given
+        String oldContent = readResource("swaggers/v3/openapi31x/swagger-3.1-types-issues.json");
+        String newContent = readResource("swaggers/v3/openapi31x/swagger-3.1-types-issues-invalid.json");
+        String expectedOld = Json31.pretty(factory.fromString(oldContent, null));
+        String expectedNew = Json31.pretty(factory.fromString(newContent, null));
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            CompletableFuture<OpenAPI> oldApi = CompletableFuture.supplyAsync(() -> factory.fromString(oldContent, null));
+            CompletableFuture<OpenAPI> newApi = CompletableFuture.supplyAsync(() -> factory.fromString(newContent, null));
+
+            // then
+            assertEquals(expectedOld, Json31.pretty(oldApi.join()));
+            assertEquals(expectedNew, Json31.pretty(newApi.join()));
+        }
+    }
+
+    @Test
+    void testFromString_V3_0_AndV2_AreNotSerializedWithOtherLoads() throws Exception {
+        // given
+        String v30Content = """
+            openapi: 3.0.1
+            info:
+              title: Pet API
+              version: 1.0.0
+            paths: {}
+            """;
+        String v2Content = """
+            swagger: "2.0"
+            info:
+              title: Pet API
+              version: 1.0.0
+            paths: {}
+            """;
+
+        // when
+        synchronized (OpenApiFactory.PARSER_LOCK) {
+            CompletableFuture<OpenAPI> v30Api = CompletableFuture.supplyAsync(() -> factory.fromString(v30Content, null));
+            CompletableFuture<OpenAPI> v2Api = CompletableFuture.supplyAsync(() -> factory.fromString(v2Content, null));
+
+            // then
+            assertEquals("3.0.1", v30Api.get(30, TimeUnit.SECONDS).getOpenapi());
+            assertNotNull(v2Api.get(30, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void testFromString_V31_IsSerializedWithOtherLoads() throws Exception {
+        // given
+        String content = readResource("swaggers/v3/openapi31x/swagger-3.1-types-issues.json");
+        CompletableFuture<OpenAPI> api;
+
+        // when
+        synchronized (OpenApiFactory.PARSER_LOCK) {
+            api = CompletableFuture.supplyAsync(() -> factory.fromString(content, null));
+
+            // then
+            assertThrows(TimeoutException.class, () -> api.get(500, TimeUnit.MILLISECONDS));
+        }
+        assertNotNull(api.get(30, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testFromString_V3_LazyReferenceResolutionKeepsComponentReferences() {
+        // given
+        String content = """
+            openapi: 3.0.1
+            info:
+              title: Pet API
+              version: 1.0.0
+            paths:
+              /pet:
+                get:
+                  responses:
+                    '200':
+                      description: OK
+                      content:
+                        application/json:
+                          schema:
+                            $ref: '#/components/schemas/Pet'
+            components:
+              schemas:
+                Pet:
+                  type: object
+                  properties:
+                    name:
+                      type: string
+            """;
+
+        // when
+        OpenAPI full = factory.fromString(content, "api.yaml", ReferenceResolution.FULL);
+        OpenAPI lazy = factory.fromString(content, "api.yaml", ReferenceResolution.LAZY);
+
+        // then
+        Schema<?> fullSchema = full.getPaths().get("/pet").getGet().getResponses().get("200").getContent().get("application/json").getSchema();
+        Schema<?> lazySchema = lazy.getPaths().get("/pet").getGet().getResponses().get("200").getContent().get("application/json").getSchema();
+        assertAll(
+                () -> assertTrue(fullSchema.getProperties().containsKey("name")),
+                () -> assertEquals("#/components/schemas/Pet", lazySchema.get$ref()),
+                () -> assertTrue(lazy.getComponents().getSchemas().containsKey("Pet"))
+        );
+    }
+
+    private String readResource(String path) throws IOException {
+        try (InputStream inputStream = new ClassPathResource(path).getInputStream()) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
 }